@@ -26,36 +26,61 @@
 package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.inmemory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AasDiscoveryDocument;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AssetLinkIndexedRepository;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.model.AssetLink;
 import org.springframework.data.repository.CrudRepository;
 
 /**
  * In-memory implementation of the {@link CrudRepository} for the AAS Discovery
  * 
+ * <p>
+ * Besides the documents, an inverted index from each {@link AssetLink} to the
+ * identifiers of the linked shells is maintained. Lookups intersect the
+ * posting sets of the requested asset links starting with the smallest one, so
+ * that their cost depends on the number of matches rather than on the number
+ * of shells.
+ * </p>
+ * 
  * @author zielstor, fried
  */
-public class AasDiscoveryInMemoryCrudRepository implements CrudRepository<AasDiscoveryDocument, String> {
+public class AasDiscoveryInMemoryCrudRepository implements CrudRepository<AasDiscoveryDocument, String>, AssetLinkIndexedRepository {
 
-	private final Map<String, Set<AssetLink>> assetLinks = new LinkedHashMap<>();
-	private final Map<String, List<SpecificAssetId>> assetIds = new LinkedHashMap<>();
+	private final Map<String, Set<AssetLink>> assetLinks = new ConcurrentHashMap<>();
+	private final Map<String, List<SpecificAssetId>> assetIds = new ConcurrentHashMap<>();
+	private final Map<AssetLink, Set<String>> shellIdsByAssetLink = new ConcurrentHashMap<>();
 
 	@Override
-	public <S extends AasDiscoveryDocument> S save(S entity) {
+	public synchronized <S extends AasDiscoveryDocument> S save(S entity) {
 		Set<AssetLink> assetLinks = entity.getAssetLinks();
 		List<SpecificAssetId> assetIds = entity.getSpecificAssetIds();
 		String shellId = entity.getShellIdentifier();
 
-		this.assetLinks.put(shellId, assetLinks);
-		this.assetIds.put(shellId, assetIds);
+		removeFromIndex(shellId);
+
+		if (assetLinks != null)
+			this.assetLinks.put(shellId, assetLinks);
+		else
+			this.assetLinks.put(shellId, new HashSet<>());
+
+		if (assetIds != null)
+			this.assetIds.put(shellId, assetIds);
+		else
+			this.assetIds.remove(shellId);
+
+		addToIndex(shellId, this.assetLinks.get(shellId));
 		return entity;
 	}
 
@@ -69,16 +94,10 @@ public class AasDiscoveryInMemoryCrudRepository implements CrudRepository<AasDis
 
 	@Override
 	public Optional<AasDiscoveryDocument> findById(String id) {
-		Set<AssetLink> assetLinks = this.assetLinks.get(id);
-		List<SpecificAssetId> assetIds = this.assetIds.get(id);
-		if (assetIds == null) {
-			assetIds = new ArrayList<>();
-		}
+		if (!existsById(id))
+			return Optional.empty();
 
-		if (assetLinks == null) {
-			assetLinks = new HashSet<>();
-		}
-		return Optional.of(new AasDiscoveryDocument(id, assetLinks, assetIds));
+		return Optional.of(createDocument(id));
 	}
 
 	@Override
@@ -90,16 +109,7 @@ public class AasDiscoveryInMemoryCrudRepository implements CrudRepository<AasDis
 	public Iterable<AasDiscoveryDocument> findAll() {
 		List<AasDiscoveryDocument> result = new ArrayList<>();
 		for (String shellId : this.assetLinks.keySet()) {
-			Set<AssetLink> assetLinks = this.assetLinks.get(shellId);
-			List<SpecificAssetId> assetIds = this.assetIds.get(shellId);
-			if (assetIds == null) {
-				assetIds = new ArrayList<>();
-			}
-
-			if (assetLinks == null) {
-				assetLinks = new HashSet<>();
-			}
-			result.add(new AasDiscoveryDocument(shellId, assetLinks, assetIds));
+			result.add(createDocument(shellId));
 		}
 		return result;
 	}
@@ -108,27 +118,40 @@ public class AasDiscoveryInMemoryCrudRepository implements CrudRepository<AasDis
 	public Iterable<AasDiscoveryDocument> findAllById(Iterable<String> ids) {
 		List<AasDiscoveryDocument> result = new ArrayList<>();
 		for (String id : ids) {
-			Set<AssetLink> assetLinks = this.assetLinks.get(id);
-			List<SpecificAssetId> assetIds = this.assetIds.get(id);
-			if (assetIds == null) {
-				assetIds = new ArrayList<>();
-			}
-
-			if (assetLinks == null) {
-				assetLinks = new HashSet<>();
-			}
-			result.add(new AasDiscoveryDocument(id, assetLinks, assetIds));
+			result.add(createDocument(id));
 		}
 		return result;
 	}
 
+	@Override
+	public Set<String> findShellIdentifiersByAssetLinks(Collection<AssetLink> assetLinks) {
+		if (assetLinks.isEmpty())
+			return new HashSet<>(this.assetLinks.keySet());
+
+		List<Set<String>> postings = new ArrayList<>(assetLinks.size());
+		for (AssetLink assetLink : assetLinks) {
+			Set<String> shellIds = shellIdsByAssetLink.getOrDefault(assetLink, Collections.emptySet());
+
+			if (shellIds.isEmpty())
+				return new HashSet<>();
+
+			postings.add(shellIds);
+		}
+
+		postings.sort(Comparator.comparingInt(Set::size));
+
+		List<Set<String>> remainingPostings = postings.subList(1, postings.size());
+		return postings.get(0).stream().filter(shellId -> remainingPostings.stream().allMatch(posting -> posting.contains(shellId))).collect(Collectors.toSet());
+	}
+
 	@Override
 	public long count() {
 		return this.assetLinks.size();
 	}
 
 	@Override
-	public void deleteById(String id) {
+	public synchronized void deleteById(String id) {
+		removeFromIndex(id);
 		this.assetLinks.remove(id);
 		this.assetIds.remove(id);
 	}
@@ -153,9 +176,42 @@ public class AasDiscoveryInMemoryCrudRepository implements CrudRepository<AasDis
 	}
 
 	@Override
-	public void deleteAll() {
+	public synchronized void deleteAll() {
 		this.assetLinks.clear();
 		this.assetIds.clear();
+		this.shellIdsByAssetLink.clear();
+	}
+
+	private AasDiscoveryDocument createDocument(String shellId) {
+		Set<AssetLink> assetLinks = this.assetLinks.get(shellId);
+		List<SpecificAssetId> assetIds = this.assetIds.get(shellId);
+		if (assetIds == null) {
+			assetIds = new ArrayList<>();
+		}
+
+		if (assetLinks == null) {
+			assetLinks = new HashSet<>();
+		}
+		return new AasDiscoveryDocument(shellId, assetLinks, assetIds);
+	}
+
+	private void addToIndex(String shellId, Set<AssetLink> assetLinks) {
+		for (AssetLink assetLink : assetLinks)
+			shellIdsByAssetLink.computeIfAbsent(assetLink, link -> ConcurrentHashMap.newKeySet()).add(shellId);
+	}
+
+	private void removeFromIndex(String shellId) {
+		Set<AssetLink> previousAssetLinks = this.assetLinks.get(shellId);
+
+		if (previousAssetLinks == null)
+			return;
+
+		for (AssetLink assetLink : previousAssetLinks) {
+			shellIdsByAssetLink.computeIfPresent(assetLink, (link, shellIds) -> {
+				shellIds.remove(shellId);
+				return shellIds.isEmpty() ? null : shellIds;
+			});
+		}
 	}
 
 }
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.inmemory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AasDiscoveryDocument;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.model.AssetLink;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the inverted asset link index of the
+ * {@link AasDiscoveryInMemoryCrudRepository}
+ * 
+ * @author danish
+ *
+ */
+public class TestAasDiscoveryInMemoryCrudRepository {
+
+	private static final AssetLink SERIAL_NUMBER = new AssetLink("serialNumber", "12345");
+	private static final AssetLink PLANT = new AssetLink("plant", "Kaiserslautern");
+	private static final AssetLink OTHER_PLANT = new AssetLink("plant", "Stuttgart");
+
+	private AasDiscoveryInMemoryCrudRepository repository;
+
+	@Before
+	public void setUp() {
+		repository = new AasDiscoveryInMemoryCrudRepository();
+
+		repository.save(createDocument("shell1", SERIAL_NUMBER, PLANT));
+		repository.save(createDocument("shell2", PLANT));
+		repository.save(createDocument("shell3", OTHER_PLANT));
+	}
+
+	@Test
+	public void lookupIntersectsAssetLinks() {
+		assertEquals(Set.of("shell1", "shell2"), repository.findShellIdentifiersByAssetLinks(List.of(PLANT)));
+		assertEquals(Set.of("shell1"), repository.findShellIdentifiersByAssetLinks(List.of(PLANT, SERIAL_NUMBER)));
+		assertTrue(repository.findShellIdentifiersByAssetLinks(List.of(OTHER_PLANT, SERIAL_NUMBER)).isEmpty());
+	}
+
+	@Test
+	public void emptyLookupReturnsAllShells() {
+		assertEquals(Set.of("shell1", "shell2", "shell3"), repository.findShellIdentifiersByAssetLinks(List.of()));
+	}
+
+	@Test
+	public void indexFollowsOverwrittenDocument() {
+		repository.save(createDocument("shell1", OTHER_PLANT));
+
+		assertEquals(Set.of("shell2"), repository.findShellIdentifiersByAssetLinks(List.of(PLANT)));
+		assertEquals(Set.of("shell1", "shell3"), repository.findShellIdentifiersByAssetLinks(List.of(OTHER_PLANT)));
+		assertTrue(repository.findShellIdentifiersByAssetLinks(List.of(SERIAL_NUMBER)).isEmpty());
+	}
+
+	@Test
+	public void indexFollowsDeletedDocument() {
+		repository.deleteById("shell2");
+
+		assertEquals(Set.of("shell1"), repository.findShellIdentifiersByAssetLinks(List.of(PLANT)));
+		assertTrue(repository.findById("shell2").isEmpty());
+	}
+
+	private static AasDiscoveryDocument createDocument(String shellId, AssetLink... assetLinks) {
+		return new AasDiscoveryDocument(shellId, Set.of(assetLinks), new ArrayList<>());
+	}
+
+}
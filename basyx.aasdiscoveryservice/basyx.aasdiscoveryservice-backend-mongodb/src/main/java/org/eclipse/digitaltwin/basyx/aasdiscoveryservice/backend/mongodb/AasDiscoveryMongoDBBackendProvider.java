@@ -35,7 +35,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.repository.support.MappingMongoEntityInformation;
-import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Component;
 
@@ -62,6 +61,8 @@ public class AasDiscoveryMongoDBBackendProvider implements AasDiscoveryBackendPr
 		this.template = template;
 
 		mappingContext.addEntityMapping(AasDiscoveryDocument.class, collectionName);
+
+		AasDiscoveryMongoDBCrudRepository.ensureAssetLinkIndex(template, collectionName);
 	}
 
 	@Override
@@ -69,7 +70,7 @@ public class AasDiscoveryMongoDBBackendProvider implements AasDiscoveryBackendPr
 		@SuppressWarnings("unchecked")
 		MongoPersistentEntity<AasDiscoveryDocument> entity = (MongoPersistentEntity<AasDiscoveryDocument>) mappingContext
 				.getPersistentEntity(AasDiscoveryDocument.class);
-		return new SimpleMongoRepository<>(new MappingMongoEntityInformation<>(entity), template);
+		return new AasDiscoveryMongoDBCrudRepository(new MappingMongoEntityInformation<>(entity), template);
 	}
 
 
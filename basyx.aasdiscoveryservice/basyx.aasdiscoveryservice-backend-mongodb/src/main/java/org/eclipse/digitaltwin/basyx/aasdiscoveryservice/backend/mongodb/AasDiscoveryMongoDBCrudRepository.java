@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.mongodb;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AasDiscoveryDocument;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.AssetLinkIndexedRepository;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.model.AssetLink;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
+
+/**
+ * MongoDB repository for the AAS Discovery resolving asset link lookups with
+ * the multikey index on the asset links, i.e., only the identifiers of the
+ * matching shells are read from the database
+ * 
+ * @author zielstor, danish
+ */
+public class AasDiscoveryMongoDBCrudRepository extends SimpleMongoRepository<AasDiscoveryDocument, String> implements AssetLinkIndexedRepository {
+
+	static final String ASSET_LINKS = "assetLinks";
+	static final String ASSET_LINK_NAME = ASSET_LINKS + ".name";
+	static final String ASSET_LINK_VALUE = ASSET_LINKS + ".value";
+
+	private static final String ID = "_id";
+
+	private final MongoTemplate template;
+	private final String collectionName;
+
+	public AasDiscoveryMongoDBCrudRepository(MongoEntityInformation<AasDiscoveryDocument, String> entityInformation, MongoTemplate template) {
+		super(entityInformation, template);
+
+		this.template = template;
+		this.collectionName = entityInformation.getCollectionName();
+	}
+
+	@Override
+	public Set<String> findShellIdentifiersByAssetLinks(Collection<AssetLink> assetLinks) {
+		Query query = createAssetLinkQuery(assetLinks);
+		query.fields().include(ID);
+
+		return template.find(query, Document.class, collectionName).stream().map(document -> document.getString(ID)).collect(Collectors.toSet());
+	}
+
+	/**
+	 * Ensures the compound multikey index on name and value of the asset links
+	 * 
+	 * @param template
+	 * @param collectionName
+	 */
+	static void ensureAssetLinkIndex(MongoTemplate template, String collectionName) {
+		IndexOperations indexOperations = template.indexOps(collectionName);
+
+		indexOperations.ensureIndex(new CompoundIndexDefinition(new Document(ASSET_LINK_NAME, 1).append(ASSET_LINK_VALUE, 1)));
+	}
+
+	private static Query createAssetLinkQuery(Collection<AssetLink> assetLinks) {
+		if (assetLinks.isEmpty())
+			return new Query();
+
+		Object[] assetLinkMatchers = assetLinks.stream().map(AasDiscoveryMongoDBCrudRepository::createAssetLinkMatcher).toArray();
+
+		return new Query(Criteria.where(ASSET_LINKS).all(assetLinkMatchers));
+	}
+
+	private static Document createAssetLinkMatcher(AssetLink assetLink) {
+		return new Document("$elemMatch", new Document("name", assetLink.getName()).append("value", assetLink.getValue()));
+	}
+
+}
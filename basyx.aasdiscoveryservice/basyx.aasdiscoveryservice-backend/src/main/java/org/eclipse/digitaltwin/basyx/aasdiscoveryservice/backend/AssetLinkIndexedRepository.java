@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend;
+
+import java.util.Collection;
+import java.util.Set;
+
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.model.AssetLink;
+
+/**
+ * Backend of the AAS Discovery maintaining an inverted index from
+ * {@link AssetLink} to shell identifiers, so that lookups by asset links do not
+ * require loading all {@link AasDiscoveryDocument}s
+ * 
+ * @author zielstor, danish
+ */
+public interface AssetLinkIndexedRepository {
+
+	/**
+	 * Returns the identifiers of all shells linked to each of the passed asset
+	 * links
+	 * 
+	 * @param assetLinks
+	 *            The asset links that all have to be matched. If empty, all shell
+	 *            identifiers are returned.
+	 * @return The matching shell identifiers
+	 */
+	public Set<String> findShellIdentifiersByAssetLinks(Collection<AssetLink> assetLinks);
+
+}
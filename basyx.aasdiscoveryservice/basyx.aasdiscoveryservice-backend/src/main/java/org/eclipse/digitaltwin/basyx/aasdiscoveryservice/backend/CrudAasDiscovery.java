@@ -26,10 +26,8 @@ package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend;
 
 import static org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryUtils.deriveAssetLinksFromSpecificAssetIds;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
@@ -39,6 +37,7 @@ import java.util.stream.StreamSupport;
 import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryService;
 import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.model.AssetLink;
+import org.eclipse.digitaltwin.basyx.core.concurrency.StripedReadWriteLock;
 import org.eclipse.digitaltwin.basyx.core.exceptions.AssetLinkDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingAssetLinkException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
@@ -49,7 +48,8 @@ import org.springframework.data.repository.CrudRepository;
 
 /**
  * Default Implementation for the {@link AasDiscoveryService} based on Spring
- * {@link CrudRepository}
+ * {@link CrudRepository}. Lookups by asset links are delegated to backends
+ * implementing {@link AssetLinkIndexedRepository}.
  * 
  * @author zielstor, fried
  *
@@ -59,6 +59,8 @@ public class CrudAasDiscovery implements AasDiscoveryService {
 	private AasDiscoveryBackendProvider provider;
 	private String aasDiscoveryServiceName;
 
+	private final StripedReadWriteLock shellLocks = new StripedReadWriteLock();
+
 	/**
 	 * Constructor
 	 * 
@@ -97,7 +99,7 @@ public class CrudAasDiscovery implements AasDiscoveryService {
 	public CursorResult<List<String>> getAllAssetAdministrationShellIdsByAssetLink(PaginationInfo pInfo, List<AssetLink> assetIds) {
 		Set<String> shellIds = getShellIdsWithAssetLinks(assetIds);
 
-		return paginateList(pInfo, new ArrayList<>(shellIds));
+		return paginateList(pInfo, shellIds);
 	}
 
 	/**
@@ -110,11 +112,7 @@ public class CrudAasDiscovery implements AasDiscoveryService {
 	 */
 	@Override
 	public List<SpecificAssetId> getAllAssetLinksById(String shellIdentifier) {
-		Map<String, List<SpecificAssetId>> assetIds = getAssetIds();
-
-		throwIfSpecificAssetIdLinkDoesNotExist(assetIds, shellIdentifier);
-
-		return assetIds.get(shellIdentifier);
+		return shellLocks.read(shellIdentifier, () -> provider.getCrudRepository().findById(shellIdentifier).map(AasDiscoveryDocument::getSpecificAssetIds).orElseThrow(() -> new AssetLinkDoesNotExistException(shellIdentifier)));
 	}
 
 	/**
@@ -132,16 +130,14 @@ public class CrudAasDiscovery implements AasDiscoveryService {
 	public List<SpecificAssetId> createAllAssetLinksById(String shellIdentifier,
 			List<SpecificAssetId> specificAssetIds) {
 
-		Map<String, Set<AssetLink>> assetLinks = getAssetLinks();
-
-		synchronized (assetLinks) {
-			throwIfAssetLinkExists(assetLinks, shellIdentifier);
+		shellLocks.write(shellIdentifier, () -> {
+			throwIfAssetLinkExists(shellIdentifier);
 
 			List<AssetLink> shellAssetLinks = deriveAssetLinksFromSpecificAssetIds(specificAssetIds);
 			AasDiscoveryDocument aasDiscoveryDocument = new AasDiscoveryDocument(shellIdentifier,
 					new HashSet<>(shellAssetLinks), specificAssetIds);
 			provider.getCrudRepository().save(aasDiscoveryDocument);
-		}
+		});
 
 		return specificAssetIds;
 	}
@@ -155,12 +151,11 @@ public class CrudAasDiscovery implements AasDiscoveryService {
 	 */
 	@Override
 	public void deleteAllAssetLinksById(String shellIdentifier) {
-		Map<String, Set<AssetLink>> assetLinks = getAssetLinks();
-		synchronized (assetLinks) {
-			throwIfAssetLinkDoesNotExist(assetLinks, shellIdentifier);
+		shellLocks.write(shellIdentifier, () -> {
+			throwIfAssetLinkDoesNotExist(shellIdentifier);
 
 			provider.getCrudRepository().deleteById(shellIdentifier);
-		}
+		});
 	}
 
 	@Override
@@ -168,48 +163,27 @@ public class CrudAasDiscovery implements AasDiscoveryService {
 		return aasDiscoveryServiceName == null ? AasDiscoveryService.super.getName() : aasDiscoveryServiceName;
 	}
 
-	private void throwIfAssetLinkExists(Map<String, Set<AssetLink>> assetLinks, String shellIdentifier) {
-		if (assetLinks.containsKey(shellIdentifier))
+	private void throwIfAssetLinkExists(String shellIdentifier) {
+		if (provider.getCrudRepository().existsById(shellIdentifier))
 			throw new CollidingAssetLinkException(shellIdentifier);
 	}
 
-	private void throwIfAssetLinkDoesNotExist(Map<String, Set<AssetLink>> assetLinks, String shellIdentifier) {
-		if (!assetLinks.containsKey(shellIdentifier))
+	private void throwIfAssetLinkDoesNotExist(String shellIdentifier) {
+		if (!provider.getCrudRepository().existsById(shellIdentifier))
 			throw new AssetLinkDoesNotExistException(shellIdentifier);
 	}
 
-	private void throwIfSpecificAssetIdLinkDoesNotExist(Map<String, List<SpecificAssetId>> assetIds,
-			String shellIdentifier) {
-		if (!assetIds.containsKey(shellIdentifier))
-			throw new AssetLinkDoesNotExistException(shellIdentifier);
-	}
+	private Set<String> getShellIdsWithAssetLinks(List<AssetLink> requestedLinks) {
+		CrudRepository<AasDiscoveryDocument, String> repository = provider.getCrudRepository();
 
-	private Map<String, List<SpecificAssetId>> getAssetIds() {
-		Iterable<AasDiscoveryDocument> aasDiscoveryDocuments = provider.getCrudRepository().findAll();
-		List<AasDiscoveryDocument> aasDiscoveryDocumentList = StreamSupport
-				.stream(aasDiscoveryDocuments.spliterator(), false).collect(Collectors.toList());
-		Map<String, List<SpecificAssetId>> assetIds = aasDiscoveryDocumentList.stream().collect(
-				Collectors.toMap(AasDiscoveryDocument::getShellIdentifier, AasDiscoveryDocument::getSpecificAssetIds));
-		return assetIds;
-	}
+		if (repository instanceof AssetLinkIndexedRepository)
+			return ((AssetLinkIndexedRepository) repository).findShellIdentifiersByAssetLinks(requestedLinks);
 
-	private Map<String, Set<AssetLink>> getAssetLinks() {
-		Iterable<AasDiscoveryDocument> aasDiscoveryDocuments = provider.getCrudRepository().findAll();
-		List<AasDiscoveryDocument> aasDiscoveryDocumentList = StreamSupport
-				.stream(aasDiscoveryDocuments.spliterator(), false).collect(Collectors.toList());
-		Map<String, Set<AssetLink>> assetLinks = aasDiscoveryDocumentList.stream()
-				.collect(Collectors.toMap(AasDiscoveryDocument::getShellIdentifier, AasDiscoveryDocument::getAssetLinks,
-						(a, b) -> a, TreeMap::new));
-		return assetLinks;
-	}
-
-	private Set<String> getShellIdsWithAssetLinks(List<AssetLink> requestedLinks) {
-		Map<String, Set<AssetLink>> assetLinks = getAssetLinks();
-		return assetLinks.entrySet().stream().filter(entry -> entry.getValue().containsAll(requestedLinks))
-				.map(Map.Entry::getKey).collect(Collectors.toSet());
+		return StreamSupport.stream(repository.findAll().spliterator(), false).filter(document -> document.getAssetLinks().containsAll(requestedLinks))
+				.map(AasDiscoveryDocument::getShellIdentifier).collect(Collectors.toSet());
 	}
 
-	private CursorResult<List<String>> paginateList(PaginationInfo pInfo, List<String> shellIdentifiers) {
+	private CursorResult<List<String>> paginateList(PaginationInfo pInfo, Set<String> shellIdentifiers) {
 		TreeMap<String, String> shellIdentifierMap = shellIdentifiers.stream()
 				.collect(Collectors.toMap(Function.identity(), Function.identity(), (a, b) -> a, TreeMap::new));
 
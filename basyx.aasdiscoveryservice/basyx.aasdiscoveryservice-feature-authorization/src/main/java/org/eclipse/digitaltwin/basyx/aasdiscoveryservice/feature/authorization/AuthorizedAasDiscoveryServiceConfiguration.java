@@ -32,6 +32,7 @@ import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacStorage;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RoleProvider;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.SimpleRbacPermissionResolver;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.TargetPermissionVerifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,9 +53,9 @@ public class AuthorizedAasDiscoveryServiceConfiguration {
 
 	@Bean
 	public RbacPermissionResolver<AasDiscoveryServiceTargetInformation> getAasDiscoveryServicePermissionResolver(RbacStorage rbacStorage, RoleProvider roleProvider,
-			TargetPermissionVerifier<AasDiscoveryServiceTargetInformation> targetPermissionVerifier) {
+			TargetPermissionVerifier<AasDiscoveryServiceTargetInformation> targetPermissionVerifier, @Value("${" + CommonAuthorizationProperties.RBAC_DECISION_CACHE_SIZE_PROPERTY_KEY + ":0}") int decisionCacheSize) {
 
-		return new SimpleRbacPermissionResolver<>(rbacStorage, roleProvider, targetPermissionVerifier);
+		return new SimpleRbacPermissionResolver<>(rbacStorage, roleProvider, targetPermissionVerifier, decisionCacheSize);
 	}
 
 }
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.feature.metrics;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryService;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.model.AssetLink;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Decorator recording latency, errors and payload sizes of the operations of
+ * an {@link AasDiscoveryService}
+ * 
+ * @author danish
+ */
+public class MeteredAasDiscoveryService implements AasDiscoveryService {
+
+	private final AasDiscoveryService decorated;
+	private final OperationMetrics metrics;
+
+	public MeteredAasDiscoveryService(AasDiscoveryService decorated, OperationMetrics metrics) {
+		this.decorated = decorated;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public CursorResult<List<String>> getAllAssetAdministrationShellIdsByAssetLink(PaginationInfo pInfo, List<AssetLink> assetIds) {
+		CursorResult<List<String>> result = metrics.record("getAllAssetAdministrationShellIdsByAssetLink", () -> decorated.getAllAssetAdministrationShellIdsByAssetLink(pInfo, assetIds));
+		metrics.recordPayload("getAllAssetAdministrationShellIdsByAssetLink", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public List<SpecificAssetId> getAllAssetLinksById(String shellIdentifier) {
+		List<SpecificAssetId> assetIds = metrics.record("getAllAssetLinksById", () -> decorated.getAllAssetLinksById(shellIdentifier));
+		metrics.recordPayload("getAllAssetLinksById", assetIds.size());
+		return assetIds;
+	}
+
+	@Override
+	public List<SpecificAssetId> createAllAssetLinksById(String shellIdentifier, List<SpecificAssetId> assetIds) {
+		metrics.recordPayload("createAllAssetLinksById", assetIds.size());
+		return metrics.record("createAllAssetLinksById", () -> decorated.createAllAssetLinksById(shellIdentifier, assetIds));
+	}
+
+	@Override
+	public void deleteAllAssetLinksById(String shellIdentifier) {
+		metrics.record("deleteAllAssetLinksById", () -> decorated.deleteAllAssetLinksById(shellIdentifier));
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+}
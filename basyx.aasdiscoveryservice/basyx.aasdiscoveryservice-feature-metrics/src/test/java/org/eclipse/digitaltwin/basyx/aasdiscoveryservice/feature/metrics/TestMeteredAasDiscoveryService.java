@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasdiscoveryservice.feature.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.SimpleAasDiscoveryFactory;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.backend.inmemory.AasDiscoveryInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.aasdiscoveryservice.core.AasDiscoveryService;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.exceptions.AssetLinkDoesNotExistException;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link MeteredAasDiscoveryService}
+ * 
+ * @author danish
+ */
+public class TestMeteredAasDiscoveryService {
+
+	private static final String SHELL_ID = "meteredShell";
+
+	private SimpleMeterRegistry registry;
+	private AasDiscoveryService discoveryService;
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+
+		SimpleAasDiscoveryFactory backendFactory = new SimpleAasDiscoveryFactory(new AasDiscoveryInMemoryBackendProvider());
+		discoveryService = new MeteredAasDiscoveryServiceFactory(backendFactory, new OperationMetrics(registry, MeteredAasDiscoveryServiceFeature.COMPONENT, "InMemory")).create();
+	}
+
+	@Test
+	public void latencyAndPayloadAreRecorded() {
+		List<SpecificAssetId> assetIds = List.of(new DefaultSpecificAssetId.Builder().name("serialNumber").value("1").build(), new DefaultSpecificAssetId.Builder().name("globalAssetId").value("asset").build());
+		discoveryService.createAllAssetLinksById(SHELL_ID, assetIds);
+		discoveryService.getAllAssetLinksById(SHELL_ID);
+
+		assertEquals(1, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "getAllAssetLinksById").tag(OperationMetrics.TAG_COMPONENT, "aas-discovery-service").timer().count());
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "createAllAssetLinksById").summary().totalAmount(), 0);
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAllAssetLinksById").summary().totalAmount(), 0);
+	}
+
+	@Test(expected = AssetLinkDoesNotExistException.class)
+	public void errorIsCounted() {
+		try {
+			discoveryService.deleteAllAssetLinksById("nonExisting");
+		} finally {
+			assertEquals(1, registry.get(OperationMetrics.ERRORS).tag(OperationMetrics.TAG_OPERATION, "deleteAllAssetLinksById").tag(OperationMetrics.TAG_EXCEPTION, "AssetLinkDoesNotExistException").counter().count(), 0);
+		}
+	}
+}
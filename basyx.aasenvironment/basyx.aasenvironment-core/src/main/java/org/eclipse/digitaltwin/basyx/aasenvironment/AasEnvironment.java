@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.CompleteEnvironment;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 
 /**
  * Specifies the overall AasEnvironment API
@@ -52,6 +53,36 @@ public interface AasEnvironment {
 	public String createXMLAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws SerializationException;
 
 	public byte[] createAASXAASEnvironmentSerialization(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws SerializationException, IOException;
+
+	/**
+	 * Prepares a streamed JSON serialization of the given aas and submodels
+	 * 
+	 * <p>
+	 * The existence of the requested identifiables is checked eagerly, so that
+	 * errors are raised before anything is written.
+	 * </p>
+	 * 
+	 * @param aasIds
+	 * @param submodelIds
+	 * @param includeConceptDescriptions
+	 * @return the writer streaming the serialization
+	 * @throws ElementDoesNotExistException
+	 */
+	public EnvironmentSerializationWriter createJSONAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException;
+
+	public EnvironmentSerializationWriter createXMLAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException;
+
+	public EnvironmentSerializationWriter createAASXAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException;
 	
 	public void loadEnvironment(CompleteEnvironment completeEnvironment);
+
+	/**
+	 * Loads multiple environments in one batch, e.g. the preconfigured
+	 * environments at startup. The default implementation loads them one by one.
+	 * 
+	 * @param completeEnvironments
+	 */
+	public default void loadEnvironments(List<CompleteEnvironment> completeEnvironments) {
+		completeEnvironments.forEach(this::loadEnvironment);
+	}
 }
@@ -26,14 +26,12 @@
 package org.eclipse.digitaltwin.basyx.aasenvironment;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
 
 /**
  * Creates clone of AAS Metamodels
@@ -43,9 +41,6 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
  */
 public class MetamodelCloneCreator {
 	
-	private JsonSerializer jsonSerializer = new JsonSerializer();
-	private JsonDeserializer jsonDeserializer = new JsonDeserializer();
-	
 	/**
 	 * Creates clone of the provided list of {@link AssetAdministrationShell}
 	 * 
@@ -53,9 +48,7 @@ public class MetamodelCloneCreator {
 	 * @return the cloned AAS list
 	 */
 	public List<AssetAdministrationShell> cloneAssetAdministrationShells(List<AssetAdministrationShell> originalShells) {
-		String serializedAASs = getSerializedShells(originalShells);
-		
-		return getDeserializedShells(serializedAASs);
+		return originalShells.stream().map(MetamodelCopier::deepCopy).collect(Collectors.toList());
 	}
 	
 	/**
@@ -65,9 +58,7 @@ public class MetamodelCloneCreator {
 	 * @return the cloned Submodel list
 	 */
 	public List<Submodel> cloneSubmodels(List<Submodel> originalSubmodels) {
-		String serializedSubmodels = getSerializedSubmodels(originalSubmodels);
-		
-		return getDeserializedSubmodels(serializedSubmodels);
+		return originalSubmodels.stream().map(MetamodelCopier::deepCopy).collect(Collectors.toList());
 	}
 	
 	/**
@@ -77,63 +68,7 @@ public class MetamodelCloneCreator {
 	 * @return the cloned ConceptDescription list
 	 */
 	public List<ConceptDescription> cloneConceptDescriptions(List<ConceptDescription> originalConceptDescriptions) {
-		String serializedCDs = getSerializedCDs(originalConceptDescriptions);
-		
-		return getDeserializedCDs(serializedCDs);
-	}
-
-	private String getSerializedShells(List<AssetAdministrationShell> originalShells) {
-		try {
-			return jsonSerializer.write(originalShells);
-		} catch (SerializationException e1) {
-			e1.printStackTrace();
-			throw new RuntimeException("Unable to serialize the AASs");
-		}
-	}
-	
-	private List<AssetAdministrationShell> getDeserializedShells(String serializedShells) {
-		try {
-			return jsonDeserializer.readList(serializedShells, AssetAdministrationShell.class);
-		} catch (DeserializationException e) {
-			e.printStackTrace();
-			throw new RuntimeException("Unable to deserialize the AASs");
-		}
-	}
-	
-	private String getSerializedSubmodels(List<Submodel> originalSubmodels) {
-		try {
-			return jsonSerializer.write(originalSubmodels);
-		} catch (SerializationException e1) {
-			e1.printStackTrace();
-			throw new RuntimeException("Unable to serialize the Submodels");
-		}
-	}
-	
-	private List<Submodel> getDeserializedSubmodels(String serializedSubmodels) {
-		try {
-			return jsonDeserializer.readList(serializedSubmodels, Submodel.class);
-		} catch (DeserializationException e) {
-			e.printStackTrace();
-			throw new RuntimeException("Unable to deserialize the Submodels");
-		}
-	}
-	
-	private String getSerializedCDs(List<ConceptDescription> originalCDs) {
-		try {
-			return jsonSerializer.write(originalCDs);
-		} catch (SerializationException e1) {
-			e1.printStackTrace();
-			throw new RuntimeException("Unable to serialize the Concept descriptions");
-		}
-	}
-	
-	private List<ConceptDescription> getDeserializedCDs(String serializedCDs) {
-		try {
-			return jsonDeserializer.readList(serializedCDs, ConceptDescription.class);
-		} catch (DeserializationException e) {
-			e.printStackTrace();
-			throw new RuntimeException("Unable to deserialize the Concept descriptions");
-		}
+		return originalConceptDescriptions.stream().map(MetamodelCopier::deepCopy).collect(Collectors.toList());
 	}
 
 }
@@ -27,12 +27,15 @@ package org.eclipse.digitaltwin.basyx.aasenvironment.base;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
@@ -49,14 +52,20 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
 import org.eclipse.digitaltwin.basyx.aasenvironment.AasEnvironment;
 import org.eclipse.digitaltwin.basyx.aasenvironment.ConceptDescriptionIdCollector;
+import org.eclipse.digitaltwin.basyx.aasenvironment.EnvironmentSerializationWriter;
 import org.eclipse.digitaltwin.basyx.aasenvironment.FileElementPathCollector;
 import org.eclipse.digitaltwin.basyx.aasenvironment.IdShortPathBuilder;
 import org.eclipse.digitaltwin.basyx.aasenvironment.MetamodelCloneCreator;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.CompleteEnvironment;
+import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.EnvironmentBatchUploader;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.IdentifiableUploader;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.IdentifiableAssertion;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.IdentifiableUploader.DelegatingIdentifiableRepository;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.IdentifiableUploader.IdentifiableRepository;
+import org.eclipse.digitaltwin.basyx.aasenvironment.serialization.AasxEnvironmentStreamWriter;
+import org.eclipse.digitaltwin.basyx.aasenvironment.serialization.EnvironmentStreamWriter;
+import org.eclipse.digitaltwin.basyx.aasenvironment.serialization.JsonEnvironmentStreamWriter;
+import org.eclipse.digitaltwin.basyx.aasenvironment.serialization.XmlEnvironmentStreamWriter;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
@@ -83,12 +92,14 @@ public class DefaultAASEnvironment implements AasEnvironment {
 	private AASXSerializer aasxSerializer = new AASXSerializer();
 	private MetamodelCloneCreator cloneCreator = new MetamodelCloneCreator();
 	private IdentifiableAssertion checker;
+	private EnvironmentBatchUploader batchUploader;
 	
 	public DefaultAASEnvironment(AasRepository aasRepository, SubmodelRepository submodelRepository, ConceptDescriptionRepository conceptDescriptionRepository) {
 		this.aasRepository = aasRepository;
 		this.submodelRepository = submodelRepository;
 		this.conceptDescriptionRepository = conceptDescriptionRepository;
 		this.checker = new IdentifiableAssertion(aasRepository, submodelRepository);
+		this.batchUploader = new EnvironmentBatchUploader(aasRepository, submodelRepository, conceptDescriptionRepository);
 	}
 
 	@Override
@@ -112,6 +123,21 @@ public class DefaultAASEnvironment implements AasEnvironment {
 		aasxSerializer.write(aasEnvironment, null, outputStream);
 		return outputStream.toByteArray();
 	}
+
+	@Override
+	public EnvironmentSerializationWriter createJSONAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException {
+		return createSerializationWriter(aasIds, submodelIds, includeConceptDescriptions, JsonEnvironmentStreamWriter::new);
+	}
+
+	@Override
+	public EnvironmentSerializationWriter createXMLAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException {
+		return createSerializationWriter(aasIds, submodelIds, includeConceptDescriptions, XmlEnvironmentStreamWriter::new);
+	}
+
+	@Override
+	public EnvironmentSerializationWriter createAASXAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws ElementDoesNotExistException {
+		return createSerializationWriter(aasIds, submodelIds, includeConceptDescriptions, outputStream -> new AasxEnvironmentStreamWriter(outputStream, aasRepository, submodelRepository));
+	}
 	
 	public void loadEnvironment(CompleteEnvironment completeEnvironment) {
 		Environment environment = completeEnvironment.getEnvironment();
@@ -127,6 +153,13 @@ public class DefaultAASEnvironment implements AasEnvironment {
 		createConceptDescriptionsOnRepositoryFromEnvironment(environment);
 	}
 
+	@Override
+	public void loadEnvironments(List<CompleteEnvironment> completeEnvironments) {
+		completeEnvironments.stream().map(CompleteEnvironment::getEnvironment).filter(Objects::nonNull).forEach(checker::assertNoDuplicateIds);
+
+		batchUploader.upload(completeEnvironments);
+	}
+
 	private void createConceptDescriptionsOnRepositoryFromEnvironment(Environment environment) {
 		IdentifiableRepository<ConceptDescription> repo = new DelegatingIdentifiableRepository<ConceptDescription>(conceptDescriptionRepository::getConceptDescription, conceptDescriptionRepository::updateConceptDescription,
 				conceptDescriptionRepository::createConceptDescription);
@@ -271,21 +304,55 @@ public class DefaultAASEnvironment implements AasEnvironment {
 		return aasEnvironment;
 	}
 
+	private EnvironmentSerializationWriter createSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions, EnvironmentStreamWriterFactory writerFactory) {
+		aasIds.forEach(aasRepository::getAas);
+		submodelIds.forEach(submodelRepository::getSubmodelByIdMetadata);
+
+		if (includeConceptDescriptions)
+			assertConceptDescriptionRepositoryIsConfigured();
+
+		return outputStream -> writeEnvironment(writerFactory.create(outputStream), aasIds, submodelIds, includeConceptDescriptions);
+	}
+
+	private void writeEnvironment(EnvironmentStreamWriter writer, List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) throws IOException {
+		Set<String> conceptDescriptionIds = new LinkedHashSet<>();
+
+		Stream<AssetAdministrationShell> shells = aasIds.stream().map(aasRepository::getAas);
+		Stream<Submodel> submodels = submodelIds.stream().map(submodelRepository::getSubmodel);
+
+		if (includeConceptDescriptions) {
+			shells = shells.peek(shell -> conceptDescriptionIds.addAll(new ConceptDescriptionIdCollector(new DefaultEnvironment.Builder().assetAdministrationShells(shell).build()).collect()));
+			submodels = submodels.peek(submodel -> conceptDescriptionIds.addAll(new ConceptDescriptionIdCollector(new DefaultEnvironment.Builder().submodels(submodel).build()).collect()));
+		}
+
+		writer.writeAssetAdministrationShells(shells.iterator());
+		writer.writeSubmodels(submodels.iterator());
+
+		if (includeConceptDescriptions)
+			writer.writeConceptDescriptions(conceptDescriptionIds.stream().map(this::fetchConceptDescriptionFromRepo).filter(Objects::nonNull).iterator());
+
+		writer.finish();
+	}
+
 	private void includeConceptDescriptions(Environment aasEnvironment) {
 		List<ConceptDescription> conceptDescriptions = cloneCreator.cloneConceptDescriptions(getConceptDescriptions(aasEnvironment));
 		aasEnvironment.setConceptDescriptions(conceptDescriptions);
 	}
 
 	private List<ConceptDescription> getConceptDescriptions(Environment env) {
-		if (conceptDescriptionRepository == null) {
-			throw new NullPointerException("The parameter includeConceptDescriptions is set to true but ConceptDescriptionRepository is null");
-		}
+		assertConceptDescriptionRepositoryIsConfigured();
 
 		Set<String> cdIds = new ConceptDescriptionIdCollector(env).collect();
 
 		return cdIds.stream().map(this::fetchConceptDescriptionFromRepo).filter(Objects::nonNull).collect(Collectors.toList());
 	}
 
+	private void assertConceptDescriptionRepositoryIsConfigured() {
+		if (conceptDescriptionRepository == null) {
+			throw new NullPointerException("The parameter includeConceptDescriptions is set to true but ConceptDescriptionRepository is null");
+		}
+	}
+
 	private ConceptDescription fetchConceptDescriptionFromRepo(String conceptDescriptionId) {
 		try {
 			return conceptDescriptionRepository.getConceptDescription(conceptDescriptionId);
@@ -295,4 +362,9 @@ public class DefaultAASEnvironment implements AasEnvironment {
 		}
 	}
 
+	@FunctionalInterface
+	private interface EnvironmentStreamWriterFactory {
+		EnvironmentStreamWriter create(OutputStream outputStream) throws IOException;
+	}
+
 }
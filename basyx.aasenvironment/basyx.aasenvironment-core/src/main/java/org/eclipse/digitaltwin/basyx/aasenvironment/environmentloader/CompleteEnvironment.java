@@ -93,7 +93,9 @@ public class CompleteEnvironment {
 	}
 
 	public static CompleteEnvironment fromFile(File file) throws DeserializationException, InvalidFormatException, IOException {
-		return fromInputStream(new FileInputStream(file), EnvironmentType.getFromFilePath(file.getPath()));
+		try (InputStream inputStream = new FileInputStream(file)) {
+			return fromInputStream(inputStream, EnvironmentType.getFromFilePath(file.getPath()));
+		}
 	}
 
 	public static CompleteEnvironment fromInputStream(InputStream inputStream, EnvironmentType envType) throws DeserializationException, InvalidFormatException, IOException {
@@ -0,0 +1,361 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FilenameUtils;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.aasenvironment.FileElementPathCollector;
+import org.eclipse.digitaltwin.basyx.aasenvironment.IdShortPathBuilder;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Uploads multiple environments in one batch. <br>
+ * <br>
+ * The identifiables of all environments are merged first, so that each of them
+ * is looked up and written only once. Identifiables that are not deployed yet
+ * are created with a single bulk call per repository, together with the files
+ * of their File elements. Deployed identifiables are updated one by one based
+ * on version and revision, as done by {@link IdentifiableUploader}.<br>
+ * <br>
+ * A shell or submodel id occurring in more than one environment is rejected
+ * with a {@link CollidingIdentifierException}, while concept descriptions
+ * shared by several environments are uploaded once.
+ *
+ * @author danish
+ *
+ */
+public class EnvironmentBatchUploader {
+
+	private static Logger logger = LoggerFactory.getLogger(EnvironmentBatchUploader.class);
+
+	private final AasRepository aasRepository;
+	private final SubmodelRepository submodelRepository;
+	private final ConceptDescriptionRepository conceptDescriptionRepository;
+
+	public EnvironmentBatchUploader(AasRepository aasRepository, SubmodelRepository submodelRepository, ConceptDescriptionRepository conceptDescriptionRepository) {
+		this.aasRepository = aasRepository;
+		this.submodelRepository = submodelRepository;
+		this.conceptDescriptionRepository = conceptDescriptionRepository;
+	}
+
+	public void upload(List<CompleteEnvironment> completeEnvironments) {
+		long start = System.nanoTime();
+
+		Map<String, BatchEntry<AssetAdministrationShell>> shells = new LinkedHashMap<>();
+		Map<String, BatchEntry<Submodel>> submodels = new LinkedHashMap<>();
+		Map<String, BatchEntry<ConceptDescription>> conceptDescriptions = new LinkedHashMap<>();
+
+		for (int environmentIndex = 0; environmentIndex < completeEnvironments.size(); environmentIndex++)
+			mergeEnvironment(completeEnvironments.get(environmentIndex), environmentIndex, shells, submodels, conceptDescriptions);
+
+		logger.info("Merged {} environments into {} shells, {} submodels and {} concept descriptions in {} ms", completeEnvironments.size(), shells.size(), submodels.size(), conceptDescriptions.size(), elapsedMillis(start));
+
+		uploadShells(shells.values());
+		uploadSubmodels(submodels.values());
+		uploadConceptDescriptions(conceptDescriptions.values());
+	}
+
+	private void mergeEnvironment(CompleteEnvironment completeEnvironment, int environmentIndex, Map<String, BatchEntry<AssetAdministrationShell>> shells, Map<String, BatchEntry<Submodel>> submodels,
+			Map<String, BatchEntry<ConceptDescription>> conceptDescriptions) {
+		Environment environment = completeEnvironment.getEnvironment();
+
+		if (environment == null)
+			return;
+
+		Map<String, InMemoryFile> relatedFiles = indexRelatedFiles(completeEnvironment.getRelatedFiles());
+
+		for (AssetAdministrationShell shell : environment.getAssetAdministrationShells())
+			mergeUnique(shells, new BatchEntry<>(shell, relatedFiles, environmentIndex), "shell");
+
+		for (Submodel submodel : environment.getSubmodels())
+			mergeUnique(submodels, new BatchEntry<>(submodel, relatedFiles, environmentIndex), "submodel");
+
+		for (ConceptDescription conceptDescription : environment.getConceptDescriptions())
+			mergeByVersion(conceptDescriptions, new BatchEntry<>(conceptDescription, relatedFiles, environmentIndex));
+	}
+
+	private static <T extends Identifiable> void mergeUnique(Map<String, BatchEntry<T>> merged, BatchEntry<T> entry, String resourceName) {
+		String id = entry.getIdentifiable().getId();
+		BatchEntry<T> existing = merged.putIfAbsent(id, entry);
+
+		if (existing == null)
+			return;
+
+		if (existing.getEnvironmentIndex() != entry.getEnvironmentIndex())
+			throw new CollidingIdentifierException(id);
+
+		logger.warn("Duplicate {} {} in the same environment was skipped", resourceName, id);
+	}
+
+	private static <T extends Identifiable> void mergeByVersion(Map<String, BatchEntry<T>> merged, BatchEntry<T> entry) {
+		String id = entry.getIdentifiable().getId();
+		BatchEntry<T> existing = merged.get(id);
+
+		if (existing == null || IdentifiableUploader.shouldUpdate(existing.getIdentifiable(), entry.getIdentifiable()))
+			merged.put(id, entry);
+	}
+
+	private void uploadShells(Collection<BatchEntry<AssetAdministrationShell>> entries) {
+		long start = System.nanoTime();
+
+		Partition<AssetAdministrationShell> partition = partition(entries, aasRepository::getAas);
+
+		if (!partition.getToCreate().isEmpty())
+			aasRepository.createAllAas(getIdentifiables(partition.getToCreate()));
+
+		partition.getToUpdate().forEach(entry -> aasRepository.updateAas(entry.getIdentifiable().getId(), entry.getIdentifiable()));
+
+		partition.getSkipped().forEach(entry -> logger.warn("Uploading shell {} was not successful!", entry.getIdentifiable().getId()));
+
+		partition.getWritten().forEach(this::setThumbnail);
+
+		logUpload("shells", partition, start);
+	}
+
+	private void uploadSubmodels(Collection<BatchEntry<Submodel>> entries) {
+		long start = System.nanoTime();
+
+		Partition<Submodel> partition = partition(entries, submodelRepository::getSubmodelByIdMetadata);
+
+		if (!partition.getToCreate().isEmpty()) {
+			List<SubmodelFileValue> fileValues = partition.getToCreate().stream().flatMap(entry -> collectFileValues(entry).stream()).collect(Collectors.toList());
+
+			submodelRepository.createAllSubmodels(getIdentifiables(partition.getToCreate()), fileValues);
+		}
+
+		for (BatchEntry<Submodel> entry : partition.getToUpdate()) {
+			submodelRepository.updateSubmodel(entry.getIdentifiable().getId(), entry.getIdentifiable());
+
+			collectFileValues(entry).forEach(fileValue -> submodelRepository.setFileValue(fileValue.getSubmodelId(), fileValue.getIdShortPath(), fileValue.getFileName(), fileValue.getContent()));
+		}
+
+		partition.getSkipped().forEach(entry -> logger.warn("Uploading submodel {} was not successful!", entry.getIdentifiable().getId()));
+
+		logUpload("submodels", partition, start);
+	}
+
+	private void uploadConceptDescriptions(Collection<BatchEntry<ConceptDescription>> entries) {
+		long start = System.nanoTime();
+
+		Partition<ConceptDescription> partition = partition(entries, conceptDescriptionRepository::getConceptDescription);
+
+		if (!partition.getToCreate().isEmpty())
+			conceptDescriptionRepository.createAllConceptDescriptions(getIdentifiables(partition.getToCreate()));
+
+		partition.getToUpdate().forEach(entry -> conceptDescriptionRepository.updateConceptDescription(entry.getIdentifiable().getId(), entry.getIdentifiable()));
+
+		partition.getSkipped().forEach(entry -> logger.warn("Colliding Ids detected for ConceptDescription: {}. If they are not identical, this is an error. Please note that the already existing ConceptDescription was not updated.",
+				entry.getIdentifiable().getId()));
+
+		logUpload("concept descriptions", partition, start);
+	}
+
+	private static <T extends Identifiable> Partition<T> partition(Collection<BatchEntry<T>> entries, Function<String, T> deployedRetriever) {
+		Partition<T> partition = new Partition<>();
+
+		for (BatchEntry<T> entry : entries) {
+			Optional<T> deployed = getDeployedById(entry.getIdentifiable().getId(), deployedRetriever);
+
+			if (deployed.isEmpty())
+				partition.getToCreate().add(entry);
+			else if (IdentifiableUploader.shouldUpdate(deployed.get(), entry.getIdentifiable()))
+				partition.getToUpdate().add(entry);
+			else
+				partition.getSkipped().add(entry);
+		}
+
+		return partition;
+	}
+
+	private static <T extends Identifiable> Optional<T> getDeployedById(String id, Function<String, T> deployedRetriever) {
+		if (id == null)
+			return Optional.empty();
+
+		try {
+			return Optional.ofNullable(deployedRetriever.apply(id));
+		} catch (ElementDoesNotExistException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static List<SubmodelFileValue> collectFileValues(BatchEntry<Submodel> entry) {
+		Submodel submodel = entry.getIdentifiable();
+
+		if (entry.getRelatedFiles().isEmpty())
+			return Collections.emptyList();
+
+		List<SubmodelFileValue> fileValues = new ArrayList<>();
+
+		for (List<SubmodelElement> fileElementPath : new FileElementPathCollector(submodel).collect()) {
+			String idShortPath = new IdShortPathBuilder(new ArrayList<>(fileElementPath)).build();
+			File fileElement = (File) fileElementPath.get(fileElementPath.size() - 1);
+
+			InMemoryFile inMemoryFile = entry.getRelatedFiles().get(fileElement.getValue());
+
+			if (inMemoryFile == null) {
+				logger.info("Unable to set file to the SubmodelElement File with IdShortPath '{}' because it does not exist in the AASX file.", idShortPath);
+				continue;
+			}
+
+			fileValues.add(new SubmodelFileValue(submodel.getId(), idShortPath, FilenameUtils.getName(inMemoryFile.getPath()), new ByteArrayInputStream(inMemoryFile.getFileContent())));
+		}
+
+		return fileValues;
+	}
+
+	private void setThumbnail(BatchEntry<AssetAdministrationShell> entry) {
+		AssetAdministrationShell shell = entry.getIdentifiable();
+
+		if (entry.getRelatedFiles().isEmpty() || shell.getAssetInformation() == null)
+			return;
+
+		Resource thumbnailResource = shell.getAssetInformation().getDefaultThumbnail();
+
+		if (thumbnailResource == null || isBlank(thumbnailResource.getPath()) || isBlank(thumbnailResource.getContentType())) {
+			logger.info("Could not find thumbnail resource for aas {}", shell.getId());
+			return;
+		}
+
+		InMemoryFile thumbnailFile = entry.getRelatedFiles().get(thumbnailResource.getPath());
+
+		if (thumbnailFile == null) {
+			logger.info("Thumbnail file specified at path {} for aas {} could not be found.", thumbnailResource.getPath(), shell.getId());
+			return;
+		}
+
+		if (thumbnailFile.getFileContent().length == 0) {
+			logger.info("Thumbnail content for aas {} is empty.", thumbnailResource.getPath());
+			return;
+		}
+
+		aasRepository.setThumbnail(shell.getId(), FilenameUtils.getName(thumbnailResource.getPath()), thumbnailResource.getContentType(), new ByteArrayInputStream(thumbnailFile.getFileContent()));
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	private static Map<String, InMemoryFile> indexRelatedFiles(List<InMemoryFile> relatedFiles) {
+		if (relatedFiles == null || relatedFiles.isEmpty())
+			return Collections.emptyMap();
+
+		return relatedFiles.stream().collect(Collectors.toMap(InMemoryFile::getPath, Function.identity(), (first, second) -> first));
+	}
+
+	private static <T extends Identifiable> List<T> getIdentifiables(List<BatchEntry<T>> entries) {
+		return entries.stream().map(BatchEntry::getIdentifiable).collect(Collectors.toList());
+	}
+
+	private static void logUpload(String resourceName, Partition<?> partition, long start) {
+		logger.info("Uploaded {} {} ({} created, {} updated, {} unchanged) in {} ms", partition.getToCreate().size() + partition.getToUpdate().size(), resourceName, partition.getToCreate().size(), partition.getToUpdate().size(),
+				partition.getSkipped().size(), elapsedMillis(start));
+	}
+
+	private static long elapsedMillis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
+	private static class BatchEntry<T extends Identifiable> {
+
+		private final T identifiable;
+		private final Map<String, InMemoryFile> relatedFiles;
+		private final int environmentIndex;
+
+		public BatchEntry(T identifiable, Map<String, InMemoryFile> relatedFiles, int environmentIndex) {
+			this.identifiable = identifiable;
+			this.relatedFiles = relatedFiles;
+			this.environmentIndex = environmentIndex;
+		}
+
+		public T getIdentifiable() {
+			return identifiable;
+		}
+
+		public Map<String, InMemoryFile> getRelatedFiles() {
+			return relatedFiles;
+		}
+
+		public int getEnvironmentIndex() {
+			return environmentIndex;
+		}
+
+	}
+
+	private static class Partition<T extends Identifiable> {
+
+		private final List<BatchEntry<T>> toCreate = new ArrayList<>();
+		private final List<BatchEntry<T>> toUpdate = new ArrayList<>();
+		private final List<BatchEntry<T>> skipped = new ArrayList<>();
+
+		public List<BatchEntry<T>> getToCreate() {
+			return toCreate;
+		}
+
+		public List<BatchEntry<T>> getToUpdate() {
+			return toUpdate;
+		}
+
+		public List<BatchEntry<T>> getSkipped() {
+			return skipped;
+		}
+
+		public List<BatchEntry<T>> getWritten() {
+			List<BatchEntry<T>> written = new ArrayList<>(toCreate);
+			written.addAll(toUpdate);
+
+			return written;
+		}
+
+	}
+
+}
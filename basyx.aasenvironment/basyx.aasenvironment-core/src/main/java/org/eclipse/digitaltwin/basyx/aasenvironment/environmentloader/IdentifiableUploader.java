@@ -61,7 +61,17 @@ public class IdentifiableUploader<T extends Identifiable> {
 		return false;
 	}	
 	
-	private boolean shouldUpdate(T current, T toUpload) {
+	/**
+	 * Decides based on version and revision whether the deployed identifiable has
+	 * to be replaced by the one to upload
+	 * 
+	 * @param current
+	 *            the deployed identifiable
+	 * @param toUpload
+	 *            the identifiable to upload
+	 * @return true if the deployed identifiable has to be updated
+	 */
+	public static boolean shouldUpdate(Identifiable current, Identifiable toUpload) {
 		if (isVersionOrRevisionPresent(current)) {
 			if (isVersionOrRevisionPresent(toUpload)) {
 				// both have version and revision
@@ -107,7 +117,7 @@ public class IdentifiableUploader<T extends Identifiable> {
 		}
 	}
 
-	private boolean isVersionOrRevisionPresent(Identifiable toUpdate) {
+	private static boolean isVersionOrRevisionPresent(Identifiable toUpdate) {
 		AdministrativeInformation info = toUpdate.getAdministration();
 		if (info == null) {
 			return false;
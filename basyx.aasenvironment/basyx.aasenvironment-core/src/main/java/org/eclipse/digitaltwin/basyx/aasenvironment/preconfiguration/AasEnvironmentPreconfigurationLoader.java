@@ -29,6 +29,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
@@ -45,7 +50,11 @@ import org.springframework.integration.file.RecursiveDirectoryScanner;
 import org.springframework.stereotype.Component;
 
 /**
- * Loader for AAS environment pre-configuration
+ * Loader for AAS environment pre-configuration. <br>
+ * <br>
+ * The files are parsed in parallel and uploaded in batches of
+ * <code>basyx.environment-loader.batch-size</code> files, so that only one
+ * batch is kept in memory at a time.
  *
  * @author fried, mateusmolina, despen, witt, jungjan, danish
  *
@@ -55,9 +64,16 @@ public class AasEnvironmentPreconfigurationLoader {
 	
 	private Logger logger = LoggerFactory.getLogger(AasEnvironmentPreconfigurationLoader.class);
 
+	private static final int DEFAULT_BATCH_SIZE = 50;
+
 	@Value("${basyx.environment:#{null}}")
 	private List<String> pathsToLoad;
 
+	@Value("${basyx.environment-loader.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
 	private ResourceLoader resourceLoader;
 	
 	@Autowired
@@ -66,23 +82,97 @@ public class AasEnvironmentPreconfigurationLoader {
 		this.pathsToLoad = pathsToLoad;
 	}
 
+	@Value("${basyx.environment-loader.batch-size:" + DEFAULT_BATCH_SIZE + "}")
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1)
+			throw new IllegalArgumentException("The batch size of the environment loader has to be positive");
+
+		this.batchSize = batchSize;
+	}
+
 	public boolean shouldLoadPreconfiguredEnvironment() {
 		return pathsToLoad != null;
 	}
 
 	public void loadPreconfiguredEnvironments(AasEnvironment aasEnvironment)
 			throws IOException, DeserializationException, InvalidFormatException {
+		long start = System.nanoTime();
+
 		List<File> files = scanForEnvironments(pathsToLoad);
 
 		if (files.isEmpty())
 			return;
 
-		int filesCount = files.size();
-		int currenFileIndex = 0;
+		long scanMillis = elapsedMillis(start);
+		long parseNanos = 0;
+		long uploadNanos = 0;
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, files.size())));
+
+		try {
+			for (int batchStart = 0; batchStart < files.size(); batchStart += batchSize) {
+				List<File> batch = files.subList(batchStart, Math.min(batchStart + batchSize, files.size()));
+
+				long parseStart = System.nanoTime();
+				List<CompleteEnvironment> environments = parseEnvironments(batch, batchStart, files.size(), executor);
+				parseNanos += System.nanoTime() - parseStart;
+
+				long uploadStart = System.nanoTime();
+				aasEnvironment.loadEnvironments(environments);
+				uploadNanos += System.nanoTime() - uploadStart;
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		logger.info("Loaded {} preconfigured AAS environments in {} ms (scan: {} ms, parse: {} ms, upload: {} ms)", files.size(), elapsedMillis(start), scanMillis, TimeUnit.NANOSECONDS.toMillis(parseNanos),
+				TimeUnit.NANOSECONDS.toMillis(uploadNanos));
+	}
 
-		for (File file : files) {
-			logLoadingProcess(currenFileIndex++, filesCount, file.getName());
-			aasEnvironment.loadEnvironment(CompleteEnvironment.fromFile(file));
+	/**
+	 * Parses the files in parallel, while the returned environments keep the
+	 * order of the files
+	 */
+	private List<CompleteEnvironment> parseEnvironments(List<File> files, int offset, int filesCount, ExecutorService executor) throws IOException, DeserializationException, InvalidFormatException {
+		List<Future<CompleteEnvironment>> futures = new ArrayList<>();
+
+		for (int i = 0; i < files.size(); i++) {
+			File file = files.get(i);
+			int fileIndex = offset + i;
+
+			futures.add(executor.submit(() -> {
+				logLoadingProcess(fileIndex, filesCount, file.getName());
+				return CompleteEnvironment.fromFile(file);
+			}));
+		}
+
+		List<CompleteEnvironment> environments = new ArrayList<>();
+
+		for (Future<CompleteEnvironment> future : futures)
+			environments.add(getParsedEnvironment(future));
+
+		return environments;
+	}
+
+	private CompleteEnvironment getParsedEnvironment(Future<CompleteEnvironment> future) throws IOException, DeserializationException, InvalidFormatException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while parsing the preconfigured AAS environments", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof DeserializationException)
+				throw (DeserializationException) cause;
+			if (cause instanceof InvalidFormatException)
+				throw (InvalidFormatException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+
+			throw new IllegalStateException(cause);
 		}
 	}
 
@@ -130,6 +220,10 @@ public class AasEnvironmentPreconfigurationLoader {
 				.collect(Collectors.toList());
 	}
 
+	private static long elapsedMillis(long start) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+	}
+
 	private void logLoadingProcess(int current, int overall, String filename) {
 		logger.info("Loading AAS Environment ({}/{}) from file '{}'", current, overall, filename);
 	}
@@ -0,0 +1,392 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasenvironment.serialization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.aasenvironment.FileElementPathCollector;
+import org.eclipse.digitaltwin.basyx.aasenvironment.IdShortPathBuilder;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * {@link EnvironmentStreamWriter} writing an AASX package directly into a
+ * {@link ZipOutputStream}
+ * 
+ * <p>
+ * The environment is streamed into the <code>/aasx/xml/content.xml</code> part
+ * by a {@link XmlEnvironmentStreamWriter}. The files referenced by
+ * {@link File} elements and the default thumbnails of the shells are pulled
+ * from the repositories and copied into the package one after the other when
+ * the serialization is finished. Their paths are rewritten to the part names
+ * inside the package. Paths that map to an already used part name get a
+ * numbered suffix, so that no file is left out. Only the part names and content
+ * types are kept in memory until the relationship and content type parts are
+ * written at the end.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class AasxEnvironmentStreamWriter implements EnvironmentStreamWriter {
+
+	private static final Logger logger = LoggerFactory.getLogger(AasxEnvironmentStreamWriter.class);
+
+	private static final String CONTENT_TYPES_ENTRY = "[Content_Types].xml";
+	private static final String PACKAGE_RELATIONSHIPS_PART = "/_rels/.rels";
+	private static final String ORIGIN_RELATIONSHIPS_PART = "/aasx/_rels/aasx-origin.rels";
+	private static final String CONTENT_RELATIONSHIPS_PART = "/aasx/xml/_rels/content.xml.rels";
+	private static final String ATTACHMENT_FOLDER = "/aasx/files/";
+
+	private static final String CONTENT_TYPES_NAMESPACE = "http://schemas.openxmlformats.org/package/2006/content-types";
+	private static final String RELATIONSHIPS_CONTENT_TYPE = "application/vnd.openxmlformats-package.relationships+xml";
+	private static final String XML_CONTENT_TYPE = "application/xml";
+	private static final String PLAIN_TEXT_CONTENT_TYPE = "text/plain";
+	private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+	private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newInstance();
+	private final ZipOutputStream zipOutputStream;
+	private final XmlEnvironmentStreamWriter contentWriter;
+	private final AasRepository aasRepository;
+	private final SubmodelRepository submodelRepository;
+
+	private final Map<String, PackagedFile> supplementaryFiles = new LinkedHashMap<>();
+	private final Map<String, PackagedFile> thumbnails = new LinkedHashMap<>();
+	private final Set<String> partNames = new HashSet<>();
+
+	public AasxEnvironmentStreamWriter(OutputStream outputStream, AasRepository aasRepository, SubmodelRepository submodelRepository) throws IOException {
+		this.aasRepository = aasRepository;
+		this.submodelRepository = submodelRepository;
+		this.zipOutputStream = new ZipOutputStream(outputStream);
+
+		writeEntry(AASXSerializer.ORIGIN_PATH, AASXSerializer.ORIGIN_CONTENT.getBytes(StandardCharsets.UTF_8));
+
+		zipOutputStream.putNextEntry(new ZipEntry(toEntryName(AASXSerializer.XML_PATH)));
+		contentWriter = new XmlEnvironmentStreamWriter(zipOutputStream);
+	}
+
+	@Override
+	public void writeAssetAdministrationShells(Iterator<AssetAdministrationShell> shells) throws IOException {
+		contentWriter.writeAssetAdministrationShells(Iterators.transform(shells, this::packageThumbnail));
+	}
+
+	@Override
+	public void writeSubmodels(Iterator<Submodel> submodels) throws IOException {
+		contentWriter.writeSubmodels(Iterators.transform(submodels, this::packageFiles));
+	}
+
+	@Override
+	public void writeConceptDescriptions(Iterator<ConceptDescription> conceptDescriptions) throws IOException {
+		contentWriter.writeConceptDescriptions(conceptDescriptions);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		contentWriter.finish();
+		zipOutputStream.closeEntry();
+
+		writePackagedFiles(supplementaryFiles.values());
+		writePackagedFiles(thumbnails.values());
+
+		writeRelationships(PACKAGE_RELATIONSHIPS_PART, createPackageRelationships());
+		writeRelationships(ORIGIN_RELATIONSHIPS_PART, Map.of(AASXSerializer.XML_PATH, AASXSerializer.AASSPEC_RELTYPE));
+		writeRelationships(CONTENT_RELATIONSHIPS_PART, createRelationships(supplementaryFiles.values(), AASXSerializer.AASSUPPL_RELTYPE));
+		writeContentTypes();
+
+		zipOutputStream.finish();
+		zipOutputStream.flush();
+	}
+
+	private AssetAdministrationShell packageThumbnail(AssetAdministrationShell shell) {
+		Resource thumbnail = shell.getAssetInformation() == null ? null : shell.getAssetInformation().getDefaultThumbnail();
+
+		if (thumbnail == null || !isPackageable(thumbnail.getPath()))
+			return shell;
+
+		Optional<FileResource> content = resolve(() -> aasRepository.getThumbnail(shell.getId()), thumbnail.getPath());
+
+		if (content.isEmpty())
+			return shell;
+
+		AssetAdministrationShell shellCopy = MetamodelCopier.deepCopy(shell);
+		String partName = register(thumbnails, thumbnail.getPath(), thumbnail.getContentType(), content.get());
+		shellCopy.getAssetInformation().getDefaultThumbnail().setPath(partName);
+
+		return shellCopy;
+	}
+
+	private Submodel packageFiles(Submodel submodel) {
+		if (new FileElementPathCollector(submodel).collect().isEmpty())
+			return submodel;
+
+		Submodel submodelCopy = MetamodelCopier.deepCopy(submodel);
+
+		for (List<SubmodelElement> fileElementPath : new FileElementPathCollector(submodelCopy).collect())
+			packageFile(submodelCopy.getId(), fileElementPath);
+
+		return submodelCopy;
+	}
+
+	private void packageFile(String submodelId, List<SubmodelElement> fileElementPath) {
+		File file = (File) fileElementPath.get(fileElementPath.size() - 1);
+
+		if (!isPackageable(file.getValue()))
+			return;
+
+		String idShortPath = new IdShortPathBuilder(new ArrayList<>(fileElementPath)).build();
+
+		resolve(() -> submodelRepository.getFileByPathSubmodel(submodelId, idShortPath), file.getValue()).ifPresent(content -> file.setValue(register(supplementaryFiles, file.getValue(), file.getContentType(), content)));
+	}
+
+	private Optional<FileResource> resolve(Supplier<FileResource> fileSupplier, String path) {
+		try {
+			return Optional.of(fileSupplier.get());
+		} catch (ElementDoesNotExistException | ElementNotAFileException | FileDoesNotExistException e) {
+			logger.warn("The file '{}' could not be found and is not included in the AASX package", path);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Registers the file at the given path for packaging. A path that is already
+	 * registered is packaged only once.
+	 * 
+	 * @return the part name of the file inside the package
+	 */
+	private String register(Map<String, PackagedFile> packagedFiles, String path, String contentType, FileResource content) {
+		PackagedFile packagedFile = packagedFiles.get(path);
+
+		if (packagedFile == null) {
+			packagedFile = new PackagedFile(createUniquePartName(path), getContentType(contentType, content), content);
+			packagedFiles.put(path, packagedFile);
+		}
+
+		return packagedFile.partName;
+	}
+
+	private String createUniquePartName(String path) {
+		String partName = toPartName(path);
+
+		int extensionIndex = partName.lastIndexOf('.');
+		if (extensionIndex <= partName.lastIndexOf('/'))
+			extensionIndex = partName.length();
+
+		String baseName = partName.substring(0, extensionIndex);
+		String extension = partName.substring(extensionIndex);
+
+		for (int suffix = 1; !partNames.add(partName); suffix++)
+			partName = baseName + "_" + suffix + extension;
+
+		return partName;
+	}
+
+	private void writePackagedFiles(Iterable<PackagedFile> packagedFiles) throws IOException {
+		for (PackagedFile packagedFile : packagedFiles) {
+			zipOutputStream.putNextEntry(new ZipEntry(toEntryName(packagedFile.partName)));
+
+			try (InputStream content = packagedFile.content.getInputStream()) {
+				content.transferTo(zipOutputStream);
+			}
+
+			zipOutputStream.closeEntry();
+		}
+	}
+
+	private Map<String, String> createPackageRelationships() {
+		Map<String, String> relationships = new LinkedHashMap<>();
+		relationships.put(AASXSerializer.ORIGIN_PATH, AASXSerializer.ORIGIN_RELTYPE);
+		relationships.putAll(createRelationships(thumbnails.values(), AASXSerializer.AAS_THUMBNAIL_RELTYPE));
+
+		return relationships;
+	}
+
+	private Map<String, String> createRelationships(Iterable<PackagedFile> targets, String relationshipType) {
+		Map<String, String> relationships = new LinkedHashMap<>();
+
+		for (PackagedFile target : targets)
+			relationships.put(target.partName, relationshipType);
+
+		return relationships;
+	}
+
+	private void writeRelationships(String partName, Map<String, String> relationshipTypesByTarget) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(toEntryName(partName)));
+
+		try {
+			XMLStreamWriter writer = createXmlWriter();
+			writer.writeStartElement("Relationships");
+			writer.writeDefaultNamespace(AASXSerializer.OPC_NAMESPACE);
+
+			int id = 0;
+			for (Map.Entry<String, String> relationship : relationshipTypesByTarget.entrySet()) {
+				writer.writeEmptyElement("Relationship");
+				writer.writeAttribute("Id", "r" + id++);
+				writer.writeAttribute("Type", relationship.getValue());
+				writer.writeAttribute("Target", relationship.getKey());
+			}
+
+			closeXmlWriter(writer);
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write the relationship part " + partName, e);
+		}
+
+		zipOutputStream.closeEntry();
+	}
+
+	private void writeContentTypes() throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(CONTENT_TYPES_ENTRY));
+
+		try {
+			XMLStreamWriter writer = createXmlWriter();
+			writer.writeStartElement("Types");
+			writer.writeDefaultNamespace(CONTENT_TYPES_NAMESPACE);
+
+			writeDefaultContentType(writer, "rels", RELATIONSHIPS_CONTENT_TYPE);
+			writeDefaultContentType(writer, "xml", XML_CONTENT_TYPE);
+
+			writeContentTypeOverride(writer, AASXSerializer.ORIGIN_PATH, PLAIN_TEXT_CONTENT_TYPE);
+
+			for (PackagedFile packagedFile : supplementaryFiles.values())
+				writeContentTypeOverride(writer, packagedFile.partName, packagedFile.contentType);
+
+			for (PackagedFile packagedFile : thumbnails.values())
+				writeContentTypeOverride(writer, packagedFile.partName, packagedFile.contentType);
+
+			closeXmlWriter(writer);
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write the content types of the AASX package", e);
+		}
+
+		zipOutputStream.closeEntry();
+	}
+
+	private void writeDefaultContentType(XMLStreamWriter writer, String extension, String contentType) throws XMLStreamException {
+		writer.writeEmptyElement("Default");
+		writer.writeAttribute("Extension", extension);
+		writer.writeAttribute("ContentType", contentType);
+	}
+
+	private void writeContentTypeOverride(XMLStreamWriter writer, String partName, String contentType) throws XMLStreamException {
+		writer.writeEmptyElement("Override");
+		writer.writeAttribute("PartName", partName);
+		writer.writeAttribute("ContentType", contentType);
+	}
+
+	private XMLStreamWriter createXmlWriter() throws XMLStreamException {
+		XMLStreamWriter writer = xmlOutputFactory.createXMLStreamWriter(zipOutputStream, StandardCharsets.UTF_8.name());
+		writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+
+		return writer;
+	}
+
+	private void closeXmlWriter(XMLStreamWriter writer) throws XMLStreamException {
+		writer.writeEndDocument();
+		writer.flush();
+		writer.close();
+	}
+
+	private void writeEntry(String partName, byte[] content) throws IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(toEntryName(partName)));
+		zipOutputStream.write(content);
+		zipOutputStream.closeEntry();
+	}
+
+	private static boolean isPackageable(String path) {
+		return path != null && !path.isBlank() && !path.contains("://");
+	}
+
+	private static String getContentType(String declaredContentType, FileResource content) {
+		if (declaredContentType != null && !declaredContentType.isBlank())
+			return declaredContentType;
+
+		if (content.getContentType() != null)
+			return content.getContentType();
+
+		return DEFAULT_CONTENT_TYPE;
+	}
+
+	private static String toPartName(String path) {
+		String relativePath = (path.startsWith("file:") ? path.substring("file:".length()) : path).replaceAll("^/+", "");
+
+		if (relativePath.startsWith(ATTACHMENT_FOLDER.substring(1)))
+			return "/" + relativePath.replaceAll("[^A-Za-z0-9._/-]", "_");
+
+		return ATTACHMENT_FOLDER + relativePath.replaceAll("[^A-Za-z0-9._-]", "_");
+	}
+
+	private static String toEntryName(String partName) {
+		return partName.substring(1);
+	}
+
+	private static final class PackagedFile {
+
+		private final String partName;
+		private final String contentType;
+		private final FileResource content;
+
+		private PackagedFile(String partName, String contentType, FileResource content) {
+			this.partName = partName;
+			this.contentType = contentType;
+			this.content = content;
+		}
+
+	}
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasenvironment.serialization;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+/**
+ * Writes an {@link Environment} to an output stream one element at a time
+ * 
+ * <p>
+ * The elements are pulled from the passed iterators while they are written, so
+ * that only the element currently being serialized has to be kept in memory.
+ * The sections have to be written in the order shells, submodels, concept
+ * descriptions. Empty sections are omitted, just like the aas4j serializers do.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public interface EnvironmentStreamWriter {
+
+	public void writeAssetAdministrationShells(Iterator<AssetAdministrationShell> shells) throws IOException;
+
+	public void writeSubmodels(Iterator<Submodel> submodels) throws IOException;
+
+	public void writeConceptDescriptions(Iterator<ConceptDescription> conceptDescriptions) throws IOException;
+
+	/**
+	 * Completes the serialization and flushes it to the underlying output stream.
+	 * The output stream itself is not closed.
+	 * 
+	 * @throws IOException
+	 */
+	public void finish() throws IOException;
+
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasenvironment.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * {@link EnvironmentStreamWriter} writing the JSON serialization through a
+ * Jackson {@link JsonGenerator} configured like the aas4j
+ * {@link JsonSerializer}
+ * 
+ * @author danish
+ *
+ */
+public class JsonEnvironmentStreamWriter implements EnvironmentStreamWriter {
+
+	private final AasJsonMapperAccessor serializer = new AasJsonMapperAccessor();
+	private final JsonGenerator generator;
+
+	public JsonEnvironmentStreamWriter(OutputStream outputStream) throws IOException {
+		generator = serializer.writer().createGenerator(outputStream, JsonEncoding.UTF8);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.writeStartObject();
+	}
+
+	@Override
+	public void writeAssetAdministrationShells(Iterator<AssetAdministrationShell> shells) throws IOException {
+		writeArray("assetAdministrationShells", shells, serializer.writerFor(AssetAdministrationShell.class));
+	}
+
+	@Override
+	public void writeSubmodels(Iterator<Submodel> submodels) throws IOException {
+		writeArray("submodels", submodels, serializer.writerFor(Submodel.class));
+	}
+
+	@Override
+	public void writeConceptDescriptions(Iterator<ConceptDescription> conceptDescriptions) throws IOException {
+		writeArray("conceptDescriptions", conceptDescriptions, serializer.writerFor(ConceptDescription.class));
+	}
+
+	@Override
+	public void finish() throws IOException {
+		generator.writeEndObject();
+		generator.close();
+	}
+
+	private <T> void writeArray(String fieldName, Iterator<T> elements, ObjectWriter elementWriter) throws IOException {
+		if (!elements.hasNext())
+			return;
+
+		generator.writeArrayFieldStart(fieldName);
+
+		while (elements.hasNext())
+			elementWriter.writeValue(generator, elements.next());
+
+		generator.writeEndArray();
+		generator.flush();
+	}
+
+	/**
+	 * Exposes the preconfigured mapper of the aas4j {@link JsonSerializer}
+	 */
+	private static class AasJsonMapperAccessor extends JsonSerializer {
+
+		ObjectWriter writer() {
+			return mapper.writer();
+		}
+
+		ObjectWriter writerFor(Class<?> type) {
+			return mapper.writerFor(type);
+		}
+
+	}
+
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasenvironment.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.internal.util.ReflectionHelper;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.XmlSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.xml.internal.AasXmlNamespaceContext;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.xml.ser.ToXmlGenerator;
+
+/**
+ * {@link EnvironmentStreamWriter} writing the XML serialization through a
+ * StAX backed {@link ToXmlGenerator} configured like the aas4j
+ * {@link XmlSerializer}
+ * 
+ * <p>
+ * The document structure mirrors the environment serializer of aas4j. As the
+ * aas4j XML mapping requires empty lists to be <code>null</code>, every element
+ * is copied before it is written, leaving the passed instances untouched.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class XmlEnvironmentStreamWriter implements EnvironmentStreamWriter {
+
+	private static final String SCHEMA_LOCATION_ATTRIBUTE = "xsi:schemaLocation";
+	private static final String SCHEMA_LOCATION = AasXmlNamespaceContext.AAS_URI + " AAS.xsd";
+
+	private static final QName ENVIRONMENT_TAG = aasTag("environment");
+	private static final QName SHELLS_TAG = aasTag("assetAdministrationShells");
+	private static final QName SHELL_TAG = aasTag("assetAdministrationShell");
+	private static final QName SUBMODELS_TAG = aasTag("submodels");
+	private static final QName SUBMODEL_TAG = aasTag("submodel");
+	private static final QName CONCEPT_DESCRIPTIONS_TAG = aasTag("conceptDescriptions");
+	private static final QName CONCEPT_DESCRIPTION_TAG = aasTag("conceptDescription");
+
+	private final Map<String, String> namespacePrefixes = AasXmlNamespaceContext.PREFERRED_PREFIX_CONTEXT;
+	private final ToXmlGenerator generator;
+
+	public XmlEnvironmentStreamWriter(OutputStream outputStream) throws IOException {
+		generator = new AasXmlMapperAccessor().createGenerator(outputStream);
+
+		writeOpeningTag();
+	}
+
+	@Override
+	public void writeAssetAdministrationShells(Iterator<AssetAdministrationShell> shells) throws IOException {
+		writeWrappedArray(SHELLS_TAG, SHELL_TAG, shells, MetamodelCopier::deepCopy);
+	}
+
+	@Override
+	public void writeSubmodels(Iterator<Submodel> submodels) throws IOException {
+		writeWrappedArray(SUBMODELS_TAG, SUBMODEL_TAG, submodels, MetamodelCopier::deepCopy);
+	}
+
+	@Override
+	public void writeConceptDescriptions(Iterator<ConceptDescription> conceptDescriptions) throws IOException {
+		writeWrappedArray(CONCEPT_DESCRIPTIONS_TAG, CONCEPT_DESCRIPTION_TAG, conceptDescriptions, MetamodelCopier::deepCopy);
+	}
+
+	@Override
+	public void finish() throws IOException {
+		generator.writeEndObject();
+		generator.close();
+	}
+
+	private void writeOpeningTag() throws IOException {
+		XMLStreamWriter staxWriter = generator.getStaxWriter();
+
+		generator.initGenerator();
+
+		try {
+			for (Map.Entry<String, String> prefix : namespacePrefixes.entrySet())
+				staxWriter.setPrefix(prefix.getKey(), prefix.getValue());
+
+			generator.setNextName(ENVIRONMENT_TAG);
+			generator.writeStartObject();
+
+			for (Map.Entry<String, String> prefix : namespacePrefixes.entrySet())
+				staxWriter.writeNamespace(prefix.getKey(), prefix.getValue());
+
+			staxWriter.writeAttribute(SCHEMA_LOCATION_ATTRIBUTE, SCHEMA_LOCATION);
+		} catch (XMLStreamException e) {
+			throw new IOException("Unable to write the opening tag of the environment", e);
+		}
+	}
+
+	private <T> void writeWrappedArray(QName wrapperName, QName elementName, Iterator<T> elements, UnaryOperator<T> copier) throws IOException {
+		if (!elements.hasNext())
+			return;
+
+		generator.writeFieldName(wrapperName.getLocalPart());
+		generator.writeStartArray();
+		generator.startWrappedValue(wrapperName, elementName);
+
+		while (elements.hasNext()) {
+			T element = copier.apply(elements.next());
+			ReflectionHelper.setEmptyListsToNull(element);
+
+			generator.writeObject(element);
+		}
+
+		generator.finishWrappedValue(wrapperName, elementName);
+		generator.writeEndArray();
+		generator.flush();
+	}
+
+	private static QName aasTag(String localPart) {
+		return new QName(AasXmlNamespaceContext.AAS_URI, localPart);
+	}
+
+	/**
+	 * Exposes the preconfigured mapper of the aas4j {@link XmlSerializer}
+	 */
+	private static class AasXmlMapperAccessor extends XmlSerializer {
+
+		ToXmlGenerator createGenerator(OutputStream outputStream) throws IOException {
+			ToXmlGenerator generator = (ToXmlGenerator) mapper.writer().createGenerator(outputStream);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			return generator;
+		}
+
+	}
+
+}
@@ -27,10 +27,23 @@ package org.eclipse.digitaltwin.basyx.aasenvironment;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEnvironment;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResource;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
 import org.eclipse.digitaltwin.basyx.aasenvironment.base.DefaultAASEnvironment;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.CompleteEnvironment;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
@@ -69,6 +82,9 @@ public class AasEnvironmentLoaderTest {
 	protected static final String TEST_ENVIRONMENT_SHELLS_ONLY_JSON = "/org/eclipse/digitaltwin/basyx/aasenvironment/environment_with_shells_only.json";
 	protected static final String TEST_ENVIRONMENT_SUBMODELS_ONLY_JSON = "/org/eclipse/digitaltwin/basyx/aasenvironment/environment_with_submodels_only.json";
 
+	private static final String THUMBNAIL_PATH = "/aasx/files/thumbnail.png";
+	private static final String MANUAL_PATH = "/aasx/files/manual.pdf";
+
 	protected static final PaginationInfo ALL = new PaginationInfo(0, null);
 
 	protected AasRepository aasRepository;
@@ -106,10 +122,10 @@ public class AasEnvironmentLoaderTest {
 		loadRepositories(List.of(TEST_ENVIRONMENT_JSON));
 		loadRepositories(List.of(TEST_ENVIRONMENT_JSON));
 
-		Mockito.verify(aasRepository, Mockito.times(2)).createAas(Mockito.any());
+		verifyShellsCreated(2);
 		Mockito.verify(aasRepository, Mockito.times(0)).updateAas(Mockito.anyString(), Mockito.any());
 
-		Mockito.verify(submodelRepository, Mockito.times(2)).createSubmodel(Mockito.any());
+		verifySubmodelsCreated(2);
 		Mockito.verify(submodelRepository, Mockito.times(0)).updateSubmodel(Mockito.anyString(), Mockito.any());
 
 		Assert.assertEquals(2, aasRepository.getAllAas(ALL).getResult().size());
@@ -122,10 +138,10 @@ public class AasEnvironmentLoaderTest {
 		loadRepositories(List.of(TEST_ENVIRONMENT_VERSION_ON_SECOND_JSON));
 		loadRepositories(List.of(TEST_ENVIRONMENT_VERSION_ON_SECOND_JSON));
 
-		Mockito.verify(aasRepository, Mockito.times(2)).createAas(Mockito.any());
+		verifyShellsCreated(2);
 		Mockito.verify(aasRepository, Mockito.times(0)).updateAas(Mockito.anyString(), Mockito.any());
 
-		Mockito.verify(submodelRepository, Mockito.times(2)).createSubmodel(Mockito.any());
+		verifySubmodelsCreated(2);
 		Mockito.verify(submodelRepository, Mockito.times(0)).updateSubmodel(Mockito.anyString(), Mockito.any());
 
 		Assert.assertEquals(2, aasRepository.getAllAas(ALL).getResult().size());
@@ -138,10 +154,10 @@ public class AasEnvironmentLoaderTest {
 		loadRepositories(List.of(TEST_ENVIRONMENT_VERSION_ON_SECOND_JSON));
 		loadRepositories(List.of(TEST_ENVIRONMENT_VERSION_AND_REVISION_ON_SECOND_JSON));
 
-		Mockito.verify(aasRepository, Mockito.times(2)).createAas(Mockito.any());
+		verifyShellsCreated(2);
 		Mockito.verify(aasRepository, Mockito.times(1)).updateAas(Mockito.anyString(), Mockito.any());
 
-		Mockito.verify(submodelRepository, Mockito.times(2)).createSubmodel(Mockito.any());
+		verifySubmodelsCreated(2);
 		Mockito.verify(submodelRepository, Mockito.times(1)).updateSubmodel(Mockito.anyString(), Mockito.any());
 
 		Assert.assertEquals(2, aasRepository.getAllAas(ALL).getResult().size());
@@ -195,6 +211,35 @@ public class AasEnvironmentLoaderTest {
 		Assert.assertThrows(expectedMsg, CollidingIdentifierException.class, () -> loadRepositoriesWithEnvironment(List.of(TEST_ENVIRONMENT_JSON), envLoader));
 	}
 	
+	@Test
+	public void testBatchWithAttachments_FilesAreStoredWithoutSeparateFileUploads() throws IOException {
+		byte[] thumbnailContent = "thumbnail".getBytes(StandardCharsets.UTF_8);
+		byte[] manualContent = "manual".getBytes(StandardCharsets.UTF_8);
+
+		AssetAdministrationShell shell = new DefaultAssetAdministrationShell.Builder().id("batchAas").idShort("batchAas")
+				.assetInformation(new DefaultAssetInformation.Builder().assetKind(AssetKind.INSTANCE).globalAssetId("batchAsset").defaultThumbnail(new DefaultResource.Builder().path(THUMBNAIL_PATH).contentType("image/png").build()).build())
+				.build();
+		Submodel submodel = new DefaultSubmodel.Builder().id("batchSubmodel").idShort("batchSubmodel")
+				.submodelElements(new DefaultSubmodelElementCollection.Builder().idShort("documentation").value(new DefaultFile.Builder().idShort("manual").contentType("application/pdf").value(MANUAL_PATH).build()).build()).build();
+		Environment environment = new DefaultEnvironment.Builder().assetAdministrationShells(shell).submodels(submodel).build();
+
+		DefaultAASEnvironment envLoader = new DefaultAASEnvironment(aasRepository, submodelRepository, conceptDescriptionRepository);
+		envLoader.loadEnvironments(List.of(new CompleteEnvironment(environment, List.of(new InMemoryFile(thumbnailContent, THUMBNAIL_PATH), new InMemoryFile(manualContent, MANUAL_PATH)))));
+
+		Assert.assertArrayEquals(manualContent, submodelRepository.getFileByPathSubmodel("batchSubmodel", "documentation.manual").getInputStream().readAllBytes());
+		Assert.assertArrayEquals(thumbnailContent, aasRepository.getThumbnail("batchAas").getInputStream().readAllBytes());
+
+		Mockito.verify(submodelRepository, Mockito.never()).setFileValue(Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+	}
+
+	protected void verifyShellsCreated(int count) {
+		Mockito.verify(aasRepository, Mockito.times(count)).createAas(Mockito.any());
+	}
+
+	protected void verifySubmodelsCreated(int count) {
+		Mockito.verify(submodelRepository, Mockito.times(count)).createSubmodel(Mockito.any());
+	}
+
 	private void loadRepositoriesWithEnvironment(List<String> pathsToLoad, AasEnvironment aasEnvironment) throws IOException, DeserializationException, InvalidFormatException {
 		
 		for (String path: pathsToLoad) {
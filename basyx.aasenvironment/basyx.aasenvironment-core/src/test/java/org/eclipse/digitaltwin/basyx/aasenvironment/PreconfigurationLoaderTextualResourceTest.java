@@ -25,24 +25,30 @@
 package org.eclipse.digitaltwin.basyx.aasenvironment;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.aasenvironment.base.DefaultAASEnvironment;
 import org.eclipse.digitaltwin.basyx.aasenvironment.preconfiguration.AasEnvironmentPreconfigurationLoader;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 /**
  * Tests the behavior of {@link AasEnvironmentPreconfigurationLoader}
  * 
- * @author sonnenberg, mateusmolina
+ * @author sonnenberg, mateusmolina, danish
  *
  */
 public class PreconfigurationLoaderTextualResourceTest extends AasEnvironmentLoaderTest {
 
+	private static final String TEST_ENVIRONMENT_CONCEPT_DESCRIPTIONS_ONLY_JSON = "/org/eclipse/digitaltwin/basyx/aasenvironment/environment_with_concept_descriptions_only.json";
+
 	@Override
 	protected void loadRepositories(List<String> pathsToLoad) throws IOException, InvalidFormatException, DeserializationException {
 		AasEnvironmentPreconfigurationLoader envLoader = new AasEnvironmentPreconfigurationLoader(rLoader, pathsToLoad);
@@ -62,4 +68,43 @@ public class PreconfigurationLoaderTextualResourceTest extends AasEnvironmentLoa
 		Mockito.verify(submodelRepository, Mockito.never()).createSubmodel(Mockito.any());
 		Mockito.verify(submodelRepository, Mockito.never()).createSubmodel(Mockito.any());
 	}
+
+	@Test
+	public void testConceptDescriptionsSharedByEnvironments_UploadedOnce() throws InvalidFormatException, IOException, DeserializationException {
+		loadRepositories(List.of(TEST_ENVIRONMENT_JSON, TEST_ENVIRONMENT_CONCEPT_DESCRIPTIONS_ONLY_JSON));
+
+		Assert.assertEquals(2, conceptDescriptionRepository.getAllConceptDescriptions(ALL).getResult().size());
+
+		Mockito.verify(conceptDescriptionRepository, Mockito.times(1)).createAllConceptDescriptions(Mockito.argThat(conceptDescriptions -> conceptDescriptions.size() == 2));
+		Mockito.verify(conceptDescriptionRepository, Mockito.never()).createConceptDescription(Mockito.any());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonPositiveBatchSize_IsRejected() {
+		new AasEnvironmentPreconfigurationLoader(rLoader, List.of(TEST_ENVIRONMENT_JSON)).setBatchSize(0);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void verifyShellsCreated(int count) {
+		ArgumentCaptor<Collection<AssetAdministrationShell>> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(aasRepository, Mockito.atLeast(0)).createAllAas(captor.capture());
+
+		Assert.assertEquals(count, sumOfSizes(captor.getAllValues()));
+		Mockito.verify(aasRepository, Mockito.never()).createAas(Mockito.any());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void verifySubmodelsCreated(int count) {
+		ArgumentCaptor<Collection<Submodel>> captor = ArgumentCaptor.forClass(Collection.class);
+		Mockito.verify(submodelRepository, Mockito.atLeast(0)).createAllSubmodels(captor.capture(), Mockito.any());
+
+		Assert.assertEquals(count, sumOfSizes(captor.getAllValues()));
+		Mockito.verify(submodelRepository, Mockito.never()).createSubmodel(Mockito.any());
+	}
+
+	private static int sumOfSizes(List<? extends Collection<?>> collections) {
+		return collections.stream().mapToInt(Collection::size).sum();
+	}
 }
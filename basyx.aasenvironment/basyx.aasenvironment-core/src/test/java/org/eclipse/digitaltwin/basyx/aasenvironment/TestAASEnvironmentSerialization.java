@@ -25,20 +25,29 @@
 
 package org.eclipse.digitaltwin.basyx.aasenvironment;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.AASXDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.aasx.InMemoryFile;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
@@ -47,10 +56,13 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.eclipse.digitaltwin.basyx.aasenvironment.base.DefaultAASEnvironment;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
@@ -60,6 +72,7 @@ import org.eclipse.digitaltwin.basyx.aasrepository.backend.inmemory.AasInMemoryB
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionInMemoryBackendProvider;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelInMemoryBackendProvider;
@@ -80,6 +93,8 @@ public class TestAASEnvironmentSerialization {
 	public static final String SUBMODEL_TECHNICAL_DATA_ID = "7A7104BDAB57E184";
 	public static final String SUBMODEL_OPERATIONAL_DATA_ID = "AC69B1CB44F07935";
 	public static final String CONCEPT_DESCRIPTION_ID_NOT_INCLUDED_IN_ENV = "IdNotToBeIncludedInSerializedEnv";
+	private static final String SUBMODEL_WITH_FILE_ID = "submodelWithFile";
+	private static final String FILE_ID_SHORT = "attachment";
 
 	private AasEnvironment aasEnvironment;
 	private AasRepository aasRepository;
@@ -170,6 +185,104 @@ public class TestAASEnvironmentSerialization {
 		validateRepositoriesState();
 	}
 
+	@Test
+	public void streamedJSONSerializationMatchesSerialization() throws SerializationException, IOException, DeserializationException {
+		String serialization = aasEnvironment.createJSONAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true);
+		String streamedSerialization = writeToString(aasEnvironment.createJSONAASEnvironmentSerializationWriter(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true));
+
+		JsonDeserializer jsonDeserializer = new JsonDeserializer();
+		assertEnvironmentsEqual(jsonDeserializer.read(serialization, Environment.class), jsonDeserializer.read(streamedSerialization, Environment.class));
+
+		validateRepositoriesState();
+	}
+
+	@Test
+	public void streamedXMLSerializationMatchesSerialization() throws SerializationException, IOException, DeserializationException {
+		String serialization = aasEnvironment.createXMLAASEnvironmentSerialization(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true);
+		String streamedSerialization = writeToString(aasEnvironment.createXMLAASEnvironmentSerializationWriter(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true));
+
+		XmlDeserializer xmlDeserializer = new XmlDeserializer();
+		assertEnvironmentsEqual(xmlDeserializer.read(serialization), xmlDeserializer.read(streamedSerialization));
+
+		validateRepositoriesState();
+	}
+
+	@Test
+	public void streamedJSONSerializationWithoutConceptDescriptions() throws IOException, DeserializationException {
+		String streamedSerialization = writeToString(aasEnvironment.createJSONAASEnvironmentSerializationWriter(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), false));
+
+		Environment environment = new JsonDeserializer().read(streamedSerialization, Environment.class);
+
+		checkAASEnvironment(environment, true, true, false);
+		assertTrue(environment.getConceptDescriptions().isEmpty());
+	}
+
+	@Test
+	public void streamedAASXSerialization() throws IOException, InvalidFormatException, DeserializationException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		aasEnvironment.createAASXAASEnvironmentSerializationWriter(getShellIds(createDummyShells()), getSubmodelIds(createDummySubmodels()), true).writeTo(outputStream);
+
+		checkAASX(new ByteArrayInputStream(outputStream.toByteArray()), true, true, true);
+
+		validateRepositoriesState();
+	}
+
+	@Test
+	public void streamedAASXSerializationContainsAttachments() throws IOException, InvalidFormatException, DeserializationException {
+		byte[] fileContent = "attached file".getBytes(StandardCharsets.UTF_8);
+		byte[] thumbnailContent = "thumbnail".getBytes(StandardCharsets.UTF_8);
+
+		submodelRepository.createSubmodel(new DefaultSubmodel.Builder().id(SUBMODEL_WITH_FILE_ID).submodelElements(new DefaultFile.Builder().idShort(FILE_ID_SHORT).contentType("text/plain").value("attachment.txt").build()).build());
+		submodelRepository.setFileValue(SUBMODEL_WITH_FILE_ID, FILE_ID_SHORT, "attachment.txt", new ByteArrayInputStream(fileContent));
+		aasRepository.setThumbnail(AAS_TECHNICAL_DATA_ID, "thumbnail.png", "image/png", new ByteArrayInputStream(thumbnailContent));
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		aasEnvironment.createAASXAASEnvironmentSerializationWriter(List.of(AAS_TECHNICAL_DATA_ID), List.of(SUBMODEL_WITH_FILE_ID), false).writeTo(outputStream);
+
+		AASXDeserializer aasxDeserializer = new AASXDeserializer(new ByteArrayInputStream(outputStream.toByteArray()));
+		Environment environment = aasxDeserializer.read();
+		List<InMemoryFile> relatedFiles = aasxDeserializer.getRelatedFiles();
+
+		File fileElement = (File) environment.getSubmodels().get(0).getSubmodelElements().get(0);
+		assertArrayEquals(fileContent, findFile(relatedFiles, fileElement.getValue()).getFileContent());
+
+		String thumbnailPath = environment.getAssetAdministrationShells().get(0).getAssetInformation().getDefaultThumbnail().getPath();
+		assertTrue(thumbnailPath.startsWith("/aasx/files/"));
+
+		String storedFilePath = ((File) submodelRepository.getSubmodelElement(SUBMODEL_WITH_FILE_ID, FILE_ID_SHORT)).getValue();
+		assertNotEquals(storedFilePath, fileElement.getValue());
+	}
+
+	@Test
+	public void streamedAASXSerializationKeepsFilesWithCollidingPartNames() throws IOException, InvalidFormatException, DeserializationException {
+		Path directory = Files.createTempDirectory("collidingAttachments");
+		Path firstFile = Files.write(directory.resolve("attachment one.txt"), "first".getBytes(StandardCharsets.UTF_8));
+		Path secondFile = Files.write(directory.resolve("attachment_one.txt"), "second".getBytes(StandardCharsets.UTF_8));
+
+		File firstElement = new DefaultFile.Builder().idShort("first").contentType("text/plain").value(firstFile.toString()).build();
+		File secondElement = new DefaultFile.Builder().idShort("second").contentType("text/plain").value(secondFile.toString()).build();
+		submodelRepository.createSubmodel(new DefaultSubmodel.Builder().id(SUBMODEL_WITH_FILE_ID).submodelElements(firstElement).submodelElements(secondElement).build());
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		aasEnvironment.createAASXAASEnvironmentSerializationWriter(List.of(), List.of(SUBMODEL_WITH_FILE_ID), false).writeTo(outputStream);
+
+		AASXDeserializer aasxDeserializer = new AASXDeserializer(new ByteArrayInputStream(outputStream.toByteArray()));
+		List<SubmodelElement> packagedElements = aasxDeserializer.read().getSubmodels().get(0).getSubmodelElements();
+		List<InMemoryFile> relatedFiles = aasxDeserializer.getRelatedFiles();
+
+		String firstPartName = ((File) packagedElements.get(0)).getValue();
+		String secondPartName = ((File) packagedElements.get(1)).getValue();
+
+		assertNotEquals(firstPartName, secondPartName);
+		assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), findFile(relatedFiles, firstPartName).getFileContent());
+		assertArrayEquals("second".getBytes(StandardCharsets.UTF_8), findFile(relatedFiles, secondPartName).getFileContent());
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void streamedSerializationOfNonExistingSubmodelFailsEagerly() {
+		aasEnvironment.createJSONAASEnvironmentSerializationWriter(getShellIds(createDummyShells()), List.of("nonExistingSubmodel"), true);
+	}
+
 	public static void validateJSON(String actual, boolean areAASsIncluded, boolean areSubmodelsIncluded, boolean includeConceptDescription) throws DeserializationException {
 		JsonDeserializer jsonDeserializer = new JsonDeserializer();
 		Environment aasEnvironment = jsonDeserializer.read(actual, Environment.class);
@@ -260,6 +373,23 @@ public class TestAASEnvironmentSerialization {
 		return aasEnvironment.getConceptDescriptions().stream().map(cd -> cd.getId()).collect(Collectors.toList());
 	}
 
+	private static String writeToString(EnvironmentSerializationWriter serializationWriter) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		serializationWriter.writeTo(outputStream);
+
+		return outputStream.toString(StandardCharsets.UTF_8);
+	}
+
+	private static void assertEnvironmentsEqual(Environment expected, Environment actual) {
+		assertEquals(expected.getAssetAdministrationShells(), actual.getAssetAdministrationShells());
+		assertEquals(expected.getSubmodels(), actual.getSubmodels());
+		assertEquals(new HashSet<>(expected.getConceptDescriptions()), new HashSet<>(actual.getConceptDescriptions()));
+	}
+
+	private static InMemoryFile findFile(List<InMemoryFile> files, String path) {
+		return files.stream().filter(file -> file.getPath().equals(path)).findAny().orElseThrow();
+	}
+
 	private void validateRepositoriesState() {
 		assertTrue(aasRepository.getAllAas(NO_LIMIT_PAGINATION_INFO).getResult().containsAll(createDummyShells()));
 		assertTrue(submodelRepository.getAllSubmodels(NO_LIMIT_PAGINATION_INFO).getResult().containsAll(createDummySubmodels()));
@@ -35,6 +35,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Environment;
 import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.aasenvironment.AasEnvironment;
+import org.eclipse.digitaltwin.basyx.aasenvironment.EnvironmentSerializationWriter;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.CompleteEnvironment;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.Action;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacPermissionResolver;
@@ -82,6 +83,33 @@ public class AuthorizedAasEnvironment implements AasEnvironment {
 		
 		return decorated.createAASXAASEnvironmentSerialization(aasIds, submodelIds, includeConceptDescriptions);
 	}
+
+	@Override
+	public EnvironmentSerializationWriter createJSONAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasEnvironmentTargetInformation(aasIds, submodelIds));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.createJSONAASEnvironmentSerializationWriter(aasIds, submodelIds, includeConceptDescriptions);
+	}
+
+	@Override
+	public EnvironmentSerializationWriter createXMLAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasEnvironmentTargetInformation(aasIds, submodelIds));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.createXMLAASEnvironmentSerializationWriter(aasIds, submodelIds, includeConceptDescriptions);
+	}
+
+	@Override
+	public EnvironmentSerializationWriter createAASXAASEnvironmentSerializationWriter(List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasEnvironmentTargetInformation(aasIds, submodelIds));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.createAASXAASEnvironmentSerializationWriter(aasIds, submodelIds, includeConceptDescriptions);
+	}
 	
 	private void throwExceptionIfInsufficientPermission(boolean isAuthorized) {
 		if (!isAuthorized)
@@ -99,6 +127,19 @@ public class AuthorizedAasEnvironment implements AasEnvironment {
 		decorated.loadEnvironment(completeEnvironment);
 	}
 
+	@Override
+	public void loadEnvironments(List<CompleteEnvironment> completeEnvironments) {
+		for (CompleteEnvironment completeEnvironment : completeEnvironments) {
+			Environment environment = completeEnvironment.getEnvironment();
+			
+			boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new AasEnvironmentTargetInformation(getAasIds(environment.getAssetAdministrationShells()), getSubmodelIds(environment.getSubmodels())));
+			
+			throwExceptionIfInsufficientPermission(isAuthorized);
+		}
+		
+		decorated.loadEnvironments(completeEnvironments);
+	}
+
 	private List<String> getSubmodelIds(List<Submodel> submodels) {
 		
 		return submodels.stream().map(Identifiable::getId).collect(Collectors.toList());
@@ -33,6 +33,7 @@ import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacStorage;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.SimpleRbacPermissionResolver;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RoleProvider;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.TargetPermissionVerifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,9 +53,9 @@ public class AuthorizedAasEnvironmentConfiguration {
 	}
 	
 	@Bean
-	public RbacPermissionResolver<AasEnvironmentTargetInformation> getAasEnvironmentPermissionResolver(RbacStorage rbacStorage, RoleProvider roleProvider, TargetPermissionVerifier<AasEnvironmentTargetInformation> targetPermissionVerifier) {
+	public RbacPermissionResolver<AasEnvironmentTargetInformation> getAasEnvironmentPermissionResolver(RbacStorage rbacStorage, RoleProvider roleProvider, TargetPermissionVerifier<AasEnvironmentTargetInformation> targetPermissionVerifier, @Value("${" + CommonAuthorizationProperties.RBAC_DECISION_CACHE_SIZE_PROPERTY_KEY + ":0}") int decisionCacheSize) {
 
-		return new SimpleRbacPermissionResolver<>(rbacStorage, roleProvider, targetPermissionVerifier);
+		return new SimpleRbacPermissionResolver<>(rbacStorage, roleProvider, targetPermissionVerifier, decisionCacheSize);
 	}
 
 }
@@ -31,20 +31,20 @@ import java.util.List;
 
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.basyx.aasenvironment.AasEnvironment;
+import org.eclipse.digitaltwin.basyx.aasenvironment.EnvironmentSerializationWriter;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.CompleteEnvironment;
 import org.eclipse.digitaltwin.basyx.aasenvironment.environmentloader.CompleteEnvironment.EnvironmentType;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -71,36 +71,35 @@ public class AasEnvironmentApiHTTPController implements AASEnvironmentHTTPApi {
 	}
 
 	@Override
-	public ResponseEntity<Resource> generateSerializationByIds(
+	public ResponseEntity<StreamingResponseBody> generateSerializationByIds(
 			@Parameter(in = ParameterIn.QUERY, description = "The Asset Administration Shells' unique ids (UTF8-BASE64-URL-encoded)", schema = @Schema()) @Valid @RequestParam(value = "aasIds", required = false) List<String> aasIds,
 			@Parameter(in = ParameterIn.QUERY, description = "The Submodels' unique ids (UTF8-BASE64-URL-encoded)", schema = @Schema()) @Valid @RequestParam(value = "submodelIds", required = false) List<String> submodelIds,
 			@Parameter(in = ParameterIn.QUERY, description = "Include Concept Descriptions?", schema = @Schema(defaultValue = "true")) @Valid @RequestParam(value = "includeConceptDescriptions", required = false, defaultValue = "true") Boolean includeConceptDescriptions) {
 		String accept = request.getHeader("Accept");
 
 		if (!areParametersValid(accept, aasIds, submodelIds)) {
-			return new ResponseEntity<Resource>(HttpStatus.BAD_REQUEST);
+			return new ResponseEntity<StreamingResponseBody>(HttpStatus.BAD_REQUEST);
 		}
 
 		try {
-			if (accept.equals(ACCEPT_AASX)) {
-				byte[] serialization = aasEnvironment.createAASXAASEnvironmentSerialization(getOriginalIds(aasIds), getOriginalIds(submodelIds), includeConceptDescriptions);
-				return new ResponseEntity<Resource>(new ByteArrayResource(serialization), HttpStatus.OK);
-			}
-
-			if (accept.equals(ACCEPT_XML)) {
-				String serialization = aasEnvironment.createXMLAASEnvironmentSerialization(getOriginalIds(aasIds), getOriginalIds(submodelIds), includeConceptDescriptions);
-				return new ResponseEntity<Resource>(new ByteArrayResource(serialization.getBytes()), HttpStatus.OK);
-			}
-
-			String serialization = aasEnvironment.createJSONAASEnvironmentSerialization(getOriginalIds(aasIds), getOriginalIds(submodelIds), includeConceptDescriptions);
-			return new ResponseEntity<Resource>(new ByteArrayResource(serialization.getBytes()), HttpStatus.OK);
+			EnvironmentSerializationWriter serializationWriter = createSerializationWriter(accept, getOriginalIds(aasIds), getOriginalIds(submodelIds), includeConceptDescriptions);
+
+			return ResponseEntity.ok().contentType(MediaType.parseMediaType(accept)).body(serializationWriter::writeTo);
 		} catch (ElementDoesNotExistException e) {
-			return new ResponseEntity<Resource>(HttpStatus.NOT_FOUND);
-		} catch (SerializationException | IOException e) {
-			return new ResponseEntity<Resource>(HttpStatus.INTERNAL_SERVER_ERROR);
+			return new ResponseEntity<StreamingResponseBody>(HttpStatus.NOT_FOUND);
 		}
 	}
 
+	private EnvironmentSerializationWriter createSerializationWriter(String accept, List<String> aasIds, List<String> submodelIds, boolean includeConceptDescriptions) {
+		if (accept.equals(ACCEPT_AASX))
+			return aasEnvironment.createAASXAASEnvironmentSerializationWriter(aasIds, submodelIds, includeConceptDescriptions);
+
+		if (accept.equals(ACCEPT_XML))
+			return aasEnvironment.createXMLAASEnvironmentSerializationWriter(aasIds, submodelIds, includeConceptDescriptions);
+
+		return aasEnvironment.createJSONAASEnvironmentSerializationWriter(aasIds, submodelIds, includeConceptDescriptions);
+	}
+
 	@Override
 	public ResponseEntity<Boolean> uploadEnvironment(MultipartFile envFile) {
 		try {
@@ -29,12 +29,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.FileInputStream;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.hc.core5.http.ParseException;
@@ -43,6 +40,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -144,10 +142,10 @@ public class TestPreconfiguration {
 
 	@Test
 	public void getThumbnail() throws IOException {
-		File file = aasRepo.getThumbnail("http://customer.com/aas/9175_7013_7091_9168");
+		FileResource file = aasRepo.getThumbnail("http://customer.com/aas/9175_7013_7091_9168");
 
 		InputStream expectedContent = getClass().getClassLoader().getResourceAsStream("testFiles/verwaltungsschale-detail-part1.png");
-		InputStream actualContent = new FileInputStream(file);
+		InputStream actualContent = file.getInputStream();
 
 		assertTrue(IOUtils.contentEquals(expectedContent, actualContent));
 	}
@@ -193,10 +191,10 @@ public class TestPreconfiguration {
 		InputStream expectedFile = getInputStreamOfFileFromClasspath("testFiles/OperatingManual.pdf");
 		String expectedFileExtension = "pdf";
 		
-		File actualFile = submodelRepo.getFileByPathSubmodel("http://i40.customer.com/type/1/1/1A7B62B529F19152", "OperatingManual.DigitalFile_PDF");
+		FileResource actualFile = submodelRepo.getFileByPathSubmodel("http://i40.customer.com/type/1/1/1A7B62B529F19152", "OperatingManual.DigitalFile_PDF");
 		
-		assertEquals(expectedFileExtension, getExtension(actualFile.getName()));
-		assertTrue(IOUtils.contentEquals(expectedFile, FileUtils.openInputStream(actualFile)));
+		assertEquals(expectedFileExtension, getExtension(actualFile.getFilename()));
+		assertTrue(IOUtils.contentEquals(expectedFile, actualFile.getInputStream()));
 	}
 	
 	@Test
@@ -204,8 +202,8 @@ public class TestPreconfiguration {
 		String expectedFilePath = "testFiles/verwaltungsschale-detail-part1.png";
 		String expectedFileExtension = "png";
 		
-		File actualFile1 = submodelRepo.getFileByPathSubmodel("7A7104BDAB57E184aasx", "FileData");
-		File actualFile2 = submodelRepo.getFileByPathSubmodel("7A7104BDAB57E184aasx", "SubmodelElementCollection.FileData");
+		FileResource actualFile1 = submodelRepo.getFileByPathSubmodel("7A7104BDAB57E184aasx", "FileData");
+		FileResource actualFile2 = submodelRepo.getFileByPathSubmodel("7A7104BDAB57E184aasx", "SubmodelElementCollection.FileData");
 		
 		assertFileContents(expectedFilePath, expectedFileExtension, actualFile1, actualFile2);
 	}
@@ -215,11 +213,11 @@ public class TestPreconfiguration {
 		appContext.close();
 	}
 	
-	private void assertFileContents(String expectedFilePath, String expectedFileExtension, File actualFile1, File actualFile2) throws IOException {
-		assertEquals(expectedFileExtension, getExtension(actualFile1.getName()));
-		assertEquals(expectedFileExtension, getExtension(actualFile2.getName()));
-		assertTrue(IOUtils.contentEquals(getInputStreamOfFileFromClasspath(expectedFilePath), FileUtils.openInputStream(actualFile1)));
-		assertTrue(IOUtils.contentEquals(getInputStreamOfFileFromClasspath(expectedFilePath), FileUtils.openInputStream(actualFile2)));
+	private void assertFileContents(String expectedFilePath, String expectedFileExtension, FileResource actualFile1, FileResource actualFile2) throws IOException {
+		assertEquals(expectedFileExtension, getExtension(actualFile1.getFilename()));
+		assertEquals(expectedFileExtension, getExtension(actualFile2.getFilename()));
+		assertTrue(IOUtils.contentEquals(getInputStreamOfFileFromClasspath(expectedFilePath), actualFile1.getInputStream()));
+		assertTrue(IOUtils.contentEquals(getInputStreamOfFileFromClasspath(expectedFilePath), actualFile2.getInputStream()));
 	}
 	
 	private InputStream getInputStreamOfFileFromClasspath(String fileName) throws FileNotFoundException, IOException {
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.feature.metrics;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorageFeature;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Feature recording Micrometer metrics of the {@link AasRegistryStorage}
+ * operations. It is applied last, so that the latency of all other features is
+ * included.
+ *
+ * @author danish
+ */
+@Component
+@ConditionalOnExpression("#{${" + MeteredAasRegistryFeature.FEATURENAME + ".enabled:false} or ${basyx.feature.metrics.enabled:false}}")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class MeteredAasRegistryFeature implements AasRegistryStorageFeature {
+	public final static String FEATURENAME = "basyx.aasregistry.feature.metrics";
+	public final static String COMPONENT = "aas-registry";
+
+	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.metrics.enabled:false}}")
+	private boolean enabled;
+
+	private final OperationMetrics metrics;
+
+	@Autowired
+	public MeteredAasRegistryFeature(ObjectProvider<MeterRegistry> meterRegistry, @Value("${registry.type:unknown}") String backend) {
+		this.metrics = new OperationMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), COMPONENT, backend);
+	}
+
+	@Override
+	public AasRegistryStorage decorate(AasRegistryStorage storage) {
+		return new MeteredAasRegistryStorage(storage, metrics);
+	}
+
+	@Override
+	public String getName() {
+		return "AasRegistry Metrics";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
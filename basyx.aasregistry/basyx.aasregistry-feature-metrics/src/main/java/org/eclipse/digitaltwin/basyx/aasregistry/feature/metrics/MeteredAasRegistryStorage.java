@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.feature.metrics;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorAlreadyExistsException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelAlreadyExistsException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Decorator recording latency, errors and payload sizes of the operations of
+ * an {@link AasRegistryStorage}
+ *
+ * @author danish
+ */
+public class MeteredAasRegistryStorage implements AasRegistryStorage {
+
+	private final AasRegistryStorage decorated;
+	private final OperationMetrics metrics;
+
+	public MeteredAasRegistryStorage(AasRegistryStorage decorated, OperationMetrics metrics) {
+		this.decorated = decorated;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShellDescriptor>> getAllAasDescriptors(PaginationInfo pRequest, DescriptorFilter filter) {
+		CursorResult<List<AssetAdministrationShellDescriptor>> result = metrics.record("getAllAasDescriptors", () -> decorated.getAllAasDescriptors(pRequest, filter));
+		metrics.recordPayload("getAllAasDescriptors", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public AssetAdministrationShellDescriptor getAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
+		AssetAdministrationShellDescriptor descriptor = metrics.record("getAasDescriptor", () -> decorated.getAasDescriptor(aasDescriptorId));
+		metrics.recordPayload("getAasDescriptor", countSubmodelDescriptors(descriptor));
+		return descriptor;
+	}
+
+	@Override
+	public void insertAasDescriptor(AssetAdministrationShellDescriptor descr) throws AasDescriptorAlreadyExistsException {
+		metrics.recordPayload("insertAasDescriptor", countSubmodelDescriptors(descr));
+		metrics.record("insertAasDescriptor", () -> decorated.insertAasDescriptor(descr));
+	}
+
+	@Override
+	public void replaceAasDescriptor(String aasDescriptorId, AssetAdministrationShellDescriptor descriptor) throws AasDescriptorNotFoundException {
+		metrics.recordPayload("replaceAasDescriptor", countSubmodelDescriptors(descriptor));
+		metrics.record("replaceAasDescriptor", () -> decorated.replaceAasDescriptor(aasDescriptorId, descriptor));
+	}
+
+	@Override
+	public void removeAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
+		metrics.record("removeAasDescriptor", () -> decorated.removeAasDescriptor(aasDescriptorId));
+	}
+
+	@Override
+	public CursorResult<List<SubmodelDescriptor>> getAllSubmodels(String aasDescriptorId, PaginationInfo pRequest) throws AasDescriptorNotFoundException {
+		CursorResult<List<SubmodelDescriptor>> result = metrics.record("getAllSubmodels", () -> decorated.getAllSubmodels(aasDescriptorId, pRequest));
+		metrics.recordPayload("getAllSubmodels", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public SubmodelDescriptor getSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		return metrics.record("getSubmodel", () -> decorated.getSubmodel(aasDescriptorId, submodelId));
+	}
+
+	@Override
+	public void insertSubmodel(String aasDescriptorId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelAlreadyExistsException {
+		metrics.record("insertSubmodel", () -> decorated.insertSubmodel(aasDescriptorId, submodel));
+	}
+
+	@Override
+	public void replaceSubmodel(String aasDescriptorId, String submodelId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		metrics.record("replaceSubmodel", () -> decorated.replaceSubmodel(aasDescriptorId, submodelId, submodel));
+	}
+
+	@Override
+	public void removeSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		metrics.record("removeSubmodel", () -> decorated.removeSubmodel(aasDescriptorId, submodelId));
+	}
+
+	@Override
+	public Set<String> clear() {
+		Set<String> removed = metrics.record("clear", decorated::clear);
+		metrics.recordPayload("clear", removed.size());
+		return removed;
+	}
+
+	@Override
+	public ShellDescriptorSearchResponse searchAasDescriptors(ShellDescriptorSearchRequest request) {
+		ShellDescriptorSearchResponse response = metrics.record("searchAasDescriptors", () -> decorated.searchAasDescriptors(request));
+		metrics.recordPayload("searchAasDescriptors", response.getHits().size());
+		return response;
+	}
+
+	private static int countSubmodelDescriptors(AssetAdministrationShellDescriptor descriptor) {
+		if (descriptor.getSubmodelDescriptors() == null)
+			return 0;
+
+		return descriptor.getSubmodelDescriptors().size();
+	}
+}
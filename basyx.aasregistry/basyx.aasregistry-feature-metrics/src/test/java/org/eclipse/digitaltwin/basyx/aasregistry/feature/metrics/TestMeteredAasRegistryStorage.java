@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.feature.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ConcurrentInMemoryAasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link MeteredAasRegistryStorage}
+ *
+ * @author danish
+ */
+public class TestMeteredAasRegistryStorage {
+
+	private static final String AAS_ID = "meteredAas";
+
+	private SimpleMeterRegistry registry;
+	private AasRegistryStorage storage;
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+		storage = new MeteredAasRegistryStorage(new ConcurrentInMemoryAasRegistryStorage(), new OperationMetrics(registry, MeteredAasRegistryFeature.COMPONENT, "inMemory"));
+
+		AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor(AAS_ID);
+		descriptor.setSubmodelDescriptors(new ArrayList<>(List.of(new SubmodelDescriptor("first", new ArrayList<>()), new SubmodelDescriptor("second", new ArrayList<>()))));
+		storage.insertAasDescriptor(descriptor);
+	}
+
+	@Test
+	public void latencyAndPayloadAreRecorded() {
+		storage.getAasDescriptor(AAS_ID);
+		storage.getAllAasDescriptors(new PaginationInfo(null, null), new DescriptorFilter(null, null));
+
+		assertEquals(1, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "getAasDescriptor").tag(OperationMetrics.TAG_COMPONENT, "aas-registry").tag(OperationMetrics.TAG_BACKEND, "inMemory").timer().count());
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAasDescriptor").summary().totalAmount(), 0);
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "insertAasDescriptor").summary().totalAmount(), 0);
+		assertEquals(1, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAllAasDescriptors").summary().totalAmount(), 0);
+	}
+
+	@Test(expected = AasDescriptorNotFoundException.class)
+	public void errorIsCounted() {
+		try {
+			storage.removeAasDescriptor("nonExisting");
+		} finally {
+			assertEquals(1, registry.get(OperationMetrics.ERRORS).tag(OperationMetrics.TAG_OPERATION, "removeAasDescriptor").tag(OperationMetrics.TAG_EXCEPTION, "AasDescriptorNotFoundException").counter().count(), 0);
+		}
+	}
+}
@@ -73,6 +73,9 @@ public class SimplePathGenerator extends AbstractMojo {
 	@Parameter(property = "processorTargetClassName")
 	private String processorTargetClassName;
 
+	@Parameter(property = "copierTargetClassName")
+	private String copierTargetClassName;
+
 	@Parameter(property = "targetPackageName")
 	private String targetPackageName;
 
@@ -124,6 +127,11 @@ public class SimplePathGenerator extends AbstractMojo {
 
 		generateClass(info, "simple-path.mustache", getPathsTargetClassName());
 		generateClass(info, "simple-path-processor.mustache", getProcessorTargetClassName());
+
+		if (copierTargetClassName != null) {
+			info.setCopierTarget(new GenerationTarget(targetPackageName, copierTargetClassName));
+			generateClass(info, "simple-path-copier.mustache", copierTargetClassName);
+		}
 	}
 
 	private void generateClass(PathInfo info, String path, String outputFileName) throws IOException {
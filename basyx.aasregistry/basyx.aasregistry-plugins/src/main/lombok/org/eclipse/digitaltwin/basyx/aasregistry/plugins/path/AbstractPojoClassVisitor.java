@@ -37,7 +37,7 @@ abstract class AbstractPojoClassVisitor implements PojoClassVisitor {
 	}
 
 	@Override
-	public boolean startType(String name, boolean isRoot) {
+	public boolean startType(String name, boolean isRoot, boolean isAbstract) {
 		return true;
 	}
 
@@ -45,6 +45,8 @@ public class PathInfo {
 
 	private GenerationTarget processorTarget;
 
+	private GenerationTarget copierTarget;
+
 	private String inputClassPackageName;
 
 	private Set<ConstantInfo> constants;
@@ -174,6 +176,8 @@ public class PathInfo {
 
 		private List<String> subModels;
 
+		private boolean abstractType;
+
 		private List<PrimitiveRangeRelationInfo> primitiveRangeRelations = new LinkedList<>();
 
 		private List<ComplexRangeRelationInfo> complexRangeRelations = new LinkedList<>();
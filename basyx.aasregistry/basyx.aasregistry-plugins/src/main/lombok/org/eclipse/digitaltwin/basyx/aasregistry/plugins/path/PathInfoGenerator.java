@@ -99,9 +99,10 @@ public class PathInfoGenerator {
 		}
 
 		@Override
-		public boolean startType(String name, boolean isRoot) {
+		public boolean startType(String name, boolean isRoot, boolean isAbstract) {
 			ModelInfo current = new ModelInfo(name);
 			current.setInfo(pathInfo);
+			current.setAbstractType(isAbstract);
 			if (isRoot) {
 				pathInfo.setRootModel(current);
 			} else {
@@ -40,7 +40,7 @@ interface PojoClassVisitor {
 
 	void onSubTypeRelation(String parent, List<String> subTypes);
 
-	boolean startType(String name, boolean isRoot);
+	boolean startType(String name, boolean isRoot, boolean isAbstract);
 
 	void endType();
 
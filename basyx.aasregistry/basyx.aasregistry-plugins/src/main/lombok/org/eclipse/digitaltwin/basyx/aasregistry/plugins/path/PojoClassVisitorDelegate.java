@@ -56,10 +56,10 @@ class PojoClassVisitorDelegate implements PojoClassVisitor {
 	}
 
 	@Override
-	public boolean startType(String name, boolean isRoot) {
+	public boolean startType(String name, boolean isRoot, boolean isAbstract) {
 		boolean doContinue = true;
 		for (PojoClassVisitor eachVisitor : visitors) {
-			if (!eachVisitor.startType(name, isRoot)) {
+			if (!eachVisitor.startType(name, isRoot, isAbstract)) {
 				doContinue = false;
 			}
 		}
@@ -58,7 +58,7 @@ class PojoClassWalker {
 
 	private void walkClass(Class<?> cls, String path) {
 		String name = cls.getSimpleName();
-		if (visitor.startType(name, cls == root)) {
+		if (visitor.startType(name, cls == root, Modifier.isAbstract(cls.getModifiers()))) {
 			for (Field field : getFields(cls)) {
 				walkField(cls, field, path);
 			}
@@ -35,10 +35,10 @@ class PojoWalkCycleDetector extends PojoClassVisitorDelegate {
 	}
 
 	@Override
-	public boolean startType(String name, boolean isRoot) {
+	public boolean startType(String name, boolean isRoot, boolean isAbstract) {
 		boolean doProcess = typeNames.add(name);
 		if (doProcess) {
-			super.startType(name, isRoot);
+			super.startType(name, isRoot, isAbstract);
 		}
 		return doProcess;
 	}
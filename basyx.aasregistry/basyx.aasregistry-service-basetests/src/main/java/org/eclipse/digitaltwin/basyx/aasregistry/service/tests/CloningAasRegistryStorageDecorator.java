@@ -48,7 +48,7 @@ public class CloningAasRegistryStorageDecorator extends AasRegistryStorageDelega
 	@Override
 	public CursorResult<List<AssetAdministrationShellDescriptor>> getAllAasDescriptors(@NonNull PaginationInfo pRequest, @NonNull DescriptorFilter filter) {
 		CursorResult<List<AssetAdministrationShellDescriptor>> result = storage.getAllAasDescriptors(pRequest, filter);
-		List<AssetAdministrationShellDescriptor> listClone = DescriptorCopies.deepCloneCollection(result.getResult());
+		List<AssetAdministrationShellDescriptor> listClone = DescriptorCopies.deepCloneAasDescriptors(result.getResult());
 		return new CursorResult<>(result.getCursor(), listClone);
 	}
 	@Override
@@ -64,7 +64,7 @@ public class CloningAasRegistryStorageDecorator extends AasRegistryStorageDelega
 	@Override
 	public CursorResult<List<SubmodelDescriptor>> getAllSubmodels(String aasDescriptorId, PaginationInfo pRequest) {
 		CursorResult<List<SubmodelDescriptor>> result = storage.getAllSubmodels(aasDescriptorId, pRequest);
-		List<SubmodelDescriptor> submodelClone = DescriptorCopies.deepCloneCollection(result.getResult());
+		List<SubmodelDescriptor> submodelClone = DescriptorCopies.deepCloneSubmodelDescriptors(result.getResult());
 		return new CursorResult<>(result.getCursor(), submodelClone);
 	}
 
@@ -29,8 +29,10 @@ import java.util.List;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorageFeature;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.CursorEncodingRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ConcurrentInMemoryAasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ThreadSafeAasRegistryStorageDecorator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,16 +43,25 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class InMemoryAasStorageConfiguration {
 
-	
-	
+	@Value("${registry.inMemory.globalLock:false}")
+	private boolean globalLock;
+
 	@Bean
 	@ConditionalOnProperty(prefix = "registry", name = "type", havingValue = "inMemory")
 	public AasRegistryStorage storage(List<AasRegistryStorageFeature> features) {
 		log.info("Creating in-memory storage");
-		AasRegistryStorage storage = new ThreadSafeAasRegistryStorageDecorator(new CursorEncodingRegistryStorage(new InMemoryAasRegistryStorage()));
+		AasRegistryStorage storage = new CursorEncodingRegistryStorage(createInMemoryStorage());
 		return applyFeatures(storage, features);
 	}
 
+	private AasRegistryStorage createInMemoryStorage() {
+		if (globalLock) {
+			log.info("Guarding in-memory storage with a global read-write lock");
+			return new ThreadSafeAasRegistryStorageDecorator(new InMemoryAasRegistryStorage());
+		}
+		return new ConcurrentInMemoryAasRegistryStorage();
+	}
+
 	private AasRegistryStorage applyFeatures(AasRegistryStorage storage, List<AasRegistryStorageFeature> features) {
 		for (AasRegistryStorageFeature eachFeature : features) {
 			log.info("Activating feature " + eachFeature.getName());
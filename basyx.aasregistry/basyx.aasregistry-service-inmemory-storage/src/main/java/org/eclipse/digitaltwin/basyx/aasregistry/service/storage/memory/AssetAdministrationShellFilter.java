@@ -25,59 +25,71 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.BiPredicate;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
-import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.CompiledPath;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorCopies;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.ShellDescriptorSearchRequests.GroupedQueries;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
+/**
+ * Filters shell descriptors by a search query. The query paths and matchers
+ * are compiled once when the filter is created so that the filter can be
+ * applied to all descriptors without resolving the paths again.
+ */
 public class AssetAdministrationShellFilter {
 
-	private final Collection<AssetAdministrationShellDescriptor> aasDescriptors;
+	private final List<CompiledQuery> rootQueries;
 
-	public List<AssetAdministrationShellDescriptor> filterByRequest(ShellDescriptorSearchRequest request) {
-		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(request.getQuery());
-		List<AssetAdministrationShellDescriptor> result = filterShellsByRootQuery(aasDescriptors, grouped.getQueriesOutsideSubmodel());
-		return filterShellsBySubmodelQueries(result, grouped.getQueriesInsideSubmodel());
+	private final List<CompiledQuery> submodelQueries;
+
+	public AssetAdministrationShellFilter(ShellDescriptorQuery query) {
+		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(query);
+		rootQueries = compile(grouped.getQueriesOutsideSubmodel());
+		submodelQueries = compile(grouped.getQueriesInsideSubmodel());
 	}
 
-	private List<AssetAdministrationShellDescriptor> filterShellsByRootQuery(Collection<AssetAdministrationShellDescriptor> descriptors, List<ShellDescriptorQuery> queries) {
-		List<AssetAdministrationShellDescriptor> toReturn = new ArrayList<>();
-		if (queries.isEmpty()) {
-			toReturn.addAll(descriptors);
-			return toReturn;
+	/**
+	 * @return the match or <code>null</code> if the descriptor does not match the
+	 *         query
+	 */
+	public FilterMatch filter(AssetAdministrationShellDescriptor descriptor) {
+		if (!rootPathElementsMatchValues(descriptor)) {
+			return null;
 		}
-		for (AssetAdministrationShellDescriptor eachDescriptor : descriptors) {
-			if (rootPathElementMatchesValue(eachDescriptor, queries)) {
-				toReturn.add(eachDescriptor);
-			}
+		if (submodelQueries.isEmpty()) {
+			return new FilterMatch(descriptor, null);
+		}
+		List<SubmodelDescriptor> smList = descriptor.getSubmodelDescriptors();
+		if (smList == null || smList.isEmpty()) {
+			return null; // not matching submodels
+		}
+		List<SubmodelDescriptor> matchingSubmodels = findMatchingSubmodels(descriptor, smList);
+		if (matchingSubmodels.isEmpty()) {
+			return null;
+		} else if (matchingSubmodels.size() == smList.size()) {
+			return new FilterMatch(descriptor, null);
+		} else {
+			return new FilterMatch(descriptor, matchingSubmodels);
 		}
-		return toReturn;
 	}
 
-	private boolean rootPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<ShellDescriptorQuery> queries) {
-		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(eachDescriptor);
-		for (ShellDescriptorQuery eachQuery : queries) {
-			BiPredicate<Object[], String> matcher = SearchMatchers.createMatcher(eachQuery);
-			NonSubmodelFilterVisitor visitor = new NonSubmodelFilterVisitor(matcher);
-			String path = eachQuery.getPath();
-			processor.visitValuesAtPath(path, visitor);
+	private boolean rootPathElementsMatchValues(AssetAdministrationShellDescriptor descriptor) {
+		for (CompiledQuery eachQuery : rootQueries) {
+			NonSubmodelFilterVisitor visitor = new NonSubmodelFilterVisitor(eachQuery.getMatcher());
+			eachQuery.getPath().visitValues(descriptor, visitor);
 			if (!visitor.wasMatching()) {
 				return false;
 			}
@@ -85,45 +97,74 @@ public class AssetAdministrationShellFilter {
 		return true;
 	}
 
-	private List<AssetAdministrationShellDescriptor> filterShellsBySubmodelQueries(List<AssetAdministrationShellDescriptor> descriptors, List<ShellDescriptorQuery> queries) {
-		if (queries.isEmpty()) { // no filtering
-			return descriptors;
+	private List<SubmodelDescriptor> findMatchingSubmodels(AssetAdministrationShellDescriptor descriptor, List<SubmodelDescriptor> smList) {
+		SubmodelFilterVisitor visitor = new SubmodelFilterVisitor();
+		for (int i = 0; i < submodelQueries.size(); i++) {
+			CompiledQuery eachQuery = submodelQueries.get(i);
+			visitor.setCurrentQuery(i, eachQuery.getMatcher());
+			eachQuery.getPath().visitValues(descriptor, visitor);
 		}
-		List<AssetAdministrationShellDescriptor> toReturn = new ArrayList<>();
-		for (AssetAdministrationShellDescriptor eachDescriptor : descriptors) {
-			List<SubmodelDescriptor> smList = eachDescriptor.getSubmodelDescriptors();
-			if (smList == null || smList.isEmpty()) {
-				continue; // not matching submodels
-			}
-			AssetAdministrationShellDescriptor matching = submodelPathElementMatchesValue(eachDescriptor, smList, queries);
-			if (matching != null) {
-				toReturn.add(matching);
+		List<SubmodelDescriptor> matching = new ArrayList<>();
+		for (SubmodelDescriptor eachSubmodel : smList) {
+			BitSet fulfilled = visitor.fulfilledQueries.get(eachSubmodel);
+			if (fulfilled != null && fulfilled.cardinality() == submodelQueries.size()) {
+				matching.add(eachSubmodel);
 			}
 		}
-		return toReturn;
+		return matching;
 	}
 
-	private AssetAdministrationShellDescriptor submodelPathElementMatchesValue(AssetAdministrationShellDescriptor eachDescriptor, List<SubmodelDescriptor> smList, List<ShellDescriptorQuery> queries) {
+	private static List<CompiledQuery> compile(List<ShellDescriptorQuery> queries) {
+		List<CompiledQuery> compiled = new ArrayList<>(queries.size());
+		for (ShellDescriptorQuery eachQuery : queries) {
+			CompiledPath path = AasRegistryPathProcessor.compilePath(eachQuery.getPath());
+			compiled.add(new CompiledQuery(path, SearchMatchers.createMatcher(eachQuery)));
+		}
+		return compiled;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	private static final class CompiledQuery {
 
-		AasRegistryPathProcessor processor = new AasRegistryPathProcessor(eachDescriptor);
-		Map<String, List<BiPredicate<Object[], String>>> pathToPredicate = SearchMatchers.createMatchers(queries);
+		private final CompiledPath path;
+
+		private final BiPredicate<Object[], String> matcher;
+	}
+
+	/**
+	 * A matching descriptor. If only some of its submodels match the query, the
+	 * descriptor is copied lazily, so that only returned elements are cloned.
+	 */
+	@RequiredArgsConstructor
+	public static final class FilterMatch {
 
-		SubmodelFilterVisitor visitor = new SubmodelFilterVisitor(smList, pathToPredicate);
-		for (Entry<String, List<BiPredicate<Object[], String>>> eachEntry : pathToPredicate.entrySet()) {
-			processor.visitValuesAtPath(eachEntry.getKey(), visitor);	
+		@Getter
+		private final AssetAdministrationShellDescriptor descriptor;
+
+		private final List<SubmodelDescriptor> matchingSubmodels;
+
+		public boolean isIncluded(SubmodelDescriptor submodel) {
+			if (matchingSubmodels == null) {
+				return true;
+			}
+			for (SubmodelDescriptor eachSubmodel : matchingSubmodels) {
+				if (eachSubmodel == submodel) {
+					return true;
+				}
+			}
+			return false;
 		}
-		List<SubmodelDescriptor> matchingSubmodels = visitor.getMatchingSubmodels();
-		if (matchingSubmodels.isEmpty()) {
-			return null;
-		} else if (matchingSubmodels.size() == smList.size()) {
-			return eachDescriptor;
-		} else {
+
+		public AssetAdministrationShellDescriptor toResultDescriptor() {
+			if (matchingSubmodels == null) {
+				return descriptor;
+			}
 			// we remove all non matching submodels, we alter the model so we need a clone
-			AssetAdministrationShellDescriptor clone = DescriptorCopies.deepClone(eachDescriptor);
+			AssetAdministrationShellDescriptor clone = DescriptorCopies.deepClone(descriptor);
 			clone.getSubmodelDescriptors().retainAll(matchingSubmodels);
 			return clone;
 		}
-
 	}
 
 	@RequiredArgsConstructor
@@ -134,7 +175,7 @@ public class AssetAdministrationShellFilter {
 
 		@Override
 		public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
-			if (matcher.test(objectPathToValue, value)) {
+			if (!wasMatching && matcher.test(objectPathToValue, value)) {
 				wasMatching = true;
 			}
 		}
@@ -144,41 +185,24 @@ public class AssetAdministrationShellFilter {
 		}
 	}
 
-	@RequiredArgsConstructor
 	private static final class SubmodelFilterVisitor implements AssetAdministrationShellDescriptorVisitor {
 
-		private final Map<SubmodelDescriptor, List<BiPredicate<Object[], String>>> submodelsWithRemainingMatchers = new LinkedHashMap<>();
+		private final Map<SubmodelDescriptor, BitSet> fulfilledQueries = new IdentityHashMap<>();
+		private BiPredicate<Object[], String> currentMatcher;
+		private int currentQueryIndex;
 
-		public SubmodelFilterVisitor(List<SubmodelDescriptor> submodels, Map<String, List<BiPredicate<Object[], String>>> allToMatch) {
-			for (SubmodelDescriptor eachDescriptor : submodels) {
-				List<BiPredicate<Object[], String>> matcherList = submodelsWithRemainingMatchers.computeIfAbsent(eachDescriptor, p -> new ArrayList<>());
-				for (List<BiPredicate<Object[], String>> eachListToMatch : allToMatch.values()) {
-					matcherList.addAll(eachListToMatch);
-				}
-			}
+		private void setCurrentQuery(int queryIndex, BiPredicate<Object[], String> matcher) {
+			this.currentQueryIndex = queryIndex;
+			this.currentMatcher = matcher;
 		}
 
 		@Override
 		public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
 			SubmodelDescriptor current = (SubmodelDescriptor) objectPathToValue[1];
-			List<BiPredicate<Object[], String>> remaining = submodelsWithRemainingMatchers.get(current);
-			Iterator<BiPredicate<Object[], String>> remainingIter = remaining.iterator();
-			while (remainingIter.hasNext()) {
-				BiPredicate<Object[], String> nextMatcher = remainingIter.next();
-				if (nextMatcher.test(objectPathToValue, value)) {
-					remainingIter.remove();
-				}
-			}
-		}
-
-		public List<SubmodelDescriptor> getMatchingSubmodels() {
-			List<SubmodelDescriptor> retValue = new LinkedList<>();
-			for (Entry<SubmodelDescriptor, List<BiPredicate<Object[], String>>> eachEntry : submodelsWithRemainingMatchers.entrySet()) {
-				if (eachEntry.getValue().isEmpty()) {
-					retValue.add(eachEntry.getKey());
-				}
+			BitSet fulfilled = fulfilledQueries.computeIfAbsent(current, k -> new BitSet());
+			if (!fulfilled.get(currentQueryIndex) && currentMatcher.test(objectPathToValue, value)) {
+				fulfilled.set(currentQueryIndex);
 			}
-			return retValue;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorAlreadyExistsException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.AasDescriptorNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelAlreadyExistsException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.errors.SubmodelNotFoundException;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorCopies;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage.DescriptorFilterFunction;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.InMemoryAasRegistryStorage.DuplicateSubmodelIds;
+import org.eclipse.digitaltwin.basyx.core.concurrency.StripedReadWriteLock;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Thread-safe in-memory {@link AasRegistryStorage} that does not need the
+ * {@link ThreadSafeAasRegistryStorageDecorator}.
+ * 
+ * Each shell descriptor is stored together with its submodel lookup map as an
+ * immutable snapshot in a concurrent map. Reads and searches work on these
+ * snapshots without any locking. Writes never modify a published snapshot but
+ * replace it with a modified copy, while holding the write lock of the
+ * affected shell id only.
+ * 
+ * @author danish
+ *
+ */
+public class ConcurrentInMemoryAasRegistryStorage implements AasRegistryStorage {
+
+	private final ConcurrentSkipListMap<String, DescriptorSnapshot> snapshots = new ConcurrentSkipListMap<>();
+
+	private final StripedReadWriteLock locks = new StripedReadWriteLock();
+
+	@Override
+	public CursorResult<List<AssetAdministrationShellDescriptor>> getAllAasDescriptors(PaginationInfo pRequest, DescriptorFilter filter) {
+		PaginationSupport<DescriptorSnapshot> paginationSupport = new PaginationSupport<>(snapshots, DescriptorSnapshot::getId);
+
+		DescriptorFilterFunction function = new DescriptorFilterFunction(filter);
+		CursorResult<List<DescriptorSnapshot>> result = paginationSupport.getDescriptorsPagedAndFiltered(pRequest, filter, snapshot -> function.matches(snapshot.descriptor));
+
+		List<AssetAdministrationShellDescriptor> descriptors = result.getResult().stream().map(DescriptorSnapshot::getDescriptor).collect(Collectors.toList());
+		return new CursorResult<>(result.getCursor(), Collections.unmodifiableList(descriptors));
+	}
+
+	@Override
+	public AssetAdministrationShellDescriptor getAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
+		return getSnapshot(aasDescriptorId).descriptor;
+	}
+
+	@Override
+	public void insertAasDescriptor(AssetAdministrationShellDescriptor descr) throws AasDescriptorAlreadyExistsException {
+		String aasId = descr.getId();
+		DescriptorSnapshot snapshot = new DescriptorSnapshot(descr, toSubmodelLookupMap(descr.getSubmodelDescriptors()));
+
+		locks.write(aasId, () -> {
+			if (snapshots.putIfAbsent(aasId, snapshot) != null)
+				throw new AasDescriptorAlreadyExistsException(aasId);
+		});
+	}
+
+	@Override
+	public void replaceAasDescriptor(String aasDescriptorId, AssetAdministrationShellDescriptor descriptor) throws AasDescriptorNotFoundException {
+		String newAasDescriptorId = descriptor.getId();
+		DescriptorSnapshot snapshot = new DescriptorSnapshot(descriptor, toSubmodelLookupMap(descriptor.getSubmodelDescriptors()));
+
+		locks.writeAll(List.of(aasDescriptorId, newAasDescriptorId), () -> {
+			if (!snapshots.containsKey(aasDescriptorId))
+				throw new AasDescriptorNotFoundException(aasDescriptorId);
+
+			// publish the new snapshot first so that readers never miss the descriptor
+			snapshots.put(newAasDescriptorId, snapshot);
+
+			if (!aasDescriptorId.equals(newAasDescriptorId))
+				snapshots.remove(aasDescriptorId);
+
+			return null;
+		});
+	}
+
+	@Override
+	public void removeAasDescriptor(String aasDescriptorId) throws AasDescriptorNotFoundException {
+		locks.write(aasDescriptorId, () -> {
+			if (snapshots.remove(aasDescriptorId) == null)
+				throw new AasDescriptorNotFoundException(aasDescriptorId);
+		});
+	}
+
+	@Override
+	public CursorResult<List<SubmodelDescriptor>> getAllSubmodels(String aasDescriptorId, PaginationInfo pRequest) throws AasDescriptorNotFoundException {
+		PaginationSupport<SubmodelDescriptor> paginationSupport = new PaginationSupport<>(getSnapshot(aasDescriptorId).submodels, SubmodelDescriptor::getId);
+		return paginationSupport.getDescriptorsPaged(pRequest);
+	}
+
+	@Override
+	public SubmodelDescriptor getSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		SubmodelDescriptor submodel = getSnapshot(aasDescriptorId).submodels.get(submodelId);
+
+		if (submodel == null)
+			throw new SubmodelNotFoundException(aasDescriptorId, submodelId);
+
+		return submodel;
+	}
+
+	@Override
+	public void insertSubmodel(String aasDescriptorId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelAlreadyExistsException {
+		String submodelId = submodel.getId();
+
+		locks.write(aasDescriptorId, () -> {
+			DescriptorSnapshot snapshot = getSnapshot(aasDescriptorId);
+
+			if (snapshot.submodels.containsKey(submodelId))
+				throw new SubmodelAlreadyExistsException(aasDescriptorId, submodelId);
+
+			List<SubmodelDescriptor> submodelDescriptors = copySubmodelDescriptors(snapshot.descriptor);
+			submodelDescriptors.add(submodel);
+
+			TreeMap<String, SubmodelDescriptor> submodels = new TreeMap<>(snapshot.submodels);
+			submodels.put(submodelId, submodel);
+
+			snapshots.put(aasDescriptorId, new DescriptorSnapshot(withSubmodelDescriptors(snapshot.descriptor, submodelDescriptors), submodels));
+		});
+	}
+
+	@Override
+	public void replaceSubmodel(String aasDescriptorId, String submodelId, SubmodelDescriptor submodel) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		locks.write(aasDescriptorId, () -> {
+			DescriptorSnapshot snapshot = getSnapshot(aasDescriptorId);
+
+			if (!snapshot.submodels.containsKey(submodelId))
+				throw new SubmodelNotFoundException(aasDescriptorId, submodelId);
+
+			List<SubmodelDescriptor> submodelDescriptors = copySubmodelDescriptors(snapshot.descriptor);
+			ListIterator<SubmodelDescriptor> iterator = submodelDescriptors.listIterator();
+			while (iterator.hasNext()) {
+				if (Objects.equals(iterator.next().getId(), submodelId)) {
+					iterator.set(submodel);
+					break;
+				}
+			}
+
+			TreeMap<String, SubmodelDescriptor> submodels = new TreeMap<>(snapshot.submodels);
+			submodels.remove(submodelId);
+			// could be a different id
+			submodels.put(submodel.getId(), submodel);
+
+			snapshots.put(aasDescriptorId, new DescriptorSnapshot(withSubmodelDescriptors(snapshot.descriptor, submodelDescriptors), submodels));
+		});
+	}
+
+	@Override
+	public void removeSubmodel(String aasDescriptorId, String submodelId) throws AasDescriptorNotFoundException, SubmodelNotFoundException {
+		locks.write(aasDescriptorId, () -> {
+			DescriptorSnapshot snapshot = getSnapshot(aasDescriptorId);
+
+			if (!snapshot.submodels.containsKey(submodelId))
+				throw new SubmodelNotFoundException(aasDescriptorId, submodelId);
+
+			List<SubmodelDescriptor> submodelDescriptors = copySubmodelDescriptors(snapshot.descriptor);
+			submodelDescriptors.removeIf(eachItem -> Objects.equals(eachItem.getId(), submodelId));
+
+			TreeMap<String, SubmodelDescriptor> submodels = new TreeMap<>(snapshot.submodels);
+			submodels.remove(submodelId);
+
+			snapshots.put(aasDescriptorId, new DescriptorSnapshot(withSubmodelDescriptors(snapshot.descriptor, submodelDescriptors), submodels));
+		});
+	}
+
+	@Override
+	public Set<String> clear() {
+		Set<String> removedIds = new HashSet<>();
+
+		for (String eachId : snapshots.keySet()) {
+			locks.write(eachId, () -> {
+				if (snapshots.remove(eachId) != null)
+					removedIds.add(eachId);
+			});
+		}
+
+		return removedIds;
+	}
+
+	@Override
+	public ShellDescriptorSearchResponse searchAasDescriptors(ShellDescriptorSearchRequest request) {
+		List<AssetAdministrationShellDescriptor> descriptors = snapshots.values().stream().map(DescriptorSnapshot::getDescriptor).collect(Collectors.toList());
+
+		InMemoryStorageSearch search = new InMemoryStorageSearch(descriptors);
+		return search.performSearch(request);
+	}
+
+	private DescriptorSnapshot getSnapshot(String aasDescriptorId) {
+		DescriptorSnapshot snapshot = snapshots.get(aasDescriptorId);
+
+		if (snapshot == null)
+			throw new AasDescriptorNotFoundException(aasDescriptorId);
+
+		return snapshot;
+	}
+
+	private static NavigableMap<String, SubmodelDescriptor> toSubmodelLookupMap(List<SubmodelDescriptor> submodelDescriptors) {
+		TreeMap<String, SubmodelDescriptor> submodels = new TreeMap<>();
+
+		for (SubmodelDescriptor eachItem : Optional.ofNullable(submodelDescriptors).orElse(Collections.emptyList())) {
+			if (submodels.putIfAbsent(eachItem.getId(), eachItem) != null)
+				throw new DuplicateSubmodelIds(eachItem.getId());
+		}
+
+		return submodels;
+	}
+
+	private static List<SubmodelDescriptor> copySubmodelDescriptors(AssetAdministrationShellDescriptor descriptor) {
+		return new ArrayList<>(Optional.ofNullable(descriptor.getSubmodelDescriptors()).orElse(Collections.emptyList()));
+	}
+
+	/**
+	 * Creates a copy of the descriptor that only differs in its submodel
+	 * descriptor list, so that the published snapshot stays untouched
+	 */
+	private static AssetAdministrationShellDescriptor withSubmodelDescriptors(AssetAdministrationShellDescriptor descriptor, List<SubmodelDescriptor> submodelDescriptors) {
+		AssetAdministrationShellDescriptor copy = DescriptorCopies.deepClone(descriptor);
+		copy.setSubmodelDescriptors(submodelDescriptors);
+		return copy;
+	}
+
+	@RequiredArgsConstructor
+	private static final class DescriptorSnapshot {
+
+		private final AssetAdministrationShellDescriptor descriptor;
+
+		private final NavigableMap<String, SubmodelDescriptor> submodels;
+
+		public String getId() {
+			return descriptor.getId();
+		}
+
+		public AssetAdministrationShellDescriptor getDescriptor() {
+			return descriptor;
+		}
+	}
+}
@@ -245,7 +245,7 @@ public class InMemoryAasRegistryStorage implements AasRegistryStorage {
 	}
 
 	@RequiredArgsConstructor
-	private static class DescriptorFilterFunction {
+	static class DescriptorFilterFunction {
 
 		private final DescriptorFilter filter;
 
@@ -24,14 +24,11 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.PriorityQueue;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
@@ -41,113 +38,153 @@ import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResp
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor;
 import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.AssetAdministrationShellDescriptorVisitor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPathProcessor.CompiledPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.AssetAdministrationShellFilter.FilterMatch;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Evaluates a search request in a single pass over the descriptors. Query and
+ * sorting paths are compiled once per request, the sorting keys are resolved
+ * once per matching descriptor and only the elements up to the end of the
+ * requested page are kept in a bounded heap. The total count is computed
+ * without collecting all matching descriptors.
+ */
 @RequiredArgsConstructor
 class InMemoryStorageSearch {
 
 	private final Collection<AssetAdministrationShellDescriptor> aasDescriptors;
 
 	public ShellDescriptorSearchResponse performSearch(ShellDescriptorSearchRequest request) {
-
-		Stream<AssetAdministrationShellDescriptor> matchingDescriptors = resolveMatchingDescriptors(request).stream();
-
-		Stream<AssetAdministrationShellDescriptor> sorted = applySorting(matchingDescriptors, request.getSortBy());
-		List<AssetAdministrationShellDescriptor> items = sorted.collect(Collectors.toList());
-		long totalSizeOverAllPages = items.size();
-		List<AssetAdministrationShellDescriptor> result = applyPagination(items, request.getPage());
-		return new ShellDescriptorSearchResponse(totalSizeOverAllPages, result);
-	}
-
-	private Stream<AssetAdministrationShellDescriptor> applySorting(Stream<AssetAdministrationShellDescriptor> matchingDescriptors, Sorting sortBy) {
-		if (sortBy == null) {
-			sortBy = getDefaultSorting();
-		}
-		List<SortingPath> sortingPath = sortBy.getPath();
-		Comparator<AssetAdministrationShellDescriptor> comparator = null;
-		for (SortingPath eachPath : sortingPath) {
-			String sortPathAsString = eachPath.toString(); // toString returns the path
-			ValueExtractor extractor = new CachingValueExtractor(sortPathAsString);
-			Comparator<AssetAdministrationShellDescriptor> sortPathComparator = Comparator.comparing(extractor::resolveValue);
-			comparator = comparator == null ? sortPathComparator : comparator.thenComparing(sortPathComparator);
-		}
-		if (comparator != null) {
-			if (sortBy.getDirection() == SortDirection.DESC) {
-				comparator = comparator.reversed();
+		AssetAdministrationShellFilter filter = createFilter(request);
+		SortKeyExtractor sortKeyExtractor = new SortKeyExtractor(getSortingOrDefault(request));
+		Page page = request == null ? null : request.getPage();
+		long startIndex = page == null ? 0 : page.getIndex() * (long) page.getSize();
+		long windowEnd = page == null ? Long.MAX_VALUE : startIndex + page.getSize();
+
+		Comparator<SearchHit> order = sortKeyExtractor.getComparator();
+		PriorityQueue<SearchHit> window = new PriorityQueue<>(order.reversed());
+		long total = 0;
+		for (AssetAdministrationShellDescriptor eachDescriptor : aasDescriptors) {
+			FilterMatch match = filter == null ? new FilterMatch(eachDescriptor, null) : filter.filter(eachDescriptor);
+			if (match == null) {
+				continue;
+			}
+			SearchHit hit = new SearchHit(match, sortKeyExtractor.extractKeys(match), total++);
+			if (window.size() < windowEnd) {
+				window.add(hit);
+			} else if (order.compare(hit, window.peek()) < 0) {
+				window.poll();
+				window.add(hit);
 			}
-			return matchingDescriptors.sorted(comparator);
-		} else {
-			return matchingDescriptors;
 		}
+		return new ShellDescriptorSearchResponse(total, toPage(window, order, startIndex));
 	}
 
-	private Sorting getDefaultSorting() {
-		 return new Sorting(List.of(SortingPath.ID)).direction(SortDirection.ASC);
-	}
-
-	private List<AssetAdministrationShellDescriptor> applyPagination(List<AssetAdministrationShellDescriptor> descriptors, Page page) {
-		if (page == null) {
-			return descriptors;
+	private static List<AssetAdministrationShellDescriptor> toPage(PriorityQueue<SearchHit> window, Comparator<SearchHit> order, long startIndex) {
+		List<SearchHit> sorted = new ArrayList<>(window);
+		sorted.sort(order);
+		List<AssetAdministrationShellDescriptor> result = new ArrayList<>();
+		for (int i = (int) Math.min(startIndex, sorted.size()); i < sorted.size(); i++) {
+			result.add(sorted.get(i).match.toResultDescriptor());
 		}
-		int pageIndex = page.getIndex();
-		int size = page.getSize();
-		long startIndex = pageIndex * (long) size;
-		return descriptors.stream().skip(startIndex).limit(size).collect(Collectors.toList());
+		return result;
 	}
 
-	private Collection<AssetAdministrationShellDescriptor> resolveMatchingDescriptors(ShellDescriptorSearchRequest request) {
-		Collection<AssetAdministrationShellDescriptor> toFilter = new LinkedList<>(aasDescriptors);
+	private static AssetAdministrationShellFilter createFilter(ShellDescriptorSearchRequest request) {
 		if (request == null) { // match all
-			return toFilter;
+			return null;
 		}
 		ShellDescriptorQuery query = request.getQuery();
 		if (query == null) {
-			return toFilter;
+			return null;
 		}
-		AssetAdministrationShellFilter filter = new AssetAdministrationShellFilter(aasDescriptors);
-		return filter.filterByRequest(request);
+		return new AssetAdministrationShellFilter(query);
+	}
+
+	private static Sorting getSortingOrDefault(ShellDescriptorSearchRequest request) {
+		if (request == null || request.getSortBy() == null) {
+			return new Sorting(List.of(SortingPath.ID)).direction(SortDirection.ASC);
+		}
+		return request.getSortBy();
 	}
 
 	@RequiredArgsConstructor
-	private static class ValueExtractor {
+	private static final class SearchHit {
+
+		private final FilterMatch match;
+
+		private final String[] sortKeys;
 
-		protected final String path;
+		// keeps the order of the underlying collection for equal sort keys
+		private final long sequence;
+	}
+
+	private static final class SortKeyExtractor {
 
-		public String resolveValue(AssetAdministrationShellDescriptor descriptor) {
-			AasRegistryPathProcessor processor = new AasRegistryPathProcessor(descriptor);
-			ValueExtractionVisitor visitor = new ValueExtractionVisitor();
-			processor.visitValuesAtPath(path, visitor);
-			return visitor.value;
+		private final List<CompiledPath> paths = new ArrayList<>();
+		private final Comparator<SearchHit> comparator;
+
+		private SortKeyExtractor(Sorting sortBy) {
+			for (SortingPath eachPath : sortBy.getPath()) {
+				String sortPathAsString = eachPath.toString(); // toString returns the path
+				paths.add(AasRegistryPathProcessor.compilePath(sortPathAsString));
+			}
+			Comparator<SearchHit> byKeys = SortKeyExtractor::compareKeys;
+			if (sortBy.getDirection() == SortDirection.DESC) {
+				byKeys = byKeys.reversed();
+			}
+			comparator = byKeys.thenComparingLong(hit -> hit.sequence);
 		}
 
-		private static final class ValueExtractionVisitor implements AssetAdministrationShellDescriptorVisitor {
+		public Comparator<SearchHit> getComparator() {
+			return comparator;
+		}
 
-			private String value = ""; // for comparing we need non-null values so use an empty string
+		public String[] extractKeys(FilterMatch match) {
+			String[] keys = new String[paths.size()];
+			for (int i = 0; i < keys.length; i++) {
+				ValueExtractionVisitor visitor = new ValueExtractionVisitor(match);
+				paths.get(i).visitValues(match.getDescriptor(), visitor);
+				keys[i] = visitor.value;
+			}
+			return keys;
+		}
 
-			@Override
-			public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
-				if (this.value == null || this.value.isEmpty()) {
-					this.value = value;
+		private static int compareKeys(SearchHit first, SearchHit second) {
+			for (int i = 0; i < first.sortKeys.length; i++) {
+				int result = first.sortKeys[i].compareTo(second.sortKeys[i]);
+				if (result != 0) {
+					return result;
 				}
 			}
+			return 0;
 		}
 	}
 
-	public static class CachingValueExtractor extends ValueExtractor {
+	@RequiredArgsConstructor
+	private static final class ValueExtractionVisitor implements AssetAdministrationShellDescriptorVisitor {
 
-		private final Map<AssetAdministrationShellDescriptor, Map<String, String>> cachedValues = new HashMap<>();
+		private final FilterMatch match;
 
-		public CachingValueExtractor(String path) {
-			super(path);
-		}
+		private String value = ""; // for comparing we need non-null values so use an empty string
 
 		@Override
-		public String resolveValue(AssetAdministrationShellDescriptor descriptor) {
-			Map<String, String> result = cachedValues.computeIfAbsent(descriptor, k -> new HashMap<>());
-			return result.computeIfAbsent(path, k -> super.resolveValue(descriptor));
+		public void visitResolvedPathValue(String path, Object[] objectPathToValue, String value) {
+			if (this.value.isEmpty() && isPartOfResult(objectPathToValue)) {
+				this.value = value;
+			}
+		}
+
+		private boolean isPartOfResult(Object[] objectPathToValue) {
+			// submodels removed by the filter are not part of the result and must not be used for sorting
+			if (objectPathToValue.length > 1 && objectPathToValue[1] instanceof SubmodelDescriptor) {
+				return match.isIncluded((SubmodelDescriptor) objectPathToValue[1]);
+			}
+			return true;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -45,7 +45,7 @@ class ThreadSafeAccess {
 	}
 
 	public <A> void write(Consumer<A> consumer, A arg1) {
-		runWithLock(consumer, arg1, readLock);
+		runWithLock(consumer, arg1, writeLock);
 	}
 
 	public <A, B> void write(BiConsumer<A, B> consumer, A arg1, B arg2) {
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Page;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchResponse;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortDirection;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Sorting;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SortingPath;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryPaths;
+import org.junit.Test;
+
+/**
+ * Tests the paging window and the total count of the {@link InMemoryStorageSearch}
+ *
+ * @author danish
+ *
+ */
+public class InMemoryStorageSearchTest {
+
+	private static final int DESCRIPTOR_COUNT = 50;
+	private static final int VERSION_COUNT = 7;
+
+	private final List<AssetAdministrationShellDescriptor> descriptors = createDescriptors();
+
+	@Test
+	public void whenPagingThroughAllPages_thenResultEqualsFullySortedList() {
+		Sorting sorting = new Sorting(List.of(SortingPath.ADMINISTRATION_VERSION, SortingPath.IDSHORT)).direction(SortDirection.DESC);
+		List<String> expected = sortFully(descriptors, Comparator.comparing((AssetAdministrationShellDescriptor d) -> d.getAdministration().getVersion()).thenComparing(AssetAdministrationShellDescriptor::getIdShort).reversed());
+
+		List<String> paged = new ArrayList<>();
+		for (int pageIndex = 0; pageIndex * 8 < DESCRIPTOR_COUNT; pageIndex++) {
+			ShellDescriptorSearchResponse response = search(new ShellDescriptorSearchRequest().sortBy(sorting).page(new Page(pageIndex, 8)));
+
+			assertEquals(DESCRIPTOR_COUNT, response.getTotal().intValue());
+			paged.addAll(toIds(response.getHits()));
+		}
+
+		assertEquals(expected, paged);
+	}
+
+	@Test
+	public void whenSortKeysAreEqual_thenCollectionOrderIsKept() {
+		Sorting sorting = new Sorting(List.of(SortingPath.ADMINISTRATION_VERSION)).direction(SortDirection.DESC);
+		List<String> expected = sortFully(descriptors, Comparator.comparing((AssetAdministrationShellDescriptor d) -> d.getAdministration().getVersion()).reversed());
+
+		ShellDescriptorSearchResponse response = search(new ShellDescriptorSearchRequest().sortBy(sorting).page(new Page(1, 10)));
+
+		assertEquals(expected.subList(10, 20), toIds(response.getHits()));
+	}
+
+	@Test
+	public void whenQueryIsSet_thenTotalCountsAllMatchesAndPageIsLimited() {
+		ShellDescriptorQuery query = new ShellDescriptorQuery(AasRegistryPaths.administration().version(), "3");
+		List<String> expected = sortFully(descriptors.stream().filter(d -> "3".equals(d.getAdministration().getVersion())).collect(Collectors.toList()), Comparator.comparing(AssetAdministrationShellDescriptor::getId));
+
+		ShellDescriptorSearchResponse response = search(new ShellDescriptorSearchRequest().query(query).page(new Page(0, 2)));
+
+		assertEquals(expected.size(), response.getTotal().intValue());
+		assertEquals(expected.subList(0, 2), toIds(response.getHits()));
+	}
+
+	@Test
+	public void whenPageIsBehindLastMatch_thenHitsAreEmpty() {
+		ShellDescriptorSearchResponse response = search(new ShellDescriptorSearchRequest().page(new Page(10, 10)));
+
+		assertEquals(DESCRIPTOR_COUNT, response.getTotal().intValue());
+		assertEquals(List.of(), response.getHits());
+	}
+
+	private ShellDescriptorSearchResponse search(ShellDescriptorSearchRequest request) {
+		return new InMemoryStorageSearch(descriptors).performSearch(request);
+	}
+
+	private static List<String> sortFully(List<AssetAdministrationShellDescriptor> descriptors, Comparator<AssetAdministrationShellDescriptor> comparator) {
+		return descriptors.stream().sorted(comparator).map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList());
+	}
+
+	private static List<String> toIds(List<AssetAdministrationShellDescriptor> hits) {
+		return hits.stream().map(AssetAdministrationShellDescriptor::getId).collect(Collectors.toList());
+	}
+
+	private static List<AssetAdministrationShellDescriptor> createDescriptors() {
+		List<AssetAdministrationShellDescriptor> descriptors = new ArrayList<>();
+		for (int i = 0; i < DESCRIPTOR_COUNT; i++) {
+			// ids are inserted in reverse order so that the default sorting has to reorder them
+			String id = String.format("aas%03d", DESCRIPTOR_COUNT - i);
+			AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor(id);
+			descriptor.setIdShort("short" + (i % 3));
+			descriptor.setAdministration(new AdministrativeInformation().version(String.valueOf(i % VERSION_COUNT)));
+			descriptors.add(descriptor);
+		}
+		return descriptors;
+	}
+}
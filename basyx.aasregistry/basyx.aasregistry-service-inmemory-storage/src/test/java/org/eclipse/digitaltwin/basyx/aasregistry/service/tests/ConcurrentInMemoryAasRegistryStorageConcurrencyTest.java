@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasregistry.service.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorQuery.QueryTypeEnum;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ShellDescriptorSearchRequest;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorFilter;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.memory.ConcurrentInMemoryAasRegistryStorage;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Stress tests the {@link ConcurrentInMemoryAasRegistryStorage} with mixed
+ * read, search and registration traffic
+ * 
+ * @author danish
+ *
+ */
+public class ConcurrentInMemoryAasRegistryStorageConcurrencyTest {
+
+	private static final int WRITER_COUNT = 4;
+	private static final int READER_COUNT = 4;
+	private static final int OPERATIONS_PER_THREAD = 200;
+	private static final String SHARED_AAS_ID = "sharedAas";
+	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(null, null);
+
+	private AasRegistryStorage storage;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		storage = new ConcurrentInMemoryAasRegistryStorage();
+		storage.insertAasDescriptor(new AssetAdministrationShellDescriptor(SHARED_AAS_ID));
+
+		executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void whenRegisteringWhileSearching_thenNoRegistrationIsLost() throws Exception {
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<Void>> futures = new ArrayList<>();
+
+		for (int writer = 0; writer < WRITER_COUNT; writer++)
+			futures.add(submit(startSignal, createWriter(writer)));
+
+		for (int reader = 0; reader < READER_COUNT; reader++)
+			futures.add(submit(startSignal, this::read));
+
+		startSignal.countDown();
+
+		for (Future<Void> future : futures)
+			future.get(1, TimeUnit.MINUTES);
+
+		assertEquals(WRITER_COUNT * OPERATIONS_PER_THREAD + 1, storage.getAllAasDescriptors(NO_LIMIT_PAGINATION_INFO, new DescriptorFilter(null, null)).getResult().size());
+
+		AssetAdministrationShellDescriptor shared = storage.getAasDescriptor(SHARED_AAS_ID);
+		assertEquals(WRITER_COUNT * OPERATIONS_PER_THREAD, shared.getSubmodelDescriptors().size());
+		assertEquals(WRITER_COUNT * OPERATIONS_PER_THREAD, storage.getAllSubmodels(SHARED_AAS_ID, NO_LIMIT_PAGINATION_INFO).getResult().size());
+	}
+
+	@Test
+	public void whenSubmodelsAreRemovedConcurrently_thenPublishedDescriptorsAreNotModified() throws Exception {
+		for (int i = 0; i < OPERATIONS_PER_THREAD; i++)
+			storage.insertSubmodel(SHARED_AAS_ID, new SubmodelDescriptor("submodel_" + i, new ArrayList<>()));
+
+		AssetAdministrationShellDescriptor snapshot = storage.getAasDescriptor(SHARED_AAS_ID);
+
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<Void>> futures = new ArrayList<>();
+
+		for (int writer = 0; writer < WRITER_COUNT; writer++) {
+			int writerIndex = writer;
+			futures.add(submit(startSignal, () -> {
+				for (int i = writerIndex; i < OPERATIONS_PER_THREAD; i += WRITER_COUNT)
+					storage.removeSubmodel(SHARED_AAS_ID, "submodel_" + i);
+			}));
+		}
+
+		startSignal.countDown();
+
+		for (Future<Void> future : futures)
+			future.get(1, TimeUnit.MINUTES);
+
+		assertEquals(OPERATIONS_PER_THREAD, snapshot.getSubmodelDescriptors().size());
+		assertEquals(0, storage.getAasDescriptor(SHARED_AAS_ID).getSubmodelDescriptors().size());
+	}
+
+	private Runnable createWriter(int writerIndex) {
+		return () -> {
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				String id = "aas_" + writerIndex + "_" + i;
+				storage.insertAasDescriptor(new AssetAdministrationShellDescriptor(id).idShort("shell"));
+				storage.insertSubmodel(SHARED_AAS_ID, new SubmodelDescriptor(id, new ArrayList<>()));
+			}
+		};
+	}
+
+	private void read() {
+		ShellDescriptorSearchRequest request = new ShellDescriptorSearchRequest().query(new ShellDescriptorQuery("idShort", "shell").queryType(QueryTypeEnum.MATCH));
+
+		for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+			storage.searchAasDescriptors(request);
+			storage.getAllAasDescriptors(new PaginationInfo(10, null), new DescriptorFilter(null, null));
+			storage.getAllSubmodels(SHARED_AAS_ID, NO_LIMIT_PAGINATION_INFO);
+		}
+	}
+
+	private Future<Void> submit(CountDownLatch startSignal, Runnable task) {
+		Callable<Void> callable = () -> {
+			startSignal.await();
+			task.run();
+			return null;
+		};
+
+		return executor.submit(callable);
+	}
+
+}
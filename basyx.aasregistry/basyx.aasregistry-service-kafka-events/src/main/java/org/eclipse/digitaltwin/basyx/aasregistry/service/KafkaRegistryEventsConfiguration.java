@@ -25,19 +25,34 @@
 package org.eclipse.digitaltwin.basyx.aasregistry.service;
 
 import org.eclipse.digitaltwin.basyx.aasregistry.service.events.RegistryEventSink;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.AsyncKafkaRegistryEventSink;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.KafkaEventSinkMetrics;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.KafkaEventsProperties;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.KafkaEventsProperties.SendMode;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka.KafkaRegistryEventSink;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @Configuration
 @ConditionalOnProperty(prefix = "events", name = "sink", havingValue = "kafka")
+@EnableConfigurationProperties(KafkaEventsProperties.class)
 public class KafkaRegistryEventsConfiguration {
 
 	@Bean
-	public RegistryEventSink eventSink(KafkaTemplate<String, String> template) {
-		return new KafkaRegistryEventSink(template);
+	public RegistryEventSink eventSink(KafkaTemplate<String, String> template, KafkaEventsProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+		KafkaEventSinkMetrics metrics = new KafkaEventSinkMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+
+		if (properties.getMode() == SendMode.ASYNC)
+			return new AsyncKafkaRegistryEventSink(template, properties, metrics);
+
+		return new KafkaRegistryEventSink(template, metrics);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.events.kafka;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Settings of the kafka registry event sink, bound to the
+ * <code>events.kafka</code> prefix
+ */
+@Data
+@ConfigurationProperties(prefix = "events.kafka")
+public class KafkaEventsProperties {
+
+	public enum SendMode {
+		/** waits for the broker acknowledgement within the request thread */
+		BLOCKING,
+		/** enqueues the event and sends it from a background dispatcher */
+		ASYNC
+	}
+
+	public enum BackPressureStrategy {
+		/** waits until the queue has room for the event */
+		BLOCK,
+		/** discards the oldest queued event */
+		DROP_OLDEST,
+		/** rejects the request with HTTP 503 */
+		FAIL
+	}
+
+	private SendMode mode = SendMode.BLOCKING;
+
+	private int queueCapacity = 10_000;
+
+	private BackPressureStrategy backPressure = BackPressureStrategy.BLOCK;
+
+	private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -41,14 +41,21 @@ import lombok.extern.log4j.Log4j2;
 public class KafkaRegistryEventSink implements RegistryEventSink {
 
 	private final KafkaTemplate<String, String> template;
+	private final KafkaEventSinkMetrics metrics;
 
 	@Override
 	public void consumeEvent(RegistryEvent evt) {
 		try {
 			CompletableFuture<SendResult<String, String>> future = template.send(new GenericMessage<RegistryEvent>(evt));
-			future.get(); // use the blocking approach for now
+			future.get();
+			metrics.sent();
 			log.info("Registration event message sent to stream.");
-		} catch (ExecutionException | InterruptedException e) {
+		} catch (ExecutionException e) {
+			metrics.failed();
+			log.error("Failed to sent registration event info.");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			metrics.failed();
 			log.error("Failed to sent registration event info.");
 		}
 	}
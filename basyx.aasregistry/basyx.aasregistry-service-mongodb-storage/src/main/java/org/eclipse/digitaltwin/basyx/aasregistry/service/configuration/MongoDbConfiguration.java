@@ -32,6 +32,7 @@ import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStor
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.AasRegistryStorageFeature;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.CursorEncodingRegistryStorage;
 import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.mongodb.MongoDbAasRegistryStorage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -51,6 +52,12 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MongoDbConfiguration {
 
+	// mongodb maps all id fields internally to _id
+	private static final String SUBMODEL_DESCRIPTORS_ID = AasRegistryPaths.SEGMENT_SUBMODEL_DESCRIPTORS + "._id";
+
+	@Value("${registry.mongodb.additional-indexes:}")
+	private String[] additionalIndexes;
+
 	@Bean
 	public AasRegistryStorage createStorage(MongoTemplate template, List<AasRegistryStorageFeature> features) {
 		log.info("Creating mongodb storage");
@@ -73,6 +80,8 @@ public class MongoDbConfiguration {
 		IndexOperations ops = template.indexOps(AssetAdministrationShellDescriptor.class);
 		initializeGetShellDescriptorsIndices(ops);
 		initializeExtensionIndices(ops);
+		initializeSearchIndices(ops);
+		initializeAdditionalIndices(ops);
 	}
 
 	private void initializeGetShellDescriptorsIndices(IndexOperations ops) {
@@ -95,6 +104,26 @@ public class MongoDbConfiguration {
 		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().extensions().value());
 	}
 
+	private void initializeSearchIndices(IndexOperations ops) {
+		initializeSingleAscIndex(ops, AasRegistryPaths.idShort());
+		initializeSingleAscIndex(ops, AasRegistryPaths.globalAssetId());
+		initializeSingleAscIndex(ops, AasRegistryPaths.specificAssetIds().name());
+		initializeSingleAscIndex(ops, AasRegistryPaths.specificAssetIds().value());
+		initializeSingleAscIndex(ops, SUBMODEL_DESCRIPTORS_ID);
+		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().idShort());
+		initializeSingleAscIndex(ops, AasRegistryPaths.submodelDescriptors().semanticId().keys().value());
+	}
+
+	private void initializeAdditionalIndices(IndexOperations ops) {
+		for (String eachPath : additionalIndexes) {
+			String path = eachPath.trim();
+			if (!path.isEmpty()) {
+				log.info("Creating additional mongodb index for " + path);
+				initializeSingleAscIndex(ops, path);
+			}
+		}
+	}
+
 	private void initializeSingleAscIndex(IndexOperations ops, String path) {
 		Index smValueIndex = new Index(path, Direction.ASC);
 		ops.ensureIndex(smValueIndex);
@@ -34,6 +34,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
@@ -304,12 +305,34 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 
 	@Override
 	public ShellDescriptorSearchResponse searchAasDescriptors(@NonNull ShellDescriptorSearchRequest request) {
-		SearchQueryBuilder qBuilder = new SearchQueryBuilder();
-		ShellDescriptorQuery dQuery = request.getQuery();
-		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(dQuery);
-		Criteria mongoCriteria = qBuilder.buildCriteria(grouped);
+		Criteria mongoCriteria = createSearchCriteria(request);
+		Aggregation aggregation = createSearchAggregation(request, mongoCriteria);
 
+		List<AssetAdministrationShellDescriptor> descriptors;
+		try (Stream<AssetAdministrationShellDescriptor> results = template.aggregateStream(aggregation, AssetAdministrationShellDescriptor.class, AssetAdministrationShellDescriptor.class)) {
+			descriptors = results.collect(Collectors.toList());
+		}
+		if (request.getPage() == null) {
+			// all matching documents are returned, so their number is the total
+			return new ShellDescriptorSearchResponse((long) descriptors.size(), descriptors);
+		}
 		long total = template.count(Query.query(mongoCriteria), AssetAdministrationShellDescriptor.class);
+		return new ShellDescriptorSearchResponse(total, descriptors);
+	}
+
+	/**
+	 * Creates the aggregation of a search. A requested page is applied by $skip
+	 * and $limit directly after the $sort, so that a sort without index only
+	 * keeps the top documents in memory. The total of a paged search is counted
+	 * separately with the same criteria.
+	 */
+	public Aggregation createSearchAggregation(@NonNull ShellDescriptorSearchRequest request) {
+		return createSearchAggregation(request, createSearchCriteria(request));
+	}
+
+	private Aggregation createSearchAggregation(ShellDescriptorSearchRequest request, Criteria mongoCriteria) {
+		SearchQueryBuilder qBuilder = new SearchQueryBuilder();
+		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(request.getQuery());
 
 		List<AggregationOperation> aggregationOps = new LinkedList<>();
 		MatchOperation matchOp = Aggregation.match(mongoCriteria);
@@ -318,10 +341,11 @@ public class MongoDbAasRegistryStorage implements AasRegistryStorage {
 		qBuilder.withPage(request.getPage(), aggregationOps);
 		qBuilder.withProjection(grouped.getQueriesInsideSubmodel(), aggregationOps);
 
-		Aggregation aggregation = Aggregation.newAggregation(aggregationOps);
-		AggregationResults<AssetAdministrationShellDescriptor> results = template.aggregate(aggregation, AssetAdministrationShellDescriptor.class, AssetAdministrationShellDescriptor.class);
+		return Aggregation.newAggregation(aggregationOps);
+	}
 
-		List<AssetAdministrationShellDescriptor> descriptors = results.getMappedResults();
-		return new ShellDescriptorSearchResponse(total, descriptors);
+	private Criteria createSearchCriteria(ShellDescriptorSearchRequest request) {
+		GroupedQueries grouped = ShellDescriptorSearchRequests.groupQueries(request.getQuery());
+		return new SearchQueryBuilder().buildCriteria(grouped);
 	}
 }
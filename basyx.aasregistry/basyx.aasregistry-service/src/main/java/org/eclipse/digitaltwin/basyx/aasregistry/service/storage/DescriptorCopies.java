@@ -24,15 +24,14 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasregistry.service.storage;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.paths.AasRegistryCopier;
+
 import lombok.NonNull;
 
 
@@ -42,35 +41,27 @@ public class DescriptorCopies {
 		
 	}
 
-	@SuppressWarnings("unchecked")
-	public static <T> T deepClone(@NonNull T toClone) {
-		try {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			ObjectOutputStream oos = new ObjectOutputStream(baos);
-			oos.writeObject(toClone);
-			ByteArrayInputStream bais = new ByteArrayInputStream(baos.toByteArray());
-			ObjectInputStream ois = new ObjectInputStream(bais);
-			return (T) ois.readObject();
-		} catch (IOException | ClassNotFoundException e) {
-			throw new DeepCopyException("This exception should never occur!", e);
-		}
+	public static AssetAdministrationShellDescriptor deepClone(@NonNull AssetAdministrationShellDescriptor toClone) {
+		return AasRegistryCopier.copyAssetAdministrationShellDescriptor(toClone);
+	}
+
+	public static SubmodelDescriptor deepClone(@NonNull SubmodelDescriptor toClone) {
+		return AasRegistryCopier.copySubmodelDescriptor(toClone);
 	}
 
-	public static <T> List<T> deepCloneCollection(@NonNull Collection<T> values) {
-		List<T> clonedValues = new ArrayList<>(values.size());
-		for (T eachItem : values) {
-			T clone = deepClone(eachItem);
-			clonedValues.add(clone);
+	public static List<AssetAdministrationShellDescriptor> deepCloneAasDescriptors(@NonNull Collection<AssetAdministrationShellDescriptor> values) {
+		List<AssetAdministrationShellDescriptor> clonedValues = new ArrayList<>(values.size());
+		for (AssetAdministrationShellDescriptor eachItem : values) {
+			clonedValues.add(deepClone(eachItem));
 		}
 		return clonedValues;
 	}
 
-	private static class DeepCopyException extends RuntimeException {
-
-		private static final long serialVersionUID = 1L;
-
-		public DeepCopyException(String msg, Exception e) {
-			super(msg, e);
+	public static List<SubmodelDescriptor> deepCloneSubmodelDescriptors(@NonNull Collection<SubmodelDescriptor> values) {
+		List<SubmodelDescriptor> clonedValues = new ArrayList<>(values.size());
+		for (SubmodelDescriptor eachItem : values) {
+			clonedValues.add(deepClone(eachItem));
 		}
+		return clonedValues;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasregistry.service.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.AssetKind;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.DataSpecificationIec61360;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Endpoint;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Key;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.KeyTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.LangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.LangStringTextType;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.LevelType;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ProtocolInformation;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ProtocolInformationSecurityAttributes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ProtocolInformationSecurityAttributes.TypeEnum;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.ReferenceTypes;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SpecificAssetId;
+import org.eclipse.digitaltwin.basyx.aasregistry.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.aasregistry.service.storage.DescriptorCopies;
+import org.junit.Test;
+
+public class DescriptorCopiesTest {
+
+	@Test
+	public void whenDeepCloneAasDescriptor_ThenEqualButNotSame() {
+		AssetAdministrationShellDescriptor descriptor = createAasDescriptor();
+
+		AssetAdministrationShellDescriptor clone = DescriptorCopies.deepClone(descriptor);
+
+		assertEquals(descriptor, clone);
+		assertNotSame(descriptor.getSubmodelDescriptors().get(0), clone.getSubmodelDescriptors().get(0));
+		assertNotSame(descriptor.getAdministration().getEmbeddedDataSpecifications().get(0).getDataSpecificationContent(), clone.getAdministration().getEmbeddedDataSpecifications().get(0).getDataSpecificationContent());
+	}
+
+	@Test
+	public void whenCloneIsModified_ThenOriginalIsUnchanged() {
+		AssetAdministrationShellDescriptor descriptor = createAasDescriptor();
+
+		AssetAdministrationShellDescriptor clone = DescriptorCopies.deepClone(descriptor);
+		clone.getSubmodelDescriptors().get(0).getSemanticId().getKeys().get(0).setValue("changed");
+		clone.getEndpoints().get(0).getProtocolInformation().getEndpointProtocolVersion().add("2.0");
+		clone.getSubmodelDescriptors().clear();
+
+		assertNotEquals(descriptor, clone);
+		assertEquals(createAasDescriptor(), descriptor);
+	}
+
+	@Test
+	public void whenDeepCloneSubmodelDescriptors_ThenAllEqual() {
+		List<SubmodelDescriptor> submodels = List.of(createSubmodelDescriptor("sm1"), createSubmodelDescriptor("sm2"));
+
+		List<SubmodelDescriptor> clones = DescriptorCopies.deepCloneSubmodelDescriptors(submodels);
+
+		assertEquals(submodels, clones);
+		assertNotSame(submodels.get(1), clones.get(1));
+	}
+
+	private static AssetAdministrationShellDescriptor createAasDescriptor() {
+		AssetAdministrationShellDescriptor descriptor = new AssetAdministrationShellDescriptor("aas1");
+		descriptor.setIdShort("shell");
+		descriptor.setAssetKind(AssetKind.INSTANCE);
+		descriptor.setGlobalAssetId("globalAssetId");
+		descriptor.addDescriptionItem(new LangStringTextType().language("en").text("A shell"));
+		descriptor.addSpecificAssetIdsItem(new SpecificAssetId().name("serial").value("1234").externalSubjectId(createReference("subject")));
+		descriptor.addEndpointsItem(createEndpoint("http://localhost:8081/shells/aas1"));
+		descriptor.setAdministration(createAdministration());
+		descriptor.addSubmodelDescriptorsItem(createSubmodelDescriptor("sm1"));
+		return descriptor;
+	}
+
+	private static SubmodelDescriptor createSubmodelDescriptor(String id) {
+		SubmodelDescriptor descriptor = new SubmodelDescriptor(id, List.of(createEndpoint("http://localhost:8081/submodels/" + id)));
+		descriptor.setIdShort(id);
+		descriptor.setSemanticId(createReference(id + "Semantic"));
+		descriptor.addSupplementalSemanticIdItem(createReference(id + "Supplemental"));
+		return descriptor;
+	}
+
+	private static Endpoint createEndpoint(String href) {
+		ProtocolInformation protocolInformation = new ProtocolInformation(href).endpointProtocol("HTTP").endpointProtocolVersion(new ArrayList<>(List.of("1.1")));
+		protocolInformation.addSecurityAttributesItem(new ProtocolInformationSecurityAttributes(TypeEnum.NONE, "key", "value"));
+		return new Endpoint("AAS-3.0", protocolInformation);
+	}
+
+	private static AdministrativeInformation createAdministration() {
+		DataSpecificationIec61360 content = new DataSpecificationIec61360().unit("m").levelType(new LevelType(true, false, false, true));
+		content.addPreferredNameItem(new LangStringPreferredNameTypeIec61360().language("en").text("preferred"));
+		EmbeddedDataSpecification specification = new EmbeddedDataSpecification(createReference("iec61360"), content);
+		return new AdministrativeInformation().version("1").revision("0").creator(createReference("creator")).embeddedDataSpecifications(new ArrayList<>(List.of(specification)));
+	}
+
+	private static Reference createReference(String value) {
+		return new Reference(ReferenceTypes.EXTERNALREFERENCE, new ArrayList<>(List.of(new Key(KeyTypes.GLOBALREFERENCE, value))));
+	}
+}
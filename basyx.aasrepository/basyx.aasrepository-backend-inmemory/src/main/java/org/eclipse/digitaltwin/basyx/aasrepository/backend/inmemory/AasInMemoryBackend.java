@@ -25,14 +25,19 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.backend.inmemory;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -41,9 +46,9 @@ import org.springframework.data.repository.CrudRepository;
  * @author mateusmolina
  * 
  */
-public class AasInMemoryBackend implements CrudRepository<AssetAdministrationShell, String> {
+public class AasInMemoryBackend implements CrudRepository<AssetAdministrationShell, String>, CursorPaginatedRepository<AssetAdministrationShell> {
 
-	private Map<String, AssetAdministrationShell> inMemoryStore = new LinkedHashMap<>();
+	private NavigableMap<String, AssetAdministrationShell> inMemoryStore = new ConcurrentSkipListMap<>();
 
 	@Override
 	public <S extends AssetAdministrationShell> S save(S entity) {
@@ -75,6 +80,11 @@ public class AasInMemoryBackend implements CrudRepository<AssetAdministrationShe
 		return inMemoryStore.values();
 	}
 
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> findAll(PaginationInfo pInfo) {
+		return new PaginationSupport<>(inMemoryStore, AssetAdministrationShell::getId).getPaged(pInfo);
+	}
+
 	@Override
 	public Iterable<AssetAdministrationShell> findAllById(Iterable<String> ids) {
 		return StreamSupport.stream(ids.spliterator(), false).map(inMemoryStore::get).filter(Objects::nonNull).collect(Collectors.toList());
@@ -27,13 +27,19 @@
 package org.eclipse.digitaltwin.basyx.aasrepository.backend.inmemory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositorySuite;
 import org.eclipse.digitaltwin.basyx.aasrepository.backend.AasBackendProvider;
 import org.eclipse.digitaltwin.basyx.aasrepository.backend.CrudAasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.backend.SimpleAasRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
 import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
 import org.junit.Test;
 
@@ -45,6 +51,7 @@ import org.junit.Test;
  */
 public class TestInMemoryAasRepository extends AasRepositorySuite {
 	private static final String CONFIGURED_AAS_REPO_NAME = "configured-aas-repo-name";
+	private static final String VERSIONED_AAS_ID = "versionedAas";
 	
 	private AasBackendProvider backendProvider = new AasInMemoryBackendProvider();
 
@@ -60,4 +67,53 @@ public class TestInMemoryAasRepository extends AasRepositorySuite {
 		assertEquals(CONFIGURED_AAS_REPO_NAME, repo.getName());
 	}
 
+	@Test
+	public void versionIncreasesWithModifications() {
+		AasRepository repo = getAasRepository();
+		repo.createAas(createAas("initialIdShort"));
+
+		long initialVersion = repo.getAasVersion(VERSIONED_AAS_ID);
+
+		repo.getAas(VERSIONED_AAS_ID);
+		assertEquals(initialVersion, repo.getAasVersion(VERSIONED_AAS_ID));
+
+		repo.updateAas(VERSIONED_AAS_ID, createAas("updatedIdShort"));
+		assertTrue(repo.getAasVersion(VERSIONED_AAS_ID) > initialVersion);
+	}
+
+	@Test
+	public void conditionalUpdateWithOutdatedVersionIsRejected() {
+		AasRepository repo = getAasRepository();
+		repo.createAas(createAas("initialIdShort"));
+
+		long outdatedVersion = repo.getAasVersion(VERSIONED_AAS_ID);
+		repo.updateAas(VERSIONED_AAS_ID, createAas("updatedIdShort"), outdatedVersion);
+
+		assertThrows(VersionMismatchException.class, () -> repo.updateAas(VERSIONED_AAS_ID, createAas("outdatedIdShort"), outdatedVersion));
+		assertThrows(VersionMismatchException.class, () -> repo.deleteAas(VERSIONED_AAS_ID, outdatedVersion));
+		assertEquals("updatedIdShort", repo.getAas(VERSIONED_AAS_ID).getIdShort());
+	}
+
+	@Test
+	public void versionOfRecreatedAasIsNotReused() {
+		AasRepository repo = getAasRepository();
+		repo.createAas(createAas("initialIdShort"));
+
+		long versionBeforeDeletion = repo.getAasVersion(VERSIONED_AAS_ID);
+
+		repo.deleteAas(VERSIONED_AAS_ID);
+		repo.createAas(createAas("initialIdShort"));
+
+		assertTrue(repo.getAasVersion(VERSIONED_AAS_ID) > versionBeforeDeletion);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void versionOfNonExistingAas() {
+		getAasRepository().getAasVersion("nonExisting");
+	}
+
+	private static AssetAdministrationShell createAas(String idShort) {
+		return new DefaultAssetAdministrationShell.Builder().id(VERSIONED_AAS_ID).idShort(idShort).build();
+	}
+
 }
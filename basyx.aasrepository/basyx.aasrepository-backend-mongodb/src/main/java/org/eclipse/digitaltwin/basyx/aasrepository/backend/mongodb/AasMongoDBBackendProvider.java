@@ -28,13 +28,17 @@ package org.eclipse.digitaltwin.basyx.aasrepository.backend.mongodb;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.basyx.aasrepository.backend.AasBackendProvider;
 import org.eclipse.digitaltwin.basyx.common.mongocore.BasyxMongoMappingContext;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBOutbox;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBVersionStore;
+import org.eclipse.digitaltwin.basyx.common.mongocore.PaginatedMongoRepository;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.repository.support.MappingMongoEntityInformation;
-import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Component;
 
@@ -51,12 +55,15 @@ public class AasMongoDBBackendProvider implements AasBackendProvider {
 	private BasyxMongoMappingContext mappingContext;
 	
 	private MongoTemplate template;
+
+	private String collectionName;
 	
 	@Autowired
 	public AasMongoDBBackendProvider(BasyxMongoMappingContext mappingContext, @Value("${basyx.aasrepository.mongodb.collectionName:aas-repo}") String collectionName, MongoTemplate template) {
 		super();
 		this.mappingContext = mappingContext;
 		this.template = template;
+		this.collectionName = collectionName;
 		
 		mappingContext.addEntityMapping(AssetAdministrationShell.class, collectionName);
 	}
@@ -66,7 +73,17 @@ public class AasMongoDBBackendProvider implements AasBackendProvider {
 		@SuppressWarnings("unchecked")
 		MongoPersistentEntity<AssetAdministrationShell> entity = (MongoPersistentEntity<AssetAdministrationShell>) mappingContext.getPersistentEntity(AssetAdministrationShell.class);
 		
-		return new SimpleMongoRepository<>(new MappingMongoEntityInformation<>(entity), template);
+		return new PaginatedMongoRepository<>(new MappingMongoEntityInformation<>(entity), template);
+	}
+
+	@Override
+	public VersionStore getVersionStore() {
+		return new MongoDBVersionStore(template, collectionName + MongoDBVersionStore.COLLECTION_SUFFIX);
+	}
+
+	@Override
+	public Outbox getOutbox() {
+		return new MongoDBOutbox(template, collectionName + MongoDBOutbox.COLLECTION_SUFFIX);
 	}
 
 }
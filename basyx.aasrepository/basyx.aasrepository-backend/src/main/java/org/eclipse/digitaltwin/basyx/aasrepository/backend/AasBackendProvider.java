@@ -25,6 +25,10 @@
 package org.eclipse.digitaltwin.basyx.aasrepository.backend;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.version.InMemoryVersionStore;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -33,5 +37,29 @@ import org.springframework.data.repository.CrudRepository;
  * @author mateusmolina, despen
  */
 public interface AasBackendProvider {
+
 	public CrudRepository<AssetAdministrationShell, String> getCrudRepository();
+
+	/**
+	 * Returns the {@link VersionStore} tracking the versions of the
+	 * AASs. Backends shared by several instances should provide a store
+	 * shared by these instances as well.
+	 * 
+	 * @return the VersionStore
+	 */
+	public default VersionStore getVersionStore() {
+		return new InMemoryVersionStore();
+	}
+
+	/**
+	 * Returns the {@link Outbox} queueing the intents that have to be
+	 * propagated for the AASs, e.g. to a Registry. Persistent backends should
+	 * provide a persistent outbox, so that pending intents survive restarts.
+	 * 
+	 * @return the Outbox
+	 */
+	public default Outbox getOutbox() {
+		return new InMemoryOutbox();
+	}
+
 }
@@ -24,9 +24,12 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository.backend;
 
-import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -37,13 +40,18 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.aasservice.AasServiceFactory;
+import org.eclipse.digitaltwin.basyx.core.concurrency.StripedReadWriteLock;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.repository.CrudRepository;
 
@@ -58,12 +66,17 @@ public class CrudAasRepository implements AasRepository {
 
 	private CrudRepository<AssetAdministrationShell, String> aasBackend;
 
+	private VersionStore aasVersions;
+
+	private final StripedReadWriteLock aasLocks = new StripedReadWriteLock();
+
 	private AasServiceFactory aasServiceFactory;
 
 	private String aasRepositoryName = null;
 
 	public CrudAasRepository(AasBackendProvider aasBackendProvider, AasServiceFactory aasServiceFactory) {
 		this.aasBackend = aasBackendProvider.getCrudRepository();
+		this.aasVersions = aasBackendProvider.getVersionStore();
 		this.aasServiceFactory = aasServiceFactory;
 	}
 
@@ -73,8 +86,11 @@ public class CrudAasRepository implements AasRepository {
 		this.aasRepositoryName = aasRepositoryName;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
+		if (aasBackend instanceof CursorPaginatedRepository)
+			return ((CursorPaginatedRepository<AssetAdministrationShell>) aasBackend).findAll(pInfo);
 
 		Iterable<AssetAdministrationShell> iterable = aasBackend.findAll();
 		List<AssetAdministrationShell> allAas = StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
@@ -91,29 +107,93 @@ public class CrudAasRepository implements AasRepository {
 		return aasBackend.findById(aasId).orElseThrow(() -> new ElementDoesNotExistException(aasId));
 	}
 
+	@Override
+	public long getAasVersion(String aasId) throws ElementDoesNotExistException {
+		throwIfAasDoesNotExist(aasId);
+
+		return aasVersions.getVersion(aasId);
+	}
+
 	@Override
 	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException, MissingIdentifierException {
 		throwIfAasIdEmptyOrNull(aas.getId());
-		
-		throwIfAasExists(aas);
 
-		aasBackend.save(aas);
+		aasLocks.write(aas.getId(), () -> {
+			throwIfAasExists(aas);
+
+			aasVersions.incrementVersion(aas.getId());
+
+			aasBackend.save(aas);
+		});
+	}
+
+	@Override
+	public void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException, MissingIdentifierException {
+		shells.stream().map(AssetAdministrationShell::getId).forEach(this::throwIfAasIdEmptyOrNull);
+
+		throwIfHasCollidingIds(shells);
+
+		List<String> aasIds = shells.stream().map(AssetAdministrationShell::getId).collect(Collectors.toList());
+
+		aasLocks.writeAll(aasIds, () -> {
+			throwIfAnyAasExists(shells);
+
+			aasVersions.incrementVersions(aasIds);
+
+			aasBackend.saveAll(shells);
+
+			return null;
+		});
 	}
 
 	@Override
 	public void deleteAas(String aasId) {
-		throwIfAasDoesNotExist(aasId);
+		aasLocks.write(aasId, () -> {
+			throwIfAasDoesNotExist(aasId);
 
-		aasBackend.deleteById(aasId);
+			aasBackend.deleteById(aasId);
+
+			aasVersions.removeVersion(aasId);
+		});
+	}
+
+	@Override
+	public void deleteAas(String aasId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		aasLocks.write(aasId, () -> {
+			throwIfAasDoesNotExist(aasId);
+
+			aasVersions.incrementVersion(aasId, expectedVersion);
+
+			aasBackend.deleteById(aasId);
+
+			aasVersions.removeVersion(aasId);
+		});
 	}
 
 	@Override
 	public void updateAas(String aasId, AssetAdministrationShell aas) {
-		throwIfAasDoesNotExist(aasId);
+		aasLocks.write(aasId, () -> {
+			throwIfAasDoesNotExist(aasId);
+
+			throwIfMismatchingIds(aasId, aas);
+
+			aasVersions.incrementVersion(aasId);
+
+			aasBackend.save(aas);
+		});
+	}
 
-		throwIfMismatchingIds(aasId, aas);
+	@Override
+	public void updateAas(String aasId, AssetAdministrationShell aas, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		aasLocks.write(aasId, () -> {
+			throwIfAasDoesNotExist(aasId);
+
+			throwIfMismatchingIds(aasId, aas);
+
+			aasVersions.incrementVersion(aasId, expectedVersion);
 
-		aasBackend.save(aas);
+			aasBackend.save(aas);
+		});
 	}
 
 	@Override
@@ -123,29 +203,35 @@ public class CrudAasRepository implements AasRepository {
 
 	@Override
 	public void addSubmodelReference(String aasId, Reference submodelReference) {
-		AasService aasService = getAasServiceOrThrow(aasId);
+		aasLocks.write(aasId, () -> {
+			AasService aasService = getAasServiceOrThrow(aasId);
 
-		aasService.addSubmodelReference(submodelReference);
+			aasService.addSubmodelReference(submodelReference);
 
-		updateAas(aasId, aasService.getAAS());
+			updateAas(aasId, aasService.getAAS());
+		});
 	}
 
 	@Override
 	public void removeSubmodelReference(String aasId, String submodelId) {
-		AasService aasService = getAasServiceOrThrow(aasId);
+		aasLocks.write(aasId, () -> {
+			AasService aasService = getAasServiceOrThrow(aasId);
 
-		aasService.removeSubmodelReference(submodelId);
+			aasService.removeSubmodelReference(submodelId);
 
-		updateAas(aasId, aasService.getAAS());
+			updateAas(aasId, aasService.getAAS());
+		});
 	}
 
 	@Override
 	public void setAssetInformation(String aasId, AssetInformation aasInfo) throws ElementDoesNotExistException {
-		AasService aasService = getAasServiceOrThrow(aasId);
+		aasLocks.write(aasId, () -> {
+			AasService aasService = getAasServiceOrThrow(aasId);
 
-		aasService.setAssetInformation(aasInfo);
+			aasService.setAssetInformation(aasInfo);
 
-		updateAas(aasId, aasService.getAAS());
+			updateAas(aasId, aasService.getAAS());
+		});
 	}
 
 	@Override
@@ -160,26 +246,30 @@ public class CrudAasRepository implements AasRepository {
 	}
 
 	@Override
-	public File getThumbnail(String aasId) {
+	public FileResource getThumbnail(String aasId) {
 		return getAasServiceOrThrow(aasId).getThumbnail();
 	}
 
 	@Override
 	public void setThumbnail(String aasId, String fileName, String contentType, InputStream inputStream) {
-		AasService aasService = getAasServiceOrThrow(aasId);
+		aasLocks.write(aasId, () -> {
+			AasService aasService = getAasServiceOrThrow(aasId);
 
-		aasService.setThumbnail(fileName, contentType, inputStream);
+			aasService.setThumbnail(fileName, contentType, inputStream);
 
-		updateAas(aasId, aasService.getAAS());
+			updateAas(aasId, aasService.getAAS());
+		});
 	}
 
 	@Override
 	public void deleteThumbnail(String aasId) {
-		AasService aasService = getAasServiceOrThrow(aasId);
+		aasLocks.write(aasId, () -> {
+			AasService aasService = getAasServiceOrThrow(aasId);
 
-		aasService.deleteThumbnail();
+			aasService.deleteThumbnail();
 
-		updateAas(aasId, aasService.getAAS());
+			updateAas(aasId, aasService.getAAS());
+		});
 	}
 
 	private AasService getAasServiceOrThrow(String aasId) {
@@ -201,6 +291,23 @@ public class CrudAasRepository implements AasRepository {
 			throw new CollidingIdentifierException(aasId);
 	}
 	
+	private void throwIfHasCollidingIds(Collection<AssetAdministrationShell> shells) {
+		Set<String> ids = new HashSet<>();
+
+		shells.stream().map(AssetAdministrationShell::getId).filter(id -> !ids.add(id)).findAny().ifPresent(id -> {
+			throw new CollidingIdentifierException(id);
+		});
+	}
+
+	private void throwIfAnyAasExists(Collection<AssetAdministrationShell> shells) {
+		List<String> ids = shells.stream().map(AssetAdministrationShell::getId).collect(Collectors.toList());
+
+		Iterator<AssetAdministrationShell> existing = aasBackend.findAllById(ids).iterator();
+
+		if (existing.hasNext())
+			throw new CollidingIdentifierException(existing.next().getId());
+	}
+	
 	private void throwIfAasIdEmptyOrNull(String aasId) {
 		if(aasId == null || aasId.isBlank())
 			throw new MissingIdentifierException(aasId);
@@ -26,7 +26,6 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.client;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.List;
 
@@ -41,6 +40,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
@@ -160,7 +160,7 @@ public class ConnectedAasRepository implements AasRepository {
 	}
 
 	@Override
-	public File getThumbnail(String aasId) {
+	public FileResource getThumbnail(String aasId) {
 		return getConnectedAasService(aasId).getThumbnail();
 	}
 
@@ -24,16 +24,21 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
-import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -61,6 +66,23 @@ public interface AasRepository {
 	 */
 	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the current version of the AAS. The version increases with
+	 * every modification of the AAS, so that it can be used to detect changes
+	 * without retrieving the AAS itself.<br>
+	 * <br>
+	 * The default implementation does not support versioning.
+	 * 
+	 * @param aasId
+	 * @return the current version
+	 * @throws ElementDoesNotExistException
+	 * @throws FeatureNotSupportedException
+	 *             if the repository does not track versions
+	 */
+	public default long getAasVersion(String aasId) throws ElementDoesNotExistException {
+		throw new FeatureNotSupportedException("Versioning");
+	}
+
 	/**
 	 * Creates a new AAS at the endpoint
 	 * 
@@ -71,6 +93,31 @@ public interface AasRepository {
 	 */
 	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException, MissingIdentifierException;
 
+	/**
+	 * Creates multiple new AAS in one batch. The default implementation checks
+	 * the ids of all AAS before it creates them one by one.
+	 * 
+	 * @param shells
+	 *            the AAS to be created
+	 * @throws CollidingIdentifierException
+	 * @throws MissingIdentifierException
+	 */
+	public default void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException, MissingIdentifierException {
+		Set<String> aasIds = new HashSet<>();
+
+		for (AssetAdministrationShell aas : shells) {
+			String aasId = aas.getId();
+
+			if (aasId == null || aasId.isBlank())
+				throw new MissingIdentifierException(aasId);
+
+			if (!aasIds.add(aasId) || existsAas(aasId))
+				throw new CollidingIdentifierException(aasId);
+		}
+
+		shells.forEach(this::createAas);
+	}
+
 	/**
 	 * Deletes a specific AAS
 	 * 
@@ -79,6 +126,26 @@ public interface AasRepository {
 	 */
 	public void deleteAas(String aasId);
 
+	/**
+	 * Deletes a AAS, if its version still matches the expected version.
+	 * Implementations compare the version atomically with the deletion.<br>
+	 * <br>
+	 * The default implementation compares the version before the deletion and
+	 * is thus not atomic.
+	 * 
+	 * @param aasId
+	 * @param expectedVersion
+	 *            the version the deletion is based on
+	 * @throws ElementDoesNotExistException
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected version
+	 */
+	public default void deleteAas(String aasId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		throwIfVersionMismatch(aasId, expectedVersion);
+
+		deleteAas(aasId);
+	}
+
 	/**
 	 * Overwrites an existing AAS
 	 * 
@@ -86,6 +153,29 @@ public interface AasRepository {
 	 */
 	public void updateAas(String aasId, AssetAdministrationShell aas);
 
+	/**
+	 * Overwrites an existing AAS, if its version still matches the expected
+	 * version. Implementations compare the version atomically with the write,
+	 * so that concurrent writes based on the same version can not both
+	 * succeed.<br>
+	 * <br>
+	 * The default implementation compares the version before the write and is
+	 * thus not atomic.
+	 * 
+	 * @param aasId
+	 * @param aas
+	 * @param expectedVersion
+	 *            the version the update is based on
+	 * @throws ElementDoesNotExistException
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected version
+	 */
+	public default void updateAas(String aasId, AssetAdministrationShell aas, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		throwIfVersionMismatch(aasId, expectedVersion);
+
+		updateAas(aasId, aas);
+	}
+
 	/**
 	 * Returns a List of References to Submodels
 	 * 
@@ -132,9 +222,9 @@ public interface AasRepository {
 	 * 
 	 * @param aasId
 	 *            the id of the AAS
-	 * @return the file of the thumbnail
+	 * @return the thumbnail, streamed from the file repository when read
 	 */
-	public File getThumbnail(String aasId);
+	public FileResource getThumbnail(String aasId);
 
 	/**
 	 * Set Thumbnail of the AAS
@@ -166,5 +256,20 @@ public interface AasRepository {
 	public default String getName() {
 		return "aas-repo";
 	}
-	
+
+	private void throwIfVersionMismatch(String aasId, long expectedVersion) {
+		if (getAasVersion(aasId) != expectedVersion)
+			throw new VersionMismatchException(aasId);
+	}
+
+	private boolean existsAas(String aasId) {
+		try {
+			getAas(aasId);
+
+			return true;
+		} catch (ElementDoesNotExistException e) {
+			return false;
+		}
+	}
+
 }
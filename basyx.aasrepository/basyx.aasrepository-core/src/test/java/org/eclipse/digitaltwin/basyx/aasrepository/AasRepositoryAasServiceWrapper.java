@@ -25,7 +25,6 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.List;
 
@@ -33,6 +32,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -84,7 +84,7 @@ public class AasRepositoryAasServiceWrapper implements AasService {
 	}
 
 	@Override
-	public File getThumbnail() {
+	public FileResource getThumbnail() {
 		return repoApi.getThumbnail(aasId);
 	}
 
@@ -31,7 +31,6 @@ import org.eclipse.digitaltwin.basyx.aasservice.AasServiceSuite;
 import org.eclipse.digitaltwin.basyx.aasservice.DummyAssetAdministrationShellFactory;
 import org.junit.Test;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -70,7 +69,7 @@ public abstract class AasRepositoryPersistencyTestSuite {
 
 		restartComponent();
 
-		InputStream actualThumbnailIs = new FileInputStream(getAasRepository().getThumbnail(shell.getId()));
+		InputStream actualThumbnailIs = getAasRepository().getThumbnail(shell.getId()).getInputStream();
 
 		InputStream expectedThumbnailIs = AasServiceSuite.createDummyImageIS_A();
 
@@ -101,6 +101,26 @@ public abstract class AasRepositorySuite extends AasServiceSuite {
 		aasRepo.createAas(colliding);
 	}
 	
+	@Test
+	public void createAllAas() {
+		AasRepository aasRepo = getAasRepository();
+		AssetAdministrationShell first = new DefaultAssetAdministrationShell.Builder().id("bulkAas1").build();
+		AssetAdministrationShell second = new DefaultAssetAdministrationShell.Builder().id("bulkAas2").build();
+
+		aasRepo.createAllAas(Arrays.asList(first, second));
+
+		assertEquals(first, aasRepo.getAas(first.getId()));
+		assertEquals(second, aasRepo.getAas(second.getId()));
+	}
+
+	@Test(expected = CollidingIdentifierException.class)
+	public void createAllAasWithCollidingIdentifier() {
+		AssetAdministrationShell colliding = DummyAasFactory.createAasWithSubmodelReference();
+		AasRepository aasRepo = getAasRepository(Collections.singleton(colliding));
+
+		aasRepo.createAllAas(Arrays.asList(new DefaultAssetAdministrationShell.Builder().id("bulkAas").build(), colliding));
+	}
+
 	@Test(expected = MissingIdentifierException.class)
 	public void createWithEmptyAasIdentifier() {
 		AasRepository aasRepo = getAasRepository();
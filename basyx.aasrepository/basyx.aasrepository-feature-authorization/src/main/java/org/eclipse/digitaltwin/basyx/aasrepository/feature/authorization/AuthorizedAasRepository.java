@@ -25,10 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.authorization;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -40,6 +40,7 @@ import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacPermissionResolver;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.InsufficientPermissionException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -78,6 +79,15 @@ public class AuthorizedAasRepository implements AasRepository {
 		return decorated.getAas(shellId);
 	}
 
+	@Override
+	public long getAasVersion(String shellId) throws ElementDoesNotExistException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasTargetInformation(getIdAsList(shellId)));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.getAasVersion(shellId);
+	}
+
 	@Override
 	public void createAas(AssetAdministrationShell shell) throws CollidingIdentifierException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new AasTargetInformation(getIdAsList(shell.getId())));
@@ -87,6 +97,17 @@ public class AuthorizedAasRepository implements AasRepository {
 		decorated.createAas(shell);
 	}
 
+	@Override
+	public void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException {
+		for (AssetAdministrationShell shell : shells) {
+			boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new AasTargetInformation(getIdAsList(shell.getId())));
+			
+			throwExceptionIfInsufficientPermission(isAuthorized);
+		}
+		
+		decorated.createAllAas(shells);
+	}
+
 	@Override
 	public void updateAas(String shellId, AssetAdministrationShell shell) {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new AasTargetInformation(getIdAsList(shellId)));
@@ -96,6 +117,15 @@ public class AuthorizedAasRepository implements AasRepository {
 		decorated.updateAas(shellId, shell);
 	}
 
+	@Override
+	public void updateAas(String shellId, AssetAdministrationShell shell, long expectedVersion) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new AasTargetInformation(getIdAsList(shellId)));
+		
+		throwExceptionIfInsufficientPermission(isAuthorized);
+		
+		decorated.updateAas(shellId, shell, expectedVersion);
+	}
+
 	@Override
 	public void deleteAas(String shellId) {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.DELETE, new AasTargetInformation(getIdAsList(shellId)));
@@ -105,6 +135,15 @@ public class AuthorizedAasRepository implements AasRepository {
 		decorated.deleteAas(shellId);
 	}
 
+	@Override
+	public void deleteAas(String shellId, long expectedVersion) {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.DELETE, new AasTargetInformation(getIdAsList(shellId)));
+		
+		throwExceptionIfInsufficientPermission(isAuthorized);
+		
+		decorated.deleteAas(shellId, expectedVersion);
+	}
+
 	@Override
 	public CursorResult<List<Reference>> getSubmodelReferences(String shellId, PaginationInfo paginationInfo) {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasTargetInformation(getIdAsList(shellId)));
@@ -151,7 +190,7 @@ public class AuthorizedAasRepository implements AasRepository {
 	}
 
 	@Override
-	public File getThumbnail(String shellId) {
+	public FileResource getThumbnail(String shellId) {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new AasTargetInformation(getIdAsList(shellId)));
 		
 		throwExceptionIfInsufficientPermission(isAuthorized);
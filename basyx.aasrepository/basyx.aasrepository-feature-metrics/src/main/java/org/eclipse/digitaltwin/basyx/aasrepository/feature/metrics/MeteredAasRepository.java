@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.feature.metrics;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Decorator recording latency, errors and payload sizes of the operations of
+ * an {@link AasRepository}
+ * 
+ * @author danish
+ */
+public class MeteredAasRepository implements AasRepository {
+
+	private final AasRepository decorated;
+	private final OperationMetrics metrics;
+
+	public MeteredAasRepository(AasRepository decorated, OperationMetrics metrics) {
+		this.decorated = decorated;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
+		CursorResult<List<AssetAdministrationShell>> result = metrics.record("getAllAas", () -> decorated.getAllAas(pInfo));
+		metrics.recordPayload("getAllAas", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public AssetAdministrationShell getAas(String aasId) throws ElementDoesNotExistException {
+		AssetAdministrationShell aas = metrics.record("getAas", () -> decorated.getAas(aasId));
+		metrics.recordPayload("getAas", countSubmodelReferences(aas));
+		return aas;
+	}
+
+	@Override
+	public long getAasVersion(String aasId) throws ElementDoesNotExistException {
+		return metrics.record("getAasVersion", () -> decorated.getAasVersion(aasId));
+	}
+
+	@Override
+	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException, MissingIdentifierException {
+		metrics.recordPayload("createAas", countSubmodelReferences(aas));
+		metrics.record("createAas", () -> decorated.createAas(aas));
+	}
+
+	@Override
+	public void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException, MissingIdentifierException {
+		metrics.recordPayload("createAllAas", shells.size());
+		metrics.record("createAllAas", () -> decorated.createAllAas(shells));
+	}
+
+	@Override
+	public void deleteAas(String aasId) {
+		metrics.record("deleteAas", () -> decorated.deleteAas(aasId));
+	}
+
+	@Override
+	public void deleteAas(String aasId, long expectedVersion) {
+		metrics.record("deleteAas", () -> decorated.deleteAas(aasId, expectedVersion));
+	}
+
+	@Override
+	public void updateAas(String aasId, AssetAdministrationShell aas) {
+		metrics.recordPayload("updateAas", countSubmodelReferences(aas));
+		metrics.record("updateAas", () -> decorated.updateAas(aasId, aas));
+	}
+
+	@Override
+	public void updateAas(String aasId, AssetAdministrationShell aas, long expectedVersion) {
+		metrics.recordPayload("updateAas", countSubmodelReferences(aas));
+		metrics.record("updateAas", () -> decorated.updateAas(aasId, aas, expectedVersion));
+	}
+
+	@Override
+	public CursorResult<List<Reference>> getSubmodelReferences(String aasId, PaginationInfo pInfo) {
+		CursorResult<List<Reference>> result = metrics.record("getSubmodelReferences", () -> decorated.getSubmodelReferences(aasId, pInfo));
+		metrics.recordPayload("getSubmodelReferences", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public void addSubmodelReference(String aasId, Reference submodelReference) {
+		metrics.record("addSubmodelReference", () -> decorated.addSubmodelReference(aasId, submodelReference));
+	}
+
+	@Override
+	public void removeSubmodelReference(String aasId, String submodelId) {
+		metrics.record("removeSubmodelReference", () -> decorated.removeSubmodelReference(aasId, submodelId));
+	}
+
+	@Override
+	public void setAssetInformation(String aasId, AssetInformation aasInfo) throws ElementDoesNotExistException {
+		metrics.record("setAssetInformation", () -> decorated.setAssetInformation(aasId, aasInfo));
+	}
+
+	@Override
+	public AssetInformation getAssetInformation(String aasId) throws ElementDoesNotExistException {
+		return metrics.record("getAssetInformation", () -> decorated.getAssetInformation(aasId));
+	}
+
+	@Override
+	public FileResource getThumbnail(String aasId) {
+		return metrics.record("getThumbnail", () -> decorated.getThumbnail(aasId));
+	}
+
+	@Override
+	public void setThumbnail(String aasId, String fileName, String contentType, InputStream inputStream) {
+		metrics.record("setThumbnail", () -> decorated.setThumbnail(aasId, fileName, contentType, inputStream));
+	}
+
+	@Override
+	public void deleteThumbnail(String aasId) {
+		metrics.record("deleteThumbnail", () -> decorated.deleteThumbnail(aasId));
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	private static int countSubmodelReferences(AssetAdministrationShell aas) {
+		if (aas.getSubmodels() == null)
+			return 0;
+
+		return aas.getSubmodels().size();
+	}
+}
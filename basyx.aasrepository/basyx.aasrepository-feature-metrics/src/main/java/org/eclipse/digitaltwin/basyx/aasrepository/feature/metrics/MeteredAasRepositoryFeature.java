@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.feature.metrics;
+
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.aasrepository.feature.AasRepositoryFeature;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Repository feature recording Micrometer metrics of the AasRepository
+ * operations. It is applied last, so that the latency of all other features is
+ * included.
+ * 
+ * @author danish
+ */
+@ConditionalOnExpression("#{${" + MeteredAasRepositoryFeature.FEATURENAME + ".enabled:false} or ${basyx.feature.metrics.enabled:false}}")
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class MeteredAasRepositoryFeature implements AasRepositoryFeature {
+	public final static String FEATURENAME = "basyx.aasrepository.feature.metrics";
+	public final static String COMPONENT = "aas-repo";
+
+	@Value("#{${" + FEATURENAME + ".enabled:false} or ${basyx.feature.metrics.enabled:false}}")
+	private boolean enabled;
+
+	private final OperationMetrics metrics;
+
+	@Autowired
+	public MeteredAasRepositoryFeature(ObjectProvider<MeterRegistry> meterRegistry, @Value("${basyx.backend:unknown}") String backend) {
+		this.metrics = new OperationMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), COMPONENT, backend);
+	}
+
+	@Override
+	public AasRepositoryFactory decorate(AasRepositoryFactory aasRepositoryFactory) {
+		return new MeteredAasRepositoryFactory(aasRepositoryFactory, metrics);
+	}
+
+	@Override
+	public void initialize() {
+	}
+
+	@Override
+	public void cleanUp() {
+
+	}
+
+	@Override
+	public String getName() {
+		return "AasRepository Metrics";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
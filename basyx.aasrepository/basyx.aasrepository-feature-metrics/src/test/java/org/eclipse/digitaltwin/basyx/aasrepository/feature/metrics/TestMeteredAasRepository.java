@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.feature.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.SimpleAasRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.inmemory.AasInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link MeteredAasRepository}
+ * 
+ * @author danish
+ */
+public class TestMeteredAasRepository {
+
+	private static final String AAS_ID = "meteredAas";
+
+	private SimpleMeterRegistry registry;
+	private AasRepository repository;
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+
+		SimpleAasRepositoryFactory backendFactory = new SimpleAasRepositoryFactory(new AasInMemoryBackendProvider(), new InMemoryAasServiceFactory(new InMemoryFileRepository()));
+		repository = new MeteredAasRepositoryFactory(backendFactory, new OperationMetrics(registry, MeteredAasRepositoryFeature.COMPONENT, "InMemory")).create();
+
+		DefaultReference submodelReference = new DefaultReference.Builder().type(ReferenceTypes.MODEL_REFERENCE).keys(new DefaultKey.Builder().type(KeyTypes.SUBMODEL).value("submodel").build()).build();
+		repository.createAas(new DefaultAssetAdministrationShell.Builder().id(AAS_ID).submodels(List.of(submodelReference)).build());
+	}
+
+	@Test
+	public void latencyAndPayloadAreRecorded() {
+		repository.getAas(AAS_ID);
+
+		assertEquals(1, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "getAas").tag(OperationMetrics.TAG_COMPONENT, "aas-repo").timer().count());
+		assertEquals(1, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAas").summary().totalAmount(), 0);
+		assertEquals(1, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "createAas").summary().totalAmount(), 0);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void errorIsCounted() {
+		try {
+			repository.deleteAas("nonExisting");
+		} finally {
+			assertEquals(1, registry.get(OperationMetrics.ERRORS).tag(OperationMetrics.TAG_OPERATION, "deleteAas").tag(OperationMetrics.TAG_EXCEPTION, "ElementDoesNotExistException").counter().count(), 0);
+		}
+	}
+}
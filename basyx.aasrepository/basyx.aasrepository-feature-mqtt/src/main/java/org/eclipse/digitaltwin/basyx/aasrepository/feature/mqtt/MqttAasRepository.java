@@ -24,8 +24,8 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 
-import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
@@ -34,16 +34,14 @@ import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttException;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
-import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Observer for the AASAggregator that triggers MQTT events for different
@@ -53,17 +51,22 @@ import org.slf4j.LoggerFactory;
  *
  */
 public class MqttAasRepository implements AasRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttAasRepository.class);
+	private static final JsonSerializer SERIALIZER = new JsonSerializer();
+
 	private MqttAasRepositoryTopicFactory topicFactory;
 
 	private AasRepository decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher eventPublisher;
 
 	public MqttAasRepository(AasRepository decorated, IMqttClient mqttClient, MqttAasRepositoryTopicFactory topicFactory) {
+		this(decorated, new SynchronousMqttEventPublisher(mqttClient), topicFactory);
+	}
+
+	public MqttAasRepository(AasRepository decorated, MqttEventPublisher eventPublisher, MqttAasRepositoryTopicFactory topicFactory) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -76,18 +79,35 @@ public class MqttAasRepository implements AasRepository {
 		return decorated.getAas(aasId);
 	}
 
+	@Override
+	public long getAasVersion(String aasId) throws ElementDoesNotExistException {
+		return decorated.getAasVersion(aasId);
+	}
+
 	@Override
 	public void createAas(AssetAdministrationShell aas) throws CollidingIdentifierException {
 		decorated.createAas(aas);
 		aasCreated(aas, getName());
 	}
 
+	@Override
+	public void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException {
+		decorated.createAllAas(shells);
+		shells.forEach(aas -> aasCreated(aas, getName()));
+	}
+
 	@Override
 	public void updateAas(String aasId, AssetAdministrationShell aas) {
 		decorated.updateAas(aasId, aas);
 		aasUpdated(aas, getName());
 	}
 
+	@Override
+	public void updateAas(String aasId, AssetAdministrationShell aas, long expectedVersion) {
+		decorated.updateAas(aasId, aas, expectedVersion);
+		aasUpdated(aas, getName());
+	}
+
 	@Override
 	public void deleteAas(String aasId) {
 		AssetAdministrationShell shell = decorated.getAas(aasId);
@@ -95,6 +115,13 @@ public class MqttAasRepository implements AasRepository {
 		aasDeleted(shell, getName());
 	}
 
+	@Override
+	public void deleteAas(String aasId, long expectedVersion) {
+		AssetAdministrationShell shell = decorated.getAas(aasId);
+		decorated.deleteAas(aasId, expectedVersion);
+		aasDeleted(shell, getName());
+	}
+
 	@Override
 	public String getName() {
 		return decorated.getName();
@@ -126,56 +153,27 @@ public class MqttAasRepository implements AasRepository {
 	}
 
 	private void aasCreated(AssetAdministrationShell shell, String repoId) {
-		sendMqttMessage(topicFactory.createCreateAASTopic(repoId), serializePayload(shell));
+		eventPublisher.publish(topicFactory.createCreateAASTopic(repoId), () -> serializePayload(shell));
 	}
 
 	private void aasUpdated(AssetAdministrationShell shell, String repoId) {
-		sendMqttMessage(topicFactory.createUpdateAASTopic(repoId), serializePayload(shell));
+		eventPublisher.publish(topicFactory.createUpdateAASTopic(repoId), () -> serializePayload(shell));
 	}
 
 	private void aasDeleted(AssetAdministrationShell shell, String repoId) {
-		sendMqttMessage(topicFactory.createDeleteAASTopic(repoId), serializePayload(shell));
+		eventPublisher.publish(topicFactory.createDeleteAASTopic(repoId), () -> serializePayload(shell));
 	}
 
 	private String serializePayload(AssetAdministrationShell shell) {
 		try {
-			return new JsonSerializer().write(shell);
+			return SERIALIZER.write(shell);
 		} catch (SerializationException e) {
 			throw new RuntimeException(e);
 		}
 	}
 
-	/**
-	 * Sends MQTT message to connected broker
-	 * 
-	 * @param topic
-	 *            in which the message will be published
-	 * @param payload
-	 *            the actual message
-	 */
-	private void sendMqttMessage(String topic, String payload) {
-		MqttMessage msg = createMqttMessage(payload);
-
-		try {
-			logger.debug("Send MQTT message to " + topic + ": " + payload);
-			mqttClient.publish(topic, msg);
-		} catch (MqttPersistenceException e) {
-			logger.error("Could not persist mqtt message", e);
-		} catch (MqttException e) {
-			logger.error("Could not send mqtt message", e);
-		}
-	}
-
-	private MqttMessage createMqttMessage(String payload) {
-		if (payload == null) {
-			return new MqttMessage();
-		} else {
-			return new MqttMessage(payload.getBytes());
-		}
-	}
-
 	@Override
-	public File getThumbnail(String aasId) {
+	public FileResource getThumbnail(String aasId) {
 		return decorated.getThumbnail(aasId);
 	}
 
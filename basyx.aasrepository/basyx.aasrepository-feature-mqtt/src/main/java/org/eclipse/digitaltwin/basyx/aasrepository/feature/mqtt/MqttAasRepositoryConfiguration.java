@@ -26,6 +26,7 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisherConfiguration;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
 import org.eclipse.paho.client.mqttv3.MqttClient;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
@@ -37,9 +38,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 @ConditionalOnExpression("#{${" + MqttAasRepositoryFeature.FEATURENAME + ".enabled:false} or ${basyx.feature.mqtt.enabled:false}}")
 @Configuration
+@Import(MqttEventPublisherConfiguration.class)
 public class MqttAasRepositoryConfiguration {
 
 	@ConditionalOnMissingBean
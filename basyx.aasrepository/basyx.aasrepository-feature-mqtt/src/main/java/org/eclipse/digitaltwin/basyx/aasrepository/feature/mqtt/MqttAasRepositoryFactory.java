@@ -28,23 +28,29 @@ package org.eclipse.digitaltwin.basyx.aasrepository.feature.mqtt;
 
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
 
 public class MqttAasRepositoryFactory implements AasRepositoryFactory {
 
 	private AasRepositoryFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher eventPublisher;
 	private MqttAasRepositoryTopicFactory topicFactory;
 
 	public MqttAasRepositoryFactory(AasRepositoryFactory decorated, IMqttClient client, MqttAasRepositoryTopicFactory topicFactory) {
+		this(decorated, new SynchronousMqttEventPublisher(client), topicFactory);
+	}
+
+	public MqttAasRepositoryFactory(AasRepositoryFactory decorated, MqttEventPublisher eventPublisher, MqttAasRepositoryTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.eventPublisher = eventPublisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public AasRepository create() {
-		return new MqttAasRepository(decorated.create(), client, topicFactory);
+		return new MqttAasRepository(decorated.create(), eventPublisher, topicFactory);
 	}
 
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration;
+
+import java.net.HttpURLConnection;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.basyx.aasregistry.client.ApiException;
+import org.eclipse.digitaltwin.basyx.aasregistry.client.api.RegistryAndDiscoveryInterfaceApi;
+import org.eclipse.digitaltwin.basyx.aasregistry.client.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration.mapper.AttributeMapper;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryLinkException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryUnlinkException;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Propagates the queued intents of the {@link AasRepository} to the
+ * AasRegistry. <br>
+ * <br>
+ * The descriptor of an upsert is created from the current state of the shell,
+ * so that several coalesced modifications result in a single Registry call.
+ * Both intents are idempotent: an existing descriptor is replaced and a
+ * descriptor that does not exist anymore is not un-linked.
+ * 
+ * @author danish
+ */
+public class AasRegistryOutboxSender implements OutboxSender {
+	private static Logger logger = LoggerFactory.getLogger(AasRegistryOutboxSender.class);
+
+	private AasRepository aasRepository;
+	private AasRepositoryRegistryLink aasRepositoryRegistryLink;
+	private AttributeMapper attributeMapper;
+
+	public AasRegistryOutboxSender(AasRepository aasRepository, AasRepositoryRegistryLink aasRepositoryRegistryLink, AttributeMapper attributeMapper) {
+		this.aasRepository = aasRepository;
+		this.aasRepositoryRegistryLink = aasRepositoryRegistryLink;
+		this.attributeMapper = attributeMapper;
+	}
+
+	@Override
+	public void send(OutboxEntry entry) {
+		switch (entry.getAction()) {
+		case UPSERT:
+			link(entry.getId());
+			break;
+		case DELETE:
+			unlink(entry.getId());
+			break;
+		}
+	}
+
+	private void link(String shellId) {
+		AssetAdministrationShell shell;
+		try {
+			shell = aasRepository.getAas(shellId);
+		} catch (ElementDoesNotExistException e) {
+			logger.debug("Shell '{}' does not exist anymore and is not linked with the Registry", shellId);
+
+			return;
+		}
+
+		AssetAdministrationShellDescriptor descriptor = new AasDescriptorFactory(shell, aasRepositoryRegistryLink.getAasRepositoryBaseURL(), attributeMapper).create();
+
+		RegistryAndDiscoveryInterfaceApi registryApi = aasRepositoryRegistryLink.getRegistryApi();
+
+		try {
+			postOrReplace(registryApi, descriptor);
+
+			logger.info("Shell '{}' has been automatically linked with the Registry", shellId);
+		} catch (ApiException e) {
+			throw new RepositoryRegistryLinkException(shellId, e);
+		}
+	}
+
+	private void postOrReplace(RegistryAndDiscoveryInterfaceApi registryApi, AssetAdministrationShellDescriptor descriptor) throws ApiException {
+		try {
+			registryApi.postAssetAdministrationShellDescriptor(descriptor);
+		} catch (ApiException e) {
+			if (e.getCode() != HttpURLConnection.HTTP_CONFLICT)
+				throw e;
+
+			registryApi.putAssetAdministrationShellDescriptorById(descriptor.getId(), descriptor);
+		}
+	}
+
+	private void unlink(String shellId) {
+		try {
+			aasRepositoryRegistryLink.getRegistryApi().deleteAssetAdministrationShellDescriptorById(shellId);
+
+			logger.info("Shell '{}' has been automatically un-linked from the Registry.", shellId);
+		} catch (ApiException e) {
+			if (e.getCode() == HttpURLConnection.HTTP_NOT_FOUND)
+				return;
+
+			throw new RepositoryRegistryUnlinkException(shellId, e);
+		}
+	}
+
+}
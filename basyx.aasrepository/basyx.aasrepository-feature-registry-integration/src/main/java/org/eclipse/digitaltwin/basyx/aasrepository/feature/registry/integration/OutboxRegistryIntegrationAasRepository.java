@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (C) 2021 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry.Action;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Decorator for linking {@link AasRepository} with AasRegistry
+ * asynchronously. <br>
+ * <br>
+ * Instead of calling the Registry within the write, the intent to link or
+ * un-link a shell is queued in an {@link Outbox} after the write succeeded.
+ * The intents are propagated in the background by an {@link OutboxProcessor}
+ * using the {@link AasRegistryOutboxSender}, so that a slow or unavailable
+ * Registry neither delays nor fails the write.
+ *
+ * @author danish
+ *
+ */
+public class OutboxRegistryIntegrationAasRepository implements AasRepository {
+
+	private AasRepository decorated;
+	private Outbox outbox;
+
+	public OutboxRegistryIntegrationAasRepository(AasRepository decorated, Outbox outbox) {
+		this.decorated = decorated;
+		this.outbox = outbox;
+	}
+
+	@Override
+	public CursorResult<List<AssetAdministrationShell>> getAllAas(PaginationInfo pInfo) {
+		return decorated.getAllAas(pInfo);
+	}
+
+	@Override
+	public AssetAdministrationShell getAas(String shellId) throws ElementDoesNotExistException {
+		return decorated.getAas(shellId);
+	}
+
+	@Override
+	public long getAasVersion(String shellId) throws ElementDoesNotExistException {
+		return decorated.getAasVersion(shellId);
+	}
+
+	@Override
+	public void createAas(AssetAdministrationShell shell) throws CollidingIdentifierException {
+		decorated.createAas(shell);
+
+		outbox.enqueue(shell.getId(), Action.UPSERT);
+	}
+
+	@Override
+	public void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException {
+		decorated.createAllAas(shells);
+
+		outbox.enqueueAll(shells.stream().map(AssetAdministrationShell::getId).collect(Collectors.toList()), Action.UPSERT);
+	}
+
+	@Override
+	public void updateAas(String shellId, AssetAdministrationShell shell) {
+		decorated.updateAas(shellId, shell);
+
+		outbox.enqueue(shellId, Action.UPSERT);
+	}
+
+	@Override
+	public void updateAas(String shellId, AssetAdministrationShell shell, long expectedVersion) {
+		decorated.updateAas(shellId, shell, expectedVersion);
+
+		outbox.enqueue(shellId, Action.UPSERT);
+	}
+
+	@Override
+	public void deleteAas(String shellId) {
+		decorated.deleteAas(shellId);
+
+		outbox.enqueue(shellId, Action.DELETE);
+	}
+
+	@Override
+	public void deleteAas(String shellId, long expectedVersion) {
+		decorated.deleteAas(shellId, expectedVersion);
+
+		outbox.enqueue(shellId, Action.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	@Override
+	public CursorResult<List<Reference>> getSubmodelReferences(String shellId, PaginationInfo paginationInfo) {
+		return decorated.getSubmodelReferences(shellId, paginationInfo);
+	}
+
+	@Override
+	public void addSubmodelReference(String shellId, Reference submodelReference) {
+		decorated.addSubmodelReference(shellId, submodelReference);
+	}
+
+	@Override
+	public void removeSubmodelReference(String shellId, String submodelId) {
+		decorated.removeSubmodelReference(shellId, submodelId);
+	}
+
+	@Override
+	public void setAssetInformation(String shellId, AssetInformation shellInfo) throws ElementDoesNotExistException {
+		decorated.setAssetInformation(shellId, shellInfo);
+
+		outbox.enqueue(shellId, Action.UPSERT);
+	}
+
+	@Override
+	public AssetInformation getAssetInformation(String shellId) throws ElementDoesNotExistException {
+		return decorated.getAssetInformation(shellId);
+	}
+
+	@Override
+	public FileResource getThumbnail(String aasId) {
+		return decorated.getThumbnail(aasId);
+	}
+
+	@Override
+	public void setThumbnail(String aasId, String fileName, String contentType, InputStream inputStream) {
+		decorated.setThumbnail(aasId, fileName, contentType, inputStream);
+	}
+
+	@Override
+	public void deleteThumbnail(String aasId) {
+		decorated.deleteThumbnail(aasId);
+	}
+
+}
@@ -24,8 +24,8 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration;
 
-import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
@@ -40,6 +40,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryLinkException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryUnlinkException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.slf4j.Logger;
@@ -75,6 +76,11 @@ public class RegistryIntegrationAasRepository implements AasRepository {
 		return decorated.getAas(shellId);
 	}
 
+	@Override
+	public long getAasVersion(String shellId) throws ElementDoesNotExistException {
+		return decorated.getAasVersion(shellId);
+	}
+
 	@Override
 	public void createAas(AssetAdministrationShell shell) throws CollidingIdentifierException {
 		decorated.createAas(shell);
@@ -82,11 +88,23 @@ public class RegistryIntegrationAasRepository implements AasRepository {
 		integrateAasWithRegistry(shell, aasRepositoryRegistryLink.getAasRepositoryBaseURL());
 	}
 
+	@Override
+	public void createAllAas(Collection<AssetAdministrationShell> shells) throws CollidingIdentifierException {
+		decorated.createAllAas(shells);
+
+		shells.forEach(shell -> integrateAasWithRegistry(shell, aasRepositoryRegistryLink.getAasRepositoryBaseURL()));
+	}
+
 	@Override
 	public void updateAas(String shellId, AssetAdministrationShell shell) {
 		decorated.updateAas(shellId, shell);
 	}
 
+	@Override
+	public void updateAas(String shellId, AssetAdministrationShell shell, long expectedVersion) {
+		decorated.updateAas(shellId, shell, expectedVersion);
+	}
+
 	@Override
 	public void deleteAas(String shellId) {
 		deleteFromRegistry(shellId);
@@ -94,6 +112,13 @@ public class RegistryIntegrationAasRepository implements AasRepository {
 		decorated.deleteAas(shellId);
 	}
 
+	@Override
+	public void deleteAas(String shellId, long expectedVersion) {
+		decorated.deleteAas(shellId, expectedVersion);
+
+		deleteFromRegistry(shellId);
+	}
+
 	@Override
 	public String getName() {
 		return decorated.getName();
@@ -167,7 +192,7 @@ public class RegistryIntegrationAasRepository implements AasRepository {
 	}
 
 	@Override
-	public File getThumbnail(String aasId) {
+	public FileResource getThumbnail(String aasId) {
 		return decorated.getThumbnail(aasId);
 	}
 
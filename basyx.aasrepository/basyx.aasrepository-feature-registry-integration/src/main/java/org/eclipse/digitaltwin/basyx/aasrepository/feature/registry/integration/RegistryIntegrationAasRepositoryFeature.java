@@ -26,24 +26,51 @@
 
 package org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
 import org.eclipse.digitaltwin.basyx.aasrepository.AasRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.AasBackendProvider;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.AasRepositoryFeature;
 import org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration.mapper.AttributeMapper;
+import org.eclipse.digitaltwin.basyx.common.metrics.OutboxMetrics;
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxSender;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
- * Feature for integrating Registry with {@link AasRepository}
+ * Feature for integrating Registry with {@link AasRepository}. <br>
+ * <br>
+ * If the outbox mode is enabled, descriptors are linked and un-linked
+ * asynchronously through the {@link Outbox} of the backend instead of within
+ * the repository writes. <br>
+ * <br>
+ * The feature is applied before the authorization, so that the outbox
+ * sender, which runs without a security context, reads the Asset
+ * Administration Shells from a repository that does not check permissions.
  * 
  * @author danish
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @ConditionalOnExpression("!T(org.springframework.util.StringUtils).isEmpty('${basyx.aasrepository.feature.registryintegration:}') && !T(org.springframework.util.StringUtils).isEmpty('${basyx.externalurl:}')")
-public class RegistryIntegrationAasRepositoryFeature implements AasRepositoryFeature {
+public class RegistryIntegrationAasRepositoryFeature implements AasRepositoryFeature, DisposableBean {
 	public final static String FEATURENAME = "basyx.aasrepository.feature.registryintegration";
+	public final static String OUTBOX = FEATURENAME + ".outbox";
+
+	private static final String OUTBOX_NAME = "aas-registry";
 
 	private AasRepositoryRegistryLink aasRepositoryRegistryLink;
 	
@@ -53,17 +80,45 @@ public class RegistryIntegrationAasRepositoryFeature implements AasRepositoryFea
 	@Value("${basyx.externalurl:}")
 	private String aasRepositoryExternalBaseURL;
 	
+	@Value("${" + OUTBOX + ".enabled:false}")
+	private boolean outboxEnabled;
+
+	@Value("${" + OUTBOX + ".batchSize:100}")
+	private int outboxBatchSize;
+
+	@Value("${" + OUTBOX + ".pollIntervalMillis:1000}")
+	private long outboxPollIntervalMillis;
+
+	@Value("${" + OUTBOX + ".initialBackoffMillis:1000}")
+	private long outboxInitialBackoffMillis;
+
+	@Value("${" + OUTBOX + ".maximumBackoffMillis:60000}")
+	private long outboxMaximumBackoffMillis;
+
 	private AttributeMapper attributeMapper;
 
+	private ObjectProvider<AasBackendProvider> backendProvider;
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private Outbox outbox;
+	private List<OutboxProcessor> outboxProcessors = new CopyOnWriteArrayList<>();
+
 	@Autowired
-	public RegistryIntegrationAasRepositoryFeature(AasRepositoryRegistryLink aasRepositoryRegistryLink, AttributeMapper attributeMapper) {
+	public RegistryIntegrationAasRepositoryFeature(AasRepositoryRegistryLink aasRepositoryRegistryLink, AttributeMapper attributeMapper, ObjectProvider<AasBackendProvider> backendProvider, ObjectProvider<MeterRegistry> meterRegistry) {
 		this.aasRepositoryRegistryLink = aasRepositoryRegistryLink;
 		this.attributeMapper = attributeMapper;
+		this.backendProvider = backendProvider;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Override
 	public AasRepositoryFactory decorate(AasRepositoryFactory aasRepositoryFactory) {
-		return new RegistryIntegrationAasRepositoryFactory(aasRepositoryFactory, aasRepositoryRegistryLink, attributeMapper);
+		if (!outboxEnabled)
+			return new RegistryIntegrationAasRepositoryFactory(aasRepositoryFactory, aasRepositoryRegistryLink, attributeMapper);
+
+		outbox = createOutbox();
+
+		return new OutboxRegistryIntegrationAasRepositoryFactory(aasRepositoryFactory, outbox, aasRepositoryRegistryLink, attributeMapper, this::startOutboxProcessor);
 	}
 
 	@Override
@@ -72,7 +127,13 @@ public class RegistryIntegrationAasRepositoryFeature implements AasRepositoryFea
 
 	@Override
 	public void cleanUp() {
+		outboxProcessors.forEach(OutboxProcessor::close);
+		outboxProcessors.clear();
+	}
 
+	@Override
+	public void destroy() {
+		cleanUp();
 	}
 
 	@Override
@@ -84,4 +145,22 @@ public class RegistryIntegrationAasRepositoryFeature implements AasRepositoryFea
 	public boolean isEnabled() {
 		return !registryBaseURL.isBlank() && !aasRepositoryExternalBaseURL.isBlank();
 	}
+
+	private Outbox createOutbox() {
+		AasBackendProvider provider = backendProvider.getIfAvailable();
+
+		if (provider == null)
+			return new InMemoryOutbox();
+
+		return provider.getOutbox();
+	}
+
+	private void startOutboxProcessor(OutboxSender sender) {
+		OutboxProcessor processor = new OutboxProcessor(OUTBOX_NAME, outbox, sender, outboxBatchSize, outboxPollIntervalMillis, outboxInitialBackoffMillis, outboxMaximumBackoffMillis);
+
+		meterRegistry.ifAvailable(registry -> OutboxMetrics.bind(registry, processor));
+
+		outboxProcessors.add(processor);
+		processor.start();
+	}
 }
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.basyx.aasregistry.client.ApiException;
+import org.eclipse.digitaltwin.basyx.aasregistry.client.api.RegistryAndDiscoveryInterfaceApi;
+import org.eclipse.digitaltwin.basyx.aasregistry.client.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.basyx.aasrepository.AasRepository;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.SimpleAasRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.inmemory.AasInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.aasrepository.feature.registry.integration.mapper.AttributeMapper;
+import org.eclipse.digitaltwin.basyx.aasservice.backend.InMemoryAasServiceFactory;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+import org.eclipse.digitaltwin.basyx.http.Aas4JHTTPSerializationExtension;
+import org.eclipse.digitaltwin.basyx.http.BaSyxHTTPConfiguration;
+import org.eclipse.digitaltwin.basyx.http.SerializationExtension;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the outbox mode of the registry integration, i.e.
+ * {@link OutboxRegistryIntegrationAasRepository} together with the
+ * {@link AasRegistryOutboxSender}
+ * 
+ * @author danish
+ */
+public class TestOutboxRegistryIntegrationAasRepository {
+
+	private static final String REPOSITORY_URL = "http://localhost:8081";
+
+	private InMemoryRegistryApi registryApi;
+	private InMemoryOutbox outbox;
+	private OutboxProcessor processor;
+	private AasRepository repository;
+
+	@Before
+	public void setUp() {
+		registryApi = new InMemoryRegistryApi();
+		outbox = new InMemoryOutbox();
+
+		SimpleAasRepositoryFactory backendFactory = new SimpleAasRepositoryFactory(new AasInMemoryBackendProvider(), new InMemoryAasServiceFactory(new InMemoryFileRepository()));
+		AasRepositoryRegistryLink link = new AasRepositoryRegistryLink(registryApi, REPOSITORY_URL);
+
+		repository = new OutboxRegistryIntegrationAasRepositoryFactory(backendFactory, outbox, link, createAttributeMapper(), sender -> processor = new OutboxProcessor("test", outbox, sender, 2, 1000, 0, 0)).create();
+	}
+
+	@Test
+	public void writesDoNotCallRegistry() {
+		registryApi.available = false;
+
+		repository.createAas(createShell("a", "first"));
+		repository.deleteAas("a");
+
+		assertEquals(0, registryApi.calls);
+		assertEquals(1, outbox.size());
+	}
+
+	@Test
+	public void coalescedIntentsAreSentOnce() {
+		repository.createAas(createShell("a", "first"));
+		repository.updateAas("a", createShell("a", "second"));
+
+		processor.drain();
+
+		assertEquals(1, registryApi.calls);
+		assertEquals("second", registryApi.descriptors.get("a").getIdShort());
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void createdAndDeletedShellIsNotLinked() {
+		repository.createAas(createShell("a", "first"));
+		repository.deleteAas("a");
+
+		processor.drain();
+
+		assertFalse(registryApi.descriptors.containsKey("a"));
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void existingDescriptorIsReplacedOnAssetInformationChange() {
+		repository.createAas(createShell("a", "first"));
+		processor.drain();
+
+		repository.setAssetInformation("a", new DefaultAssetInformation.Builder().assetKind(AssetKind.TYPE).globalAssetId("asset").build());
+		processor.drain();
+
+		assertEquals("asset", registryApi.descriptors.get("a").getGlobalAssetId());
+	}
+
+	@Test
+	public void preloadedShellsAreSentInBatches() {
+		List<AssetAdministrationShell> shells = new ArrayList<>();
+		for (int i = 0; i < 5; i++)
+			shells.add(createShell("aas" + i, "aas" + i));
+
+		repository.createAllAas(shells);
+
+		assertEquals(5, processor.drain());
+		assertEquals(5, registryApi.descriptors.size());
+	}
+
+	@Test
+	public void failedIntentsArePendingUntilRegistryIsAvailable() {
+		registryApi.available = false;
+
+		repository.createAas(createShell("a", "first"));
+		processor.drain();
+
+		assertEquals(1, processor.getFailedCount());
+		assertEquals(1, processor.getPendingCount());
+		assertTrue(registryApi.descriptors.isEmpty());
+
+		registryApi.available = true;
+		processor.drain();
+
+		assertTrue(registryApi.descriptors.containsKey("a"));
+		assertEquals(0, processor.getPendingCount());
+	}
+
+	private static AssetAdministrationShell createShell(String id, String idShort) {
+		return new DefaultAssetAdministrationShell.Builder().id(id).idShort(idShort).assetInformation(new DefaultAssetInformation.Builder().assetKind(AssetKind.INSTANCE).build()).build();
+	}
+
+	private static AttributeMapper createAttributeMapper() {
+		List<SerializationExtension> extensions = List.of(new Aas4JHTTPSerializationExtension());
+
+		return new AttributeMapper(new BaSyxHTTPConfiguration().jackson2ObjectMapperBuilder(extensions).build());
+	}
+
+	private static class InMemoryRegistryApi extends RegistryAndDiscoveryInterfaceApi {
+
+		private Map<String, AssetAdministrationShellDescriptor> descriptors = new HashMap<>();
+		private boolean available = true;
+		private int calls;
+
+		@Override
+		public AssetAdministrationShellDescriptor postAssetAdministrationShellDescriptor(AssetAdministrationShellDescriptor descriptor) throws ApiException {
+			call();
+
+			if (descriptors.putIfAbsent(descriptor.getId(), descriptor) != null)
+				throw new ApiException(HttpURLConnection.HTTP_CONFLICT, "Conflict");
+
+			return descriptor;
+		}
+
+		@Override
+		public void putAssetAdministrationShellDescriptorById(String aasIdentifier, AssetAdministrationShellDescriptor descriptor) throws ApiException {
+			call();
+
+			descriptors.put(aasIdentifier, descriptor);
+		}
+
+		@Override
+		public void deleteAssetAdministrationShellDescriptorById(String aasIdentifier) throws ApiException {
+			call();
+
+			if (descriptors.remove(aasIdentifier) == null)
+				throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, "Not Found");
+		}
+
+		private void call() throws ApiException {
+			calls++;
+
+			if (!available)
+				throw new ApiException(HttpURLConnection.HTTP_UNAVAILABLE, "Unavailable");
+		}
+	}
+
+}
@@ -30,6 +30,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.OptionalLong;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
@@ -41,17 +42,20 @@ import org.eclipse.digitaltwin.basyx.aasrepository.http.pagination.GetReferences
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
+import org.eclipse.digitaltwin.basyx.http.ETagResponseFactory;
+import org.eclipse.digitaltwin.basyx.http.FileResourceResponseFactory;
 import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -74,15 +78,27 @@ public class AasRepositoryApiHTTPController implements AasRepositoryHTTPApi {
 
 	@Override
 	public ResponseEntity<Void> deleteAssetAdministrationShellById(
-			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier) {
-		aasRepository.deleteAas(aasIdentifier.getIdentifier());
+			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of the version the request is based on. If it is outdated, 412 Precondition Failed is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		String aasId = aasIdentifier.getIdentifier();
+
+		OptionalLong expectedVersion = getExpectedVersion(aasId, ifMatch);
+
+		if (expectedVersion.isPresent())
+			aasRepository.deleteAas(aasId, expectedVersion.getAsLong());
+		else
+			aasRepository.deleteAas(aasId);
+
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
 	@Override
 	public ResponseEntity<AssetAdministrationShell> getAssetAdministrationShellById(
-			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier) {
-		return new ResponseEntity<AssetAdministrationShell>(aasRepository.getAas(aasIdentifier.getIdentifier()), HttpStatus.OK);
+			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of a previously retrieved version. If it is still current, 304 Not Modified is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		String aasId = aasIdentifier.getIdentifier();
+
+		return ETagResponseFactory.create(aasRepository.getAasVersion(aasId), ifNoneMatch, () -> aasRepository.getAas(aasId));
 	}
 
 	@Override
@@ -95,8 +111,17 @@ public class AasRepositoryApiHTTPController implements AasRepositoryHTTPApi {
 	@Override
 	public ResponseEntity<Void> putAssetAdministrationShellById(
 			@Parameter(in = ParameterIn.PATH, description = "The Asset Administration Shell’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("aasIdentifier") Base64UrlEncodedIdentifier aasIdentifier,
-			@Parameter(in = ParameterIn.DEFAULT, description = "Asset Administration Shell object", required = true, schema = @Schema()) @Valid @RequestBody AssetAdministrationShell body) {
-		aasRepository.updateAas(aasIdentifier.getIdentifier(), body);
+			@Parameter(in = ParameterIn.DEFAULT, description = "Asset Administration Shell object", required = true, schema = @Schema()) @Valid @RequestBody AssetAdministrationShell body,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of the version the request is based on. If it is outdated, 412 Precondition Failed is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		String aasId = aasIdentifier.getIdentifier();
+
+		OptionalLong expectedVersion = getExpectedVersion(aasId, ifMatch);
+
+		if (expectedVersion.isPresent())
+			aasRepository.updateAas(aasId, body, expectedVersion.getAsLong());
+		else
+			aasRepository.updateAas(aasId, body);
+
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
@@ -171,6 +196,13 @@ public class AasRepositoryApiHTTPController implements AasRepositoryHTTPApi {
 		return new ResponseEntity<Void>(HttpStatus.OK);
 	}
 
+	private OptionalLong getExpectedVersion(String aasId, String ifMatch) {
+		if (ifMatch == null)
+			return OptionalLong.empty();
+
+		return ETagResponseFactory.getExpectedVersion(ifMatch, aasRepository.getAasVersion(aasId), aasId);
+	}
+
 	private String getEncodedCursorFromCursorResult(CursorResult<?> cursorResult) {
 		if (cursorResult == null || cursorResult.getCursor() == null) {
 			return null;
@@ -187,10 +219,8 @@ public class AasRepositoryApiHTTPController implements AasRepositoryHTTPApi {
 
 	@Override
 	public ResponseEntity<Resource> getThumbnailAasRepository(Base64UrlEncodedIdentifier aasIdentifier) {
-        Resource resource = new FileSystemResource(aasRepository.getThumbnail(aasIdentifier.getIdentifier()));
-
-        return new ResponseEntity<>(resource, HttpStatus.OK);
-    }
+		return FileResourceResponseFactory.create(aasRepository.getThumbnail(aasIdentifier.getIdentifier()));
+	}
 
 	@Override
 	public ResponseEntity<Void> putThumbnailAasRepository(Base64UrlEncodedIdentifier aasIdentifier, String fileName, @Valid MultipartFile file) {
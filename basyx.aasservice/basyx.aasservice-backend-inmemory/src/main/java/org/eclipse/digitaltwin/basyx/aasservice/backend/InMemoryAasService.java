@@ -24,11 +24,7 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasservice.backend;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.function.Function;
@@ -44,9 +40,9 @@ import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResource;
 import org.eclipse.digitaltwin.basyx.aasservice.AasService;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
-import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileMetadata;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileRepository;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
@@ -145,15 +141,13 @@ public class InMemoryAasService implements AasService {
 	}
 
 	@Override
-	public File getThumbnail() {
+	public FileResource getThumbnail() {
 		Resource resource = getAssetInformation().getDefaultThumbnail();
 
 		try {
-			return getResourceContent(resource);
+			return fileRepository.find(resource.getPath());
 		} catch (NullPointerException e) {
 			throw new FileDoesNotExistException();
-		} catch (IOException e) {
-			throw new FileHandlingException("Exception occurred while creating file from the InputStream." + e.getMessage());
 		}
 	}
 
@@ -177,16 +171,6 @@ public class InMemoryAasService implements AasService {
 
 	}
 
-	private void createOutputStream(String filePath, byte[] content) throws IOException {
-
-		try (OutputStream outputStream = new FileOutputStream(filePath)) {
-			outputStream.write(content);
-		} catch (IOException e) {
-			throw new FileHandlingException("Exception occurred while creating OutputStream from byte[]." + e.getMessage());
-		}
-
-	}
-
 	private static AssetInformation configureAssetInformationThumbnail(AssetInformation assetInformation, String contentType, String filePath) {
 		Resource resource = new DefaultResource();
 		resource.setContentType(contentType);
@@ -195,16 +179,4 @@ public class InMemoryAasService implements AasService {
 		return assetInformation;
 	}
 
-	private File getResourceContent(Resource resource) throws IOException {
-		String filePath = resource.getPath();
-
-		InputStream fileIs = fileRepository.find(filePath);
-		byte[] content = fileIs.readAllBytes();
-		fileIs.close();
-
-		createOutputStream(filePath, content);
-
-		return new java.io.File(filePath);
-	}
-
 }
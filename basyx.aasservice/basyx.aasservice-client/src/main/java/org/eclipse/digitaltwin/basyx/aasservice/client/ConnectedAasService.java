@@ -26,7 +26,6 @@
 
 package org.eclipse.digitaltwin.basyx.aasservice.client;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.List;
 
@@ -39,6 +38,8 @@ import org.eclipse.digitaltwin.basyx.client.internal.ApiException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.filerepository.PathFileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncoder;
@@ -118,9 +119,9 @@ public class ConnectedAasService implements AasService {
 	}
 
 	@Override
-	public File getThumbnail() {
+	public FileResource getThumbnail() {
 		try {
-			return serviceApi.getThumbnail();
+			return new PathFileResource(serviceApi.getThumbnail());
 		} catch (ApiException e) {
 			throw mapThumbnailAccess(e);
 		}
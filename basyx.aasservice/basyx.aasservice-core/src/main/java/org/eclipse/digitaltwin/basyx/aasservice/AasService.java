@@ -24,13 +24,13 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.aasservice;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -81,9 +81,9 @@ public interface AasService {
 	/**
 	 * Get Thumbnail of the specific aas
 	 * 
-	 * @return the file of the thumbnail
+	 * @return the thumbnail, streamed from the file repository when read
 	 */
-	public File getThumbnail();
+	public FileResource getThumbnail();
 
 	/**
 	 * Set Thumbnail of the AAS
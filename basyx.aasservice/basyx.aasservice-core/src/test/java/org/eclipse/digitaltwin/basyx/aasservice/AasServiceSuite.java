@@ -32,7 +32,6 @@ import static org.junit.Assert.assertTrue;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -163,7 +162,7 @@ public abstract class AasServiceSuite {
 
 		aasService.setThumbnail("dummyImgA.jpeg", "", createDummyImageIS_A());
 
-		InputStream actualThumbnailIs = new FileInputStream(aasService.getThumbnail());
+		InputStream actualThumbnailIs = aasService.getThumbnail().getInputStream();
 
 		InputStream expectedThumbnail = createDummyImageIS_A();
 
@@ -177,7 +176,7 @@ public abstract class AasServiceSuite {
 
 		aasService.setThumbnail("dummyImgA.jpeg", "", createDummyImageIS_A());
 
-		InputStream actualThumbnailIs = new FileInputStream(aasService.getThumbnail());
+		InputStream actualThumbnailIs = aasService.getThumbnail().getInputStream();
 
 		InputStream expectedThumbnail = createDummyImageIS_A();
 
@@ -191,7 +190,7 @@ public abstract class AasServiceSuite {
 
 		aasService.setThumbnail("dummyImgA.jpeg", "", createDummyImageIS_A());
 
-		InputStream actualThumbnailIs = new FileInputStream(aasService.getThumbnail());
+		InputStream actualThumbnailIs = aasService.getThumbnail().getInputStream();
 
 		InputStream expectedThumbnail = createDummyImageIS_A();
 
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+
+/**
+ * Creates the submodels used by the benchmarks.
+ * 
+ * A submodel of depth 0 contains its leaf elements directly. For larger
+ * depths, the leaf elements are placed in the innermost of <i>depth</i>
+ * nested SubmodelElementCollections, e.g. <i>level_0.level_1.leaf_3</i> for
+ * depth 2.
+ * 
+ * @author danish
+ *
+ */
+public final class BenchmarkSubmodels {
+
+	public static final String SUBMODEL_ID = "benchmarkSubmodel";
+
+	private static final String LEVEL_PREFIX = "level_";
+	private static final String LEAF_PREFIX = "leaf_";
+
+	private BenchmarkSubmodels() {
+	}
+
+	public static Submodel create(int size, int depth, ElementType elementType) {
+		List<SubmodelElement> elements = createLeaves(size, elementType);
+
+		for (int level = depth - 1; level >= 0; level--)
+			elements = new ArrayList<>(List.of(new DefaultSubmodelElementCollection.Builder().idShort(LEVEL_PREFIX + level).value(elements).build()));
+
+		return new DefaultSubmodel.Builder().id(SUBMODEL_ID).idShort(SUBMODEL_ID).submodelElements(elements).build();
+	}
+
+	/**
+	 * Returns the idShortPath of the collection containing the leaves or null if
+	 * the leaves are direct children of the submodel
+	 */
+	public static String getParentPath(int depth) {
+		if (depth == 0)
+			return null;
+
+		StringBuilder path = new StringBuilder(LEVEL_PREFIX + 0);
+		for (int level = 1; level < depth; level++)
+			path.append('.').append(LEVEL_PREFIX).append(level);
+
+		return path.toString();
+	}
+
+	public static String getLeafIdShort(int index) {
+		return LEAF_PREFIX + index;
+	}
+
+	public static String getLeafPath(int depth, int index) {
+		String parentPath = getParentPath(depth);
+
+		if (parentPath == null)
+			return getLeafIdShort(index);
+
+		return parentPath + "." + getLeafIdShort(index);
+	}
+
+	private static List<SubmodelElement> createLeaves(int size, ElementType elementType) {
+		List<SubmodelElement> leaves = new ArrayList<>(size);
+
+		for (int i = 0; i < size; i++)
+			leaves.add(elementType.createElement(getLeafIdShort(i), i));
+
+		return leaves;
+	}
+
+}
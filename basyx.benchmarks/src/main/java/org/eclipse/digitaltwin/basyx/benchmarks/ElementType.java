@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultMultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRange;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.MultiLanguagePropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.RangeValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+
+/**
+ * Leaf element types the benchmark submodels are built of
+ * 
+ * @author danish
+ *
+ */
+public enum ElementType {
+
+	PROPERTY {
+		@Override
+		public SubmodelElement createElement(String idShort, int value) {
+			return new DefaultProperty.Builder().idShort(idShort).valueType(DataTypeDefXsd.INT).value(String.valueOf(value)).build();
+		}
+
+		@Override
+		public SubmodelElementValue createValue(int value) {
+			return new PropertyValue(String.valueOf(value));
+		}
+	},
+
+	MULTI_LANGUAGE_PROPERTY {
+		@Override
+		public SubmodelElement createElement(String idShort, int value) {
+			return new DefaultMultiLanguageProperty.Builder().idShort(idShort).value(createLangStrings(value)).build();
+		}
+
+		@Override
+		public SubmodelElementValue createValue(int value) {
+			return new MultiLanguagePropertyValue(createLangStrings(value));
+		}
+	},
+
+	RANGE {
+		@Override
+		public SubmodelElement createElement(String idShort, int value) {
+			return new DefaultRange.Builder().idShort(idShort).valueType(DataTypeDefXsd.INT).min(String.valueOf(value)).max(String.valueOf(value + 1)).build();
+		}
+
+		@Override
+		public SubmodelElementValue createValue(int value) {
+			return new RangeValue(value, value + 1);
+		}
+	};
+
+	public abstract SubmodelElement createElement(String idShort, int value);
+
+	public abstract SubmodelElementValue createValue(int value);
+
+	private static List<LangStringTextType> createLangStrings(int value) {
+		return List.of(new DefaultLangStringTextType.Builder().language("en").text("value " + value).build(), new DefaultLangStringTextType.Builder().language("de").text("Wert " + value).build());
+	}
+
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks copying a submodel via a JSON round trip against the
+ * {@link MetamodelCopier}
+ * 
+ * @author danish
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetamodelCopyBenchmark {
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	@Param({ "0", "5" })
+	public int depth;
+
+	@Param({ "PROPERTY", "MULTI_LANGUAGE_PROPERTY", "RANGE" })
+	public ElementType elementType;
+
+	private JsonSerializer serializer;
+	private JsonDeserializer deserializer;
+	private Submodel submodel;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		serializer = new JsonSerializer();
+		deserializer = new JsonDeserializer();
+		submodel = BenchmarkSubmodels.create(size, depth, elementType);
+	}
+
+	@Benchmark
+	public Submodel jsonRoundTripDeepCopy() throws SerializationException, DeserializationException {
+		return deserializer.read(serializer.write(submodel), Submodel.class);
+	}
+
+	@Benchmark
+	public Submodel jsonRoundTripMetadataCopy() throws SerializationException, DeserializationException {
+		Submodel copy = deserializer.read(serializer.write(submodel), Submodel.class);
+		copy.setSubmodelElements(null);
+
+		return copy;
+	}
+
+	@Benchmark
+	public Submodel copierDeepCopy() {
+		return MetamodelCopier.deepCopy(submodel);
+	}
+
+	@Benchmark
+	public Submodel copierMetadataCopy() {
+		return MetamodelCopier.copyMetadata(submodel);
+	}
+
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the retrieval of the first and a middle page of the submodel
+ * elements, both through the {@link PaginationSupport} and the
+ * {@link SubmodelRepository} backends
+ * 
+ * @author danish
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+	@Param({ SubmodelRepositoryBackends.IN_MEMORY, SubmodelRepositoryBackends.MONGO_DB })
+	public String backend;
+
+	@Param({ "100", "10000" })
+	public int size;
+
+	@Param({ "10", "100" })
+	public int limit;
+
+	private SubmodelRepositoryBackends backends;
+	private SubmodelRepository repository;
+	private PaginationSupport<SubmodelElement> paginationSupport;
+	private PaginationInfo firstPage;
+	private PaginationInfo middlePage;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Submodel submodel = BenchmarkSubmodels.create(size, 0, ElementType.PROPERTY);
+
+		TreeMap<String, SubmodelElement> elements = new TreeMap<>();
+		submodel.getSubmodelElements().forEach(element -> elements.put(element.getIdShort(), element));
+		paginationSupport = new PaginationSupport<>(elements, SubmodelElement::getIdShort);
+
+		backends = new SubmodelRepositoryBackends();
+		repository = backends.create(backend);
+		repository.createSubmodel(submodel);
+
+		firstPage = new PaginationInfo(limit, null);
+		middlePage = new PaginationInfo(limit, repository.getSubmodelElements(BenchmarkSubmodels.SUBMODEL_ID, new PaginationInfo(size / 2, null)).getCursor());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		backends.close();
+	}
+
+	@Benchmark
+	public CursorResult<List<SubmodelElement>> paginationSupportFirstPage() {
+		return paginationSupport.getPaged(firstPage);
+	}
+
+	@Benchmark
+	public CursorResult<List<SubmodelElement>> repositoryFirstPage() {
+		return repository.getSubmodelElements(BenchmarkSubmodels.SUBMODEL_ID, firstPage);
+	}
+
+	@Benchmark
+	public CursorResult<List<SubmodelElement>> repositoryMiddlePage() {
+		return repository.getSubmodelElements(BenchmarkSubmodels.SUBMODEL_ID, middlePage);
+	}
+
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.HierarchicalSubmodelElementParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the idShortPath resolution of the
+ * {@link HierarchicalSubmodelElementParser}
+ * 
+ * @author danish
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathResolutionBenchmark {
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	@Param({ "0", "5" })
+	public int depth;
+
+	@Param({ "PROPERTY" })
+	public ElementType elementType;
+
+	private Submodel submodel;
+	private HierarchicalSubmodelElementParser parser;
+	private String[] leafPaths;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		submodel = BenchmarkSubmodels.create(size, depth, elementType);
+		parser = new HierarchicalSubmodelElementParser(submodel);
+
+		leafPaths = new String[size];
+		for (int i = 0; i < size; i++)
+			leafPaths[i] = BenchmarkSubmodels.getLeafPath(depth, i);
+	}
+
+	@Benchmark
+	public SubmodelElement resolvePath() {
+		return parser.getSubmodelElementFromIdShortPath(nextLeafPath());
+	}
+
+	@Benchmark
+	public SubmodelElement resolvePathWithNewParser() {
+		return new HierarchicalSubmodelElementParser(submodel).getSubmodelElementFromIdShortPath(nextLeafPath());
+	}
+
+	private String nextLeafPath() {
+		next = (next + 1) % leafPaths.length;
+		return leafPaths[next];
+	}
+
+}
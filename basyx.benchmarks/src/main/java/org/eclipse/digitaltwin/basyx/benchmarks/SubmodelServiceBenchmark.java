@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks value access and element creation/deletion of the
+ * {@link InMemorySubmodelService}
+ * 
+ * @author danish
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubmodelServiceBenchmark {
+
+	private static final String TEMPORARY_ID_SHORT = "temporary";
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	@Param({ "0", "5" })
+	public int depth;
+
+	@Param({ "PROPERTY", "MULTI_LANGUAGE_PROPERTY", "RANGE" })
+	public ElementType elementType;
+
+	private InMemorySubmodelService service;
+	private String[] leafPaths;
+	private SubmodelElementValue[] values;
+	private String parentPath;
+	private String temporaryPath;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		service = new InMemorySubmodelService(BenchmarkSubmodels.create(size, depth, elementType), new InMemoryFileRepository());
+
+		leafPaths = new String[size];
+		values = new SubmodelElementValue[size];
+		for (int i = 0; i < size; i++) {
+			leafPaths[i] = BenchmarkSubmodels.getLeafPath(depth, i);
+			values[i] = elementType.createValue(i + 1);
+		}
+
+		parentPath = BenchmarkSubmodels.getParentPath(depth);
+		temporaryPath = parentPath == null ? TEMPORARY_ID_SHORT : parentPath + "." + TEMPORARY_ID_SHORT;
+	}
+
+	@Benchmark
+	public SubmodelElementValue getValue() {
+		return service.getSubmodelElementValue(leafPaths[nextIndex()]);
+	}
+
+	@Benchmark
+	public void setValue() {
+		int index = nextIndex();
+		service.setSubmodelElementValue(leafPaths[index], values[index]);
+	}
+
+	@Benchmark
+	public void createAndDeleteElement() {
+		if (parentPath == null)
+			service.createSubmodelElement(elementType.createElement(TEMPORARY_ID_SHORT, 0));
+		else
+			service.createSubmodelElement(parentPath, elementType.createElement(TEMPORARY_ID_SHORT, 0));
+
+		service.deleteSubmodelElement(temporaryPath);
+	}
+
+	private int nextIndex() {
+		next = (next + 1) % leafPaths.length;
+		return next;
+	}
+
+}
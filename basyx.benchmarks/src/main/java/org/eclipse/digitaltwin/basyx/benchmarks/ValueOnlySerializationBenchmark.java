@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.submodelservice.client.internal.SubmodelSpecificJsonMapperFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapperUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks the ValueOnly JSON serialization of a whole submodel and the
+ * deserialization of a submodel element value
+ * 
+ * @author danish
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueOnlySerializationBenchmark {
+
+	@Param({ "10", "1000" })
+	public int size;
+
+	@Param({ "0", "5" })
+	public int depth;
+
+	@Param({ "PROPERTY", "MULTI_LANGUAGE_PROPERTY", "RANGE" })
+	public ElementType elementType;
+
+	private ObjectMapper mapper;
+	private Submodel submodel;
+	private String elementValueJson;
+
+	@Setup(Level.Trial)
+	public void setUp() throws JsonProcessingException {
+		mapper = new SubmodelSpecificJsonMapperFactory().create();
+		submodel = BenchmarkSubmodels.create(size, depth, elementType);
+
+		// for depth 0 this is a single leaf, otherwise the outermost collection
+		SubmodelElementValue elementValue = ValueMapperUtil.toValueOnly(submodel.getSubmodelElements().get(0)).getSubmodelElementValue();
+		elementValueJson = mapper.writeValueAsString(elementValue);
+	}
+
+	@Benchmark
+	public String serializeSubmodel() throws JsonProcessingException {
+		return mapper.writeValueAsString(new SubmodelValueOnly(submodel.getSubmodelElements()));
+	}
+
+	@Benchmark
+	public SubmodelElementValue deserializeElementValue() throws JsonProcessingException {
+		return mapper.readValue(elementValueJson, SubmodelElementValue.class);
+	}
+
+}
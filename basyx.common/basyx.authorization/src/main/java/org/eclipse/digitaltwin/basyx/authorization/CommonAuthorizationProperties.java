@@ -40,5 +40,6 @@ public class CommonAuthorizationProperties {
 	public static final String ENABLED_PROPERTY_KEY = PROPERTIES_PREFIX + ".enabled";
 	public static final String TYPE_PROPERTY_KEY = PROPERTIES_PREFIX + ".type";
 	public static final String RBAC_FILE_PROPERTY_KEY = PROPERTIES_PREFIX + ".rbac.file";
+	public static final String RBAC_DECISION_CACHE_SIZE_PROPERTY_KEY = PROPERTIES_PREFIX + ".rbac.decisionCacheSize";
 	public static final String JWT_BEARER_TOKEN_PROVIDER_PROPERTY_KEY = PROPERTIES_PREFIX + ".jwtBearerTokenProvider";
 }
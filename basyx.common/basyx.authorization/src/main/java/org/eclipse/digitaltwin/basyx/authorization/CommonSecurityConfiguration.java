@@ -25,11 +25,19 @@
 
 package org.eclipse.digitaltwin.basyx.authorization;
 
+import java.util.Optional;
+
+import org.eclipse.digitaltwin.basyx.core.operation.InvocationSubjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -58,6 +66,24 @@ public class CommonSecurityConfiguration {
 		return http.build();
 	}
 
+	/**
+	 * Propagates the security context of the submitting request to tasks
+	 * executed on other threads, e.g. asynchronous Operation invocations
+	 */
+	@Bean
+	public TaskDecorator securityContextTaskDecorator() {
+		return DelegatingSecurityContextRunnable::new;
+	}
+
+	/**
+	 * Binds asynchronous Operation invocations to the name of the authenticated
+	 * subject that submitted them
+	 */
+	@Bean
+	public InvocationSubjectProvider invocationSubjectProvider() {
+		return () -> Optional.ofNullable(SecurityContextHolder.getContext()).map(SecurityContext::getAuthentication).map(Authentication::getName).orElse(null);
+	}
+
 	private JwtAuthenticationConverter jwtAuthenticationConverter() {
 		JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
 		converter.setJwtGrantedAuthoritiesConverter(new JwtGrantedAuthoritiesConverter());
@@ -34,20 +34,29 @@ import java.util.List;
  */
 public class InMemoryAuthorizationRbacStorage implements RbacStorage {
     private final List<RbacRule> rbacRules;
+    private volatile RbacRuleIndex rbacRuleIndex;
 
     public InMemoryAuthorizationRbacStorage(List<RbacRule> rbacRuleList) {
         this.rbacRules = rbacRuleList;
+        this.rbacRuleIndex = new RbacRuleIndex(rbacRuleList);
     }
 
     public List<RbacRule> getRbacRules() {       
         return rbacRules;
     }
 
-    public void addRule(RbacRule rbacRule) {
+    public synchronized void addRule(RbacRule rbacRule) {
         rbacRules.add(rbacRule);
+        rbacRuleIndex = new RbacRuleIndex(rbacRules);
     }
 
-    public void removeRule(RbacRule rbacRule) {
+    public synchronized void removeRule(RbacRule rbacRule) {
         rbacRules.remove(rbacRule);
+        rbacRuleIndex = new RbacRuleIndex(rbacRules);
+    }
+
+    @Override
+    public RbacRuleIndex getRbacRuleIndex() {
+        return rbacRuleIndex;
     }
 }
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.authorization.rbac;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, precompiled view on a set of {@link RbacRule}s
+ * 
+ * <p>
+ * Rules are bucketed by {@link TargetInformation} subtype, role and
+ * {@link Action}, so that resolving the candidate rules of a request costs a
+ * few hash lookups instead of a scan over all rules. The buckets of a
+ * {@link TargetInformation} subtype are compiled lazily on its first lookup.
+ * </p>
+ * 
+ * @author danish
+ */
+public final class RbacRuleIndex {
+
+	private final List<RbacRule> rbacRules;
+	private final Map<Class<?>, Map<String, Map<Action, List<RbacRule>>>> rulesByTargetType = new ConcurrentHashMap<>();
+
+	public RbacRuleIndex(Collection<RbacRule> rbacRules) {
+		this.rbacRules = List.copyOf(rbacRules);
+	}
+
+	/**
+	 * Returns the rules whose {@link TargetInformation} is of the given type and
+	 * that grant the given {@link Action} to the given role
+	 * 
+	 * @param targetType
+	 * @param role
+	 * @param action
+	 * 
+	 * @return the matching rules, or an empty list
+	 */
+	public List<RbacRule> getRules(Class<? extends TargetInformation> targetType, String role, Action action) {
+		Map<Action, List<RbacRule>> rulesByAction = rulesByTargetType.computeIfAbsent(targetType, this::compile).get(role);
+
+		if (rulesByAction == null)
+			return Collections.emptyList();
+
+		return rulesByAction.getOrDefault(action, Collections.emptyList());
+	}
+
+	public List<RbacRule> getRbacRules() {
+		return rbacRules;
+	}
+
+	private Map<String, Map<Action, List<RbacRule>>> compile(Class<?> targetType) {
+		Map<String, Map<Action, List<RbacRule>>> rulesByRole = new HashMap<>();
+
+		for (RbacRule rbacRule : rbacRules) {
+			if (!targetType.isInstance(rbacRule.getTargetInformation()) || rbacRule.getAction() == null)
+				continue;
+
+			Map<Action, List<RbacRule>> rulesByAction = rulesByRole.computeIfAbsent(rbacRule.getRole(), role -> new EnumMap<>(Action.class));
+
+			for (Action action : rbacRule.getAction())
+				rulesByAction.computeIfAbsent(action, key -> new ArrayList<>()).add(rbacRule);
+		}
+
+		return rulesByRole;
+	}
+}
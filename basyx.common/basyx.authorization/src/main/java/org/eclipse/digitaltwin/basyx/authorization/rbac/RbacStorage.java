@@ -37,4 +37,19 @@ public interface RbacStorage {
     public List<RbacRule> getRbacRules();
     public void addRule(RbacRule rbacRule);
     public void removeRule(RbacRule rbacRule);
+
+    /**
+     * Returns a precompiled {@link RbacRuleIndex} of the current rules
+     * 
+     * <p>
+     * Implementations should return the same instance as long as the rules are
+     * not modified, as resolvers use its identity to invalidate cached
+     * decisions. The default compiles a new index on each call.
+     * </p>
+     * 
+     * @return the rule index
+     */
+    public default RbacRuleIndex getRbacRuleIndex() {
+        return new RbacRuleIndex(getRbacRules());
+    }
 }
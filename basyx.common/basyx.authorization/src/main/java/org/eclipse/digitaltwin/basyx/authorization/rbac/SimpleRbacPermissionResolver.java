@@ -25,16 +25,29 @@
 
 package org.eclipse.digitaltwin.basyx.authorization.rbac;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * An abstract permission resolver for {@link TargetInformation}
+ * A permission resolver for {@link TargetInformation}
+ * 
+ * <p>
+ * Candidate rules are looked up in the {@link RbacRuleIndex} of the
+ * {@link RbacStorage} by target type, role and action, so only those are passed
+ * to the {@link TargetPermissionVerifier}. Optionally, a bounded cache of
+ * decisions keyed by roles, action and target can be enabled. It is discarded
+ * whenever the storage provides a new rule index. The cache relies on
+ * {@link TargetInformation#equals(Object)} and on the verifier depending on
+ * the rule and the target only.
+ * </p>
  * 
  * @param <T>
  * 
@@ -49,12 +62,28 @@ public class SimpleRbacPermissionResolver<T extends TargetInformation> implement
 	private RbacStorage rbacStorage;
 	private RoleProvider roleAuthenticator;
 	private TargetPermissionVerifier<T> targetPermissionVerifier;
+	private final int decisionCacheSize;
+	private volatile DecisionCache decisionCache;
 
 	public SimpleRbacPermissionResolver(RbacStorage rbacStorage, RoleProvider roleAuthenticator, TargetPermissionVerifier<T> targetPermissionVerifier) {
+		this(rbacStorage, roleAuthenticator, targetPermissionVerifier, 0);
+	}
+
+	/**
+	 * Creates a resolver caching up to {@code decisionCacheSize} decisions
+	 * 
+	 * @param rbacStorage
+	 * @param roleAuthenticator
+	 * @param targetPermissionVerifier
+	 * @param decisionCacheSize
+	 *            the maximum number of cached decisions, 0 disables the cache
+	 */
+	public SimpleRbacPermissionResolver(RbacStorage rbacStorage, RoleProvider roleAuthenticator, TargetPermissionVerifier<T> targetPermissionVerifier, int decisionCacheSize) {
 		super();
 		this.rbacStorage = rbacStorage;
 		this.roleAuthenticator = roleAuthenticator;
 		this.targetPermissionVerifier = targetPermissionVerifier;
+		this.decisionCacheSize = Math.max(decisionCacheSize, 0);
 	}
 
 	public RbacStorage getRbacStorage() {
@@ -75,36 +104,132 @@ public class SimpleRbacPermissionResolver<T extends TargetInformation> implement
 	 * @return 
 	 */
 	public boolean hasPermission(final Action action, final T targetInformation) {
-		final Optional<RbacRule> matchingRule = getMatchingRules(roleAuthenticator.getRoles(), action, targetInformation).findAny();
-		
-		logger.info("roles: {}, action: {}, targetInfo: {} - matching-rule?: {}", roleAuthenticator.getRoles(), action, targetInformation, matchingRule);
-		
+		final List<String> roles = roleAuthenticator.getRoles();
+		final RbacRuleIndex rbacRuleIndex = rbacStorage.getRbacRuleIndex();
+
+		if (decisionCacheSize == 0)
+			return resolvePermission(rbacRuleIndex, roles, action, targetInformation);
+
+		DecisionCache cache = getDecisionCache(rbacRuleIndex);
+		DecisionKey key = new DecisionKey(roles, action, targetInformation);
+
+		Boolean decision = cache.get(key);
+
+		if (decision != null)
+			return decision;
+
+		boolean permitted = resolvePermission(rbacRuleIndex, roles, action, targetInformation);
+		cache.put(key, permitted);
+
+		return permitted;
+	}
+
+	private boolean resolvePermission(final RbacRuleIndex rbacRuleIndex, final List<String> roles, final Action action, final T targetInformation) {
+		final Optional<RbacRule> matchingRule = findMatchingRule(rbacRuleIndex, roles, action, targetInformation);
+
+		logger.debug("roles: {}, action: {}, targetInfo: {} - matching-rule?: {}", roles, action, targetInformation, matchingRule);
+
 		return matchingRule.isPresent();
 	}
 
-	private Stream<RbacRule> getMatchingRules(final List<String> roles, final Action action, final T targetInformation) {
-		
-		List<RbacRule> filteredRbacRulesForTargetInfo = this.rbacStorage.getRbacRules().stream().filter(rbacRule -> hasMatchingTargetInformation(targetInformation, rbacRule)).collect(Collectors.toList());
-		
-		return filteredRbacRulesForTargetInfo.parallelStream().filter(rbacRule -> checkRolesMatchRbacRule(rbacRule, roles)).filter(rbacRule -> checkActionMatchesRbacRule(rbacRule, action))
-				.filter(rbacRule -> checkRbacRuleMatchesTargetInfo(rbacRule, targetInformation));
+	private Optional<RbacRule> findMatchingRule(final RbacRuleIndex rbacRuleIndex, final List<String> roles, final Action action, final T targetInformation) {
+		Class<? extends TargetInformation> targetType = targetInformation.getClass();
+
+		Optional<RbacRule> wildcardRule = findVerifiedRule(rbacRuleIndex.getRules(targetType, ALL_ALLOWED_WILDCARD, action), targetInformation);
+
+		if (wildcardRule.isPresent() || roles == null)
+			return wildcardRule;
+
+		for (String role : roles) {
+			if (ALL_ALLOWED_WILDCARD.equals(role))
+				continue;
+
+			Optional<RbacRule> rule = findVerifiedRule(rbacRuleIndex.getRules(targetType, role, action), targetInformation);
+
+			if (rule.isPresent())
+				return rule;
+		}
+
+		return Optional.empty();
 	}
 
-	private boolean checkRolesMatchRbacRule(final RbacRule rbacRule, final List<String> roles) {
-		return rbacRule.getRole().equals(ALL_ALLOWED_WILDCARD) || (roles != null && roles.stream().anyMatch(role -> rbacRule.getRole().equals(role)));
+	private Optional<RbacRule> findVerifiedRule(final List<RbacRule> candidates, final T targetInformation) {
+		for (RbacRule rbacRule : candidates) {
+			if (targetPermissionVerifier.isVerified(rbacRule, targetInformation))
+				return Optional.of(rbacRule);
+		}
+
+		return Optional.empty();
 	}
 
-	private boolean checkActionMatchesRbacRule(final RbacRule rbacRule, final Action action) {
-		return rbacRule.getAction().stream().anyMatch(rbacRuleAction -> rbacRuleAction.equals(action));
+	private DecisionCache getDecisionCache(RbacRuleIndex rbacRuleIndex) {
+		DecisionCache cache = decisionCache;
+
+		if (cache != null && cache.rbacRuleIndex == rbacRuleIndex)
+			return cache;
+
+		cache = new DecisionCache(rbacRuleIndex, decisionCacheSize);
+		decisionCache = cache;
+
+		return cache;
 	}
 
-	private boolean checkRbacRuleMatchesTargetInfo(final RbacRule rbacRule, final T targetInformation) {
-		
-		return targetPermissionVerifier.isVerified(rbacRule, targetInformation);
+	private static final class DecisionCache {
+
+		private final RbacRuleIndex rbacRuleIndex;
+		private final Map<DecisionKey, Boolean> decisions;
+
+		private DecisionCache(RbacRuleIndex rbacRuleIndex, int maxSize) {
+			this.rbacRuleIndex = rbacRuleIndex;
+			this.decisions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<DecisionKey, Boolean> eldest) {
+					return size() > maxSize;
+				}
+			});
+		}
+
+		private Boolean get(DecisionKey key) {
+			return decisions.get(key);
+		}
+
+		private void put(DecisionKey key, boolean decision) {
+			decisions.put(key, decision);
+		}
 	}
 
-	private boolean hasMatchingTargetInformation(final T targetInformation, RbacRule rbacRule) {
-		
-		return targetInformation.getClass().isInstance(rbacRule.getTargetInformation());
+	private static final class DecisionKey {
+
+		private final List<String> roles;
+		private final Action action;
+		private final TargetInformation targetInformation;
+		private final int hashCode;
+
+		private DecisionKey(List<String> roles, Action action, TargetInformation targetInformation) {
+			this.roles = roles == null ? null : new ArrayList<>(roles);
+			this.action = action;
+			this.targetInformation = targetInformation;
+			this.hashCode = Objects.hash(this.roles, action, targetInformation);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+
+			if (!(obj instanceof DecisionKey))
+				return false;
+
+			DecisionKey other = (DecisionKey) obj;
+
+			return hashCode == other.hashCode && action == other.action && Objects.equals(roles, other.roles) && Objects.equals(targetInformation, other.targetInformation);
+		}
 	}
 }
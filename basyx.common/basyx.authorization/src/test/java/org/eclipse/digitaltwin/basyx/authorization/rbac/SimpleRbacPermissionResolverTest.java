@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.authorization.rbac;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SimpleRbacPermissionResolver} with an
+ * {@link InMemoryAuthorizationRbacStorage}
+ * 
+ * @author danish
+ */
+public class SimpleRbacPermissionResolverTest {
+
+	private static final String ADMIN_ROLE = "admin";
+	private static final String READER_ROLE = "reader";
+
+	private List<String> roles;
+	private AtomicInteger verifications;
+	private RbacStorage rbacStorage;
+
+	@Before
+	public void setUp() {
+		roles = new ArrayList<>();
+		verifications = new AtomicInteger();
+		rbacStorage = new InMemoryAuthorizationRbacStorage(new ArrayList<>());
+
+		rbacStorage.addRule(new RbacRule(ADMIN_ROLE, Arrays.asList(Action.READ, Action.UPDATE), new DummyTargetInformation("*")));
+		rbacStorage.addRule(new RbacRule(READER_ROLE, Arrays.asList(Action.READ), new DummyTargetInformation("public")));
+		rbacStorage.addRule(new RbacRule("*", Arrays.asList(Action.EXECUTE), new DummyTargetInformation("public")));
+		rbacStorage.addRule(new RbacRule(READER_ROLE, Arrays.asList(Action.DELETE), new OtherTargetInformation()));
+	}
+
+	@Test
+	public void rolesActionsAndTargetsAreMatched() {
+		SimpleRbacPermissionResolver<DummyTargetInformation> resolver = createResolver(0);
+
+		roles.add(READER_ROLE);
+
+		assertTrue(resolver.hasPermission(Action.READ, new DummyTargetInformation("public")));
+		assertFalse(resolver.hasPermission(Action.READ, new DummyTargetInformation("secret")));
+		assertFalse(resolver.hasPermission(Action.UPDATE, new DummyTargetInformation("public")));
+		assertFalse(resolver.hasPermission(Action.DELETE, new DummyTargetInformation("public")));
+
+		roles.add(ADMIN_ROLE);
+
+		assertTrue(resolver.hasPermission(Action.UPDATE, new DummyTargetInformation("secret")));
+	}
+
+	@Test
+	public void wildcardRoleIsMatchedWithoutRoles() {
+		SimpleRbacPermissionResolver<DummyTargetInformation> resolver = createResolver(0);
+
+		assertTrue(resolver.hasPermission(Action.EXECUTE, new DummyTargetInformation("public")));
+		assertFalse(resolver.hasPermission(Action.READ, new DummyTargetInformation("public")));
+	}
+
+	@Test
+	public void cachedDecisionIsReused() {
+		SimpleRbacPermissionResolver<DummyTargetInformation> resolver = createResolver(10);
+
+		roles.add(READER_ROLE);
+
+		assertTrue(resolver.hasPermission(Action.READ, new DummyTargetInformation("public")));
+		int verificationsAfterFirstDecision = verifications.get();
+
+		assertTrue(resolver.hasPermission(Action.READ, new DummyTargetInformation("public")));
+		assertEquals(verificationsAfterFirstDecision, verifications.get());
+	}
+
+	@Test
+	public void cachedDecisionsAreInvalidatedOnRuleChanges() {
+		SimpleRbacPermissionResolver<DummyTargetInformation> resolver = createResolver(10);
+
+		roles.add(READER_ROLE);
+
+		assertFalse(resolver.hasPermission(Action.UPDATE, new DummyTargetInformation("public")));
+
+		RbacRule updateRule = new RbacRule(READER_ROLE, Arrays.asList(Action.UPDATE), new DummyTargetInformation("public"));
+		rbacStorage.addRule(updateRule);
+
+		assertTrue(resolver.hasPermission(Action.UPDATE, new DummyTargetInformation("public")));
+
+		rbacStorage.removeRule(updateRule);
+
+		assertFalse(resolver.hasPermission(Action.UPDATE, new DummyTargetInformation("public")));
+	}
+
+	private SimpleRbacPermissionResolver<DummyTargetInformation> createResolver(int decisionCacheSize) {
+		TargetPermissionVerifier<DummyTargetInformation> verifier = (rbacRule, targetInformation) -> {
+			verifications.incrementAndGet();
+
+			String ruleTarget = ((DummyTargetInformation) rbacRule.getTargetInformation()).getTarget();
+
+			return ruleTarget.equals("*") || ruleTarget.equals(targetInformation.getTarget());
+		};
+
+		return new SimpleRbacPermissionResolver<>(rbacStorage, () -> roles, verifier, decisionCacheSize);
+	}
+
+	private static class DummyTargetInformation implements TargetInformation {
+
+		private final String target;
+
+		public DummyTargetInformation(String target) {
+			this.target = target;
+		}
+
+		public String getTarget() {
+			return target;
+		}
+
+		@Override
+		public Map<String, Object> toMap() {
+			return Map.of("target", target);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(target);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof DummyTargetInformation))
+				return false;
+
+			return Objects.equals(target, ((DummyTargetInformation) obj).target);
+		}
+	}
+
+	private static class OtherTargetInformation implements TargetInformation {
+
+		@Override
+		public Map<String, Object> toMap() {
+			return Map.of();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Outcome of a single item of a bulk operation. A bulk operation reports one
+ * result per requested item, in the order of the request, so that failing
+ * items do not abort the whole batch.
+ * 
+ * @author danish
+ *
+ */
+public class BulkOperationResult {
+
+	private final String id;
+	private final RuntimeException failure;
+
+	private BulkOperationResult(String id, RuntimeException failure) {
+		this.id = id;
+		this.failure = failure;
+	}
+
+	public static BulkOperationResult success(String id) {
+		return new BulkOperationResult(id, null);
+	}
+
+	public static BulkOperationResult failure(String id, RuntimeException failure) {
+		return new BulkOperationResult(id, failure);
+	}
+
+	/**
+	 * Executes a single item of a bulk operation and captures its outcome
+	 * 
+	 * @param id
+	 *            the identifier of the item
+	 * @param operation
+	 * @return the result of the item
+	 */
+	public static BulkOperationResult of(String id, Runnable operation) {
+		try {
+			operation.run();
+
+			return success(id);
+		} catch (RuntimeException e) {
+			return failure(id, e);
+		}
+	}
+
+	/**
+	 * Executes a bulk operation item by item
+	 * 
+	 * @param items
+	 * @param idMapper
+	 *            maps an item to the identifier reported in its result
+	 * @param operation
+	 *            the operation executed for each item
+	 * @return the results in the order of the items
+	 */
+	public static <T> List<BulkOperationResult> forEach(List<T> items, Function<T, String> idMapper, Consumer<T> operation) {
+		List<BulkOperationResult> results = new ArrayList<>(items.size());
+
+		for (T item : items)
+			results.add(of(idMapper.apply(item), () -> operation.accept(item)));
+
+		return results;
+	}
+
+	/**
+	 * Selects the items of a bulk operation that succeeded
+	 * 
+	 * @param items
+	 *            the items of the bulk operation
+	 * @param results
+	 *            the results of the bulk operation, in the order of the items
+	 * @return the succeeded items
+	 */
+	public static <T> List<T> succeeded(List<T> items, List<BulkOperationResult> results) {
+		List<T> succeeded = new ArrayList<>();
+
+		for (int i = 0; i < items.size(); i++) {
+			if (results.get(i).isSuccess())
+				succeeded.add(items.get(i));
+		}
+
+		return succeeded;
+	}
+
+	/**
+	 * Returns the identifier of the item, e.g. the id of a Submodel or the
+	 * idShortPath of a SubmodelElement
+	 * 
+	 * @return
+	 */
+	public String getId() {
+		return id;
+	}
+
+	public boolean isSuccess() {
+		return failure == null;
+	}
+
+	/**
+	 * Returns the exception that caused the item to fail, or <code>null</code> if
+	 * it succeeded
+	 * 
+	 * @return
+	 */
+	public RuntimeException getFailure() {
+		return failure;
+	}
+
+	@Override
+	public String toString() {
+		return isSuccess() ? id + ": success" : id + ": " + failure.getClass().getSimpleName();
+	}
+
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.concurrency;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Set of {@link ReadWriteLock}s that are assigned to keys (e.g. identifiers)
+ * by their hash. Operations on different keys do not block each other unless
+ * their keys map to the same stripe, while the number of locks stays bounded
+ * independent of the number of keys.
+ * 
+ * @author danish
+ *
+ */
+public class StripedReadWriteLock {
+
+	public static final int DEFAULT_STRIPES = 256;
+
+	private final ReadWriteLock[] stripes;
+	private final int mask;
+
+	public StripedReadWriteLock() {
+		this(DEFAULT_STRIPES);
+	}
+
+	/**
+	 * Creates the striped lock
+	 * 
+	 * @param minimumStripes
+	 *            the minimum number of stripes, rounded up to the next power of
+	 *            two
+	 */
+	public StripedReadWriteLock(int minimumStripes) {
+		if (minimumStripes < 1)
+			throw new IllegalArgumentException("The number of stripes must be positive, but was " + minimumStripes);
+
+		int stripeCount = Integer.highestOneBit(minimumStripes - 1) << 1;
+		stripeCount = Math.max(stripeCount, 1);
+
+		this.stripes = new ReadWriteLock[stripeCount];
+		this.mask = stripeCount - 1;
+
+		for (int i = 0; i < stripeCount; i++)
+			stripes[i] = new ReentrantReadWriteLock();
+	}
+
+	/**
+	 * Returns the {@link ReadWriteLock} responsible for the key
+	 * 
+	 * @param key
+	 * @return the lock of the stripe the key is assigned to
+	 */
+	public ReadWriteLock get(String key) {
+		return stripes[indexOf(key)];
+	}
+
+	/**
+	 * Executes the supplier while holding the read lock of the key
+	 * 
+	 * @param key
+	 * @param supplier
+	 * @return the result of the supplier
+	 */
+	public <T> T read(String key, Supplier<T> supplier) {
+		return executeLocked(get(key).readLock(), supplier);
+	}
+
+	/**
+	 * Executes the supplier while holding the write lock of the key
+	 * 
+	 * @param key
+	 * @param supplier
+	 * @return the result of the supplier
+	 */
+	public <T> T write(String key, Supplier<T> supplier) {
+		return executeLocked(get(key).writeLock(), supplier);
+	}
+
+	/**
+	 * Executes the runnable while holding the write lock of the key
+	 * 
+	 * @param key
+	 * @param runnable
+	 */
+	public void write(String key, Runnable runnable) {
+		write(key, () -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Executes the supplier while holding the write locks of all keys. The
+	 * stripes are locked in ascending order, so concurrent multi-key writes
+	 * cannot deadlock each other.
+	 * 
+	 * @param keys
+	 * @param supplier
+	 * @return the result of the supplier
+	 */
+	public <T> T writeAll(Collection<String> keys, Supplier<T> supplier) {
+		TreeSet<Integer> indices = new TreeSet<>();
+
+		for (String key : keys)
+			indices.add(indexOf(key));
+
+		for (Integer index : indices)
+			stripes[index].writeLock().lock();
+
+		try {
+			return supplier.get();
+		} finally {
+			for (Integer index : indices.descendingSet())
+				stripes[index].writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of stripes
+	 * 
+	 * @return the number of stripes
+	 */
+	public int size() {
+		return stripes.length;
+	}
+
+	private int indexOf(String key) {
+		int hash = key == null ? 0 : key.hashCode();
+
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private static <T> T executeLocked(Lock lock, Supplier<T> supplier) {
+		lock.lock();
+		try {
+			return supplier.get();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+}
@@ -0,0 +1,599 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.metamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AbstractLangString;
+import org.eclipse.digitaltwin.aas4j.v3.model.AdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.BasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Capability;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationContent;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataSpecificationIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Extension;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.HasSemantics;
+import org.eclipse.digitaltwin.aas4j.v3.model.Identifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringDefinitionTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringShortNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.LangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.LevelType;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifiable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.Range;
+import org.eclipse.digitaltwin.aas4j.v3.model.Referable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.RelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Resource;
+import org.eclipse.digitaltwin.aas4j.v3.model.SpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueList;
+import org.eclipse.digitaltwin.aas4j.v3.model.ValueReferencePair;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultCapability;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultDataSpecificationIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultExtension;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringDefinitionTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringShortNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLevelType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultMultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRange;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResource;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultValueList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultValueReferencePair;
+
+/**
+ * Copies metamodel instances attribute by attribute, without serializing
+ * them.
+ * 
+ * Besides deep copies, it supports metadata-only copies that leave out the
+ * SubmodelElements of a Submodel or the value of a SubmodelElement. The
+ * copies consist of the aas4j default implementations. Content of
+ * EmbeddedDataSpecifications other than {@link DataSpecificationIec61360} is
+ * shared with the original.
+ * 
+ * @author danish
+ *
+ */
+public final class MetamodelCopier implements SubmodelElementVisitor<SubmodelElement> {
+
+	private static final MetamodelCopier DEEP = new MetamodelCopier(true);
+	private static final MetamodelCopier WITHOUT_VALUE = new MetamodelCopier(false);
+
+	private final boolean copyValue;
+
+	private MetamodelCopier(boolean copyValue) {
+		this.copyValue = copyValue;
+	}
+
+	/**
+	 * Creates a deep copy of the Submodel
+	 * 
+	 * @param submodel
+	 * @return the copy
+	 */
+	public static Submodel deepCopy(Submodel submodel) {
+		Submodel copy = copySubmodelMetadata(submodel);
+		copy.setSubmodelElements(copySubmodelElements(submodel.getSubmodelElements()));
+
+		return copy;
+	}
+
+	/**
+	 * Creates a copy of the Submodel without its SubmodelElements
+	 * 
+	 * @param submodel
+	 * @return the copy, whose SubmodelElements are null
+	 */
+	public static Submodel copyMetadata(Submodel submodel) {
+		Submodel copy = copySubmodelMetadata(submodel);
+		copy.setSubmodelElements(null);
+
+		return copy;
+	}
+
+	/**
+	 * Creates a deep copy of the AssetAdministrationShell
+	 * 
+	 * @param shell
+	 * @return the copy
+	 */
+	public static AssetAdministrationShell deepCopy(AssetAdministrationShell shell) {
+		AssetAdministrationShell copy = copyIdentifiable(shell, new DefaultAssetAdministrationShell());
+		copy.setEmbeddedDataSpecifications(copyEmbeddedDataSpecifications(shell.getEmbeddedDataSpecifications()));
+		copy.setDerivedFrom(copyReference(shell.getDerivedFrom()));
+		copy.setAssetInformation(copyAssetInformation(shell.getAssetInformation()));
+		copy.setSubmodels(copyReferences(shell.getSubmodels()));
+
+		return copy;
+	}
+
+	/**
+	 * Creates a deep copy of the ConceptDescription
+	 * 
+	 * @param conceptDescription
+	 * @return the copy
+	 */
+	public static ConceptDescription deepCopy(ConceptDescription conceptDescription) {
+		ConceptDescription copy = copyIdentifiable(conceptDescription, new DefaultConceptDescription());
+		copy.setEmbeddedDataSpecifications(copyEmbeddedDataSpecifications(conceptDescription.getEmbeddedDataSpecifications()));
+		copy.setIsCaseOf(copyReferences(conceptDescription.getIsCaseOf()));
+
+		return copy;
+	}
+
+	/**
+	 * Creates a deep copy of the SubmodelElement
+	 * 
+	 * @param submodelElement
+	 * @return the copy
+	 */
+	public static SubmodelElement deepCopy(SubmodelElement submodelElement) {
+		return DEEP.visit(submodelElement);
+	}
+
+	/**
+	 * Creates a copy of the SubmodelElement without its value. For
+	 * SubmodelElementCollections and SubmodelElementLists the value are the
+	 * contained SubmodelElements. Types without a single value attribute, e.g.
+	 * Range or Entity, are copied deeply.
+	 * 
+	 * @param submodelElement
+	 * @return the copy
+	 */
+	public static SubmodelElement copyWithoutValue(SubmodelElement submodelElement) {
+		return WITHOUT_VALUE.visit(submodelElement);
+	}
+
+	@Override
+	public SubmodelElement visit(Property property) {
+		Property copy = copySubmodelElement(property, new DefaultProperty());
+		copy.setValueType(property.getValueType());
+		copy.setValueId(copyReference(property.getValueId()));
+
+		if (copyValue)
+			copy.setValue(property.getValue());
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(SubmodelElementCollection collection) {
+		SubmodelElementCollection copy = copySubmodelElement(collection, new DefaultSubmodelElementCollection());
+		copy.setValue(copyValue ? copySubmodelElements(collection.getValue()) : null);
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(SubmodelElementList list) {
+		SubmodelElementList copy = copySubmodelElement(list, new DefaultSubmodelElementList());
+		copy.setOrderRelevant(list.getOrderRelevant());
+		copy.setSemanticIdListElement(copyReference(list.getSemanticIdListElement()));
+		copy.setTypeValueListElement(list.getTypeValueListElement());
+		copy.setValueTypeListElement(list.getValueTypeListElement());
+		copy.setValue(copyValue ? copySubmodelElements(list.getValue()) : null);
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(MultiLanguageProperty multiLanguageProperty) {
+		MultiLanguageProperty copy = copySubmodelElement(multiLanguageProperty, new DefaultMultiLanguageProperty());
+		copy.setValueId(copyReference(multiLanguageProperty.getValueId()));
+		copy.setValue(copyValue ? copyList(multiLanguageProperty.getValue(), MetamodelCopier::copyLangStringText) : null);
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(Range range) {
+		Range copy = copySubmodelElement(range, new DefaultRange());
+		copy.setValueType(range.getValueType());
+		copy.setMin(range.getMin());
+		copy.setMax(range.getMax());
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(File file) {
+		File copy = copySubmodelElement(file, new DefaultFile());
+		copy.setContentType(file.getContentType());
+
+		if (copyValue)
+			copy.setValue(file.getValue());
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(Blob blob) {
+		Blob copy = copySubmodelElement(blob, new DefaultBlob());
+		copy.setContentType(blob.getContentType());
+
+		if (copyValue && blob.getValue() != null)
+			copy.setValue(blob.getValue().clone());
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(ReferenceElement referenceElement) {
+		ReferenceElement copy = copySubmodelElement(referenceElement, new DefaultReferenceElement());
+		copy.setValue(copyValue ? copyReference(referenceElement.getValue()) : null);
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(AnnotatedRelationshipElement annotatedRelationshipElement) {
+		AnnotatedRelationshipElement copy = copySubmodelElement(annotatedRelationshipElement, new DefaultAnnotatedRelationshipElement());
+		copy.setFirst(copyReference(annotatedRelationshipElement.getFirst()));
+		copy.setSecond(copyReference(annotatedRelationshipElement.getSecond()));
+		copy.setAnnotations(copyList(annotatedRelationshipElement.getAnnotations(), annotation -> (DataElement) DEEP.visit(annotation)));
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(RelationshipElement relationshipElement) {
+		RelationshipElement copy = copySubmodelElement(relationshipElement, new DefaultRelationshipElement());
+		copy.setFirst(copyReference(relationshipElement.getFirst()));
+		copy.setSecond(copyReference(relationshipElement.getSecond()));
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(Entity entity) {
+		Entity copy = copySubmodelElement(entity, new DefaultEntity());
+		copy.setEntityType(entity.getEntityType());
+		copy.setGlobalAssetId(entity.getGlobalAssetId());
+		copy.setSpecificAssetIds(copyList(entity.getSpecificAssetIds(), MetamodelCopier::copySpecificAssetId));
+		copy.setStatements(copySubmodelElements(entity.getStatements()));
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(Operation operation) {
+		Operation copy = copySubmodelElement(operation, new DefaultOperation());
+		copy.setInputVariables(copyList(operation.getInputVariables(), MetamodelCopier::copyOperationVariable));
+		copy.setOutputVariables(copyList(operation.getOutputVariables(), MetamodelCopier::copyOperationVariable));
+		copy.setInoutputVariables(copyList(operation.getInoutputVariables(), MetamodelCopier::copyOperationVariable));
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(BasicEventElement basicEventElement) {
+		BasicEventElement copy = copySubmodelElement(basicEventElement, new DefaultBasicEventElement());
+		copy.setObserved(copyReference(basicEventElement.getObserved()));
+		copy.setDirection(basicEventElement.getDirection());
+		copy.setState(basicEventElement.getState());
+		copy.setMessageTopic(basicEventElement.getMessageTopic());
+		copy.setMessageBroker(copyReference(basicEventElement.getMessageBroker()));
+		copy.setLastUpdate(basicEventElement.getLastUpdate());
+		copy.setMinInterval(basicEventElement.getMinInterval());
+		copy.setMaxInterval(basicEventElement.getMaxInterval());
+
+		return copy;
+	}
+
+	@Override
+	public SubmodelElement visit(Capability capability) {
+		return copySubmodelElement(capability, new DefaultCapability());
+	}
+
+	private static Submodel copySubmodelMetadata(Submodel submodel) {
+		Submodel copy = copyIdentifiable(submodel, new DefaultSubmodel());
+		copyHasDataSpecification(submodel, copy);
+		copyHasSemantics(submodel, copy);
+		copyQualifiable(submodel, copy);
+		copy.setKind(submodel.getKind());
+
+		return copy;
+	}
+
+	private static List<SubmodelElement> copySubmodelElements(List<SubmodelElement> submodelElements) {
+		return copyList(submodelElements, DEEP::visit);
+	}
+
+	private static <T extends SubmodelElement> T copySubmodelElement(SubmodelElement source, T target) {
+		copyReferable(source, target);
+		copyHasDataSpecification(source, target);
+		copyHasSemantics(source, target);
+		copyQualifiable(source, target);
+
+		return target;
+	}
+
+	private static <T extends Identifiable> T copyIdentifiable(Identifiable source, T target) {
+		copyReferable(source, target);
+		target.setId(source.getId());
+		target.setAdministration(copyAdministrativeInformation(source.getAdministration()));
+
+		return target;
+	}
+
+	private static void copyReferable(Referable source, Referable target) {
+		target.setCategory(source.getCategory());
+		target.setIdShort(source.getIdShort());
+		target.setDisplayName(copyList(source.getDisplayName(), MetamodelCopier::copyLangStringName));
+		target.setDescription(copyList(source.getDescription(), MetamodelCopier::copyLangStringText));
+		target.setExtensions(copyList(source.getExtensions(), MetamodelCopier::copyExtension));
+	}
+
+	private static void copyHasDataSpecification(HasDataSpecification source, HasDataSpecification target) {
+		target.setEmbeddedDataSpecifications(copyEmbeddedDataSpecifications(source.getEmbeddedDataSpecifications()));
+	}
+
+	private static void copyHasSemantics(HasSemantics source, HasSemantics target) {
+		target.setSemanticId(copyReference(source.getSemanticId()));
+		target.setSupplementalSemanticIds(copyReferences(source.getSupplementalSemanticIds()));
+	}
+
+	private static void copyQualifiable(Qualifiable source, Qualifiable target) {
+		target.setQualifiers(copyList(source.getQualifiers(), MetamodelCopier::copyQualifier));
+	}
+
+	private static OperationVariable copyOperationVariable(OperationVariable variable) {
+		DefaultOperationVariable copy = new DefaultOperationVariable();
+		copy.setValue(variable.getValue() == null ? null : DEEP.visit(variable.getValue()));
+
+		return copy;
+	}
+
+	private static Extension copyExtension(Extension extension) {
+		Extension copy = new DefaultExtension();
+		copyHasSemantics(extension, copy);
+		copy.setName(extension.getName());
+		copy.setValueType(extension.getValueType());
+		copy.setValue(extension.getValue());
+		copy.setRefersTo(copyReferences(extension.getRefersTo()));
+
+		return copy;
+	}
+
+	private static Qualifier copyQualifier(Qualifier qualifier) {
+		Qualifier copy = new DefaultQualifier();
+		copyHasSemantics(qualifier, copy);
+		copy.setKind(qualifier.getKind());
+		copy.setType(qualifier.getType());
+		copy.setValueType(qualifier.getValueType());
+		copy.setValue(qualifier.getValue());
+		copy.setValueId(copyReference(qualifier.getValueId()));
+
+		return copy;
+	}
+
+	private static AdministrativeInformation copyAdministrativeInformation(AdministrativeInformation administration) {
+		if (administration == null)
+			return null;
+
+		AdministrativeInformation copy = new DefaultAdministrativeInformation();
+		copyHasDataSpecification(administration, copy);
+		copy.setVersion(administration.getVersion());
+		copy.setRevision(administration.getRevision());
+		copy.setCreator(copyReference(administration.getCreator()));
+		copy.setTemplateId(administration.getTemplateId());
+
+		return copy;
+	}
+
+	private static AssetInformation copyAssetInformation(AssetInformation assetInformation) {
+		if (assetInformation == null)
+			return null;
+
+		AssetInformation copy = new DefaultAssetInformation();
+		copy.setAssetKind(assetInformation.getAssetKind());
+		copy.setGlobalAssetId(assetInformation.getGlobalAssetId());
+		copy.setSpecificAssetIds(copyList(assetInformation.getSpecificAssetIds(), MetamodelCopier::copySpecificAssetId));
+		copy.setAssetType(assetInformation.getAssetType());
+		copy.setDefaultThumbnail(copyResource(assetInformation.getDefaultThumbnail()));
+
+		return copy;
+	}
+
+	private static Resource copyResource(Resource resource) {
+		if (resource == null)
+			return null;
+
+		return new DefaultResource.Builder().path(resource.getPath()).contentType(resource.getContentType()).build();
+	}
+
+	private static SpecificAssetId copySpecificAssetId(SpecificAssetId specificAssetId) {
+		SpecificAssetId copy = new DefaultSpecificAssetId();
+		copyHasSemantics(specificAssetId, copy);
+		copy.setName(specificAssetId.getName());
+		copy.setValue(specificAssetId.getValue());
+		copy.setExternalSubjectId(copyReference(specificAssetId.getExternalSubjectId()));
+
+		return copy;
+	}
+
+	private static List<EmbeddedDataSpecification> copyEmbeddedDataSpecifications(List<EmbeddedDataSpecification> embeddedDataSpecifications) {
+		return copyList(embeddedDataSpecifications, MetamodelCopier::copyEmbeddedDataSpecification);
+	}
+
+	private static EmbeddedDataSpecification copyEmbeddedDataSpecification(EmbeddedDataSpecification embeddedDataSpecification) {
+		EmbeddedDataSpecification copy = new DefaultEmbeddedDataSpecification();
+		copy.setDataSpecification(copyReference(embeddedDataSpecification.getDataSpecification()));
+		copy.setDataSpecificationContent(copyDataSpecificationContent(embeddedDataSpecification.getDataSpecificationContent()));
+
+		return copy;
+	}
+
+	private static DataSpecificationContent copyDataSpecificationContent(DataSpecificationContent content) {
+		if (!(content instanceof DataSpecificationIec61360))
+			return content;
+
+		DataSpecificationIec61360 iec61360 = (DataSpecificationIec61360) content;
+
+		DataSpecificationIec61360 copy = new DefaultDataSpecificationIec61360();
+		copy.setPreferredName(copyList(iec61360.getPreferredName(), MetamodelCopier::copyLangStringPreferredName));
+		copy.setShortName(copyList(iec61360.getShortName(), MetamodelCopier::copyLangStringShortName));
+		copy.setUnit(iec61360.getUnit());
+		copy.setUnitId(copyReference(iec61360.getUnitId()));
+		copy.setSourceOfDefinition(iec61360.getSourceOfDefinition());
+		copy.setSymbol(iec61360.getSymbol());
+		copy.setDataType(iec61360.getDataType());
+		copy.setDefinition(copyList(iec61360.getDefinition(), MetamodelCopier::copyLangStringDefinition));
+		copy.setValueFormat(iec61360.getValueFormat());
+		copy.setValueList(copyValueList(iec61360.getValueList()));
+		copy.setValue(iec61360.getValue());
+		copy.setLevelType(copyLevelType(iec61360.getLevelType()));
+
+		return copy;
+	}
+
+	private static ValueList copyValueList(ValueList valueList) {
+		if (valueList == null)
+			return null;
+
+		ValueList copy = new DefaultValueList();
+		copy.setValueReferencePairs(copyList(valueList.getValueReferencePairs(), MetamodelCopier::copyValueReferencePair));
+
+		return copy;
+	}
+
+	private static ValueReferencePair copyValueReferencePair(ValueReferencePair pair) {
+		return new DefaultValueReferencePair.Builder().value(pair.getValue()).valueId(copyReference(pair.getValueId())).build();
+	}
+
+	private static LevelType copyLevelType(LevelType levelType) {
+		if (levelType == null)
+			return null;
+
+		return new DefaultLevelType.Builder().min(levelType.getMin()).nom(levelType.getNom()).typ(levelType.getTyp()).max(levelType.getMax()).build();
+	}
+
+	private static List<Reference> copyReferences(List<Reference> references) {
+		return copyList(references, MetamodelCopier::copyReference);
+	}
+
+	private static Reference copyReference(Reference reference) {
+		if (reference == null)
+			return null;
+
+		Reference copy = new DefaultReference();
+		copy.setType(reference.getType());
+		copy.setReferredSemanticId(copyReference(reference.getReferredSemanticId()));
+		copy.setKeys(copyList(reference.getKeys(), MetamodelCopier::copyKey));
+
+		return copy;
+	}
+
+	private static Key copyKey(Key key) {
+		return new DefaultKey.Builder().type(key.getType()).value(key.getValue()).build();
+	}
+
+	private static LangStringNameType copyLangStringName(LangStringNameType langString) {
+		return copyLangString(langString, new DefaultLangStringNameType());
+	}
+
+	private static LangStringTextType copyLangStringText(LangStringTextType langString) {
+		return copyLangString(langString, new DefaultLangStringTextType());
+	}
+
+	private static LangStringPreferredNameTypeIec61360 copyLangStringPreferredName(LangStringPreferredNameTypeIec61360 langString) {
+		return copyLangString(langString, new DefaultLangStringPreferredNameTypeIec61360());
+	}
+
+	private static LangStringShortNameTypeIec61360 copyLangStringShortName(LangStringShortNameTypeIec61360 langString) {
+		return copyLangString(langString, new DefaultLangStringShortNameTypeIec61360());
+	}
+
+	private static LangStringDefinitionTypeIec61360 copyLangStringDefinition(LangStringDefinitionTypeIec61360 langString) {
+		return copyLangString(langString, new DefaultLangStringDefinitionTypeIec61360());
+	}
+
+	private static <T extends AbstractLangString> T copyLangString(AbstractLangString source, T target) {
+		target.setLanguage(source.getLanguage());
+		target.setText(source.getText());
+
+		return target;
+	}
+
+	private static <T> List<T> copyList(List<? extends T> list, UnaryOperator<T> elementCopier) {
+		if (list == null)
+			return null;
+
+		List<T> copy = new ArrayList<>(list.size());
+
+		for (T element : list)
+			copy.add(elementCopier.apply(element));
+
+		return copy;
+	}
+}
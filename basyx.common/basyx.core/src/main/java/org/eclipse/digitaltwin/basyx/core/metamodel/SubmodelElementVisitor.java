@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.metamodel;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.BasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.Capability;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
+import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Range;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.RelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+
+/**
+ * Visitor over the concrete {@link SubmodelElement} types of the metamodel
+ * 
+ * @author danish
+ *
+ * @param <R>
+ *            the result of a visit
+ */
+public interface SubmodelElementVisitor<R> {
+
+	/**
+	 * Dispatches the element to the visit method of its concrete type
+	 * 
+	 * @param element
+	 * @return the result of the visit
+	 * @throws IllegalArgumentException
+	 *             if the element is of an unknown type
+	 */
+	default R visit(SubmodelElement element) {
+		if (element instanceof Property)
+			return visit((Property) element);
+		if (element instanceof SubmodelElementCollection)
+			return visit((SubmodelElementCollection) element);
+		if (element instanceof SubmodelElementList)
+			return visit((SubmodelElementList) element);
+		if (element instanceof MultiLanguageProperty)
+			return visit((MultiLanguageProperty) element);
+		if (element instanceof Range)
+			return visit((Range) element);
+		if (element instanceof File)
+			return visit((File) element);
+		if (element instanceof Blob)
+			return visit((Blob) element);
+		if (element instanceof ReferenceElement)
+			return visit((ReferenceElement) element);
+		if (element instanceof AnnotatedRelationshipElement)
+			return visit((AnnotatedRelationshipElement) element);
+		if (element instanceof RelationshipElement)
+			return visit((RelationshipElement) element);
+		if (element instanceof Entity)
+			return visit((Entity) element);
+		if (element instanceof Operation)
+			return visit((Operation) element);
+		if (element instanceof BasicEventElement)
+			return visit((BasicEventElement) element);
+		if (element instanceof Capability)
+			return visit((Capability) element);
+
+		throw new IllegalArgumentException("Unsupported SubmodelElement type " + element.getClass().getName());
+	}
+
+	R visit(Property property);
+
+	R visit(SubmodelElementCollection collection);
+
+	R visit(SubmodelElementList list);
+
+	R visit(MultiLanguageProperty multiLanguageProperty);
+
+	R visit(Range range);
+
+	R visit(File file);
+
+	R visit(Blob blob);
+
+	R visit(ReferenceElement referenceElement);
+
+	R visit(AnnotatedRelationshipElement annotatedRelationshipElement);
+
+	R visit(RelationshipElement relationshipElement);
+
+	R visit(Entity entity);
+
+	R visit(Operation operation);
+
+	R visit(BasicEventElement basicEventElement);
+
+	R visit(Capability capability);
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.operation;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+
+/**
+ * State of an Operation invocation submitted to the
+ * {@link AsyncOperationInvoker}. <br>
+ * <br>
+ * An invocation starts as {@link ExecutionState#INITIATED}, becomes
+ * {@link ExecutionState#RUNNING} once a worker picks it up and ends in exactly
+ * one of the final states. Only the first transition into a final state takes
+ * effect, e.g. an Operation completing after its timeout stays
+ * {@link ExecutionState#TIMEOUT}.
+ * 
+ * @author danish
+ *
+ */
+public class AsyncOperationInvocation {
+
+	private final String handleId;
+	private final String operationKey;
+	private final String subject;
+	private final Semaphore operationPermits;
+	private final AtomicBoolean permitReleased = new AtomicBoolean();
+
+	private ExecutionState executionState = ExecutionState.INITIATED;
+	private OperationVariable[] result;
+	private String failureMessage;
+	private long finishedAt;
+
+	private Future<?> future;
+	private Future<?> timeout;
+
+	AsyncOperationInvocation(String handleId, String operationKey, String subject, Semaphore operationPermits) {
+		this.handleId = handleId;
+		this.operationKey = operationKey;
+		this.subject = subject;
+		this.operationPermits = operationPermits;
+	}
+
+	public String getHandleId() {
+		return handleId;
+	}
+
+	public String getOperationKey() {
+		return operationKey;
+	}
+
+	/**
+	 * Returns the subject that submitted the invocation
+	 * 
+	 * @return the subject or null, if it has been submitted anonymously
+	 */
+	public String getSubject() {
+		return subject;
+	}
+
+	public synchronized ExecutionState getExecutionState() {
+		return executionState;
+	}
+
+	/**
+	 * Returns the output variables of a completed invocation
+	 * 
+	 * @return the output variables or null, if the invocation has not completed
+	 */
+	public synchronized OperationVariable[] getResult() {
+		return result;
+	}
+
+	/**
+	 * Returns the reason of a failed, timed out or canceled invocation
+	 * 
+	 * @return the reason or null
+	 */
+	public synchronized String getFailureMessage() {
+		return failureMessage;
+	}
+
+	public synchronized boolean isFinished() {
+		return isFinalState(executionState);
+	}
+
+	synchronized long getFinishedAt() {
+		return finishedAt;
+	}
+
+	synchronized void setFuture(Future<?> future) {
+		this.future = future;
+	}
+
+	synchronized Future<?> getFuture() {
+		return future;
+	}
+
+	synchronized void setTimeout(Future<?> timeout) {
+		this.timeout = timeout;
+	}
+
+	synchronized Future<?> getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Marks the invocation as running, unless it has been finished while it was
+	 * queued
+	 * 
+	 * @return true, if the invocation has to be executed
+	 */
+	synchronized boolean start() {
+		if (executionState != ExecutionState.INITIATED)
+			return false;
+
+		executionState = ExecutionState.RUNNING;
+		return true;
+	}
+
+	/**
+	 * Moves the invocation into a final state
+	 * 
+	 * @return the state before, or null if the invocation was already finished
+	 */
+	synchronized ExecutionState finish(ExecutionState state, OperationVariable[] result, String failureMessage, long now) {
+		if (isFinished())
+			return null;
+
+		ExecutionState previous = executionState;
+
+		this.executionState = state;
+		this.result = result;
+		this.failureMessage = failureMessage;
+		this.finishedAt = now;
+
+		return previous;
+	}
+
+	/**
+	 * Returns the permit of the Operation exactly once, either when the
+	 * execution has ended or when the invocation has been finished before it
+	 * was started
+	 */
+	void releasePermit() {
+		if (permitReleased.compareAndSet(false, true))
+			operationPermits.release();
+	}
+
+	private static boolean isFinalState(ExecutionState state) {
+		return state != ExecutionState.INITIATED && state != ExecutionState.RUNNING;
+	}
+
+}
@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.operation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.OperationCapacityExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Executes Operation invocations asynchronously on a bounded worker pool. <br>
+ * <br>
+ * Each invocation is identified by a handle id that can be used to query its
+ * {@link AsyncOperationInvocation state}, to fetch its result and to cancel
+ * it. The invoker protects the server against overload in three ways:
+ * <ul>
+ * <li>the worker pool and its queue are bounded, so that invocations beyond
+ * their capacity are rejected</li>
+ * <li>the number of queued and running invocations per Operation is limited,
+ * so that a single slow Operation cannot occupy the whole pool</li>
+ * <li>invocations exceeding the configured or the client-requested timeout
+ * are interrupted and finished as {@link ExecutionState#TIMEOUT}</li>
+ * </ul>
+ * Finished invocations are retained for the configured retention period and
+ * are evicted afterwards. Each invocation is bound to the subject that
+ * submitted it; for other subjects, its handle id is unknown.
+ * 
+ * @author danish
+ *
+ */
+public class AsyncOperationInvoker implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(AsyncOperationInvoker.class);
+
+	private static final long MAX_EVICTION_INTERVAL_MILLIS = 60000;
+
+	private final int maxConcurrentPerOperation;
+	private final long timeoutMillis;
+	private final long resultRetentionMillis;
+	private final TaskDecorator taskDecorator;
+	private final InvocationSubjectProvider subjectProvider;
+	private final LongSupplier clock;
+
+	private final ThreadPoolExecutor executor;
+	private final ScheduledThreadPoolExecutor scheduler;
+
+	private final Map<String, AsyncOperationInvocation> invocations = new ConcurrentHashMap<>();
+	private final Map<String, Semaphore> operationPermits = new ConcurrentHashMap<>();
+
+	public AsyncOperationInvoker(int poolSize, int queueCapacity, int maxConcurrentPerOperation, long timeoutMillis, long resultRetentionMillis) {
+		this(poolSize, queueCapacity, maxConcurrentPerOperation, timeoutMillis, resultRetentionMillis, runnable -> runnable, () -> null);
+	}
+
+	public AsyncOperationInvoker(int poolSize, int queueCapacity, int maxConcurrentPerOperation, long timeoutMillis, long resultRetentionMillis, TaskDecorator taskDecorator, InvocationSubjectProvider subjectProvider) {
+		this(poolSize, queueCapacity, maxConcurrentPerOperation, timeoutMillis, resultRetentionMillis, taskDecorator, subjectProvider, System::currentTimeMillis);
+	}
+
+	AsyncOperationInvoker(int poolSize, int queueCapacity, int maxConcurrentPerOperation, long timeoutMillis, long resultRetentionMillis, TaskDecorator taskDecorator, InvocationSubjectProvider subjectProvider, LongSupplier clock) {
+		if (poolSize < 1 || queueCapacity < 1 || maxConcurrentPerOperation < 1)
+			throw new IllegalArgumentException("The pool size, the queue capacity and the concurrency per Operation have to be positive");
+
+		this.maxConcurrentPerOperation = maxConcurrentPerOperation;
+		this.timeoutMillis = timeoutMillis;
+		this.resultRetentionMillis = Math.max(0, resultRetentionMillis);
+		this.taskDecorator = taskDecorator;
+		this.subjectProvider = subjectProvider;
+		this.clock = clock;
+
+		executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), createThreadFactory("basyx-operation-"));
+
+		scheduler = new ScheduledThreadPoolExecutor(1, createThreadFactory("basyx-operation-scheduler-"));
+		scheduler.setRemoveOnCancelPolicy(true);
+
+		long evictionInterval = Math.max(1, Math.min(this.resultRetentionMillis, MAX_EVICTION_INTERVAL_MILLIS));
+		scheduler.scheduleWithFixedDelay(this::evictExpired, evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Submits an Operation invocation
+	 * 
+	 * @param operationKey
+	 *            identifies the Operation for limiting its concurrent
+	 *            invocations
+	 * @param operation
+	 *            executes the Operation and returns its output variables
+	 * @param clientTimeoutMillis
+	 *            the timeout requested by the client or null. The shorter of
+	 *            the client and the configured timeout applies.
+	 * @return the handle id of the invocation
+	 * 
+	 * @throws OperationCapacityExceededException
+	 *             if the Operation or the worker pool has no capacity left
+	 */
+	public String invoke(String operationKey, Supplier<OperationVariable[]> operation, Long clientTimeoutMillis) {
+		Semaphore permits = operationPermits.computeIfAbsent(operationKey, key -> new Semaphore(maxConcurrentPerOperation));
+
+		if (!permits.tryAcquire())
+			throw new OperationCapacityExceededException(operationKey);
+
+		AsyncOperationInvocation invocation = new AsyncOperationInvocation(UUID.randomUUID().toString(), operationKey, subjectProvider.getSubject(), permits);
+		invocations.put(invocation.getHandleId(), invocation);
+
+		try {
+			invocation.setFuture(executor.submit(taskDecorator.decorate(() -> execute(invocation, operation))));
+		} catch (RejectedExecutionException e) {
+			invocations.remove(invocation.getHandleId());
+			invocation.releasePermit();
+
+			throw new OperationCapacityExceededException(operationKey);
+		}
+
+		long timeout = getEffectiveTimeoutMillis(clientTimeoutMillis);
+
+		if (timeout > 0 && !invocation.isFinished())
+			invocation.setTimeout(scheduler.schedule(() -> finish(invocation, ExecutionState.TIMEOUT, null, "The invocation exceeded its timeout of " + timeout + " ms"), timeout, TimeUnit.MILLISECONDS));
+
+		return invocation.getHandleId();
+	}
+
+	/**
+	 * Returns the invocation with the given handle id
+	 * 
+	 * @param handleId
+	 * @return the invocation
+	 * 
+	 * @throws ElementDoesNotExistException
+	 *             if the handle id is unknown, the invocation has been evicted
+	 *             or it has been submitted by another subject
+	 */
+	public AsyncOperationInvocation getInvocation(String handleId) {
+		AsyncOperationInvocation invocation = invocations.get(handleId);
+
+		if (invocation == null || !Objects.equals(invocation.getSubject(), subjectProvider.getSubject()))
+			throw new ElementDoesNotExistException(handleId);
+
+		return invocation;
+	}
+
+	/**
+	 * Cancels the invocation with the given handle id. A queued invocation is
+	 * removed from the queue, a running one is interrupted. Finished
+	 * invocations are left unchanged.
+	 * 
+	 * @param handleId
+	 * @return the invocation
+	 * 
+	 * @throws ElementDoesNotExistException
+	 *             if the handle id is unknown, the invocation has been evicted
+	 *             or it has been submitted by another subject
+	 */
+	public AsyncOperationInvocation cancel(String handleId) {
+		AsyncOperationInvocation invocation = getInvocation(handleId);
+
+		finish(invocation, ExecutionState.CANCELED, null, "The invocation has been canceled");
+
+		return invocation;
+	}
+
+	/**
+	 * Stops the worker pool. Queued and running invocations are interrupted.
+	 */
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Removes the invocations that have been finished for longer than the
+	 * retention period
+	 */
+	void evictExpired() {
+		long expiredBefore = clock.getAsLong() - resultRetentionMillis;
+
+		invocations.values().removeIf(invocation -> invocation.isFinished() && invocation.getFinishedAt() <= expiredBefore);
+	}
+
+	private void execute(AsyncOperationInvocation invocation, Supplier<OperationVariable[]> operation) {
+		if (!invocation.start())
+			return;
+
+		try {
+			OperationVariable[] result = operation.get();
+			finish(invocation, ExecutionState.COMPLETED, result, null);
+		} catch (RuntimeException e) {
+			logger.warn("Invocation {} of the Operation {} failed: {}", invocation.getHandleId(), invocation.getOperationKey(), e.getMessage());
+			finish(invocation, ExecutionState.FAILED, null, e.getMessage());
+		} finally {
+			invocation.releasePermit();
+		}
+	}
+
+	private void finish(AsyncOperationInvocation invocation, ExecutionState state, OperationVariable[] result, String failureMessage) {
+		ExecutionState previous = invocation.finish(state, result, failureMessage, clock.getAsLong());
+
+		if (previous == null)
+			return;
+
+		cancelQuietly(invocation.getTimeout(), false);
+
+		if (previous == ExecutionState.INITIATED) {
+			dequeue(invocation.getFuture());
+			invocation.releasePermit();
+		} else if (state != ExecutionState.COMPLETED && state != ExecutionState.FAILED) {
+			cancelQuietly(invocation.getFuture(), true);
+		}
+	}
+
+	private void dequeue(Future<?> future) {
+		if (future == null)
+			return;
+
+		future.cancel(false);
+
+		if (future instanceof Runnable)
+			executor.remove((Runnable) future);
+	}
+
+	private long getEffectiveTimeoutMillis(Long clientTimeoutMillis) {
+		if (clientTimeoutMillis == null || clientTimeoutMillis <= 0)
+			return timeoutMillis;
+
+		if (timeoutMillis <= 0)
+			return clientTimeoutMillis;
+
+		return Math.min(timeoutMillis, clientTimeoutMillis);
+	}
+
+	private static void cancelQuietly(Future<?> future, boolean interrupt) {
+		if (future != null)
+			future.cancel(interrupt);
+	}
+
+	private static ThreadFactory createThreadFactory(String prefix) {
+		AtomicInteger counter = new AtomicInteger();
+
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.outbox;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry.Action;
+
+/**
+ * InMemory implementation of the {@link Outbox}. Pending entries are lost on
+ * restart, just like the data of the InMemory backends they belong to.
+ * 
+ * @author danish
+ *
+ */
+public class InMemoryOutbox implements Outbox {
+
+	private final Map<String, OutboxEntry> entries = new ConcurrentHashMap<>();
+	private final LongSupplier clock;
+
+	public InMemoryOutbox() {
+		this(System::currentTimeMillis);
+	}
+
+	InMemoryOutbox(LongSupplier clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public void enqueue(String id, Action action) {
+		long now = clock.getAsLong();
+
+		entries.compute(id, (key, pending) -> new OutboxEntry(id, action, UUID.randomUUID().toString(), pending == null ? now : pending.getEnqueuedAt(), 0, now));
+	}
+
+	@Override
+	public List<OutboxEntry> getDue(long now, int limit) {
+		return entries.values().stream().filter(entry -> entry.getNextAttemptAt() <= now).sorted(Comparator.comparingLong(OutboxEntry::getEnqueuedAt)).limit(limit).collect(Collectors.toList());
+	}
+
+	@Override
+	public boolean acknowledge(OutboxEntry entry) {
+		AtomicBoolean removed = new AtomicBoolean();
+
+		entries.computeIfPresent(entry.getId(), (id, pending) -> {
+			if (!isSameRevision(pending, entry))
+				return pending;
+
+			removed.set(true);
+			return null;
+		});
+
+		return removed.get();
+	}
+
+	@Override
+	public boolean reschedule(OutboxEntry entry, long nextAttemptAt) {
+		AtomicBoolean rescheduled = new AtomicBoolean();
+
+		entries.computeIfPresent(entry.getId(), (id, pending) -> {
+			if (!isSameRevision(pending, entry))
+				return pending;
+
+			rescheduled.set(true);
+			return new OutboxEntry(id, pending.getAction(), pending.getRevision(), pending.getEnqueuedAt(), pending.getAttempts() + 1, nextAttemptAt);
+		});
+
+		return rescheduled.get();
+	}
+
+	@Override
+	public long size() {
+		return entries.size();
+	}
+
+	@Override
+	public OptionalLong getOldestEnqueuedAt() {
+		return entries.values().stream().mapToLong(OutboxEntry::getEnqueuedAt).min();
+	}
+
+	private static boolean isSameRevision(OutboxEntry pending, OutboxEntry processed) {
+		return pending.getRevision().equals(processed.getRevision());
+	}
+
+}
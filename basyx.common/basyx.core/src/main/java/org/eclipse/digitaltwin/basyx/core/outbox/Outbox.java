@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.outbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry.Action;
+
+/**
+ * Queue of intents that have to be propagated to an external system (e.g. a
+ * Registry) after a modification has been persisted. <br>
+ * <br>
+ * Intents are coalesced per identifier: enqueueing an intent for an identifier
+ * that already has a pending entry replaces the action of the entry, resets
+ * its attempts and makes it due immediately. Thus, only the latest intent of an
+ * identifier is propagated.
+ * 
+ * @author danish
+ *
+ */
+public interface Outbox {
+
+	/**
+	 * Enqueues the intent for the identifier, replacing a pending intent of the
+	 * same identifier
+	 * 
+	 * @param id
+	 *            the identifier
+	 * @param action
+	 *            the intent
+	 */
+	public void enqueue(String id, Action action);
+
+	/**
+	 * Enqueues the same intent for all identifiers
+	 * 
+	 * @param ids
+	 *            the identifiers
+	 * @param action
+	 *            the intent
+	 */
+	public default void enqueueAll(Collection<String> ids, Action action) {
+		ids.forEach(id -> enqueue(id, action));
+	}
+
+	/**
+	 * Returns the entries that are due at the passed time, oldest first.
+	 * Implementations shared by several instances claim the returned entries,
+	 * so that each entry is processed by a single instance at a time.
+	 * 
+	 * @param now
+	 *            the current time in milliseconds
+	 * @param limit
+	 *            the maximum number of entries
+	 * @return the due entries
+	 */
+	public List<OutboxEntry> getDue(long now, int limit);
+
+	/**
+	 * Removes the entry after its intent has been propagated. The entry is kept
+	 * if it has been replaced by a newer intent in the meantime.
+	 * 
+	 * @param entry
+	 *            the processed entry
+	 * @return true, if the entry has been removed
+	 */
+	public boolean acknowledge(OutboxEntry entry);
+
+	/**
+	 * Schedules another attempt of the entry after a failed attempt and counts
+	 * the failure. The entry is left untouched if it has been replaced by a
+	 * newer intent in the meantime.
+	 * 
+	 * @param entry
+	 *            the processed entry
+	 * @param nextAttemptAt
+	 *            the time in milliseconds of the next attempt
+	 * @return true, if the entry has been rescheduled
+	 */
+	public boolean reschedule(OutboxEntry entry, long nextAttemptAt);
+
+	/**
+	 * Returns the number of pending entries
+	 * 
+	 * @return the number of pending entries
+	 */
+	public long size();
+
+	/**
+	 * Returns the enqueue time of the oldest pending entry
+	 * 
+	 * @return the enqueue time in milliseconds or empty, if no entry is pending
+	 */
+	public OptionalLong getOldestEnqueuedAt();
+
+}
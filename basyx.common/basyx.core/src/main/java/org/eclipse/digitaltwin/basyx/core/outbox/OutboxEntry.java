@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.outbox;
+
+/**
+ * A pending intent of an {@link Outbox}. <br>
+ * <br>
+ * Each identifier has at most one entry. The revision changes whenever a new
+ * intent replaces the entry, so that a worker only removes or reschedules the
+ * entry it has actually processed.
+ * 
+ * @author danish
+ *
+ */
+public class OutboxEntry {
+
+	/**
+	 * The intent to propagate for an identifier
+	 */
+	public enum Action {
+		/**
+		 * The identifier has been created or updated
+		 */
+		UPSERT,
+
+		/**
+		 * The identifier has been deleted
+		 */
+		DELETE
+	}
+
+	private final String id;
+	private final Action action;
+	private final String revision;
+	private final long enqueuedAt;
+	private final int attempts;
+	private final long nextAttemptAt;
+
+	public OutboxEntry(String id, Action action, String revision, long enqueuedAt, int attempts, long nextAttemptAt) {
+		this.id = id;
+		this.action = action;
+		this.revision = revision;
+		this.enqueuedAt = enqueuedAt;
+		this.attempts = attempts;
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Action getAction() {
+		return action;
+	}
+
+	public String getRevision() {
+		return revision;
+	}
+
+	/**
+	 * Returns the time in milliseconds at which the oldest not yet propagated
+	 * intent of the identifier has been enqueued. It is kept when the entry is
+	 * replaced by a newer intent.
+	 * 
+	 * @return the enqueue time
+	 */
+	public long getEnqueuedAt() {
+		return enqueuedAt;
+	}
+
+	/**
+	 * Returns the number of failed attempts to propagate the current intent
+	 * 
+	 * @return the number of failed attempts
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public long getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+
+}
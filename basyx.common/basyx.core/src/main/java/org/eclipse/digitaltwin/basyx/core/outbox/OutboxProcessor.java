@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.outbox;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Background worker draining an {@link Outbox}. <br>
+ * <br>
+ * Every poll interval, the due entries are fetched in batches and passed to
+ * the {@link OutboxSender}. A propagated entry is acknowledged, a failed one
+ * is retried with an exponential backoff that is capped at the maximum
+ * backoff. Failed entries are retried until they succeed or are replaced by a
+ * newer intent, so that the external system eventually converges.
+ * 
+ * @author danish
+ *
+ */
+public class OutboxProcessor implements AutoCloseable {
+	private static final Logger logger = LoggerFactory.getLogger(OutboxProcessor.class);
+
+	private static final int MAX_BACKOFF_EXPONENT = 30;
+
+	private final String name;
+	private final Outbox outbox;
+	private final OutboxSender sender;
+	private final int batchSize;
+	private final long pollIntervalMillis;
+	private final long initialBackoffMillis;
+	private final long maximumBackoffMillis;
+	private final LongSupplier clock;
+
+	private final AtomicLong sent = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong oldestEnqueuedAt = new AtomicLong(-1);
+
+	private ScheduledExecutorService scheduler;
+
+	public OutboxProcessor(String name, Outbox outbox, OutboxSender sender, int batchSize, long pollIntervalMillis, long initialBackoffMillis, long maximumBackoffMillis) {
+		this(name, outbox, sender, batchSize, pollIntervalMillis, initialBackoffMillis, maximumBackoffMillis, System::currentTimeMillis);
+	}
+
+	OutboxProcessor(String name, Outbox outbox, OutboxSender sender, int batchSize, long pollIntervalMillis, long initialBackoffMillis, long maximumBackoffMillis, LongSupplier clock) {
+		if (batchSize < 1)
+			throw new IllegalArgumentException("The batch size of the outbox '" + name + "' has to be positive");
+
+		this.name = name;
+		this.outbox = outbox;
+		this.sender = sender;
+		this.batchSize = batchSize;
+		this.pollIntervalMillis = pollIntervalMillis;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.maximumBackoffMillis = Math.max(initialBackoffMillis, maximumBackoffMillis);
+		this.clock = clock;
+	}
+
+	/**
+	 * Starts draining the outbox in the background
+	 */
+	public synchronized void start() {
+		if (scheduler != null)
+			return;
+
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "basyx-outbox-" + name);
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		scheduler.scheduleWithFixedDelay(this::drain, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops draining the outbox. Pending entries stay in the outbox.
+	 */
+	@Override
+	public synchronized void close() {
+		if (scheduler == null)
+			return;
+
+		scheduler.shutdownNow();
+		scheduler = null;
+	}
+
+	/**
+	 * Processes batches of due entries until no full batch is due anymore or an
+	 * entry of a batch has failed
+	 * 
+	 * @return the number of processed entries
+	 */
+	public int drain() {
+		int processed = 0;
+
+		try {
+			List<OutboxEntry> batch;
+			boolean allSent;
+			do {
+				long now = clock.getAsLong();
+
+				batch = outbox.getDue(now, batchSize);
+				allSent = true;
+
+				for (OutboxEntry entry : batch)
+					allSent &= process(entry, now);
+
+				processed += batch.size();
+			} while (batch.size() == batchSize && allSent && !Thread.currentThread().isInterrupted());
+		} catch (RuntimeException e) {
+			logger.error("Unable to process the outbox '{}'", name, e);
+		} finally {
+			refreshLag();
+		}
+
+		return processed;
+	}
+
+	/**
+	 * Returns the number of propagated intents
+	 * 
+	 * @return the number of propagated intents
+	 */
+	public long getSentCount() {
+		return sent.get();
+	}
+
+	/**
+	 * Returns the number of failed attempts
+	 * 
+	 * @return the number of failed attempts
+	 */
+	public long getFailedCount() {
+		return failed.get();
+	}
+
+	/**
+	 * Returns the number of pending entries as of the last drain
+	 * 
+	 * @return the number of pending entries
+	 */
+	public long getPendingCount() {
+		return pending.get();
+	}
+
+	/**
+	 * Returns how long the oldest pending entry has been waiting as of the last
+	 * drain
+	 * 
+	 * @return the lag in milliseconds or 0, if no entry is pending
+	 */
+	public long getLagMillis() {
+		long enqueuedAt = oldestEnqueuedAt.get();
+
+		if (enqueuedAt < 0)
+			return 0;
+
+		return Math.max(0, clock.getAsLong() - enqueuedAt);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	private boolean process(OutboxEntry entry, long now) {
+		try {
+			sender.send(entry);
+		} catch (RuntimeException e) {
+			failed.incrementAndGet();
+
+			long backoff = getBackoffMillis(entry.getAttempts());
+			outbox.reschedule(entry, now + backoff);
+
+			logger.warn("Unable to propagate {} of '{}' from the outbox '{}' (attempt {}), retrying in {} ms: {}", entry.getAction(), entry.getId(), name, entry.getAttempts() + 1, backoff, e.getMessage());
+			return false;
+		}
+
+		sent.incrementAndGet();
+		outbox.acknowledge(entry);
+
+		return true;
+	}
+
+	private long getBackoffMillis(int previousAttempts) {
+		int exponent = Math.min(previousAttempts, MAX_BACKOFF_EXPONENT);
+
+		if (initialBackoffMillis > maximumBackoffMillis >> exponent)
+			return maximumBackoffMillis;
+
+		return initialBackoffMillis << exponent;
+	}
+
+	private void refreshLag() {
+		try {
+			pending.set(outbox.size());
+
+			OptionalLong oldest = outbox.getOldestEnqueuedAt();
+			oldestEnqueuedAt.set(oldest.orElse(-1));
+		} catch (RuntimeException e) {
+			logger.error("Unable to determine the lag of the outbox '{}'", name, e);
+		}
+	}
+
+}
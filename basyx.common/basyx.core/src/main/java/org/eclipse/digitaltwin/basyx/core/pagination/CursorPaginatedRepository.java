@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.pagination;
+
+import java.util.List;
+
+/**
+ * Repository capable of serving cursor based pages directly from its sorted
+ * storage, i.e., without loading and sorting all elements for each page
+ * 
+ * <p>
+ * Elements are ordered by their identifier. The returned cursor follows the
+ * semantics of {@link PaginationSupport}.
+ * </p>
+ * 
+ * @author mateusmolina, danish
+ *
+ * @param <T>
+ */
+public interface CursorPaginatedRepository<T> {
+
+	/**
+	 * Returns the page of elements following the cursor of the passed
+	 * {@link PaginationInfo}
+	 * 
+	 * @param pInfo
+	 * @return the requested page and the cursor of the next page
+	 */
+	public CursorResult<List<T>> findAll(PaginationInfo pInfo);
+
+}
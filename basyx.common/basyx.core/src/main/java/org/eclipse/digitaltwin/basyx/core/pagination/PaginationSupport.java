@@ -29,17 +29,23 @@ package org.eclipse.digitaltwin.basyx.core.pagination;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
+import java.util.NavigableMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * Computes cursor based pages of a sorted map. As the page is read from a tail
+ * view of the map, backends maintaining a sorted map, e.g., a
+ * {@link java.util.concurrent.ConcurrentSkipListMap}, can pass it directly to
+ * serve a page in O(limit + log n).
+ */
 public class PaginationSupport<T extends Object> {
 
-	private final TreeMap<String, T> sortedMap;
+	private final NavigableMap<String, T> sortedMap;
 	private final Function<T, String> idResolver;
 
-	public PaginationSupport(TreeMap<String, T> sortedMap, Function<T, String> idResolver) {
+	public PaginationSupport(NavigableMap<String, T> sortedMap, Function<T, String> idResolver) {
 		this.sortedMap = sortedMap;
 		this.idResolver = idResolver;
 	}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.version;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+
+/**
+ * InMemory implementation of the {@link VersionStore}. <br>
+ * <br>
+ * Versions are drawn from a single sequence, so a deleted identifier can be
+ * forgotten without risking that a recreated Identifiable reuses one of its
+ * versions. The sequence starts at the current time in microseconds, so that
+ * versions also keep increasing across restarts.
+ * 
+ * @author danish
+ *
+ */
+public class InMemoryVersionStore implements VersionStore {
+
+	private final AtomicLong sequence = new AtomicLong(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+	private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+	@Override
+	public long getVersion(String id) {
+		return versions.getOrDefault(id, 0L);
+	}
+
+	@Override
+	public long incrementVersion(String id) {
+		long version = sequence.incrementAndGet();
+
+		versions.merge(id, version, Math::max);
+
+		return version;
+	}
+
+	@Override
+	public long incrementVersion(String id, long expectedVersion) throws VersionMismatchException {
+		return versions.compute(id, (key, current) -> {
+			if ((current == null ? 0 : current) != expectedVersion)
+				throw new VersionMismatchException(id);
+
+			return sequence.incrementAndGet();
+		});
+	}
+
+	@Override
+	public void incrementVersions(Collection<String> ids) {
+		ids.forEach(this::incrementVersion);
+	}
+
+	@Override
+	public void removeVersions(Collection<String> ids) {
+		ids.forEach(versions::remove);
+	}
+
+}
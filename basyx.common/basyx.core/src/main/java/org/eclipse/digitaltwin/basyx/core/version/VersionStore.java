@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.version;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+
+/**
+ * Stores a version per identifier of an Identifiable (e.g. a Submodel). The
+ * version is increased on every modification, so that clients can detect
+ * changes without loading the Identifiable itself.<br>
+ * <br>
+ * Versions of an identifier are strictly increasing, even if the Identifiable
+ * is deleted and created again with the same identifier. Thus, a version never
+ * denotes two different states of the same Identifiable.
+ * 
+ * @author danish
+ *
+ */
+public interface VersionStore {
+
+	/**
+	 * Returns the current version of the identifier
+	 * 
+	 * @param id
+	 *            the identifier
+	 * @return the current version or 0, if no version has been recorded yet
+	 */
+	public long getVersion(String id);
+
+	/**
+	 * Increases the version of the identifier. Has to be called before the
+	 * modification is persisted, so that a failing write can leave an unchanged
+	 * Identifiable under a new version, but never a changed Identifiable under
+	 * its old version.
+	 * 
+	 * @param id
+	 *            the identifier
+	 * @return the new version
+	 */
+	public long incrementVersion(String id);
+
+	/**
+	 * Increases the version of the identifier if it equals the expected version.
+	 * The comparison and the increment are a single atomic step, so that only one
+	 * of several writers expecting the same version succeeds, even if they run
+	 * on different instances.
+	 * 
+	 * @param id
+	 *            the identifier
+	 * @param expectedVersion
+	 *            the version the writer expects
+	 * @return the new version
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected one
+	 */
+	public long incrementVersion(String id, long expectedVersion) throws VersionMismatchException;
+
+	/**
+	 * Increases the versions of all identifiers
+	 * 
+	 * @param ids
+	 *            the identifiers
+	 */
+	public void incrementVersions(Collection<String> ids);
+
+	/**
+	 * Invalidates the versions of deleted identifiers
+	 * 
+	 * @param ids
+	 *            the identifiers
+	 */
+	public void removeVersions(Collection<String> ids);
+
+	/**
+	 * Invalidates the version of a deleted identifier
+	 * 
+	 * @param id
+	 *            the identifier
+	 */
+	public default void removeVersion(String id) {
+		removeVersions(List.of(id));
+	}
+
+}
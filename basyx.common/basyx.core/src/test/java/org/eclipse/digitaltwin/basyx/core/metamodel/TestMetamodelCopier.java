@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.metamodel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AasSubmodelElements;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetKind;
+import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.Direction;
+import org.eclipse.digitaltwin.aas4j.v3.model.EntityType;
+import org.eclipse.digitaltwin.aas4j.v3.model.KeyTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceTypes;
+import org.eclipse.digitaltwin.aas4j.v3.model.StateOfEvent;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAdministrativeInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultAssetInformation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBasicEventElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBlob;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultCapability;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultDataSpecificationIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultExtension;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultKey;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringNameType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringPreferredNameTypeIec61360;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLevelType;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultMultiLanguageProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperation;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRange;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReferenceElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultResource;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSpecificAssetId;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultValueList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultValueReferencePair;
+import org.junit.Test;
+
+/**
+ * Tests the {@link MetamodelCopier}
+ * 
+ * @author danish
+ *
+ */
+public class TestMetamodelCopier {
+
+	@Test
+	public void deepCopyOfSubmodelIsEqual() {
+		Submodel submodel = createSubmodel();
+
+		Submodel copy = MetamodelCopier.deepCopy(submodel);
+
+		assertEquals(submodel, copy);
+		assertNotSame(submodel, copy);
+	}
+
+	@Test
+	public void deepCopyOfSubmodelIsIndependent() {
+		Submodel submodel = createSubmodel();
+		Submodel copy = MetamodelCopier.deepCopy(submodel);
+
+		SubmodelElementCollection collection = (SubmodelElementCollection) copy.getSubmodelElements().get(1);
+		((Property) collection.getValue().get(0)).setValue("changed");
+		((Blob) copy.getSubmodelElements().get(6)).getValue()[0] = 42;
+		copy.getSemanticId().getKeys().get(0).setValue("changed");
+
+		assertEquals(createSubmodel(), submodel);
+	}
+
+	@Test
+	public void copyMetadataOmitsSubmodelElements() {
+		Submodel submodel = createSubmodel();
+
+		Submodel copy = MetamodelCopier.copyMetadata(submodel);
+
+		assertNull(copy.getSubmodelElements());
+
+		copy.setSubmodelElements(submodel.getSubmodelElements());
+		assertEquals(submodel, copy);
+	}
+
+	@Test
+	public void copyWithoutValueOmitsValue() {
+		Property property = createProperty("prop", "123");
+
+		Property copy = (Property) MetamodelCopier.copyWithoutValue(property);
+
+		assertNull(copy.getValue());
+		assertEquals("123", property.getValue());
+
+		copy.setValue(property.getValue());
+		assertEquals(property, copy);
+	}
+
+	@Test
+	public void copyWithoutValueOmitsCollectionValue() {
+		SubmodelElementCollection collection = (SubmodelElementCollection) createSubmodel().getSubmodelElements().get(1);
+
+		SubmodelElementCollection copy = (SubmodelElementCollection) MetamodelCopier.copyWithoutValue(collection);
+
+		assertNull(copy.getValue());
+		assertEquals(collection.getIdShort(), copy.getIdShort());
+		assertEquals(collection.getQualifiers(), copy.getQualifiers());
+	}
+
+	@Test
+	public void copyWithoutValueKeepsBlobContentType() {
+		Blob blob = new DefaultBlob.Builder().idShort("blob").contentType("application/octet-stream").value(new byte[] { 1, 2, 3 }).build();
+
+		Blob copy = (Blob) MetamodelCopier.copyWithoutValue(blob);
+
+		assertNull(copy.getValue());
+		assertEquals("application/octet-stream", copy.getContentType());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, blob.getValue());
+	}
+
+	@Test
+	public void deepCopyOfShellIsEqual() {
+		AssetAdministrationShell shell = new DefaultAssetAdministrationShell.Builder().id("shellId").idShort("shell").derivedFrom(createReference("derived"))
+				.administration(new DefaultAdministrativeInformation.Builder().version("1").revision("0").creator(createReference("creator")).build())
+				.assetInformation(new DefaultAssetInformation.Builder().assetKind(AssetKind.INSTANCE).globalAssetId("globalAssetId").assetType("type")
+						.specificAssetIds(new DefaultSpecificAssetId.Builder().name("serial").value("1234").externalSubjectId(createReference("subject")).build())
+						.defaultThumbnail(new DefaultResource.Builder().path("thumbnail.png").contentType("image/png").build()).build())
+				.submodels(createReference("submodel")).build();
+
+		AssetAdministrationShell copy = MetamodelCopier.deepCopy(shell);
+
+		assertEquals(shell, copy);
+		assertNotSame(shell.getAssetInformation(), copy.getAssetInformation());
+	}
+
+	@Test
+	public void deepCopyOfConceptDescriptionIsEqual() {
+		DefaultDataSpecificationIec61360 iec61360 = new DefaultDataSpecificationIec61360.Builder()
+				.preferredName(new DefaultLangStringPreferredNameTypeIec61360.Builder().language("en").text("preferred").build()).unit("m").dataType(DataTypeIec61360.REAL_MEASURE)
+				.valueList(new DefaultValueList.Builder().valueReferencePairs(new DefaultValueReferencePair.Builder().value("1").valueId(createReference("one")).build()).build())
+				.levelType(new DefaultLevelType.Builder().min(true).nom(false).typ(false).max(true).build()).build();
+
+		ConceptDescription conceptDescription = new DefaultConceptDescription.Builder().id("cdId").idShort("cd").isCaseOf(createReference("case"))
+				.embeddedDataSpecifications(new DefaultEmbeddedDataSpecification.Builder().dataSpecification(createReference("iec61360")).dataSpecificationContent(iec61360).build()).build();
+
+		ConceptDescription copy = MetamodelCopier.deepCopy(conceptDescription);
+
+		assertEquals(conceptDescription, copy);
+		assertNotSame(iec61360, copy.getEmbeddedDataSpecifications().get(0).getDataSpecificationContent());
+	}
+
+	private static Submodel createSubmodel() {
+		List<SubmodelElement> elements = new ArrayList<>();
+		elements.add(createProperty("prop", "123"));
+		elements.add(new DefaultSubmodelElementCollection.Builder().idShort("collection").value(createProperty("nested", "456"))
+				.qualifiers(new DefaultQualifier.Builder().type("qualifierType").valueType(DataTypeDefXsd.STRING).value("qualifierValue").build()).build());
+		elements.add(new DefaultSubmodelElementList.Builder().idShort("list").orderRelevant(true).typeValueListElement(AasSubmodelElements.PROPERTY)
+				.valueTypeListElement(DataTypeDefXsd.INT).value(createProperty(null, "1")).build());
+		elements.add(new DefaultMultiLanguageProperty.Builder().idShort("mlp").value(new DefaultLangStringTextType.Builder().language("de").text("Hallo").build()).build());
+		elements.add(new DefaultRange.Builder().idShort("range").valueType(DataTypeDefXsd.INT).min("1").max("10").build());
+		elements.add(new DefaultFile.Builder().idShort("file").contentType("text/plain").value("file.txt").build());
+		elements.add(new DefaultBlob.Builder().idShort("blob").contentType("application/octet-stream").value(new byte[] { 1, 2, 3 }).build());
+		elements.add(new DefaultReferenceElement.Builder().idShort("refElement").value(createReference("referenced")).build());
+		elements.add(new DefaultRelationshipElement.Builder().idShort("relationship").first(createReference("first")).second(createReference("second")).build());
+		elements.add(new DefaultAnnotatedRelationshipElement.Builder().idShort("annotated").first(createReference("first")).second(createReference("second")).annotations(createProperty("annotation", "a")).build());
+		elements.add(new DefaultEntity.Builder().idShort("entity").entityType(EntityType.SELF_MANAGED_ENTITY).globalAssetId("asset").statements(createProperty("statement", "s"))
+				.specificAssetIds(new DefaultSpecificAssetId.Builder().name("serial").value("1").build()).build());
+		elements.add(new DefaultOperation.Builder().idShort("operation").inputVariables(new DefaultOperationVariable.Builder().value(createProperty("input", "in")).build())
+				.outputVariables(new DefaultOperationVariable.Builder().value(createProperty("output", "out")).build()).build());
+		elements.add(new DefaultBasicEventElement.Builder().idShort("event").observed(createReference("observed")).direction(Direction.OUTPUT).state(StateOfEvent.ON).messageTopic("topic").build());
+		elements.add(new DefaultCapability.Builder().idShort("capability").build());
+
+		return new DefaultSubmodel.Builder().id("submodelId").idShort("submodel").semanticId(createReference("semantic"))
+				.displayName(new DefaultLangStringNameType.Builder().language("en").text("Submodel").build()).description(new DefaultLangStringTextType.Builder().language("en").text("A submodel").build())
+				.extensions(new DefaultExtension.Builder().name("extension").value("x").refersTo(createReference("extended")).build()).submodelElements(elements).build();
+	}
+
+	private static Property createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort).category("PARAMETER").valueType(DataTypeDefXsd.STRING).value(value).semanticId(createReference(idShort + "Semantic")).build();
+	}
+
+	private static Reference createReference(String value) {
+		return new DefaultReference.Builder().type(ReferenceTypes.EXTERNAL_REFERENCE).keys(new DefaultKey.Builder().type(KeyTypes.GLOBAL_REFERENCE).value(value).build()).build();
+	}
+
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.operation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.OperationCapacityExceededException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AsyncOperationInvoker}
+ * 
+ * @author danish
+ *
+ */
+public class TestAsyncOperationInvoker {
+
+	private static final long RETENTION = 1000;
+	private static final long AWAIT_MILLIS = 5000;
+
+	private AtomicLong clock;
+	private AtomicReference<String> subject;
+	private CountDownLatch release;
+	private AsyncOperationInvoker invoker;
+
+	@Before
+	public void setUp() {
+		clock = new AtomicLong(System.currentTimeMillis());
+		subject = new AtomicReference<>("submitter");
+		release = new CountDownLatch(1);
+
+		invoker = new AsyncOperationInvoker(1, 1, 2, 0, RETENTION, runnable -> runnable, subject::get, clock::get);
+	}
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		invoker.close();
+	}
+
+	@Test
+	public void invocationCompletesWithResult() throws InterruptedException {
+		OperationVariable[] result = new OperationVariable[] { new DefaultOperationVariable.Builder().value(new DefaultProperty.Builder().idShort("out").build()).build() };
+
+		String handleId = invoker.invoke("operation", () -> result, null);
+
+		AsyncOperationInvocation invocation = awaitState(handleId, ExecutionState.COMPLETED);
+		assertSame(result, invocation.getResult());
+	}
+
+	@Test
+	public void failingInvocationIsFailed() throws InterruptedException {
+		String handleId = invoker.invoke("operation", () -> {
+			throw new IllegalStateException("broken");
+		}, null);
+
+		assertEquals("broken", awaitState(handleId, ExecutionState.FAILED).getFailureMessage());
+	}
+
+	@Test(expected = OperationCapacityExceededException.class)
+	public void invocationsBeyondOperationLimitAreRejected() {
+		invoker.invoke("operation", blocking(), null);
+		invoker.invoke("operation", blocking(), null);
+		invoker.invoke("operation", blocking(), null);
+	}
+
+	@Test(expected = OperationCapacityExceededException.class)
+	public void invocationsBeyondPoolCapacityAreRejected() {
+		invoker.invoke("first", blocking(), null);
+		invoker.invoke("second", blocking(), null);
+		invoker.invoke("third", blocking(), null);
+	}
+
+	@Test
+	public void invocationExceedingClientTimeoutIsTimedOut() throws InterruptedException {
+		String handleId = invoker.invoke("operation", blocking(), 50L);
+
+		awaitState(handleId, ExecutionState.TIMEOUT);
+
+		assertEquals(ExecutionState.COMPLETED, awaitState(invoker.invoke("operation", () -> new OperationVariable[0], null), ExecutionState.COMPLETED).getExecutionState());
+	}
+
+	@Test
+	public void canceledQueuedInvocationReleasesItsCapacity() throws InterruptedException {
+		String running = invoker.invoke("operation", blocking(), null);
+		String queued = invoker.invoke("operation", blocking(), null);
+
+		assertEquals(ExecutionState.CANCELED, invoker.cancel(queued).getExecutionState());
+
+		String replacement = invoker.invoke("operation", () -> new OperationVariable[0], null);
+
+		invoker.cancel(running);
+		awaitState(replacement, ExecutionState.COMPLETED);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void finishedInvocationIsEvictedAfterRetention() throws InterruptedException {
+		String handleId = invoker.invoke("operation", () -> new OperationVariable[0], null);
+		awaitState(handleId, ExecutionState.COMPLETED);
+
+		invoker.evictExpired();
+		invoker.getInvocation(handleId);
+
+		clock.addAndGet(RETENTION);
+		invoker.evictExpired();
+
+		invoker.getInvocation(handleId);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void invocationOfOtherSubjectCannotBeCanceled() {
+		String handleId = invoker.invoke("operation", blocking(), null);
+
+		subject.set("other");
+
+		invoker.cancel(handleId);
+	}
+
+	private Supplier<OperationVariable[]> blocking() {
+		return () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return new OperationVariable[0];
+		};
+	}
+
+	private AsyncOperationInvocation awaitState(String handleId, ExecutionState expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+
+		AsyncOperationInvocation invocation = invoker.getInvocation(handleId);
+
+		while (invocation.getExecutionState() != expected && System.currentTimeMillis() < deadline)
+			TimeUnit.MILLISECONDS.sleep(10);
+
+		assertEquals(expected, invocation.getExecutionState());
+
+		return invocation;
+	}
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.outbox;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry.Action;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link OutboxProcessor} draining an {@link InMemoryOutbox}
+ * 
+ * @author danish
+ *
+ */
+public class TestOutboxProcessor {
+
+	private static final int BATCH_SIZE = 2;
+	private static final long INITIAL_BACKOFF = 100;
+	private static final long MAXIMUM_BACKOFF = 300;
+
+	private InMemoryOutbox outbox;
+	private AtomicLong clock;
+	private List<OutboxEntry> sentEntries;
+	private Set<String> failingIds;
+	private OutboxProcessor processor;
+
+	@Before
+	public void setUp() {
+		clock = new AtomicLong(System.currentTimeMillis());
+		outbox = new InMemoryOutbox(clock::get);
+		sentEntries = new ArrayList<>();
+		failingIds = new HashSet<>();
+
+		processor = new OutboxProcessor("test", outbox, this::send, BATCH_SIZE, 1000, INITIAL_BACKOFF, MAXIMUM_BACKOFF, clock::get);
+	}
+
+	@Test
+	public void intentsAreCoalescedPerId() {
+		outbox.enqueue("a", Action.UPSERT);
+		long enqueuedAt = outbox.getDue(clock.get(), 1).get(0).getEnqueuedAt();
+
+		outbox.enqueue("a", Action.UPSERT);
+		outbox.enqueue("a", Action.DELETE);
+
+		assertEquals(1, outbox.size());
+
+		OutboxEntry entry = outbox.getDue(clock.get(), 1).get(0);
+		assertEquals(Action.DELETE, entry.getAction());
+		assertEquals(enqueuedAt, entry.getEnqueuedAt());
+	}
+
+	@Test
+	public void replacedEntryIsNotAcknowledged() {
+		outbox.enqueue("a", Action.UPSERT);
+		OutboxEntry processed = outbox.getDue(clock.get(), 1).get(0);
+
+		outbox.enqueue("a", Action.DELETE);
+
+		assertFalse(outbox.acknowledge(processed));
+		assertFalse(outbox.reschedule(processed, clock.get()));
+		assertEquals(Action.DELETE, outbox.getDue(clock.get(), 1).get(0).getAction());
+	}
+
+	@Test
+	public void drainSendsAllDueEntriesInBatches() {
+		outbox.enqueueAll(List.of("a", "b", "c", "d", "e"), Action.UPSERT);
+
+		assertEquals(5, processor.drain());
+
+		assertEquals(5, sentEntries.size());
+		assertEquals(5, processor.getSentCount());
+		assertEquals(0, outbox.size());
+		assertEquals(0, processor.getPendingCount());
+		assertEquals(0, processor.getLagMillis());
+	}
+
+	@Test
+	public void failedEntryIsRetriedWithCappedBackoff() {
+		failingIds.add("a");
+		outbox.enqueue("a", Action.UPSERT);
+
+		processor.drain();
+		assertNextAttemptIn(INITIAL_BACKOFF);
+		assertEquals(1, processor.getPendingCount());
+
+		assertEquals(0, processor.drain());
+
+		clock.addAndGet(INITIAL_BACKOFF);
+		processor.drain();
+		assertNextAttemptIn(2 * INITIAL_BACKOFF);
+
+		clock.addAndGet(2 * INITIAL_BACKOFF);
+		processor.drain();
+		assertNextAttemptIn(MAXIMUM_BACKOFF);
+
+		assertEquals(3, processor.getFailedCount());
+		assertEquals(3 * INITIAL_BACKOFF, processor.getLagMillis());
+
+		failingIds.clear();
+		clock.addAndGet(MAXIMUM_BACKOFF);
+		processor.drain();
+
+		assertEquals(1, sentEntries.size());
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void newIntentOfFailedEntryIsDueImmediately() {
+		failingIds.add("a");
+		outbox.enqueue("a", Action.UPSERT);
+		processor.drain();
+
+		failingIds.clear();
+		outbox.enqueue("a", Action.DELETE);
+		processor.drain();
+
+		assertEquals(1, sentEntries.size());
+		assertEquals(Action.DELETE, sentEntries.get(0).getAction());
+		assertTrue(outbox.getOldestEnqueuedAt().isEmpty());
+	}
+
+	private void assertNextAttemptIn(long backoff) {
+		assertEquals(0, outbox.getDue(clock.get(), 1).size());
+		assertEquals(clock.get() + backoff, outbox.getDue(Long.MAX_VALUE, 1).get(0).getNextAttemptAt());
+	}
+
+	private void send(OutboxEntry entry) {
+		if (failingIds.contains(entry.getId()))
+			throw new IllegalStateException("Registry unavailable");
+
+		sentEntries.add(entry);
+	}
+
+}
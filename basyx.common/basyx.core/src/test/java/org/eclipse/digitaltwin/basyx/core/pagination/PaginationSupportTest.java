@@ -2,6 +2,7 @@ package org.eclipse.digitaltwin.basyx.core.pagination;
 
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -61,6 +62,21 @@ public class PaginationSupportTest {
 		Assert.assertNull(cursorResult.getCursor());
 	}
 
+	@Test
+	public void testPaginationOnMaintainedMap() {
+		ConcurrentSkipListMap<String, String> sorted = new ConcurrentSkipListMap<>();
+		PaginationSupport<String> support = new PaginationSupport<String>(sorted, Function.identity());
+		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
+
+		CursorResult<List<String>> cursorResult = support.getPaged(new PaginationInfo(3, "5"));
+		Assert.assertArrayEquals(new String[] { "6", "7", "8" }, cursorResult.getResult().toArray(String[]::new));
+		Assert.assertEquals("8", cursorResult.getCursor());
+
+		sorted.put("75", "75");
+		cursorResult = support.getPaged(new PaginationInfo(3, "5"));
+		Assert.assertArrayEquals(new String[] { "6", "7", "75" }, cursorResult.getResult().toArray(String[]::new));
+	}
+
 	private PaginationSupport<String> getPaginationSupport() {
 		TreeMap<String, String> sorted = new TreeMap<>();
 		IntStream.iterate(0, i -> ++i).limit(10).mapToObj(Integer::toString).forEach(i -> sorted.put(i, i));
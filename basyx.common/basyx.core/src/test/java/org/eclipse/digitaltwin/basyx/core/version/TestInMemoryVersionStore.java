@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.version;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the conditional increment of the {@link InMemoryVersionStore}
+ * 
+ * @author danish
+ *
+ */
+public class TestInMemoryVersionStore {
+
+	private static final String ID = "id";
+
+	private VersionStore versionStore;
+
+	@Before
+	public void setUp() {
+		versionStore = new InMemoryVersionStore();
+	}
+
+	@Test
+	public void conditionalIncrementWithCurrentVersion() {
+		long version = versionStore.incrementVersion(ID);
+
+		long incremented = versionStore.incrementVersion(ID, version);
+
+		assertTrue(incremented > version);
+		assertEquals(incremented, versionStore.getVersion(ID));
+	}
+
+	@Test
+	public void conditionalIncrementOfUnknownIdentifier() {
+		long incremented = versionStore.incrementVersion(ID, 0);
+
+		assertEquals(incremented, versionStore.getVersion(ID));
+	}
+
+	@Test(expected = VersionMismatchException.class)
+	public void conditionalIncrementWithOutdatedVersionIsRejected() {
+		long version = versionStore.incrementVersion(ID);
+		versionStore.incrementVersion(ID);
+
+		versionStore.incrementVersion(ID, version);
+	}
+
+}
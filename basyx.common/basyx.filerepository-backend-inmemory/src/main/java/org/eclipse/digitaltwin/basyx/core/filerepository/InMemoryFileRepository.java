@@ -25,11 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.core.filerepository;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
@@ -70,13 +67,12 @@ public class InMemoryFileRepository implements FileRepository {
 	}
 
 	@Override
-	public InputStream find(String fileId) throws FileDoesNotExistException {
+	public FileResource find(String fileId) throws FileDoesNotExistException {
 
-		try {
-			return new FileInputStream(fileId);
-		} catch (FileNotFoundException e) {
+		if (!exists(fileId))
 			throw new FileDoesNotExistException();
-		}
+
+		return new PathFileResource(Paths.get(fileId), null);
 	}
 
 	@Override
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.filerepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+/**
+ * {@link FileResource} of a file stored in GridFS.
+ * 
+ * <p>
+ * Each {@link #getInputStream()} opens a new GridFS download stream, which
+ * fetches the chunks of the file on demand while it is read. Skipping to the
+ * start of a requested range skips whole chunks without fetching them.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class GridFsFileResource extends FileResource {
+
+	private final GridFsTemplate gridFsTemplate;
+	private final GridFSFile file;
+
+	public GridFsFileResource(GridFsTemplate gridFsTemplate, GridFSFile file) {
+		this.gridFsTemplate = gridFsTemplate;
+		this.file = file;
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return gridFsTemplate.getResource(file).getInputStream();
+	}
+
+	@Override
+	public String getContentType() {
+		try {
+			return new GridFsResource(file).getContentType();
+		} catch (MongoGridFSException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public long contentLength() {
+		return file.getLength();
+	}
+
+	@Override
+	public String getFilename() {
+		return file.getFilename();
+	}
+
+}
@@ -25,9 +25,6 @@
 
 package org.eclipse.digitaltwin.basyx.core.filerepository;
 
-import java.io.IOException;
-import java.io.InputStream;
-
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -73,14 +70,14 @@ public class MongoDBFileRepository implements FileRepository {
 	}
 
 	@Override
-	public InputStream find(String fileName) throws FileDoesNotExistException {
+	public FileResource find(String fileName) throws FileDoesNotExistException {
 
 		if (!exists(fileName))
 			throw new FileDoesNotExistException();
 
 		GridFSFile file = getFile(fileName);
 
-		return getGridFsFileAsInputStream(file);
+		return new GridFsFileResource(gridFsTemplate, file);
 	}
 
 	@Override
@@ -107,14 +104,4 @@ public class MongoDBFileRepository implements FileRepository {
 		return gridFsTemplate.findOne(new Query(Criteria.where(MONGO_FILENAME_FIELD).is(mongoDBfileId)));
 	}
 
-	private InputStream getGridFsFileAsInputStream(GridFSFile file) {
-
-		try {
-			return gridFsTemplate.getResource(file).getInputStream();
-		} catch (IllegalStateException | IOException e1) {
-			throw new IllegalStateException("Unable to get the file resource as input stream." + e1.getStackTrace());
-		}
-
-	}
-
 }
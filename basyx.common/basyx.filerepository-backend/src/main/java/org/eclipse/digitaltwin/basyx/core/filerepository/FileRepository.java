@@ -25,8 +25,6 @@
 
 package org.eclipse.digitaltwin.basyx.core.filerepository;
 
-import java.io.InputStream;
-
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 
@@ -48,13 +46,14 @@ public interface FileRepository {
 	public String save(FileMetadata metadata) throws FileHandlingException;
 	
 	/**
-	 * Finds and returns the InputStream of the file specified by its id.
+	 * Finds the file specified by its id. The returned {@link FileResource}
+	 * streams the content from the storage instead of loading it.
 	 * 
 	 * @param fileId
-	 * @return the InputStream of the file
+	 * @return the resource of the file
 	 * @throws FileDoesNotExistException
 	 */
-	public InputStream find(String fileId) throws FileDoesNotExistException;
+	public FileResource find(String fileId) throws FileDoesNotExistException;
 	
 	/**
 	 * Deletes the file specified by its id.
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.filerepository;
+
+import java.io.IOException;
+
+import org.springframework.core.io.AbstractResource;
+
+/**
+ * Represents the content of a file stored in a {@link FileRepository}.
+ * 
+ * <p>
+ * The content is not materialized. Each call to {@link #getInputStream()}
+ * opens a new stream on the underlying storage, so that the file can be
+ * streamed to a client and partially read for HTTP Range requests.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public abstract class FileResource extends AbstractResource {
+
+	/**
+	 * Returns the content type of the file
+	 * 
+	 * @return the content type or <code>null</code> if it is unknown
+	 */
+	public abstract String getContentType();
+
+	/**
+	 * Returns the size of the file in bytes without reading its content
+	 */
+	@Override
+	public abstract long contentLength() throws IOException;
+
+	@Override
+	public abstract String getFilename();
+
+	@Override
+	public boolean exists() {
+		return true;
+	}
+
+	@Override
+	public String getDescription() {
+		return getClass().getSimpleName() + " [" + getFilename() + "]";
+	}
+
+}
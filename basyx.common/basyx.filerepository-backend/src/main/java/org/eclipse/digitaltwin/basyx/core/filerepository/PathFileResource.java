@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.core.filerepository;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link FileResource} of a file on the local disk.
+ * 
+ * <p>
+ * The content is read through a {@link FileChannel}, so that skipping to the
+ * start of a requested range repositions the channel instead of reading the
+ * preceding bytes.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class PathFileResource extends FileResource {
+
+	private final Path path;
+	private final String contentType;
+
+	public PathFileResource(Path path, String contentType) {
+		this.path = path;
+		this.contentType = contentType;
+	}
+
+	public PathFileResource(File file) {
+		this(file.toPath(), null);
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return Channels.newInputStream(readableChannel());
+	}
+
+	@Override
+	public ReadableByteChannel readableChannel() throws IOException {
+		return FileChannel.open(path, StandardOpenOption.READ);
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public long contentLength() throws IOException {
+		return Files.size(path);
+	}
+
+	@Override
+	public String getFilename() {
+		return path.getFileName().toString();
+	}
+
+	@Override
+	public boolean exists() {
+		return Files.exists(path);
+	}
+
+	@Override
+	public boolean isFile() {
+		return true;
+	}
+
+	@Override
+	public File getFile() {
+		return path.toFile();
+	}
+
+}
@@ -38,7 +38,9 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchExcep
 import org.eclipse.digitaltwin.basyx.core.exceptions.InsufficientPermissionException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NullSubjectException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.OperationCapacityExceededException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.OperationDelegationException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -110,6 +112,11 @@ public class BaSyxExceptionHandler extends ResponseEntityExceptionHandler {
 		return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
 	}
 	
+	@ExceptionHandler(VersionMismatchException.class)
+	public <T> ResponseEntity<T> handleVersionMismatchException(VersionMismatchException exception) {
+		return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+	}
+	
 	@ExceptionHandler(InsufficientPermissionException.class)
 	public <T> ResponseEntity<T> handleInsufficientPermissionException(InsufficientPermissionException exception, WebRequest request) {
 		return new ResponseEntity<>(HttpStatus.FORBIDDEN);
@@ -124,4 +131,9 @@ public class BaSyxExceptionHandler extends ResponseEntityExceptionHandler {
 	public <T> ResponseEntity<T> handleNullSubjectException(OperationDelegationException exception) {
 		return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
 	}
+
+	@ExceptionHandler(OperationCapacityExceededException.class)
+	public <T> ResponseEntity<T> handleOperationCapacityExceededException(OperationCapacityExceededException exception) {
+		return new ResponseEntity<>(HttpStatus.TOO_MANY_REQUESTS);
+	}
 }
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http;
+
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Creates the responses of conditional requests based on the version of an
+ * Identifiable.
+ * 
+ * <p>
+ * The version is sent as strong ETag. If the <i>If-None-Match</i> header of a
+ * GET request matches the current ETag, <i>304 Not Modified</i> is returned
+ * without retrieving the Identifiable. For writes, a non-matching
+ * <i>If-Match</i> header is rejected with <i>412 Precondition Failed</i>.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class ETagResponseFactory {
+
+	private static final String ANY = "*";
+	private static final String WEAK_PREFIX = "W/";
+
+	private ETagResponseFactory() {
+	}
+
+	/**
+	 * Creates the response for a GET request
+	 * 
+	 * @param version
+	 *            the current version of the requested Identifiable
+	 * @param ifNoneMatch
+	 *            the value of the <i>If-None-Match</i> header, may be null
+	 * @param bodySupplier
+	 *            retrieves the Identifiable, only called if it has been modified
+	 * @return <i>304 Not Modified</i> if the header matches the version,
+	 *         <i>200 OK</i> with the Identifiable otherwise
+	 */
+	public static <T> ResponseEntity<T> create(long version, String ifNoneMatch, Supplier<T> bodySupplier) {
+		String eTag = toETag(version);
+
+		if (ifNoneMatch != null && matches(ifNoneMatch, eTag, true))
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+
+		return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(bodySupplier.get());
+	}
+
+	/**
+	 * Resolves the version a write request expects from its <i>If-Match</i>
+	 * header. The returned version has to be passed to the repository, which
+	 * compares it with the current version atomically with the write.
+	 * 
+	 * @param ifMatch
+	 *            the value of the <i>If-Match</i> header, may be null
+	 * @param version
+	 *            the current version of the Identifiable
+	 * @param id
+	 *            the identifier of the Identifiable
+	 * @return the expected version, empty if the header is absent or matches any
+	 *         version
+	 * @throws VersionMismatchException
+	 *             if the header is present and does not match the version
+	 */
+	public static OptionalLong getExpectedVersion(String ifMatch, long version, String id) throws VersionMismatchException {
+		if (ifMatch == null || containsAny(ifMatch))
+			return OptionalLong.empty();
+
+		if (!matches(ifMatch, toETag(version), false))
+			throw new VersionMismatchException(id);
+
+		return OptionalLong.of(version);
+	}
+
+	public static String toETag(long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * Checks whether the list of entity tags of a conditional header contains the
+	 * wildcard
+	 */
+	private static boolean containsAny(String header) {
+		for (String candidate : header.split(",")) {
+			if (candidate.trim().equals(ANY))
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Compares the list of entity tags of a conditional header with the ETag as
+	 * defined by RFC 9110. The weak comparison used for <i>If-None-Match</i>
+	 * ignores the weakness indicator, while the strong comparison used for
+	 * <i>If-Match</i> never matches weak tags.
+	 */
+	private static boolean matches(String header, String eTag, boolean weakComparison) {
+		for (String candidate : header.split(",")) {
+			String tag = candidate.trim();
+
+			if (tag.equals(ANY))
+				return true;
+
+			if (tag.startsWith(WEAK_PREFIX)) {
+				if (!weakComparison)
+					continue;
+
+				tag = tag.substring(WEAK_PREFIX.length());
+			}
+
+			if (tag.equals(eTag))
+				return true;
+		}
+
+		return false;
+	}
+
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http;
+
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Creates the responses for file downloads.
+ * 
+ * <p>
+ * The {@link FileResource} is passed to Spring as response body, so its
+ * content is streamed to the client. Since the length of the resource is known
+ * without reading it, Spring also answers HTTP Range requests with
+ * <i>206 Partial Content</i> by reading only the requested ranges.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class FileResourceResponseFactory {
+
+	private FileResourceResponseFactory() {
+	}
+
+	public static ResponseEntity<Resource> create(FileResource fileResource) {
+		HttpHeaders headers = new HttpHeaders();
+
+		MediaType mediaType = getMediaType(fileResource);
+
+		if (mediaType != null)
+			headers.setContentType(mediaType);
+
+		return new ResponseEntity<>(fileResource, headers, HttpStatus.OK);
+	}
+
+	private static MediaType getMediaType(FileResource fileResource) {
+		String contentType = fileResource.getContentType();
+
+		if (contentType == null || contentType.isBlank())
+			return null;
+
+		try {
+			return MediaType.parseMediaType(contentType);
+		} catch (InvalidMediaTypeException e) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.bulk;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Result of a single item of a bulk request
+ * 
+ * @author danish
+ *
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkOperationItemResult {
+
+	@JsonProperty("id")
+	private final String id;
+
+	@JsonProperty("status")
+	private final int status;
+
+	@JsonProperty("message")
+	private final String message;
+
+	@JsonCreator
+	public BulkOperationItemResult(@JsonProperty("id") String id, @JsonProperty("status") int status, @JsonProperty("message") String message) {
+		this.id = id;
+		this.status = status;
+		this.message = message;
+	}
+
+	/**
+	 * Returns the identifier of the item, e.g. the id of a Submodel or the
+	 * idShortPath of a SubmodelElement
+	 * 
+	 * @return
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the HTTP status code the item would have resulted in as single
+	 * request
+	 * 
+	 * @return
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+
+		if (o == null || getClass() != o.getClass())
+			return false;
+
+		BulkOperationItemResult other = (BulkOperationItemResult) o;
+		return status == other.status && Objects.equals(id, other.id) && Objects.equals(message, other.message);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, status, message);
+	}
+
+	@Override
+	public String toString() {
+		return "BulkOperationItemResult [id=" + id + ", status=" + status + ", message=" + message + "]";
+	}
+
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.http.bulk;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
+import org.eclipse.digitaltwin.basyx.http.BaSyxExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+/**
+ * Creates the responses of bulk requests.
+ * 
+ * <p>
+ * Each item is reported with the status code it would have resulted in as a
+ * single request, following the mapping of the {@link BaSyxExceptionHandler}.
+ * If all items succeeded, the response has the given success status, otherwise
+ * <i>207 Multi-Status</i>.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class BulkOperationResponseFactory {
+
+	private static final Logger logger = LoggerFactory.getLogger(BulkOperationResponseFactory.class);
+
+	private static final BaSyxExceptionHandler EXCEPTION_HANDLER = new BaSyxExceptionHandler();
+	private static final ExceptionHandlerMethodResolver EXCEPTION_HANDLER_METHODS = new ExceptionHandlerMethodResolver(BaSyxExceptionHandler.class);
+
+	private BulkOperationResponseFactory() {
+	}
+
+	public static ResponseEntity<List<BulkOperationItemResult>> create(List<BulkOperationResult> results, HttpStatus successStatus) {
+		List<BulkOperationItemResult> itemResults = results.stream().map(result -> toItemResult(result, successStatus)).collect(Collectors.toList());
+
+		boolean allSucceeded = results.stream().allMatch(BulkOperationResult::isSuccess);
+
+		return new ResponseEntity<>(itemResults, allSucceeded ? successStatus : HttpStatus.MULTI_STATUS);
+	}
+
+	private static BulkOperationItemResult toItemResult(BulkOperationResult result, HttpStatus successStatus) {
+		if (result.isSuccess())
+			return new BulkOperationItemResult(result.getId(), successStatus.value(), null);
+
+		RuntimeException failure = result.getFailure();
+		HttpStatusCode failureStatus = getFailureStatus(failure);
+
+		if (failureStatus.is5xxServerError()) {
+			// Internal failures are not exposed to the client
+			logger.error("Bulk operation failed for '{}'", result.getId(), failure);
+
+			return new BulkOperationItemResult(result.getId(), failureStatus.value(), HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase());
+		}
+
+		return new BulkOperationItemResult(result.getId(), failureStatus.value(), failure.getMessage());
+	}
+
+	/**
+	 * Resolves the status the {@link BaSyxExceptionHandler} responds with to the
+	 * failure, <i>500 Internal Server Error</i> if it does not handle the failure
+	 */
+	private static HttpStatusCode getFailureStatus(RuntimeException failure) {
+		Method handlerMethod = EXCEPTION_HANDLER_METHODS.resolveMethodByThrowable(failure);
+
+		if (handlerMethod == null)
+			return HttpStatus.INTERNAL_SERVER_ERROR;
+
+		try {
+			return ((ResponseEntity<?>) handlerMethod.invoke(EXCEPTION_HANDLER, createHandlerArguments(handlerMethod, failure))).getStatusCode();
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			return HttpStatus.INTERNAL_SERVER_ERROR;
+		}
+	}
+
+	private static Object[] createHandlerArguments(Method handlerMethod, RuntimeException failure) {
+		Class<?>[] parameterTypes = handlerMethod.getParameterTypes();
+		Object[] arguments = new Object[parameterTypes.length];
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			if (parameterTypes[i].isInstance(failure))
+				arguments[i] = failure;
+		}
+
+		return arguments;
+	}
+
+}
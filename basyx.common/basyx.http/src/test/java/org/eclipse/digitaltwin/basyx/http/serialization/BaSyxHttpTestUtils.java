@@ -182,6 +182,39 @@ public class BaSyxHttpTestUtils {
 		return client.execute(deleteRequest);
 	}
 	
+	/**
+	 * Performs a delete request with the passed content on the passed URL
+	 * 
+	 * @param url
+	 * @param content
+	 * @return
+	 * @throws IOException
+	 */
+	public static CloseableHttpResponse executeDeleteOnURL(String url, String content) throws IOException {
+		CloseableHttpClient client = HttpClients.createDefault();
+		HttpDelete deleteRequest = createDeleteRequestWithHeader(url);
+
+		deleteRequest.setEntity(new StringEntity(content));
+
+		return client.execute(deleteRequest);
+	}
+
+	/**
+	 * Performs a delete request with the passed header on the passed URL
+	 * 
+	 * @param url
+	 * @param header
+	 * @return
+	 * @throws IOException
+	 */
+	public static CloseableHttpResponse executeDeleteOnURL(String url, Header header) throws IOException {
+		CloseableHttpClient client = HttpClients.createDefault();
+		HttpDelete deleteRequest = createDeleteRequestWithHeader(url);
+		deleteRequest.setHeader(header);
+
+		return client.execute(deleteRequest);
+	}
+
 	public static CloseableHttpResponse executeAuthorizedDeleteOnURL(String url, String accessToken) throws IOException {
 		CloseableHttpClient client = HttpClients.createDefault();
 		HttpDelete deleteRequest = createDeleteRequestWithAuthorizationHeader(url, accessToken);
@@ -203,6 +236,24 @@ public class BaSyxHttpTestUtils {
 		return client.execute(putRequest);
 	}
 
+	/**
+	 * Performs a set request with the passed header on the passed URL with the
+	 * passed content
+	 * 
+	 * @param url
+	 * @param content
+	 * @param header
+	 * @return
+	 * @throws IOException
+	 */
+	public static CloseableHttpResponse executePutOnURL(String url, String content, Header header) throws IOException {
+		CloseableHttpClient client = HttpClients.createDefault();
+		HttpPut putRequest = createPutRequestWithHeader(url, content);
+		putRequest.setHeader(header);
+
+		return client.execute(putRequest);
+	}
+
 	public static CloseableHttpResponse executeAuthorizedPutOnURL(String url, String content, String accessToken) throws IOException {
 		CloseableHttpClient client = HttpClients.createDefault();
 		HttpPut putRequest = createPutRequestWithAuthorizationHeader(url, content, accessToken);
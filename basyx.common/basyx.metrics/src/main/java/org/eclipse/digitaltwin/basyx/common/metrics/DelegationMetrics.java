@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records latency, rejections and in-flight calls of delegated Operation
+ * invocations.
+ * 
+ * All meters are tagged with the delegation target, i.e. the endpoint the
+ * invocations are delegated to. Outcomes and rejection reasons are a small,
+ * fixed set of values.
+ * 
+ * @author danish
+ */
+public class DelegationMetrics {
+
+	public static final String LATENCY = "basyx.operation.delegation.latency";
+	public static final String REJECTIONS = "basyx.operation.delegation.rejections";
+	public static final String IN_FLIGHT = "basyx.operation.delegation.inflight";
+
+	public static final String TAG_TARGET = "target";
+	public static final String TAG_OUTCOME = "outcome";
+	public static final String TAG_REASON = "reason";
+
+	private final MeterRegistry registry;
+
+	private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+	public DelegationMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	/**
+	 * Records a delegated invocation that has been sent to the target
+	 * 
+	 * @param target
+	 * @param outcome
+	 *            e.g. success, failure or timeout
+	 * @param durationNanos
+	 */
+	public void recordCall(String target, String outcome, long durationNanos) {
+		timers.computeIfAbsent(target + '\n' + outcome, key -> createTimer(target, outcome)).record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Records a delegated invocation that has been rejected without calling
+	 * the target
+	 * 
+	 * @param target
+	 * @param reason
+	 *            e.g. bulkhead or circuit-open
+	 */
+	public void recordRejection(String target, String reason) {
+		Counter.builder(REJECTIONS).description("Delegated invocations rejected without calling the target").tag(TAG_TARGET, target).tag(TAG_REASON, reason).register(registry).increment();
+	}
+
+	/**
+	 * Registers the number of in-flight invocations of the target
+	 * 
+	 * @param target
+	 * @param inFlight
+	 */
+	public void bindInFlight(String target, Supplier<Number> inFlight) {
+		Gauge.builder(IN_FLIGHT, inFlight).description("In-flight delegated invocations").tag(TAG_TARGET, target).register(registry);
+	}
+
+	private Timer createTimer(String target, String outcome) {
+		return Timer.builder(LATENCY).description("Latency of delegated invocations").tag(TAG_TARGET, target).tag(TAG_OUTCOME, outcome).publishPercentileHistogram().register(registry);
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.metrics;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records latency, errors and payload sizes of the operations of a BaSyx
+ * component.
+ * 
+ * All meters are tagged with the component, the backend and the operation
+ * name. Identifiers passed to an operation are never used as tags, so the
+ * number of time series stays bounded by the number of operations.
+ * 
+ * @author danish
+ */
+public class OperationMetrics {
+
+	public static final String LATENCY = "basyx.operation.latency";
+	public static final String ERRORS = "basyx.operation.errors";
+	public static final String PAYLOAD = "basyx.operation.payload";
+
+	public static final String TAG_COMPONENT = "component";
+	public static final String TAG_BACKEND = "backend";
+	public static final String TAG_OPERATION = "operation";
+	public static final String TAG_EXCEPTION = "exception";
+
+	private final MeterRegistry registry;
+	private final Tags tags;
+
+	private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, DistributionSummary> payloads = new ConcurrentHashMap<>();
+
+	public OperationMetrics(MeterRegistry registry, String component, String backend) {
+		this.registry = registry;
+		this.tags = Tags.of(TAG_COMPONENT, component, TAG_BACKEND, backend);
+	}
+
+	/**
+	 * Runs the call and records its latency. A thrown exception is counted as
+	 * error of the operation and rethrown.
+	 * 
+	 * @param operation
+	 * @param call
+	 * @return the result of the call
+	 */
+	public <T> T record(String operation, Supplier<T> call) {
+		long start = System.nanoTime();
+		try {
+			return call.get();
+		} catch (RuntimeException e) {
+			recordError(operation, e);
+			throw e;
+		} finally {
+			getTimer(operation).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Runs the call and records its latency. A thrown exception is counted as
+	 * error of the operation and rethrown.
+	 * 
+	 * @param operation
+	 * @param call
+	 */
+	public void record(String operation, Runnable call) {
+		record(operation, () -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/**
+	 * Records the number of items, e.g. elements or descriptors, that an
+	 * operation has received or returned
+	 * 
+	 * @param operation
+	 * @param size
+	 */
+	public void recordPayload(String operation, int size) {
+		payloads.computeIfAbsent(operation, this::createPayloadSummary).record(size);
+	}
+
+	private void recordError(String operation, RuntimeException e) {
+		Counter.builder(ERRORS).description("Failed operations").tags(tags).tag(TAG_OPERATION, operation).tag(TAG_EXCEPTION, e.getClass().getSimpleName()).register(registry).increment();
+	}
+
+	private Timer getTimer(String operation) {
+		return timers.computeIfAbsent(operation, this::createTimer);
+	}
+
+	private Timer createTimer(String operation) {
+		return Timer.builder(LATENCY).description("Latency of operations").tags(tags).tag(TAG_OPERATION, operation).publishPercentileHistogram().register(registry);
+	}
+
+	private DistributionSummary createPayloadSummary(String operation) {
+		return DistributionSummary.builder(PAYLOAD).description("Number of items received or returned by operations").baseUnit("items").tags(tags).tag(TAG_OPERATION, operation).publishPercentileHistogram().register(registry);
+	}
+}
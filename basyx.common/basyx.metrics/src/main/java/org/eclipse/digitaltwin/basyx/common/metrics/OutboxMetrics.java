@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Exposes the progress of an {@link OutboxProcessor}. <br>
+ * <br>
+ * The pending entries and the lag, i.e. the age of the oldest pending entry,
+ * are taken from the last drain of the processor, so that scraping the
+ * metrics never queries the outbox itself.
+ * 
+ * @author danish
+ */
+public class OutboxMetrics {
+
+	public static final String PENDING = "basyx.outbox.pending";
+	public static final String LAG = "basyx.outbox.lag";
+	public static final String SENT = "basyx.outbox.sent";
+	public static final String FAILED = "basyx.outbox.failed";
+
+	public static final String TAG_OUTBOX = "outbox";
+
+	private OutboxMetrics() {
+	}
+
+	/**
+	 * Registers the meters of the processor
+	 * 
+	 * @param registry
+	 * @param processor
+	 */
+	public static void bind(MeterRegistry registry, OutboxProcessor processor) {
+		Tags tags = Tags.of(TAG_OUTBOX, processor.getName());
+
+		Gauge.builder(PENDING, processor, OutboxProcessor::getPendingCount).description("Pending intents of the outbox").tags(tags).register(registry);
+		TimeGauge.builder(LAG, processor, TimeUnit.MILLISECONDS, OutboxProcessor::getLagMillis).description("Age of the oldest pending intent of the outbox").tags(tags).register(registry);
+		FunctionCounter.builder(SENT, processor, OutboxProcessor::getSentCount).description("Propagated intents of the outbox").tags(tags).register(registry);
+		FunctionCounter.builder(FAILED, processor, OutboxProcessor::getFailedCount).description("Failed attempts to propagate intents of the outbox").tags(tags).register(registry);
+	}
+}
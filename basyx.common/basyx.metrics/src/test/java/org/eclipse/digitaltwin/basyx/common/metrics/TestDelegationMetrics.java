@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link DelegationMetrics}
+ * 
+ * @author danish
+ */
+public class TestDelegationMetrics {
+
+	private static final String TARGET = "http://localhost:2020";
+
+	@Test
+	public void callsAndRejectionsAreRecordedPerTarget() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		DelegationMetrics metrics = new DelegationMetrics(registry);
+
+		AtomicInteger inFlight = new AtomicInteger(3);
+		metrics.bindInFlight(TARGET, inFlight::get);
+
+		metrics.recordCall(TARGET, "success", TimeUnit.MILLISECONDS.toNanos(10));
+		metrics.recordCall(TARGET, "success", TimeUnit.MILLISECONDS.toNanos(30));
+		metrics.recordCall(TARGET, "timeout", TimeUnit.MILLISECONDS.toNanos(50));
+		metrics.recordRejection(TARGET, "bulkhead");
+
+		assertEquals(2, registry.get(DelegationMetrics.LATENCY).tag(DelegationMetrics.TAG_TARGET, TARGET).tag(DelegationMetrics.TAG_OUTCOME, "success").timer().count());
+		assertEquals(40, registry.get(DelegationMetrics.LATENCY).tag(DelegationMetrics.TAG_OUTCOME, "success").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+		assertEquals(1, registry.get(DelegationMetrics.LATENCY).tag(DelegationMetrics.TAG_OUTCOME, "timeout").timer().count());
+		assertEquals(1, registry.get(DelegationMetrics.REJECTIONS).tag(DelegationMetrics.TAG_REASON, "bulkhead").counter().count(), 0);
+		assertEquals(3, registry.get(DelegationMetrics.IN_FLIGHT).tag(DelegationMetrics.TAG_TARGET, TARGET).gauge().value(), 0);
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link OperationMetrics}
+ * 
+ * @author danish
+ */
+public class TestOperationMetrics {
+
+	private static final String COMPONENT = "sm-repo";
+	private static final String BACKEND = "InMemory";
+
+	private SimpleMeterRegistry registry;
+	private OperationMetrics metrics;
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+		metrics = new OperationMetrics(registry, COMPONENT, BACKEND);
+	}
+
+	@Test
+	public void latencyIsRecordedPerOperation() {
+		assertEquals("result", metrics.record("getSubmodel", () -> "result"));
+		metrics.record("getSubmodel", () -> {
+		});
+		metrics.record("deleteSubmodel", () -> {
+		});
+
+		assertEquals(2, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "getSubmodel").tag(OperationMetrics.TAG_COMPONENT, COMPONENT).tag(OperationMetrics.TAG_BACKEND, BACKEND).timer().count());
+		assertEquals(1, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "deleteSubmodel").timer().count());
+	}
+
+	@Test
+	public void failedCallIsCountedAndRethrown() {
+		try {
+			metrics.record("getSubmodel", () -> {
+				throw new IllegalStateException();
+			});
+			fail();
+		} catch (IllegalStateException expected) {
+		}
+
+		assertEquals(1, registry.get(OperationMetrics.ERRORS).tag(OperationMetrics.TAG_OPERATION, "getSubmodel").tag(OperationMetrics.TAG_EXCEPTION, "IllegalStateException").counter().count(), 0);
+		assertEquals(1, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "getSubmodel").timer().count());
+	}
+
+	@Test
+	public void successfulCallIsNotCountedAsError() {
+		metrics.record("getSubmodel", () -> "result");
+
+		assertNull(registry.find(OperationMetrics.ERRORS).counter());
+	}
+
+	@Test
+	public void payloadIsRecordedPerOperation() {
+		metrics.recordPayload("getAllSubmodels", 3);
+		metrics.recordPayload("getAllSubmodels", 5);
+
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAllSubmodels").summary().count());
+		assertEquals(8, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAllSubmodels").summary().totalAmount(), 0);
+	}
+}
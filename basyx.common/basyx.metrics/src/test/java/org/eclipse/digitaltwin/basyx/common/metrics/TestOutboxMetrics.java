@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry.Action;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link OutboxMetrics}
+ * 
+ * @author danish
+ */
+public class TestOutboxMetrics {
+
+	private static final String OUTBOX = "sm-registry";
+
+	@Test
+	public void progressOfProcessorIsExposed() {
+		InMemoryOutbox outbox = new InMemoryOutbox();
+		OutboxProcessor processor = new OutboxProcessor(OUTBOX, outbox, entry -> {
+			if (entry.getId().equals("failing"))
+				throw new IllegalStateException();
+		}, 10, 1000, 60000, 60000);
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		OutboxMetrics.bind(registry, processor);
+
+		outbox.enqueueAll(List.of("a", "b", "failing"), Action.UPSERT);
+		processor.drain();
+
+		assertEquals(2, registry.get(OutboxMetrics.SENT).tag(OutboxMetrics.TAG_OUTBOX, OUTBOX).functionCounter().count(), 0);
+		assertEquals(1, registry.get(OutboxMetrics.FAILED).tag(OutboxMetrics.TAG_OUTBOX, OUTBOX).functionCounter().count(), 0);
+		assertEquals(1, registry.get(OutboxMetrics.PENDING).tag(OutboxMetrics.TAG_OUTBOX, OUTBOX).gauge().value(), 0);
+		assertTrue(registry.get(OutboxMetrics.LAG).tag(OutboxMetrics.TAG_OUTBOX, OUTBOX).timeGauge().value(TimeUnit.MILLISECONDS) >= 0);
+	}
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry.Action;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+
+/**
+ * MongoDB implementation of the {@link Outbox}. <br>
+ * <br>
+ * Each identifier is a single document <code>{_id: id, action, revision,
+ * enqueuedAt, attempts, nextAttemptAt, claimedUntil}</code> in a separate
+ * collection, so that pending intents survive restarts and are shared by all
+ * instances using the same database. Enqueueing is an atomic upsert that keeps
+ * the enqueue time of a pending intent. Acknowledging and rescheduling are
+ * conditional on the revision of the processed entry. <br>
+ * <br>
+ * Several instances may process the outbox concurrently: each due entry is
+ * claimed atomically for the lease time before it is returned, so that it is
+ * processed by a single instance at a time. A newer intent does not break the
+ * claim, it becomes due as soon as the claiming instance has finished the
+ * outdated one. The claim of an instance that stopped while processing expires
+ * after the lease time.
+ * 
+ * @author danish
+ *
+ */
+public class MongoDBOutbox implements Outbox {
+
+	/**
+	 * Suffix appended to the name of the collection of the Identifiables to
+	 * derive the name of the outbox collection
+	 */
+	public static final String COLLECTION_SUFFIX = "-outbox";
+
+	private static final String ID = "_id";
+	private static final String ACTION = "action";
+	private static final String REVISION = "revision";
+	private static final String ENQUEUED_AT = "enqueuedAt";
+	private static final String ATTEMPTS = "attempts";
+	private static final String NEXT_ATTEMPT_AT = "nextAttemptAt";
+	private static final String CLAIMED_UNTIL = "claimedUntil";
+
+	/**
+	 * Default time in milliseconds for which a due entry is claimed by the
+	 * instance processing it
+	 */
+	public static final long DEFAULT_LEASE_MILLIS = 60000;
+
+	private final MongoOperations mongoOperations;
+	private final String collectionName;
+	private final long leaseMillis;
+
+	public MongoDBOutbox(MongoOperations mongoOperations, String collectionName) {
+		this(mongoOperations, collectionName, DEFAULT_LEASE_MILLIS);
+	}
+
+	/**
+	 * @param mongoOperations
+	 * @param collectionName
+	 * @param leaseMillis
+	 *            time for which a due entry is claimed, has to exceed the time
+	 *            needed to process a batch
+	 */
+	public MongoDBOutbox(MongoOperations mongoOperations, String collectionName, long leaseMillis) {
+		if (leaseMillis < 1)
+			throw new IllegalArgumentException("The lease of the outbox '" + collectionName + "' has to be positive");
+
+		this.mongoOperations = mongoOperations;
+		this.collectionName = collectionName;
+		this.leaseMillis = leaseMillis;
+
+		getCollection().createIndex(Indexes.ascending(NEXT_ATTEMPT_AT));
+		getCollection().createIndex(Indexes.ascending(ENQUEUED_AT));
+	}
+
+	@Override
+	public void enqueue(String id, Action action) {
+		getCollection().updateOne(Filters.eq(ID, id), createEnqueueUpdate(action, System.currentTimeMillis()), new UpdateOptions().upsert(true));
+	}
+
+	@Override
+	public void enqueueAll(Collection<String> ids, Action action) {
+		if (ids.isEmpty())
+			return;
+
+		long now = System.currentTimeMillis();
+		UpdateOptions options = new UpdateOptions().upsert(true);
+
+		List<UpdateOneModel<Document>> updates = ids.stream().distinct().map(id -> new UpdateOneModel<Document>(Filters.eq(ID, id), createEnqueueUpdate(action, now), options)).collect(Collectors.toList());
+
+		getCollection().bulkWrite(updates, new BulkWriteOptions().ordered(false));
+	}
+
+	@Override
+	public List<OutboxEntry> getDue(long now, int limit) {
+		Bson dueAndUnclaimed = Filters.and(Filters.lte(NEXT_ATTEMPT_AT, now), Filters.or(Filters.exists(CLAIMED_UNTIL, false), Filters.lte(CLAIMED_UNTIL, now)));
+		FindOneAndUpdateOptions options = new FindOneAndUpdateOptions().sort(Sorts.ascending(ENQUEUED_AT)).returnDocument(ReturnDocument.AFTER);
+
+		List<OutboxEntry> claimed = new ArrayList<>();
+
+		while (claimed.size() < limit) {
+			Document document = getCollection().findOneAndUpdate(dueAndUnclaimed, Updates.set(CLAIMED_UNTIL, now + leaseMillis), options);
+
+			if (document == null)
+				break;
+
+			claimed.add(toEntry(document));
+		}
+
+		return claimed;
+	}
+
+	@Override
+	public boolean acknowledge(OutboxEntry entry) {
+		boolean removed = getCollection().deleteOne(createRevisionFilter(entry)).getDeletedCount() == 1;
+
+		if (!removed)
+			releaseClaim(entry);
+
+		return removed;
+	}
+
+	@Override
+	public boolean reschedule(OutboxEntry entry, long nextAttemptAt) {
+		Bson update = Updates.combine(Updates.inc(ATTEMPTS, 1), Updates.set(NEXT_ATTEMPT_AT, nextAttemptAt), Updates.unset(CLAIMED_UNTIL));
+
+		boolean rescheduled = getCollection().updateOne(createRevisionFilter(entry), update).getModifiedCount() == 1;
+
+		if (!rescheduled)
+			releaseClaim(entry);
+
+		return rescheduled;
+	}
+
+	@Override
+	public long size() {
+		return getCollection().countDocuments();
+	}
+
+	@Override
+	public OptionalLong getOldestEnqueuedAt() {
+		Document oldest = getCollection().find().sort(Sorts.ascending(ENQUEUED_AT)).projection(Projections.include(ENQUEUED_AT)).first();
+
+		if (oldest == null)
+			return OptionalLong.empty();
+
+		return OptionalLong.of(oldest.get(ENQUEUED_AT, Number.class).longValue());
+	}
+
+	/**
+	 * Makes a newer intent that replaced the processed entry due for all
+	 * instances
+	 */
+	private void releaseClaim(OutboxEntry entry) {
+		getCollection().updateOne(Filters.eq(ID, entry.getId()), Updates.unset(CLAIMED_UNTIL));
+	}
+
+	private static Bson createEnqueueUpdate(Action action, long now) {
+		return Updates.combine(Updates.set(ACTION, action.name()), Updates.set(REVISION, UUID.randomUUID().toString()), Updates.set(ATTEMPTS, 0), Updates.set(NEXT_ATTEMPT_AT, now), Updates.setOnInsert(ENQUEUED_AT, now));
+	}
+
+	private static Bson createRevisionFilter(OutboxEntry entry) {
+		return Filters.and(Filters.eq(ID, entry.getId()), Filters.eq(REVISION, entry.getRevision()));
+	}
+
+	private static OutboxEntry toEntry(Document document) {
+		return new OutboxEntry(document.getString(ID), Action.valueOf(document.getString(ACTION)), document.getString(REVISION), document.get(ENQUEUED_AT, Number.class).longValue(), document.get(ATTEMPTS, Number.class).intValue(), document.get(NEXT_ATTEMPT_AT, Number.class).longValue());
+	}
+
+	private MongoCollection<Document> getCollection() {
+		return mongoOperations.getCollection(collectionName);
+	}
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+
+/**
+ * MongoDB implementation of the {@link VersionStore}. <br>
+ * <br>
+ * The versions are kept as <code>{_id: id, version: n}</code> documents in a
+ * separate collection, so that they are shared by all instances using the same
+ * database and can be read without loading the versioned document. Each
+ * modification is a single atomic <i>$inc</i> upsert. A conditional increment
+ * matches the expected version in the filter of the same update, so that it is
+ * atomic across instances as well. Deleting an identifier
+ * increments its version as well instead of removing the document, so that a
+ * recreated Identifiable continues with a higher version.
+ * 
+ * @author danish
+ *
+ */
+public class MongoDBVersionStore implements VersionStore {
+
+	/**
+	 * Suffix appended to the name of the versioned collection to derive the name
+	 * of the version collection
+	 */
+	public static final String COLLECTION_SUFFIX = "-versions";
+
+	private static final String ID = "_id";
+	private static final String VERSION = "version";
+
+	private final MongoOperations mongoOperations;
+	private final String collectionName;
+
+	public MongoDBVersionStore(MongoOperations mongoOperations, String collectionName) {
+		this.mongoOperations = mongoOperations;
+		this.collectionName = collectionName;
+	}
+
+	@Override
+	public long getVersion(String id) {
+		Document document = getCollection().find(Filters.eq(ID, id)).projection(Projections.include(VERSION)).first();
+
+		if (document == null)
+			return 0;
+
+		return document.get(VERSION, Number.class).longValue();
+	}
+
+	@Override
+	public long incrementVersion(String id) {
+		FindOneAndUpdateOptions options = new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER).projection(Projections.include(VERSION));
+
+		Document document = getCollection().findOneAndUpdate(Filters.eq(ID, id), createIncrement(), options);
+
+		return document.get(VERSION, Number.class).longValue();
+	}
+
+	@Override
+	public long incrementVersion(String id, long expectedVersion) throws VersionMismatchException {
+		// An identifier without a document has the version 0. In that case, the
+		// document is upserted, which fails on the unique id if a document with
+		// another version exists.
+		FindOneAndUpdateOptions options = new FindOneAndUpdateOptions().upsert(expectedVersion == 0).returnDocument(ReturnDocument.AFTER).projection(Projections.include(VERSION));
+
+		Document document;
+		try {
+			document = getCollection().findOneAndUpdate(Filters.and(Filters.eq(ID, id), Filters.eq(VERSION, expectedVersion)), createIncrement(), options);
+		} catch (MongoServerException e) {
+			if (ErrorCategory.fromErrorCode(e.getCode()) != ErrorCategory.DUPLICATE_KEY)
+				throw e;
+
+			document = null;
+		}
+
+		if (document == null)
+			throw new VersionMismatchException(id);
+
+		return document.get(VERSION, Number.class).longValue();
+	}
+
+	@Override
+	public void incrementVersions(Collection<String> ids) {
+		if (ids.isEmpty())
+			return;
+
+		UpdateOptions options = new UpdateOptions().upsert(true);
+
+		List<UpdateOneModel<Document>> updates = ids.stream().distinct().map(id -> new UpdateOneModel<Document>(Filters.eq(ID, id), createIncrement(), options)).collect(Collectors.toList());
+
+		getCollection().bulkWrite(updates, new BulkWriteOptions().ordered(false));
+	}
+
+	@Override
+	public void removeVersions(Collection<String> ids) {
+		incrementVersions(ids);
+	}
+
+	private static Bson createIncrement() {
+		return Updates.inc(VERSION, 1L);
+	}
+
+	private MongoCollection<Document> getCollection() {
+		return mongoOperations.getCollection(collectionName);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mongocore;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
+import org.springframework.data.util.Streamable;
+
+/**
+ * {@link SimpleMongoRepository} serving cursor based pages directly from the
+ * database. The cursor and the limit are pushed down as
+ * <code>_id &gt; cursor</code> query sorted by <code>_id</code>, so that a
+ * page is served from the <code>_id</code> index without loading the whole
+ * collection.
+ * <br>
+ * <br>
+ * {@link #saveAll(Iterable)} writes all entities with a single bulk write.
+ * 
+ * @author mateusmolina, danish
+ *
+ * @param <T>
+ */
+public class PaginatedMongoRepository<T> extends SimpleMongoRepository<T, String> implements CursorPaginatedRepository<T> {
+
+	private static final String ID = "_id";
+
+	private final MongoEntityInformation<T, String> entityInformation;
+	private final MongoOperations mongoOperations;
+
+	public PaginatedMongoRepository(MongoEntityInformation<T, String> entityInformation, MongoOperations mongoOperations) {
+		super(entityInformation, mongoOperations);
+
+		this.entityInformation = entityInformation;
+		this.mongoOperations = mongoOperations;
+	}
+
+	@Override
+	public CursorResult<List<T>> findAll(PaginationInfo pInfo) {
+		return findPage(createPageQuery(pInfo), pInfo);
+	}
+
+	/**
+	 * Serves a page of the entities matching the passed criteria. The criteria
+	 * are pushed down together with the cursor, so that only matching documents
+	 * are read if the criteria are backed by an index.
+	 * 
+	 * @param filter
+	 *            the criteria the returned entities have to match
+	 * @param pInfo
+	 *            the cursor and limit of the page
+	 * @return the page sorted by <code>_id</code>
+	 */
+	public CursorResult<List<T>> findAllMatching(Criteria filter, PaginationInfo pInfo) {
+		return findPage(createPageQuery(pInfo).addCriteria(filter), pInfo);
+	}
+
+	/**
+	 * Upserts all entities in a single unordered bulk write. As the entities have
+	 * assigned ids, {@link SimpleMongoRepository} would save them one by one.
+	 */
+	@Override
+	public <S extends T> List<S> saveAll(Iterable<S> entities) {
+		List<S> result = Streamable.of(entities).toList();
+
+		if (result.isEmpty())
+			return result;
+
+		BulkOperations bulkOperations = mongoOperations.bulkOps(BulkMode.UNORDERED, entityInformation.getJavaType(), entityInformation.getCollectionName());
+
+		for (S entity : result)
+			bulkOperations.replaceOne(Query.query(Criteria.where(ID).is(entityInformation.getId(entity))), entity, FindAndReplaceOptions.options().upsert());
+
+		bulkOperations.execute();
+
+		return result;
+	}
+
+	private CursorResult<List<T>> findPage(Query query, PaginationInfo pInfo) {
+		List<T> result = mongoOperations.find(query, entityInformation.getJavaType(), entityInformation.getCollectionName());
+
+		return new CursorResult<>(computeNextCursor(result, pInfo), result);
+	}
+
+	private static Query createPageQuery(PaginationInfo pInfo) {
+		Query query = new Query().with(Sort.by(Sort.Direction.ASC, ID));
+
+		if (pInfo.hasCursor())
+			query.addCriteria(Criteria.where(ID).gt(pInfo.getCursor()));
+
+		if (pInfo.hasLimit())
+			query.limit(pInfo.getLimit());
+
+		return query;
+	}
+
+	private String computeNextCursor(List<T> result, PaginationInfo pInfo) {
+		if (!pInfo.hasLimit() || result.isEmpty() || result.size() < pInfo.getLimit())
+			return null;
+
+		return entityInformation.getId(result.get(result.size() - 1));
+	}
+
+}
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes MQTT event messages from a background dispatcher thread, so that
+ * requests do not wait for the broker.
+ * 
+ * <p>
+ * Messages are buffered in a bounded queue and sent in order. Payloads are
+ * created by the dispatcher right before sending. If a coalescing window is
+ * configured, messages passed to {@link #publishLatest(String, Supplier)} are
+ * held back for that window after the first message of their topic. Further
+ * messages for the same topic within the window replace its payload instead
+ * of being queued, so only the latest payload is created and sent. Messages
+ * queued behind a held back message wait for it to preserve the order.
+ * </p>
+ * 
+ * @author fischer
+ */
+public class AsyncMqttEventPublisher implements MqttEventPublisher, AutoCloseable {
+	private static Logger logger = LoggerFactory.getLogger(AsyncMqttEventPublisher.class);
+
+	private static final long IDLE_POLL_MILLIS = 100;
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+	public enum BackPressureStrategy {
+		/** waits until the queue has room for the message */
+		BLOCK,
+		/** discards the oldest queued message */
+		DROP_OLDEST,
+		/** discards the new message */
+		DROP_NEWEST
+	}
+
+	private final SynchronousMqttEventPublisher sender;
+	private final MqttEventPublisherMetrics metrics;
+	private final BlockingQueue<PendingMessage> queue;
+	private final Map<String, PendingMessage> pendingLatestMessages = new ConcurrentHashMap<>();
+	private final long coalescingWindowNanos;
+	private final BackPressureStrategy backPressure;
+	private final Thread dispatcher;
+
+	private volatile boolean running = true;
+
+	/**
+	 * @param mqttClient
+	 * @param queueCapacity
+	 *            maximum number of queued messages
+	 * @param coalescingWindow
+	 *            time to hold back messages published with
+	 *            {@link #publishLatest(String, Supplier)}, zero disables the
+	 *            coalescing
+	 * @param backPressure
+	 *            behavior if the queue is full
+	 * @param metrics
+	 */
+	public AsyncMqttEventPublisher(IMqttClient mqttClient, int queueCapacity, Duration coalescingWindow, BackPressureStrategy backPressure, MqttEventPublisherMetrics metrics) {
+		this.sender = new SynchronousMqttEventPublisher(mqttClient);
+		this.metrics = metrics;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.coalescingWindowNanos = coalescingWindow.toNanos();
+		this.backPressure = backPressure;
+
+		metrics.registerQueue(queue);
+
+		this.dispatcher = new Thread(this::dispatch, "mqtt-event-dispatcher");
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
+
+	@Override
+	public void publish(String topic, Supplier<String> payload) {
+		enqueue(new PendingMessage(topic, payload, false, 0));
+	}
+
+	@Override
+	public void publishLatest(String topic, Supplier<String> payload) {
+		if (coalescingWindowNanos <= 0) {
+			publish(topic, payload);
+			return;
+		}
+
+		PendingMessage[] created = new PendingMessage[1];
+
+		pendingLatestMessages.compute(topic, (key, pending) -> {
+			if (pending != null) {
+				pending.payload = payload;
+				metrics.coalesced();
+				return pending;
+			}
+
+			created[0] = new PendingMessage(topic, payload, true, System.nanoTime() + coalescingWindowNanos);
+			return created[0];
+		});
+
+		if (created[0] != null && !enqueue(created[0]))
+			pendingLatestMessages.remove(topic, created[0]);
+	}
+
+	@Override
+	public boolean defersSerialization() {
+		return true;
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		running = false;
+		dispatcher.join(SHUTDOWN_TIMEOUT_MILLIS);
+
+		if (dispatcher.isAlive())
+			dispatcher.interrupt();
+
+		int remaining = queue.size();
+		for (int i = 0; i < remaining; i++)
+			metrics.dropped();
+
+		if (remaining > 0)
+			logger.warn("MQTT event publisher closed with {} unsent messages", remaining);
+	}
+
+	private boolean enqueue(PendingMessage message) {
+		if (!running) {
+			metrics.dropped();
+			logger.warn("MQTT event publisher is closed, message to {} dropped", message.topic);
+			return false;
+		}
+
+		switch (backPressure) {
+		case DROP_NEWEST:
+			if (queue.offer(message))
+				return true;
+
+			metrics.dropped();
+			logger.warn("MQTT event queue is full, message to {} dropped", message.topic);
+			return false;
+		case DROP_OLDEST:
+			while (!queue.offer(message))
+				discard(queue.poll());
+
+			return true;
+		default:
+			return enqueueBlocking(message);
+		}
+	}
+
+	private boolean enqueueBlocking(PendingMessage message) {
+		try {
+			queue.put(message);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			metrics.dropped();
+			logger.error("Interrupted while waiting for the MQTT event queue, message to {} dropped", message.topic);
+			return false;
+		}
+	}
+
+	private void discard(PendingMessage message) {
+		if (message == null)
+			return;
+
+		if (message.coalescable)
+			pendingLatestMessages.remove(message.topic, message);
+
+		metrics.dropped();
+		logger.warn("MQTT event queue is full, message to {} dropped", message.topic);
+	}
+
+	private void dispatch() {
+		try {
+			while (running || !queue.isEmpty()) {
+				PendingMessage message = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+				if (message == null)
+					continue;
+
+				if (message.coalescable) {
+					holdBack(message);
+					pendingLatestMessages.remove(message.topic, message);
+				}
+
+				send(message);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void holdBack(PendingMessage message) throws InterruptedException {
+		long remaining;
+
+		while (running && (remaining = message.dueNanos - System.nanoTime()) > 0)
+			TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLIS)));
+	}
+
+	private void send(PendingMessage message) {
+		String payload;
+
+		try {
+			payload = message.payload.get();
+		} catch (RuntimeException e) {
+			metrics.failed();
+			logger.warn("Could not create mqtt message for " + message.topic, e);
+			return;
+		}
+
+		if (sender.send(message.topic, payload))
+			metrics.published();
+		else
+			metrics.failed();
+	}
+
+	private static final class PendingMessage {
+		private final String topic;
+		private final boolean coalescable;
+		private final long dueNanos;
+		private volatile Supplier<String> payload;
+
+		private PendingMessage(String topic, Supplier<String> payload, boolean coalescable, long dueNanos) {
+			this.topic = topic;
+			this.payload = payload;
+			this.coalescable = coalescable;
+			this.dueNanos = dueNanos;
+		}
+	}
+}
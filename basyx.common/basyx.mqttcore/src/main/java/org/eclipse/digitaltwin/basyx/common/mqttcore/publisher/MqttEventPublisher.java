@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.util.function.Supplier;
+
+/**
+ * Publishes MQTT event messages on behalf of the MQTT features.
+ * 
+ * <p>
+ * Payloads are passed as {@link Supplier}, so that an implementation can
+ * decide when to serialize them, or whether to serialize them at all.
+ * </p>
+ * 
+ * @author fischer
+ */
+public interface MqttEventPublisher {
+
+	/**
+	 * Publishes a message to the given topic
+	 * 
+	 * @param topic
+	 * @param payload
+	 *            supplies the message payload, may supply <code>null</code>
+	 */
+	public void publish(String topic, Supplier<String> payload);
+
+	/**
+	 * Publishes a message to the given topic that only has to be delivered if
+	 * no newer message for the same topic follows, e.g. a value update.
+	 * Implementations may coalesce such messages.
+	 * 
+	 * @param topic
+	 * @param payload
+	 *            supplies the message payload, may supply <code>null</code>
+	 */
+	public default void publishLatest(String topic, Supplier<String> payload) {
+		publish(topic, payload);
+	}
+
+	/**
+	 * Returns whether the payload suppliers are called after
+	 * {@link #publish(String, Supplier)} returned. In that case, callers have to
+	 * pass payloads that are not modified concurrently, e.g. copies.
+	 * 
+	 * @return true if the serialization of the payload is deferred
+	 */
+	public default boolean defersSerialization() {
+		return false;
+	}
+}
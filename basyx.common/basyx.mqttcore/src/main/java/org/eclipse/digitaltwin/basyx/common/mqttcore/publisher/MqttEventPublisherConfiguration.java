@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.time.Duration;
+
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttEventPublisher.BackPressureStrategy;
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Provides the {@link MqttEventPublisher} shared by all MQTT features. It is
+ * not picked up by the component scan, but imported by the configurations of
+ * the MQTT features, so that it is only active together with them.
+ * 
+ * @author danish
+ *
+ */
+public class MqttEventPublisherConfiguration {
+
+	@ConditionalOnMissingBean
+	@Bean
+	public MqttEventPublisher mqttEventPublisher(IMqttClient mqttClient, @Value("${basyx.feature.mqtt.async.enabled:false}") boolean async, @Value("${basyx.feature.mqtt.async.queueCapacity:10000}") int queueCapacity,
+			@Value("${basyx.feature.mqtt.async.coalescingWindowMillis:0}") long coalescingWindowMillis, @Value("${basyx.feature.mqtt.async.backPressure:BLOCK}") BackPressureStrategy backPressure, ObjectProvider<MeterRegistry> meterRegistry) {
+		if (!async)
+			return new SynchronousMqttEventPublisher(mqttClient);
+
+		MqttEventPublisherMetrics metrics = new MqttEventPublisherMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+
+		return new AsyncMqttEventPublisher(mqttClient, queueCapacity, Duration.ofMillis(coalescingWindowMillis), backPressure, metrics);
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.util.Collection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counters and queue gauge of the {@link AsyncMqttEventPublisher}
+ * 
+ * @author fischer
+ */
+public class MqttEventPublisherMetrics {
+
+	private static final String PREFIX = "basyx.mqtt.events.";
+
+	private final MeterRegistry registry;
+	private final Counter published;
+	private final Counter failed;
+	private final Counter dropped;
+	private final Counter coalesced;
+
+	public MqttEventPublisherMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.published = Counter.builder(PREFIX + "published").description("MQTT events sent to the broker").register(registry);
+		this.failed = Counter.builder(PREFIX + "failed").description("MQTT events that could not be sent").register(registry);
+		this.dropped = Counter.builder(PREFIX + "dropped").description("MQTT events discarded because of a full queue").register(registry);
+		this.coalesced = Counter.builder(PREFIX + "coalesced").description("MQTT events superseded by a newer event for the same topic").register(registry);
+	}
+
+	void registerQueue(Collection<?> queue) {
+		Gauge.builder(PREFIX + "queued", queue, Collection::size).description("MQTT events waiting to be sent").register(registry);
+	}
+
+	void published() {
+		published.increment();
+	}
+
+	void failed() {
+		failed.increment();
+	}
+
+	void dropped() {
+		dropped.increment();
+	}
+
+	void coalesced() {
+		coalesced.increment();
+	}
+
+	public double getPublishedCount() {
+		return published.count();
+	}
+
+	public double getFailedCount() {
+		return failed.count();
+	}
+
+	public double getDroppedCount() {
+		return dropped.count();
+	}
+
+	public double getCoalescedCount() {
+		return coalesced.count();
+	}
+}
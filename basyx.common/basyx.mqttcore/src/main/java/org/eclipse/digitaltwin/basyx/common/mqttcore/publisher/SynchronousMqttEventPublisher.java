@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.common.mqttcore.publisher;
+
+import java.util.function.Supplier;
+
+import org.eclipse.paho.client.mqttv3.IMqttClient;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes MQTT event messages within the calling thread
+ * 
+ * @author fischer
+ */
+public class SynchronousMqttEventPublisher implements MqttEventPublisher {
+	private static Logger logger = LoggerFactory.getLogger(SynchronousMqttEventPublisher.class);
+
+	private IMqttClient mqttClient;
+
+	public SynchronousMqttEventPublisher(IMqttClient mqttClient) {
+		this.mqttClient = mqttClient;
+	}
+
+	@Override
+	public void publish(String topic, Supplier<String> payload) {
+		send(topic, payload.get());
+	}
+
+	/**
+	 * Sends MQTT message to connected broker
+	 * 
+	 * @param topic
+	 *            in which the message will be published
+	 * @param payload
+	 *            the actual message
+	 * @return true if the message has been sent
+	 */
+	boolean send(String topic, String payload) {
+		MqttMessage msg = createMqttMessage(payload);
+
+		try {
+			logger.debug("Send MQTT message to " + topic + ": " + payload);
+			mqttClient.publish(topic, msg);
+			return true;
+		} catch (MqttPersistenceException e) {
+			logger.error("Could not persist mqtt message", e);
+		} catch (MqttException e) {
+			logger.error("Could not send mqtt message", e);
+		}
+
+		return false;
+	}
+
+	private MqttMessage createMqttMessage(String payload) {
+		if (payload == null) {
+			return new MqttMessage();
+		} else {
+			return new MqttMessage(payload.getBytes());
+		}
+	}
+}
@@ -25,21 +25,16 @@
 
 package org.eclipse.digitaltwin.basyx.common.mqttcore.serializer;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
-import org.eclipse.digitaltwin.aas4j.v3.model.Blob;
-import org.eclipse.digitaltwin.aas4j.v3.model.File;
-import org.eclipse.digitaltwin.aas4j.v3.model.MultiLanguageProperty;
-import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
-import org.eclipse.digitaltwin.aas4j.v3.model.ReferenceElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
-import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
 
 /**
  * Serializer for the submodel element.
@@ -49,6 +44,8 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 public class SubmodelElementSerializer {
 	public static final String EMPTYVALUEUPDATE_TYPE = "emptyValueUpdateEvent";
 
+	private static final JsonSerializer SERIALIZER = new JsonSerializer();
+
 	private SubmodelElementSerializer() {
 	}
 
@@ -67,8 +64,24 @@ public class SubmodelElementSerializer {
 				localElement = submodelElement;
 			}
 
-			return new JsonSerializer().write(localElement);
-		} catch (SerializationException | DeserializationException e) {
+			return SERIALIZER.write(localElement);
+		} catch (SerializationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Serializer to create a JSON array String for the given submodel elements.
+	 * 
+	 * @param submodelElements
+	 * @return serialized submodelElements as JSON String
+	 */
+	public static String serializeSubmodelElements(Collection<SubmodelElement> submodelElements) {
+		try {
+			List<SubmodelElement> localElements = submodelElements.stream().map(submodelElement -> shouldSendEmptyValueEvent(submodelElement) ? getSubmodelElementWithoutValue(submodelElement) : submodelElement).collect(Collectors.toList());
+
+			return SERIALIZER.writeList(localElements);
+		} catch (SerializationException e) {
 			throw new RuntimeException(e);
 		}
 	}
@@ -78,31 +91,10 @@ public class SubmodelElementSerializer {
 	 * 
 	 * @param submodelElement
 	 * @return submodelElement without value
-	 * @throws SerializationException
-	 * @throws DeserializationException
 	 */
-	private static SubmodelElement getSubmodelElementWithoutValue(SubmodelElement submodelElement) throws SerializationException, DeserializationException {
+	private static SubmodelElement getSubmodelElementWithoutValue(SubmodelElement submodelElement) {
 		// Copy the SubmodelElement to not modify the original.
-		String jsonToCopy = new JsonSerializer().write(submodelElement);
-		SubmodelElement localElement = new JsonDeserializer().read(jsonToCopy, SubmodelElement.class);
-
-		if (submodelElement instanceof Blob) {
-			((Blob) localElement).setValue(null);
-		} else if (submodelElement instanceof File) {
-			((File) localElement).setValue(null);
-		} else if (submodelElement instanceof MultiLanguageProperty) {
-			((MultiLanguageProperty) localElement).setValue(null);
-		} else if (submodelElement instanceof Property) {
-			((Property) localElement).setValue(null);
-		} else if (submodelElement instanceof ReferenceElement) {
-			((ReferenceElement) localElement).setValue(null);
-		} else if (submodelElement instanceof SubmodelElementCollection) {
-			((SubmodelElementCollection) localElement).setValue(null);
-		} else if (submodelElement instanceof SubmodelElementList) {
-			((SubmodelElementList) localElement).setValue(null);
-		}
-
-		return localElement;
+		return MetamodelCopier.copyWithoutValue(submodelElement);
 	}
 
 	/**
@@ -25,6 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.common.mqttcore.serializer;
 
+import java.util.Collection;
+
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
 import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -35,6 +37,8 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
  * @author fischer
  */
 public class SubmodelSerializer {
+	private static final JsonSerializer SERIALIZER = new JsonSerializer();
+
 	private SubmodelSerializer() {
 	}
 
@@ -46,7 +50,36 @@ public class SubmodelSerializer {
 	 */
 	public static String serializeSubmodel(Submodel submodel) {
 		try {
-			return new JsonSerializer().write(submodel);
+			return SERIALIZER.write(submodel);
+		} catch (SerializationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Serializer to create a JSON array String for the given submodels.
+	 * 
+	 * @param submodels
+	 * @return serialized submodels as JSON String
+	 */
+	public static String serializeSubmodels(Collection<Submodel> submodels) {
+		try {
+			return SERIALIZER.writeList(submodels);
+		} catch (SerializationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Serializer to create a JSON array String for the given identifiers, e.g.
+	 * of deleted submodels.
+	 * 
+	 * @param ids
+	 * @return serialized identifiers as JSON String
+	 */
+	public static String serializeIds(Collection<String> ids) {
+		try {
+			return SERIALIZER.writeList(ids);
 		} catch (SerializationException e) {
 			throw new RuntimeException(e);
 		}
@@ -25,37 +25,66 @@
 
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.ConceptDescriptionIndexedRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 import org.springframework.data.repository.CrudRepository;
 
 /**
  * InMemory implementation for the {@link ConceptDescription} backend
  * 
+ * <p>
+ * Besides the ConceptDescriptions, hash indexes from the idShort and from the
+ * normalized isCaseOf and data specification references to the matching
+ * ConceptDescriptions are maintained, so that filtered lookups only touch the
+ * matches.
+ * </p>
+ * 
  * @author danish
  * 
  */
-public class ConceptDescriptionInMemoryBackend implements CrudRepository<ConceptDescription, String> {
+public class ConceptDescriptionInMemoryBackend implements CrudRepository<ConceptDescription, String>, CursorPaginatedRepository<ConceptDescription>, ConceptDescriptionIndexedRepository {
+
+	private NavigableMap<String, ConceptDescription> inMemoryStore = new ConcurrentSkipListMap<>();
 
-	private Map<String, ConceptDescription> inMemoryStore = new LinkedHashMap<>();
+	private final ConceptDescriptionIndex idShortIndex = new ConceptDescriptionIndex(ConceptDescriptionInMemoryBackend::getIdShortKeys);
+	private final ConceptDescriptionIndex isCaseOfIndex = new ConceptDescriptionIndex(ConceptDescriptionInMemoryBackend::getIsCaseOfKeys);
+	private final ConceptDescriptionIndex dataSpecificationIndex = new ConceptDescriptionIndex(ConceptDescriptionInMemoryBackend::getDataSpecificationKeys);
+	private final List<ConceptDescriptionIndex> indexes = List.of(idShortIndex, isCaseOfIndex, dataSpecificationIndex);
 
 	@Override
-	public <S extends ConceptDescription> S save(S entity) {
-		inMemoryStore.put(entity.getId(), entity);
-		
+	public synchronized <S extends ConceptDescription> S save(S entity) {
+		String id = entity.getId();
+
+		removeFromIndexes(id);
+
+		inMemoryStore.put(id, entity);
+
+		addToIndexes(entity);
+
 		return entity;
 	}
 
 	@Override
 	public <S extends ConceptDescription> Iterable<S> saveAll(Iterable<S> entities) {
 		for (S entity : entities)
-			inMemoryStore.put(entity.getId(), entity);
+			save(entity);
 
 		return entities;
 	}
@@ -75,6 +104,26 @@ public class ConceptDescriptionInMemoryBackend implements CrudRepository<Concept
 		return inMemoryStore.values();
 	}
 
+	@Override
+	public CursorResult<List<ConceptDescription>> findAll(PaginationInfo pInfo) {
+		return new PaginationSupport<>(inMemoryStore, ConceptDescription::getId).getPaged(pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> findAllByIdShort(String idShort, PaginationInfo pInfo) {
+		return getPaged(idShortIndex, idShort, pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> findAllByIsCaseOf(Reference isCaseOf, PaginationInfo pInfo) {
+		return getPaged(isCaseOfIndex, ReferenceIndexKeys.normalize(isCaseOf), pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> findAllByDataSpecificationReference(Reference dataSpecificationReference, PaginationInfo pInfo) {
+		return getPaged(dataSpecificationIndex, ReferenceIndexKeys.normalize(dataSpecificationReference), pInfo);
+	}
+
 	@Override
 	public Iterable<ConceptDescription> findAllById(Iterable<String> ids) {
 		return StreamSupport.stream(ids.spliterator(), false).map(inMemoryStore::get).filter(Objects::nonNull).collect(Collectors.toList());
@@ -86,30 +135,81 @@ public class ConceptDescriptionInMemoryBackend implements CrudRepository<Concept
 	}
 
 	@Override
-	public void deleteById(String id) {
+	public synchronized void deleteById(String id) {
+		removeFromIndexes(id);
+
 		inMemoryStore.remove(id);
 	}
 
 	@Override
 	public void delete(ConceptDescription entity) {
-		inMemoryStore.remove(entity.getId());
+		deleteById(entity.getId());
 	}
 
 	@Override
 	public void deleteAllById(Iterable<? extends String> ids) {
 		for (String id : ids)
-			inMemoryStore.remove(id);
+			deleteById(id);
 	}
 
 	@Override
 	public void deleteAll(Iterable<? extends ConceptDescription> entities) {
 		for (ConceptDescription entity : entities)
-			inMemoryStore.remove(entity.getId());
+			deleteById(entity.getId());
 	}
 
 	@Override
-	public void deleteAll() {
+	public synchronized void deleteAll() {
 		inMemoryStore.clear();
+
+		indexes.forEach(ConceptDescriptionIndex::clear);
+	}
+
+	private void addToIndexes(ConceptDescription conceptDescription) {
+		for (ConceptDescriptionIndex index : indexes)
+			index.add(conceptDescription);
+	}
+
+	private void removeFromIndexes(String id) {
+		for (ConceptDescriptionIndex index : indexes)
+			index.remove(id);
+	}
+
+	private static CursorResult<List<ConceptDescription>> getPaged(ConceptDescriptionIndex index, String key, PaginationInfo pInfo) {
+		return new PaginationSupport<>(index.get(key), ConceptDescription::getId).getPaged(pInfo);
+	}
+
+	private static Set<String> getIdShortKeys(ConceptDescription conceptDescription) {
+		String idShort = conceptDescription.getIdShort();
+
+		return idShort == null ? Set.of() : Set.of(idShort);
+	}
+
+	private static Set<String> getIsCaseOfKeys(ConceptDescription conceptDescription) {
+		return toKeys(conceptDescription.getIsCaseOf());
+	}
+
+	private static Set<String> getDataSpecificationKeys(ConceptDescription conceptDescription) {
+		List<EmbeddedDataSpecification> embeddedDataSpecifications = conceptDescription.getEmbeddedDataSpecifications();
+
+		if (embeddedDataSpecifications == null)
+			return Set.of();
+
+		return toKeys(embeddedDataSpecifications.stream().filter(Objects::nonNull).map(EmbeddedDataSpecification::getDataSpecification).collect(Collectors.toList()));
+	}
+
+	private static Set<String> toKeys(Collection<Reference> references) {
+		Set<String> keys = new HashSet<>();
+
+		if (references == null)
+			return keys;
+
+		for (Reference reference : references) {
+			if (reference != null)
+				keys.add(ReferenceIndexKeys.normalize(reference));
+		}
+
+		return keys;
 	}
 
 }
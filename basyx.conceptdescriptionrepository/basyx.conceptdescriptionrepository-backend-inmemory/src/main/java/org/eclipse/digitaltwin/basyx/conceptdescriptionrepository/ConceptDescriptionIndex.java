@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+
+/**
+ * Secondary index of the {@link ConceptDescriptionInMemoryBackend} mapping
+ * each key to the ConceptDescriptions it was extracted from. The matches of a
+ * key are kept sorted by their id, so that they can be paged directly.
+ * 
+ * <p>
+ * The keys are remembered per ConceptDescription id, hence an entry can be
+ * removed even if the indexed object has been modified in the meantime.
+ * Modifications have to be synchronized by the caller.
+ * </p>
+ * 
+ * @author danish
+ */
+class ConceptDescriptionIndex {
+
+	private final Function<ConceptDescription, Set<String>> keyExtractor;
+	private final Map<String, NavigableMap<String, ConceptDescription>> conceptDescriptionsByKey = new ConcurrentHashMap<>();
+	private final Map<String, Set<String>> keysById = new ConcurrentHashMap<>();
+
+	public ConceptDescriptionIndex(Function<ConceptDescription, Set<String>> keyExtractor) {
+		this.keyExtractor = keyExtractor;
+	}
+
+	public void add(ConceptDescription conceptDescription) {
+		String id = conceptDescription.getId();
+		Set<String> keys = keyExtractor.apply(conceptDescription);
+
+		keysById.put(id, keys);
+
+		for (String key : keys)
+			conceptDescriptionsByKey.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>()).put(id, conceptDescription);
+	}
+
+	public void remove(String id) {
+		Set<String> keys = keysById.remove(id);
+
+		if (keys == null)
+			return;
+
+		for (String key : keys) {
+			conceptDescriptionsByKey.computeIfPresent(key, (k, conceptDescriptions) -> {
+				conceptDescriptions.remove(id);
+				return conceptDescriptions.isEmpty() ? null : conceptDescriptions;
+			});
+		}
+	}
+
+	public void clear() {
+		conceptDescriptionsByKey.clear();
+		keysById.clear();
+	}
+
+	public NavigableMap<String, ConceptDescription> get(String key) {
+		return conceptDescriptionsByKey.getOrDefault(key, Collections.unmodifiableNavigableMap(new TreeMap<>()));
+	}
+
+}
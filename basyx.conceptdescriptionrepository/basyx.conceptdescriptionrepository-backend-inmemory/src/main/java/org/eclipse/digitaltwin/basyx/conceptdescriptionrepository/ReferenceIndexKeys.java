@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+
+/**
+ * Normalizes {@link Reference}s to index keys. Two references have the same
+ * key if their types, keys and referred semantic ids are equal, independent of
+ * the implementing class.
+ * 
+ * @author danish
+ */
+final class ReferenceIndexKeys {
+
+	private ReferenceIndexKeys() {
+	}
+
+	public static String normalize(Reference reference) {
+		StringBuilder builder = new StringBuilder();
+
+		appendReference(builder, reference);
+
+		return builder.toString();
+	}
+
+	private static void appendReference(StringBuilder builder, Reference reference) {
+		appendToken(builder, String.valueOf(reference.getType()));
+
+		List<Key> keys = reference.getKeys();
+		builder.append('[');
+		if (keys != null) {
+			for (Key key : keys) {
+				appendToken(builder, String.valueOf(key.getType()));
+				appendToken(builder, key.getValue());
+			}
+		}
+		builder.append(']');
+
+		Reference referredSemanticId = reference.getReferredSemanticId();
+		if (referredSemanticId != null) {
+			builder.append('^');
+			appendReference(builder, referredSemanticId);
+		}
+	}
+
+	// length prefixed, so that values containing separators cannot collide
+	private static void appendToken(StringBuilder builder, String token) {
+		if (token == null) {
+			builder.append("-:");
+			return;
+		}
+
+		builder.append(token.length()).append(':').append(token);
+	}
+
+}
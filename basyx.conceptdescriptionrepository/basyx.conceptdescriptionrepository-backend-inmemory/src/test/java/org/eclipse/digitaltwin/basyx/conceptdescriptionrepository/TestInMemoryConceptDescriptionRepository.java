@@ -27,6 +27,8 @@
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -38,6 +40,8 @@ import org.eclipse.digitaltwin.basyx.aasrepository.backend.SimpleConceptDescript
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.core.ConceptDescriptionRepositorySuite;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.core.DummyConceptDescriptionFactory;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
 import org.junit.Test;
 
 /**
@@ -76,6 +80,55 @@ public class TestInMemoryConceptDescriptionRepository extends ConceptDescription
 		new CrudConceptDescriptionRepository(backendProvider, conceptDescriptionsWithCollidingIds);
 	}
 
+	@Test
+	public void versionIncreasesWithModifications() {
+		ConceptDescription conceptDescription = DummyConceptDescriptionFactory.createConceptDescription();
+		String id = conceptDescription.getId();
+		ConceptDescriptionRepository repo = getConceptDescriptionRepository(Arrays.asList(conceptDescription));
+
+		long initialVersion = repo.getConceptDescriptionVersion(id);
+
+		repo.getConceptDescription(id);
+		assertEquals(initialVersion, repo.getConceptDescriptionVersion(id));
+
+		repo.updateConceptDescription(id, conceptDescription);
+		assertTrue(repo.getConceptDescriptionVersion(id) > initialVersion);
+	}
+
+	@Test
+	public void conditionalDeleteWithOutdatedVersionIsRejected() {
+		ConceptDescription conceptDescription = DummyConceptDescriptionFactory.createConceptDescription();
+		String id = conceptDescription.getId();
+		ConceptDescriptionRepository repo = getConceptDescriptionRepository(Arrays.asList(conceptDescription));
+
+		long outdatedVersion = repo.getConceptDescriptionVersion(id);
+		repo.updateConceptDescription(id, conceptDescription, outdatedVersion);
+
+		assertThrows(VersionMismatchException.class, () -> repo.deleteConceptDescription(id, outdatedVersion));
+
+		repo.deleteConceptDescription(id, repo.getConceptDescriptionVersion(id));
+		assertThrows(ElementDoesNotExistException.class, () -> repo.getConceptDescription(id));
+	}
+
+	@Test
+	public void versionOfRecreatedConceptDescriptionIsNotReused() {
+		ConceptDescription conceptDescription = DummyConceptDescriptionFactory.createConceptDescription();
+		String id = conceptDescription.getId();
+		ConceptDescriptionRepository repo = getConceptDescriptionRepository(Arrays.asList(conceptDescription));
+
+		long versionBeforeDeletion = repo.getConceptDescriptionVersion(id);
+
+		repo.deleteConceptDescription(id);
+		repo.createConceptDescription(conceptDescription);
+
+		assertTrue(repo.getConceptDescriptionVersion(id) > versionBeforeDeletion);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void versionOfNonExistingConceptDescription() {
+		getConceptDescriptionRepository().getConceptDescriptionVersion("nonExisting");
+	}
+
 	private Collection<ConceptDescription> createConceptDescriptionCollectionWithCollidingIds() {
 		return Arrays.asList(DummyConceptDescriptionFactory.createConceptDescription(), DummyConceptDescriptionFactory.createConceptDescription());
 	}
@@ -28,13 +28,14 @@ package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.basyx.aasrepository.backend.ConceptDescriptionBackendProvider;
 import org.eclipse.digitaltwin.basyx.common.mongocore.BasyxMongoMappingContext;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBVersionStore;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.repository.support.MappingMongoEntityInformation;
-import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Component;
 
@@ -50,14 +51,18 @@ public class ConceptDescriptionMongoDBBackendProvider implements ConceptDescript
 	
 	private BasyxMongoMappingContext mappingContext;
 	private MongoTemplate template;
+	private String collectionName;
 	
 	@Autowired
 	public ConceptDescriptionMongoDBBackendProvider(BasyxMongoMappingContext mappingContext, @Value("${basyx.cdrepository.mongodb.collectionName:cd-repo}") String collectionName, MongoTemplate template) {
 		super();
 		this.mappingContext = mappingContext;
 		this.template = template;
+		this.collectionName = collectionName;
 		
 		mappingContext.addEntityMapping(ConceptDescription.class, collectionName);
+
+		ConceptDescriptionMongoDBCrudRepository.ensureIndexes(template, collectionName);
 	}
 
 	@Override
@@ -65,7 +70,12 @@ public class ConceptDescriptionMongoDBBackendProvider implements ConceptDescript
 		@SuppressWarnings("unchecked")
 		MongoPersistentEntity<ConceptDescription> entity = (MongoPersistentEntity<ConceptDescription>) mappingContext.getPersistentEntity(ConceptDescription.class);
 		
-		return new SimpleMongoRepository<>(new MappingMongoEntityInformation<>(entity), template);
+		return new ConceptDescriptionMongoDBCrudRepository(new MappingMongoEntityInformation<>(entity), template);
+	}
+
+	@Override
+	public VersionStore getVersionStore() {
+		return new MongoDBVersionStore(template, collectionName + MongoDBVersionStore.COLLECTION_SUFFIX);
 	}
 
 }
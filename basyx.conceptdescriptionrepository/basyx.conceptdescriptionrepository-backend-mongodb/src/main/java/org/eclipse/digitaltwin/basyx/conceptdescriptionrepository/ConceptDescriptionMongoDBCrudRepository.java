@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Key;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.ConceptDescriptionIndexedRepository;
+import org.eclipse.digitaltwin.basyx.common.mongocore.PaginatedMongoRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+
+/**
+ * MongoDB repository for the {@link ConceptDescription}s pushing the filters by
+ * idShort, isCaseOf and data specification reference down to the database.
+ * The filters are backed by indexes on the idShort and on the key values of
+ * the references, i.e., only the matching documents are read.
+ * 
+ * @author danish
+ */
+public class ConceptDescriptionMongoDBCrudRepository extends PaginatedMongoRepository<ConceptDescription> implements ConceptDescriptionIndexedRepository {
+
+	static final String ID_SHORT = "idShort";
+	static final String IS_CASE_OF = "isCaseOf";
+	static final String EMBEDDED_DATA_SPECIFICATIONS = "embeddedDataSpecifications";
+	static final String DATA_SPECIFICATION = "dataSpecification";
+
+	private static final String TYPE = "type";
+	private static final String KEYS = "keys";
+	private static final String VALUE = "value";
+	private static final String REFERRED_SEMANTIC_ID = "referredSemanticId";
+
+	static final String IS_CASE_OF_KEY_VALUE = IS_CASE_OF + "." + KEYS + "." + VALUE;
+	static final String DATA_SPECIFICATION_KEY_VALUE = EMBEDDED_DATA_SPECIFICATIONS + "." + DATA_SPECIFICATION + "." + KEYS + "." + VALUE;
+
+	public ConceptDescriptionMongoDBCrudRepository(MongoEntityInformation<ConceptDescription, String> entityInformation, MongoTemplate template) {
+		super(entityInformation, template);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> findAllByIdShort(String idShort, PaginationInfo pInfo) {
+		return findAllMatching(Criteria.where(ID_SHORT).is(idShort), pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> findAllByIsCaseOf(Reference isCaseOf, PaginationInfo pInfo) {
+		return findAllMatching(Criteria.where(IS_CASE_OF).elemMatch(createReferenceCriteria("", isCaseOf)), pInfo);
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> findAllByDataSpecificationReference(Reference dataSpecificationReference, PaginationInfo pInfo) {
+		return findAllMatching(Criteria.where(EMBEDDED_DATA_SPECIFICATIONS).elemMatch(createReferenceCriteria(DATA_SPECIFICATION + ".", dataSpecificationReference)), pInfo);
+	}
+
+	/**
+	 * Ensures the indexes on the idShort and the key values of the isCaseOf and
+	 * the data specification references
+	 * 
+	 * @param template
+	 * @param collectionName
+	 */
+	static void ensureIndexes(MongoTemplate template, String collectionName) {
+		IndexOperations indexOperations = template.indexOps(collectionName);
+
+		indexOperations.ensureIndex(new Index(ID_SHORT, Sort.Direction.ASC));
+		indexOperations.ensureIndex(new Index(IS_CASE_OF_KEY_VALUE, Sort.Direction.ASC));
+		indexOperations.ensureIndex(new Index(DATA_SPECIFICATION_KEY_VALUE, Sort.Direction.ASC));
+	}
+
+	/**
+	 * Matches a reference equal to the passed one, i.e., with the same type, the
+	 * same keys in the same order and the same referred semantic id. The keys are
+	 * additionally matched with <code>$elemMatch</code>, so that the multikey
+	 * index on the key values can be used.
+	 */
+	static Criteria createReferenceCriteria(String prefix, Reference reference) {
+		List<Criteria> criteria = new ArrayList<>();
+		criteria.add(Criteria.where(prefix + TYPE).is(toName(reference.getType())));
+
+		List<Key> keys = reference.getKeys() == null ? List.of() : reference.getKeys();
+		criteria.add(Criteria.where(prefix + KEYS).size(keys.size()));
+
+		for (int i = 0; i < keys.size(); i++) {
+			Key key = keys.get(i);
+			String keyPrefix = prefix + KEYS + "." + i + ".";
+
+			criteria.add(Criteria.where(prefix + KEYS).elemMatch(Criteria.where(TYPE).is(toName(key.getType())).and(VALUE).is(key.getValue())));
+			criteria.add(Criteria.where(keyPrefix + TYPE).is(toName(key.getType())).and(keyPrefix + VALUE).is(key.getValue()));
+		}
+
+		Reference referredSemanticId = reference.getReferredSemanticId();
+		if (referredSemanticId == null)
+			criteria.add(Criteria.where(prefix + REFERRED_SEMANTIC_ID).is(null));
+		else
+			criteria.add(createReferenceCriteria(prefix + REFERRED_SEMANTIC_ID + ".", referredSemanticId));
+
+		return new Criteria().andOperator(criteria);
+	}
+
+	private static String toName(Enum<?> value) {
+		return value == null ? null : value.name();
+	}
+
+}
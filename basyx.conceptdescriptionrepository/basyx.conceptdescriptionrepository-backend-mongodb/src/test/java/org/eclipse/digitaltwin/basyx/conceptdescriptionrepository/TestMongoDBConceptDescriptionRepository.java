@@ -26,9 +26,12 @@
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
@@ -44,6 +47,7 @@ import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescrip
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.core.ConceptDescriptionRepositorySuite;
 import org.junit.Test;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
@@ -117,6 +121,19 @@ public class TestMongoDBConceptDescriptionRepository extends ConceptDescriptionR
 		assertEquals(expectedConceptDescription, retrievedConceptDescription);
 	}
 
+	@Test
+	public void filterIndexesAreEnsured() {
+		MongoTemplate template = createTemplate();
+
+		new ConceptDescriptionMongoDBBackendProvider(new BasyxMongoMappingContext(), COLLECTION, template);
+
+		List<String> indexedFields = template.indexOps(COLLECTION).getIndexInfo().stream().flatMap(info -> info.getIndexFields().stream()).map(IndexField::getKey).collect(Collectors.toList());
+
+		assertTrue(indexedFields.contains(ConceptDescriptionMongoDBCrudRepository.ID_SHORT));
+		assertTrue(indexedFields.contains(ConceptDescriptionMongoDBCrudRepository.IS_CASE_OF_KEY_VALUE));
+		assertTrue(indexedFields.contains(ConceptDescriptionMongoDBCrudRepository.DATA_SPECIFICATION_KEY_VALUE));
+	}
+
 	private void addDescriptionToConceptDescription(ConceptDescription expectedConceptDescription) {
 		expectedConceptDescription.setDescription(Arrays.asList(new DefaultLangStringTextType.Builder().text("description").language("en").build()));
 	}
@@ -25,6 +25,8 @@
 package org.eclipse.digitaltwin.basyx.aasrepository.backend;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.basyx.core.version.InMemoryVersionStore;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -35,5 +37,16 @@ import org.springframework.data.repository.CrudRepository;
 public interface ConceptDescriptionBackendProvider {
 	
 	public CrudRepository<ConceptDescription, String> getCrudRepository();
-	
+
+	/**
+	 * Returns the {@link VersionStore} tracking the versions of the
+	 * ConceptDescriptions. Backends shared by several instances should provide a store
+	 * shared by these instances as well.
+	 * 
+	 * @return the VersionStore
+	 */
+	public default VersionStore getVersionStore() {
+		return new InMemoryVersionStore();
+	}
+
 }
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.aasrepository.backend;
+
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Backend of the {@link ConceptDescription}s maintaining secondary indexes on
+ * the idShort, the isCaseOf references and the data specification references,
+ * so that filtered lookups only read the matching ConceptDescriptions instead
+ * of the whole backend
+ * 
+ * <p>
+ * References are matched by their type, their keys and their referred
+ * semantic id, i.e., like {@link Reference#equals(Object)}. The pages are
+ * sorted by the id of the ConceptDescriptions, the cursor is the id of the last
+ * returned element.
+ * </p>
+ * 
+ * @author danish
+ */
+public interface ConceptDescriptionIndexedRepository {
+
+	public CursorResult<List<ConceptDescription>> findAllByIdShort(String idShort, PaginationInfo pInfo);
+
+	public CursorResult<List<ConceptDescription>> findAllByIsCaseOf(Reference isCaseOf, PaginationInfo pInfo);
+
+	public CursorResult<List<ConceptDescription>> findAllByDataSpecificationReference(Reference dataSpecificationReference, PaginationInfo pInfo);
+
+}
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.aasrepository.backend;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -38,18 +39,23 @@ import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.EmbeddedDataSpecification;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.concurrency.StripedReadWriteLock;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.data.repository.CrudRepository;
 
 /**
  * Default Implementation for the {@link ConceptDescription} based on Spring
- * {@link CrudRepository}
+ * {@link CrudRepository}. Filtered lookups are delegated to backends
+ * implementing {@link ConceptDescriptionIndexedRepository}.
  * 
  * @author mateusmolina, despen, zhangzai, kammognie, danish
  *
@@ -57,10 +63,13 @@ import org.springframework.data.repository.CrudRepository;
 public class CrudConceptDescriptionRepository implements ConceptDescriptionRepository {
 
 	private CrudRepository<ConceptDescription, String> conceptDescriptionBackend;
+	private VersionStore conceptDescriptionVersions;
+	private final StripedReadWriteLock conceptDescriptionLocks = new StripedReadWriteLock();
 	private String conceptDescriptionRepositoryName = null;
 
 	public CrudConceptDescriptionRepository(ConceptDescriptionBackendProvider conceptDescriptionBackendProvider) {
 		this.conceptDescriptionBackend = conceptDescriptionBackendProvider.getCrudRepository();
+		this.conceptDescriptionVersions = conceptDescriptionBackendProvider.getVersionStore();
 	}
 
 	public CrudConceptDescriptionRepository(ConceptDescriptionBackendProvider conceptDescriptionBackendProvider, String conceptDescriptionRepositoryName) {
@@ -85,8 +94,12 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 		this.conceptDescriptionRepositoryName = conceptDescriptionRepositoryName;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo) {
+		if (conceptDescriptionBackend instanceof CursorPaginatedRepository)
+			return ((CursorPaginatedRepository<ConceptDescription>) conceptDescriptionBackend).findAll(pInfo);
+
 		Iterable<ConceptDescription> iterable = conceptDescriptionBackend.findAll();
 		List<ConceptDescription> conceptDescriptions = StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
 
@@ -99,6 +112,9 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
+		if (conceptDescriptionBackend instanceof ConceptDescriptionIndexedRepository)
+			return ((ConceptDescriptionIndexedRepository) conceptDescriptionBackend).findAllByIdShort(idShort, pInfo);
+
 		Iterable<ConceptDescription> iterable = conceptDescriptionBackend.findAll();
 		
 		List<ConceptDescription> filtered = StreamSupport.stream(iterable.spliterator(), false).filter(conceptDescription -> conceptDescription.getIdShort().equals(idShort)).collect(Collectors.toList());
@@ -112,6 +128,9 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIsCaseOf(Reference isCaseOf, PaginationInfo pInfo) {
+		if (conceptDescriptionBackend instanceof ConceptDescriptionIndexedRepository)
+			return ((ConceptDescriptionIndexedRepository) conceptDescriptionBackend).findAllByIsCaseOf(isCaseOf, pInfo);
+
 		Iterable<ConceptDescription> iterable = conceptDescriptionBackend.findAll();
 		
 		List<ConceptDescription> filtered = StreamSupport.stream(iterable.spliterator(), false).filter(conceptDescription -> hasMatchingReference(conceptDescription, isCaseOf)).collect(Collectors.toList());
@@ -125,6 +144,9 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 
 	@Override
 	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByDataSpecificationReference(Reference dataSpecificationReference, PaginationInfo pInfo) {
+		if (conceptDescriptionBackend instanceof ConceptDescriptionIndexedRepository)
+			return ((ConceptDescriptionIndexedRepository) conceptDescriptionBackend).findAllByDataSpecificationReference(dataSpecificationReference, pInfo);
+
 		Iterable<ConceptDescription> iterable = conceptDescriptionBackend.findAll();
 		
 		List<ConceptDescription> filtered = StreamSupport.stream(iterable.spliterator(), false).filter(conceptDescription -> hasMatchingDataSpecificationReference(conceptDescription, dataSpecificationReference)).collect(Collectors.toList());
@@ -142,28 +164,92 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 	}
 
 	@Override
-	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription) throws ElementDoesNotExistException {
+	public long getConceptDescriptionVersion(String conceptDescriptionId) throws ElementDoesNotExistException {
 		throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
 
-		throwIfMismatchingIds(conceptDescriptionId, conceptDescription.getId());
+		return conceptDescriptionVersions.getVersion(conceptDescriptionId);
+	}
+
+	@Override
+	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription) throws ElementDoesNotExistException {
+		conceptDescriptionLocks.write(conceptDescriptionId, () -> {
+			throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
+
+			throwIfMismatchingIds(conceptDescriptionId, conceptDescription.getId());
+
+			conceptDescriptionVersions.incrementVersion(conceptDescriptionId);
 
-		conceptDescriptionBackend.save(conceptDescription);
+			conceptDescriptionBackend.save(conceptDescription);
+		});
+	}
+
+	@Override
+	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		conceptDescriptionLocks.write(conceptDescriptionId, () -> {
+			throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
+
+			throwIfMismatchingIds(conceptDescriptionId, conceptDescription.getId());
+
+			conceptDescriptionVersions.incrementVersion(conceptDescriptionId, expectedVersion);
+
+			conceptDescriptionBackend.save(conceptDescription);
+		});
 	}
 
 	@Override
 	public void createConceptDescription(ConceptDescription conceptDescription) throws CollidingIdentifierException, MissingIdentifierException {
 		throwIfConceptDescriptionIdEmptyOrNull(conceptDescription.getId());
 
-		throwIfConceptDescriptionExists(conceptDescription.getId());
-		
-		conceptDescriptionBackend.save(conceptDescription);
+		conceptDescriptionLocks.write(conceptDescription.getId(), () -> {
+			throwIfConceptDescriptionExists(conceptDescription.getId());
+
+			conceptDescriptionVersions.incrementVersion(conceptDescription.getId());
+
+			conceptDescriptionBackend.save(conceptDescription);
+		});
+	}
+
+	@Override
+	public void createAllConceptDescriptions(Collection<ConceptDescription> conceptDescriptions) throws CollidingIdentifierException, MissingIdentifierException {
+		throwIfMissingId(conceptDescriptions);
+
+		assertIdUniqueness(conceptDescriptions);
+
+		List<String> conceptDescriptionIds = conceptDescriptions.stream().map(ConceptDescription::getId).collect(Collectors.toList());
+
+		conceptDescriptionLocks.writeAll(conceptDescriptionIds, () -> {
+			throwIfAnyConceptDescriptionExists(conceptDescriptions);
+
+			conceptDescriptionVersions.incrementVersions(conceptDescriptionIds);
+
+			conceptDescriptionBackend.saveAll(conceptDescriptions);
+
+			return null;
+		});
 	}
 
 	@Override
 	public void deleteConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException {
-		throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
-		
-		conceptDescriptionBackend.deleteById(conceptDescriptionId);
+		conceptDescriptionLocks.write(conceptDescriptionId, () -> {
+			throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
+
+			conceptDescriptionBackend.deleteById(conceptDescriptionId);
+
+			conceptDescriptionVersions.removeVersion(conceptDescriptionId);
+		});
+	}
+
+	@Override
+	public void deleteConceptDescription(String conceptDescriptionId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		conceptDescriptionLocks.write(conceptDescriptionId, () -> {
+			throwIfConceptDescriptionDoesNotExist(conceptDescriptionId);
+
+			conceptDescriptionVersions.incrementVersion(conceptDescriptionId, expectedVersion);
+
+			conceptDescriptionBackend.deleteById(conceptDescriptionId);
+
+			conceptDescriptionVersions.removeVersion(conceptDescriptionId);
+		});
 	}
 	
 	@Override
@@ -196,6 +282,15 @@ public class CrudConceptDescriptionRepository implements ConceptDescriptionRepos
 			throw new CollidingIdentifierException(conceptDescriptionId);
 	}
 	
+	private void throwIfAnyConceptDescriptionExists(Collection<ConceptDescription> conceptDescriptions) {
+		List<String> ids = conceptDescriptions.stream().map(ConceptDescription::getId).collect(Collectors.toList());
+
+		Iterator<ConceptDescription> existing = conceptDescriptionBackend.findAllById(ids).iterator();
+
+		if (existing.hasNext())
+			throw new CollidingIdentifierException(existing.next().getId());
+	}
+	
 	private void throwIfMissingId(Collection<ConceptDescription> conceptDescriptions) {
 		conceptDescriptions.stream().map(ConceptDescription::getId).forEach(this::throwIfConceptDescriptionIdEmptyOrNull);
     }
@@ -25,13 +25,18 @@
 
 package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -86,6 +91,23 @@ public interface ConceptDescriptionRepository {
 	 */
 	public ConceptDescription getConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the current version of the ConceptDescription. The version increases with
+	 * every modification of the ConceptDescription, so that it can be used to detect changes
+	 * without retrieving the ConceptDescription itself.<br>
+	 * <br>
+	 * The default implementation does not support versioning.
+	 * 
+	 * @param conceptDescriptionId
+	 * @return the current version
+	 * @throws ElementDoesNotExistException
+	 * @throws FeatureNotSupportedException
+	 *             if the repository does not track versions
+	 */
+	public default long getConceptDescriptionVersion(String conceptDescriptionId) throws ElementDoesNotExistException {
+		throw new FeatureNotSupportedException("Versioning");
+	}
+
 	/**
 	 * Updates an existing ConceptDescription
 	 * 
@@ -95,6 +117,29 @@ public interface ConceptDescriptionRepository {
 	 */
 	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription) throws ElementDoesNotExistException;
 
+	/**
+	 * Overwrites an existing ConceptDescription, if its version still matches the expected
+	 * version. Implementations compare the version atomically with the write,
+	 * so that concurrent writes based on the same version can not both
+	 * succeed.<br>
+	 * <br>
+	 * The default implementation compares the version before the write and is
+	 * thus not atomic.
+	 * 
+	 * @param conceptDescriptionId
+	 * @param conceptDescription
+	 * @param expectedVersion
+	 *            the version the update is based on
+	 * @throws ElementDoesNotExistException
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected version
+	 */
+	public default void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		throwIfVersionMismatch(conceptDescriptionId, expectedVersion);
+
+		updateConceptDescription(conceptDescriptionId, conceptDescription);
+	}
+
 	/**
 	 * Creates a new ConceptDescription
 	 * 
@@ -104,6 +149,31 @@ public interface ConceptDescriptionRepository {
 	 */
 	public void createConceptDescription(ConceptDescription conceptDescription) throws CollidingIdentifierException, MissingIdentifierException;
 
+	/**
+	 * Creates multiple new ConceptDescriptions in one batch. The default
+	 * implementation checks the ids of all ConceptDescriptions before it creates
+	 * them one by one.
+	 * 
+	 * @param conceptDescriptions
+	 * @throws CollidingIdentifierException
+	 * @throws MissingIdentifierException
+	 */
+	public default void createAllConceptDescriptions(Collection<ConceptDescription> conceptDescriptions) throws CollidingIdentifierException, MissingIdentifierException {
+		Set<String> conceptDescriptionIds = new HashSet<>();
+
+		for (ConceptDescription conceptDescription : conceptDescriptions) {
+			String conceptDescriptionId = conceptDescription.getId();
+
+			if (conceptDescriptionId == null || conceptDescriptionId.isBlank())
+				throw new MissingIdentifierException(conceptDescriptionId);
+
+			if (!conceptDescriptionIds.add(conceptDescriptionId) || existsConceptDescription(conceptDescriptionId))
+				throw new CollidingIdentifierException(conceptDescriptionId);
+		}
+
+		conceptDescriptions.forEach(this::createConceptDescription);
+	}
+
 	/**
 	 * Deletes a ConceptDescription
 	 * 
@@ -112,6 +182,26 @@ public interface ConceptDescriptionRepository {
 	 */
 	public void deleteConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException;
 
+	/**
+	 * Deletes a ConceptDescription, if its version still matches the expected version.
+	 * Implementations compare the version atomically with the deletion.<br>
+	 * <br>
+	 * The default implementation compares the version before the deletion and
+	 * is thus not atomic.
+	 * 
+	 * @param conceptDescriptionId
+	 * @param expectedVersion
+	 *            the version the deletion is based on
+	 * @throws ElementDoesNotExistException
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected version
+	 */
+	public default void deleteConceptDescription(String conceptDescriptionId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		throwIfVersionMismatch(conceptDescriptionId, expectedVersion);
+
+		deleteConceptDescription(conceptDescriptionId);
+	}
+
 	/**
 	 * Returns the name of the repository
 	 * 
@@ -121,4 +211,19 @@ public interface ConceptDescriptionRepository {
 		return "cd-repo";
 	}
 
+	private void throwIfVersionMismatch(String conceptDescriptionId, long expectedVersion) {
+		if (getConceptDescriptionVersion(conceptDescriptionId) != expectedVersion)
+			throw new VersionMismatchException(conceptDescriptionId);
+	}
+
+	private boolean existsConceptDescription(String conceptDescriptionId) {
+		try {
+			getConceptDescription(conceptDescriptionId);
+
+			return true;
+		} catch (ElementDoesNotExistException e) {
+			return false;
+		}
+	}
+
 }
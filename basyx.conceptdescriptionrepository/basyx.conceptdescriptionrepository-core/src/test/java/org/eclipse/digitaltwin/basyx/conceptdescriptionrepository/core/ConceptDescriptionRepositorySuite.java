@@ -203,6 +203,26 @@ public abstract class ConceptDescriptionRepositorySuite {
 		repo.createConceptDescription(conceptDescription);
 	}
 	
+	@Test
+	public void createAllConceptDescriptions() {
+		ConceptDescription first = createDummyConceptDescription("bulkConceptDescription1");
+		ConceptDescription second = createDummyConceptDescription("bulkConceptDescription2");
+
+		ConceptDescriptionRepository repo = getConceptDescriptionRepositoryWithDummyConceptDescriptions();
+		repo.createAllConceptDescriptions(Arrays.asList(first, second));
+
+		assertEquals(first, repo.getConceptDescription(first.getId()));
+		assertEquals(second, repo.getConceptDescription(second.getId()));
+	}
+
+	@Test(expected = CollidingIdentifierException.class)
+	public void createAllConceptDescriptionsWithCollidingId() {
+		ConceptDescriptionRepository repo = getConceptDescriptionRepositoryWithDummyConceptDescriptions();
+		ConceptDescription conceptDescription = repo.getConceptDescription(ConceptDescriptionRepositorySuiteHelper.CONCEPT_DESCRIPTION_ID);
+
+		repo.createAllConceptDescriptions(Arrays.asList(createDummyConceptDescription("bulkConceptDescription"), conceptDescription));
+	}
+
 	@Test(expected = MissingIdentifierException.class)
 	public void createConceptDescriptionWithEmptyId() {
 		ConceptDescriptionRepository repo  = getConceptDescriptionRepository();
@@ -282,6 +302,48 @@ public abstract class ConceptDescriptionRepositorySuite {
 				.get());
 	}
 
+	@Test
+	public void getAllConceptDescriptionsWithIdShortAfterUpdate() {
+		ConceptDescriptionRepository repo = getConceptDescriptionRepositoryWithDummyConceptDescriptions();
+		ConceptDescription updated = DummyConceptDescriptionFactory.createBasicConceptDescription();
+		updated.setIdShort("UpdatedIdShort");
+
+		repo.updateConceptDescription(updated.getId(), updated);
+
+		assertIsEmpty(repo.getAllConceptDescriptionsByIdShort(ConceptDescriptionRepositorySuiteHelper.BASIC_CONCEPT_DESCRIPTION_ID_SHORT, noLimitPaginationInfo).getResult());
+		assertEquals(Arrays.asList(updated), repo.getAllConceptDescriptionsByIdShort("UpdatedIdShort", noLimitPaginationInfo).getResult());
+	}
+
+	@Test
+	public void getAllConceptDescriptionsWithIsCaseOfAfterDeletion() {
+		Reference reference = new DefaultReference.Builder().keys(Arrays.asList(new DefaultKey.Builder().type(KeyTypes.DATA_ELEMENT)
+				.value("DataElement")
+				.build()))
+				.type(ReferenceTypes.MODEL_REFERENCE)
+				.build();
+
+		ConceptDescriptionRepository repo = getConceptDescriptionRepositoryWithDummyConceptDescriptions();
+		repo.deleteConceptDescription(ConceptDescriptionRepositorySuiteHelper.CONCEPT_DESCRIPTION_ID);
+
+		Collection<ConceptDescription> actualConceptDescriptions = repo.getAllConceptDescriptionsByIsCaseOf(reference, noLimitPaginationInfo)
+				.getResult();
+
+		assertEquals(Arrays.asList(DummyConceptDescriptionFactory.createBasicConceptDescriptionWithDataSpecification()), actualConceptDescriptions);
+	}
+
+	@Test
+	public void getAllConceptDescriptionsWithIsCaseOfDifferentKeyValue() {
+		Reference reference = new DefaultReference.Builder().keys(Arrays.asList(new DefaultKey.Builder().type(KeyTypes.DATA_ELEMENT)
+				.value("DataElementNotExisting")
+				.build()))
+				.type(ReferenceTypes.MODEL_REFERENCE)
+				.build();
+
+		ConceptDescriptionRepository repo = getConceptDescriptionRepositoryWithDummyConceptDescriptions();
+
+		assertIsEmpty(repo.getAllConceptDescriptionsByIsCaseOf(reference, noLimitPaginationInfo).getResult());
+	}
+
 	private void assertConceptDescriptionsAreContained(Collection<ConceptDescription> expectedConceptDescriptions, Collection<ConceptDescription> actualConceptDescriptions) {
 		assertTrue(actualConceptDescriptions.containsAll(expectedConceptDescriptions));
 	}
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.autho
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
@@ -38,6 +39,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.InsufficientPermissionException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
@@ -102,6 +104,15 @@ public class AuthorizedConceptDescriptionRepository implements ConceptDescriptio
 		return decorated.getConceptDescription(conceptDescriptionId);
 	}
 
+	@Override
+	public long getConceptDescriptionVersion(String conceptDescriptionId) throws ElementDoesNotExistException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescriptionId)));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.getConceptDescriptionVersion(conceptDescriptionId);
+	}
+
 	@Override
 	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription) throws ElementDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescriptionId)));
@@ -111,6 +122,15 @@ public class AuthorizedConceptDescriptionRepository implements ConceptDescriptio
 		decorated.updateConceptDescription(conceptDescriptionId, conceptDescription);
 	}
 
+	@Override
+	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescriptionId)));
+		
+		throwExceptionIfInsufficientPermission(isAuthorized);
+		
+		decorated.updateConceptDescription(conceptDescriptionId, conceptDescription, expectedVersion);
+	}
+
 	@Override
 	public void createConceptDescription(ConceptDescription conceptDescription) throws CollidingIdentifierException, MissingIdentifierException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescription.getId())));
@@ -121,6 +141,17 @@ public class AuthorizedConceptDescriptionRepository implements ConceptDescriptio
 		
 	}
 
+	@Override
+	public void createAllConceptDescriptions(Collection<ConceptDescription> conceptDescriptions) throws CollidingIdentifierException, MissingIdentifierException {
+		for (ConceptDescription conceptDescription : conceptDescriptions) {
+			boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescription.getId())));
+			
+			throwExceptionIfInsufficientPermission(isAuthorized);
+		}
+		
+		decorated.createAllConceptDescriptions(conceptDescriptions);
+	}
+
 	@Override
 	public void deleteConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.DELETE, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescriptionId)));
@@ -130,6 +161,15 @@ public class AuthorizedConceptDescriptionRepository implements ConceptDescriptio
 		decorated.deleteConceptDescription(conceptDescriptionId);
 	}
 
+	@Override
+	public void deleteConceptDescription(String conceptDescriptionId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.DELETE, new ConceptDescriptionTargetInformation(getIdAsList(conceptDescriptionId)));
+		
+		throwExceptionIfInsufficientPermission(isAuthorized);
+		
+		decorated.deleteConceptDescription(conceptDescriptionId, expectedVersion);
+	}
+
 	private List<String> getIdAsList(String id) {
 		return new ArrayList<>(Arrays.asList(id));
 	}
@@ -32,6 +32,7 @@ import org.eclipse.digitaltwin.basyx.authorization.rbac.SimpleRbacPermissionReso
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RoleProvider;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.TargetPermissionVerifier;
 import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.authorization.rbac.ConceptDescriptionTargetPermissionVerifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -51,9 +52,9 @@ public class AuthorizedConceptDescriptionRepositoryConfiguration {
 	}
 	
 	@Bean
-	public RbacPermissionResolver<ConceptDescriptionTargetInformation> getCDPermissionResolver(RbacStorage rbacStorage, RoleProvider roleProvider, TargetPermissionVerifier<ConceptDescriptionTargetInformation> targetPermissionVerifier) {
+	public RbacPermissionResolver<ConceptDescriptionTargetInformation> getCDPermissionResolver(RbacStorage rbacStorage, RoleProvider roleProvider, TargetPermissionVerifier<ConceptDescriptionTargetInformation> targetPermissionVerifier, @Value("${" + CommonAuthorizationProperties.RBAC_DECISION_CACHE_SIZE_PROPERTY_KEY + ":0}") int decisionCacheSize) {
 
-		return new SimpleRbacPermissionResolver<>(rbacStorage, roleProvider, targetPermissionVerifier);
+		return new SimpleRbacPermissionResolver<>(rbacStorage, roleProvider, targetPermissionVerifier, decisionCacheSize);
 	}
 
 }
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.metrics;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+
+/**
+ * Decorator recording latency, errors and payload sizes of the operations of a
+ * {@link ConceptDescriptionRepository}
+ * 
+ * @author danish
+ */
+public class MeteredConceptDescriptionRepository implements ConceptDescriptionRepository {
+
+	private final ConceptDescriptionRepository decorated;
+	private final OperationMetrics metrics;
+
+	public MeteredConceptDescriptionRepository(ConceptDescriptionRepository decorated, OperationMetrics metrics) {
+		this.decorated = decorated;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptions(PaginationInfo pInfo) {
+		return recordResult("getAllConceptDescriptions", metrics.record("getAllConceptDescriptions", () -> decorated.getAllConceptDescriptions(pInfo)));
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIdShort(String idShort, PaginationInfo pInfo) {
+		return recordResult("getAllConceptDescriptionsByIdShort", metrics.record("getAllConceptDescriptionsByIdShort", () -> decorated.getAllConceptDescriptionsByIdShort(idShort, pInfo)));
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByIsCaseOf(Reference isCaseOf, PaginationInfo pInfo) {
+		return recordResult("getAllConceptDescriptionsByIsCaseOf", metrics.record("getAllConceptDescriptionsByIsCaseOf", () -> decorated.getAllConceptDescriptionsByIsCaseOf(isCaseOf, pInfo)));
+	}
+
+	@Override
+	public CursorResult<List<ConceptDescription>> getAllConceptDescriptionsByDataSpecificationReference(Reference dataSpecificationReference, PaginationInfo pInfo) {
+		return recordResult("getAllConceptDescriptionsByDataSpecificationReference",
+				metrics.record("getAllConceptDescriptionsByDataSpecificationReference", () -> decorated.getAllConceptDescriptionsByDataSpecificationReference(dataSpecificationReference, pInfo)));
+	}
+
+	@Override
+	public ConceptDescription getConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException {
+		return metrics.record("getConceptDescription", () -> decorated.getConceptDescription(conceptDescriptionId));
+	}
+
+	@Override
+	public long getConceptDescriptionVersion(String conceptDescriptionId) throws ElementDoesNotExistException {
+		return metrics.record("getConceptDescriptionVersion", () -> decorated.getConceptDescriptionVersion(conceptDescriptionId));
+	}
+
+	@Override
+	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription) throws ElementDoesNotExistException {
+		metrics.record("updateConceptDescription", () -> decorated.updateConceptDescription(conceptDescriptionId, conceptDescription));
+	}
+
+	@Override
+	public void updateConceptDescription(String conceptDescriptionId, ConceptDescription conceptDescription, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		metrics.record("updateConceptDescription", () -> decorated.updateConceptDescription(conceptDescriptionId, conceptDescription, expectedVersion));
+	}
+
+	@Override
+	public void createConceptDescription(ConceptDescription conceptDescription) throws CollidingIdentifierException, MissingIdentifierException {
+		metrics.record("createConceptDescription", () -> decorated.createConceptDescription(conceptDescription));
+	}
+
+	@Override
+	public void createAllConceptDescriptions(Collection<ConceptDescription> conceptDescriptions) throws CollidingIdentifierException, MissingIdentifierException {
+		metrics.recordPayload("createAllConceptDescriptions", conceptDescriptions.size());
+		metrics.record("createAllConceptDescriptions", () -> decorated.createAllConceptDescriptions(conceptDescriptions));
+	}
+
+	@Override
+	public void deleteConceptDescription(String conceptDescriptionId) throws ElementDoesNotExistException {
+		metrics.record("deleteConceptDescription", () -> decorated.deleteConceptDescription(conceptDescriptionId));
+	}
+
+	@Override
+	public void deleteConceptDescription(String conceptDescriptionId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		metrics.record("deleteConceptDescription", () -> decorated.deleteConceptDescription(conceptDescriptionId, expectedVersion));
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	private CursorResult<List<ConceptDescription>> recordResult(String operation, CursorResult<List<ConceptDescription>> result) {
+		metrics.recordPayload(operation, result.getResult().size());
+		return result;
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.feature.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultConceptDescription;
+import org.eclipse.digitaltwin.basyx.aasrepository.backend.SimpleConceptDescriptionRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.ConceptDescriptionRepository;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link MeteredConceptDescriptionRepository}
+ * 
+ * @author danish
+ */
+public class TestMeteredConceptDescriptionRepository {
+
+	private SimpleMeterRegistry registry;
+	private ConceptDescriptionRepository repository;
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+
+		SimpleConceptDescriptionRepositoryFactory backendFactory = new SimpleConceptDescriptionRepositoryFactory(new ConceptDescriptionInMemoryBackendProvider());
+		repository = new MeteredConceptDescriptionRepositoryFactory(backendFactory, new OperationMetrics(registry, MeteredConceptDescriptionRepositoryFeature.COMPONENT, "InMemory")).create();
+
+		repository.createConceptDescription(new DefaultConceptDescription.Builder().id("first").idShort("shared").build());
+		repository.createConceptDescription(new DefaultConceptDescription.Builder().id("second").idShort("shared").build());
+	}
+
+	@Test
+	public void latencyAndPayloadAreRecorded() {
+		repository.getAllConceptDescriptionsByIdShort("shared", new PaginationInfo(0, null));
+
+		assertEquals(2, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "createConceptDescription").tag(OperationMetrics.TAG_COMPONENT, "cd-repo").timer().count());
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAllConceptDescriptionsByIdShort").summary().totalAmount(), 0);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void errorIsCounted() {
+		try {
+			repository.getConceptDescription("nonExisting");
+		} finally {
+			assertEquals(1, registry.get(OperationMetrics.ERRORS).tag(OperationMetrics.TAG_OPERATION, "getConceptDescription").tag(OperationMetrics.TAG_EXCEPTION, "ElementDoesNotExistException").counter().count(), 0);
+		}
+	}
+}
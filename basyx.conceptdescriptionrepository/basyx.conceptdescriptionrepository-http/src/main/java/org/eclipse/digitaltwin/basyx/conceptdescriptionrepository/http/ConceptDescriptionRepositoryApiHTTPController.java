@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import java.util.List;
+import java.util.OptionalLong;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultReference;
@@ -17,14 +18,17 @@ import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http.paginatio
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
+import org.eclipse.digitaltwin.basyx.http.ETagResponseFactory;
 import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @jakarta.annotation.Generated(value = "io.swagger.codegen.v3.generators.java.SpringCodegen", date = "2023-03-21T12:35:49.719724407Z[GMT]")
@@ -44,8 +48,17 @@ public class ConceptDescriptionRepositoryApiHTTPController implements ConceptDes
 
 	@Override
 	public ResponseEntity<Void> deleteConceptDescriptionById(
-			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier) {
-		repository.deleteConceptDescription(cdIdentifier.getIdentifier());
+			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of the version the request is based on. If it is outdated, 412 Precondition Failed is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		String conceptDescriptionId = cdIdentifier.getIdentifier();
+
+		OptionalLong expectedVersion = getExpectedVersion(conceptDescriptionId, ifMatch);
+
+		if (expectedVersion.isPresent())
+			repository.deleteConceptDescription(conceptDescriptionId, expectedVersion.getAsLong());
+		else
+			repository.deleteConceptDescription(conceptDescriptionId);
+
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
@@ -79,8 +92,11 @@ public class ConceptDescriptionRepositoryApiHTTPController implements ConceptDes
 
 	@Override
 	public ResponseEntity<ConceptDescription> getConceptDescriptionById(
-			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier) {
-		return new ResponseEntity<ConceptDescription>(repository.getConceptDescription(cdIdentifier.getIdentifier()), HttpStatus.OK);
+			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of a previously retrieved version. If it is still current, 304 Not Modified is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		String conceptDescriptionId = cdIdentifier.getIdentifier();
+
+		return ETagResponseFactory.create(repository.getConceptDescriptionVersion(conceptDescriptionId), ifNoneMatch, () -> repository.getConceptDescription(conceptDescriptionId));
 	}
 
 	@Override
@@ -92,11 +108,27 @@ public class ConceptDescriptionRepositoryApiHTTPController implements ConceptDes
 	@Override
 	public ResponseEntity<Void> putConceptDescriptionById(
 			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
-			@Parameter(in = ParameterIn.DEFAULT, description = "Concept Description object", required = true, schema = @Schema()) @Valid @RequestBody ConceptDescription body) {
-		repository.updateConceptDescription(cdIdentifier.getIdentifier(), body);
+			@Parameter(in = ParameterIn.DEFAULT, description = "Concept Description object", required = true, schema = @Schema()) @Valid @RequestBody ConceptDescription body,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of the version the request is based on. If it is outdated, 412 Precondition Failed is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		String conceptDescriptionId = cdIdentifier.getIdentifier();
+
+		OptionalLong expectedVersion = getExpectedVersion(conceptDescriptionId, ifMatch);
+
+		if (expectedVersion.isPresent())
+			repository.updateConceptDescription(conceptDescriptionId, body, expectedVersion.getAsLong());
+		else
+			repository.updateConceptDescription(conceptDescriptionId, body);
+
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
+	private OptionalLong getExpectedVersion(String conceptDescriptionId, String ifMatch) {
+		if (ifMatch == null)
+			return OptionalLong.empty();
+
+		return ETagResponseFactory.getExpectedVersion(ifMatch, repository.getConceptDescriptionVersion(conceptDescriptionId), conceptDescriptionId);
+	}
+
 	private Reference getReference(String serializedReference) {
 		if (serializedReference == null) {
 			return null;
@@ -10,10 +10,12 @@ import org.eclipse.digitaltwin.basyx.conceptdescriptionrepository.http.paginatio
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -35,6 +37,8 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 	@Operation(summary = "Deletes a Concept Description", description = "", tags = { "Concept Description Repository API" })
 	@ApiResponses(value = { @ApiResponse(responseCode = "204", description = "Concept Description deleted successfully"),
 
+			@ApiResponse(responseCode = "412", description = "Precondition Failed, the ETag given in If-Match is outdated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
+
 			@ApiResponse(responseCode = "400", description = "Bad Request, e.g. the request parameters of the format of the request body is wrong.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
@@ -46,7 +50,8 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
 	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json" }, method = RequestMethod.DELETE)
 	ResponseEntity<Void> deleteConceptDescriptionById(
-			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier);
+			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of the version the request is based on. If it is outdated, 412 Precondition Failed is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
 	@Operation(summary = "Returns all Concept Descriptions", description = "", tags = { "Concept Description Repository API" })
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Requested Concept Descriptions", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GetConceptDescriptionsResult.class))),
@@ -69,6 +74,8 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 	@Operation(summary = "Returns a specific Concept Description", description = "", tags = { "Concept Description Repository API" })
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "Requested Concept Description", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConceptDescription.class))),
 
+			@ApiResponse(responseCode = "304", description = "Not Modified, the ETag given in If-None-Match is still current"),
+
 			@ApiResponse(responseCode = "400", description = "Bad Request, e.g. the request parameters of the format of the request body is wrong.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
@@ -80,7 +87,8 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 			@ApiResponse(responseCode = "200", description = "Default error handling for unmentioned status codes", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))) })
 	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json" }, method = RequestMethod.GET)
 	ResponseEntity<ConceptDescription> getConceptDescriptionById(
-			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier);
+			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of a previously retrieved version. If it is still current, 304 Not Modified is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
 	@Operation(summary = "Creates a new Concept Description", description = "", tags = { "Concept Description Repository API" })
 	@ApiResponses(value = { @ApiResponse(responseCode = "201", description = "Concept Description created successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ConceptDescription.class))),
@@ -100,6 +108,8 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 	@Operation(summary = "Updates an existing Concept Description", description = "", tags = { "Concept Description Repository API" })
 	@ApiResponses(value = { @ApiResponse(responseCode = "204", description = "Concept Description updated successfully"),
 
+			@ApiResponse(responseCode = "412", description = "Precondition Failed, the ETag given in If-Match is outdated", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
+
 			@ApiResponse(responseCode = "400", description = "Bad Request, e.g. the request parameters of the format of the request body is wrong.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
 
 			@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = "application/json", schema = @Schema(implementation = Result.class))),
@@ -112,5 +122,6 @@ public interface ConceptDescriptionRepositoryHTTPApi {
 	@RequestMapping(value = "/concept-descriptions/{cdIdentifier}", produces = { "application/json" }, consumes = { "application/json" }, method = RequestMethod.PUT)
 	ResponseEntity<Void> putConceptDescriptionById(
 			@Parameter(in = ParameterIn.PATH, description = "The Concept Description’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("cdIdentifier") Base64UrlEncodedIdentifier cdIdentifier,
-			@Parameter(in = ParameterIn.DEFAULT, description = "Concept Description object", required = true, schema = @Schema()) @Valid @RequestBody ConceptDescription body);
+			@Parameter(in = ParameterIn.DEFAULT, description = "Concept Description object", required = true, schema = @Schema()) @Valid @RequestBody ConceptDescription body,
+			@Parameter(in = ParameterIn.HEADER, description = "ETag of the version the request is based on. If it is outdated, 412 Precondition Failed is returned", schema = @Schema()) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 }
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEventSink;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka.KafkaEventsProperties.BackPressureStrategy;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.messaging.support.GenericMessage;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sends registry events without blocking the request thread. Events are
+ * buffered in a bounded queue and handed to the {@link KafkaTemplate} by a
+ * single dispatcher thread, which keeps their order. Each event stays a record
+ * of its own, batching them is left to the producer (<code>batch.size</code>
+ * and <code>linger.ms</code>). The {@link BackPressureStrategy} decides what
+ * happens if the queue is full.
+ */
+@Log4j2
+public class AsyncKafkaRegistryEventSink implements RegistryEventSink, DisposableBean {
+
+	private static final long IDLE_POLL_MILLIS = 100;
+
+	private final KafkaTemplate<String, String> template;
+	private final KafkaEventSinkMetrics metrics;
+	private final BlockingQueue<RegistryEvent> queue;
+	private final int queueCapacity;
+	private final long shutdownTimeoutMillis;
+	private final BackPressureStrategy backPressure;
+	private final Thread dispatcher;
+
+	private volatile boolean running = true;
+
+	public AsyncKafkaRegistryEventSink(KafkaTemplate<String, String> template, KafkaEventsProperties properties, KafkaEventSinkMetrics metrics) {
+		this.template = template;
+		this.metrics = metrics;
+		this.queueCapacity = properties.getQueueCapacity();
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.shutdownTimeoutMillis = properties.getShutdownTimeout().toMillis();
+		this.backPressure = properties.getBackPressure();
+
+		metrics.registerQueue(queue);
+
+		this.dispatcher = new Thread(this::dispatch, "kafka-registry-event-dispatcher");
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
+
+	@Override
+	public void consumeEvent(RegistryEvent evt) {
+		if (!running) {
+			metrics.dropped();
+			log.warn("Registry event sink is shut down, event dropped.");
+			return;
+		}
+
+		switch (backPressure) {
+		case DROP_OLDEST:
+			enqueueDroppingOldest(evt);
+			break;
+		case FAIL:
+			if (!queue.offer(evt))
+				throw new RegistryEventQueueFullException(queueCapacity);
+			break;
+		default:
+			enqueueBlocking(evt);
+		}
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		running = false;
+		dispatcher.join(shutdownTimeoutMillis);
+
+		if (dispatcher.isAlive())
+			dispatcher.interrupt();
+
+		int remaining = queue.size();
+		for (int i = 0; i < remaining; i++)
+			metrics.dropped();
+
+		if (remaining > 0)
+			log.warn("Registry event sink shut down with {} unsent events.", remaining);
+
+		template.flush();
+	}
+
+	private void enqueueBlocking(RegistryEvent evt) {
+		try {
+			queue.put(evt);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			metrics.dropped();
+			log.error("Interrupted while waiting for the registry event queue, event dropped.");
+		}
+	}
+
+	private void enqueueDroppingOldest(RegistryEvent evt) {
+		while (!queue.offer(evt)) {
+			if (queue.poll() != null) {
+				metrics.dropped();
+				log.warn("Registry event queue is full, dropped the oldest event.");
+			}
+		}
+	}
+
+	private void dispatch() {
+		try {
+			while (running || !queue.isEmpty()) {
+				RegistryEvent evt = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+				if (evt != null)
+					send(evt);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void send(RegistryEvent evt) {
+		try {
+			template.send(new GenericMessage<RegistryEvent>(evt)).whenComplete((result, ex) -> onSendCompleted(ex));
+		} catch (RuntimeException e) {
+			onSendCompleted(e);
+		}
+	}
+
+	private void onSendCompleted(Throwable ex) {
+		if (ex == null) {
+			metrics.sent();
+			return;
+		}
+
+		metrics.failed();
+		log.error("Failed to send registration event info.", ex);
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka;
+
+import java.util.Collection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Delivery counters of the kafka registry event sinks
+ */
+public class KafkaEventSinkMetrics {
+
+	private static final String PREFIX = "basyx.registry.events.";
+	private static final String SINK_TAG = "sink";
+	private static final String SINK_TAG_VALUE = "kafka";
+
+	private final MeterRegistry registry;
+	private final Counter sent;
+	private final Counter failed;
+	private final Counter dropped;
+
+	public KafkaEventSinkMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.sent = Counter.builder(PREFIX + "sent").description("Registry events acknowledged by the broker").tag(SINK_TAG, SINK_TAG_VALUE).register(registry);
+		this.failed = Counter.builder(PREFIX + "failed").description("Registry events the broker did not acknowledge").tag(SINK_TAG, SINK_TAG_VALUE).register(registry);
+		this.dropped = Counter.builder(PREFIX + "dropped").description("Registry events discarded before sending").tag(SINK_TAG, SINK_TAG_VALUE).register(registry);
+	}
+
+	public void registerQueue(Collection<?> queue) {
+		Gauge.builder(PREFIX + "queued", queue, Collection::size).description("Registry events waiting to be sent").tag(SINK_TAG, SINK_TAG_VALUE).register(registry);
+	}
+
+	public void sent() {
+		sent.increment();
+	}
+
+	public void failed() {
+		failed.increment();
+	}
+
+	public void dropped() {
+		dropped.increment();
+	}
+
+	public double getSentCount() {
+		return sent.count();
+	}
+
+	public double getFailedCount() {
+		return failed.count();
+	}
+
+	public double getDroppedCount() {
+		return dropped.count();
+	}
+}
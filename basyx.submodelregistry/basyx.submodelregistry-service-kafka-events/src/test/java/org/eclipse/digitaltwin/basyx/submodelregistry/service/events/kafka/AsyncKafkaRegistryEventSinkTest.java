@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+package org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.RegistryEvent.EventType;
+import org.eclipse.digitaltwin.basyx.submodelregistry.service.events.kafka.KafkaEventsProperties.BackPressureStrategy;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AsyncKafkaRegistryEventSinkTest {
+
+	private static final String TOPIC = "submodel-registry";
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	private final NonClosingMockProducer producer = new NonClosingMockProducer();
+	private final CountDownLatch producerRequested = new CountDownLatch(1);
+	private final CountDownLatch producerReleased = new CountDownLatch(1);
+	private final KafkaEventSinkMetrics metrics = new KafkaEventSinkMetrics(new SimpleMeterRegistry());
+
+	private AsyncKafkaRegistryEventSink sink;
+
+	@After
+	public void tearDown() throws InterruptedException {
+		producerReleased.countDown();
+
+		if (sink != null)
+			sink.destroy();
+	}
+
+	@Test
+	public void eventsAreSentInOrder() throws InterruptedException {
+		producerReleased.countDown();
+		sink = newSink(100, BackPressureStrategy.BLOCK);
+
+		for (int i = 0; i < 50; i++)
+			sink.consumeEvent(newEvent("submodel" + i));
+
+		producer.completeAll(50);
+
+		List<String> expected = List.of("submodel0", "submodel1", "submodel2");
+		assertEquals(expected, sentIds().subList(0, 3));
+		assertEquals(50, sentIds().size());
+		waitFor(() -> metrics.getSentCount() == 50);
+	}
+
+	@Test
+	public void deliveryFailuresAreCounted() throws InterruptedException {
+		producerReleased.countDown();
+		sink = newSink(100, BackPressureStrategy.BLOCK);
+
+		sink.consumeEvent(newEvent("submodel0"));
+		sink.consumeEvent(newEvent("submodel1"));
+
+		waitFor(() -> producer.history().size() == 2);
+		producer.completeNext();
+		producer.errorNext(new RuntimeException("broker unavailable"));
+
+		waitFor(() -> metrics.getSentCount() == 1 && metrics.getFailedCount() == 1);
+	}
+
+	@Test
+	public void oldestEventIsDroppedOnFullQueue() throws InterruptedException {
+		sink = newSink(2, BackPressureStrategy.DROP_OLDEST);
+		stallDispatcher();
+
+		sink.consumeEvent(newEvent("submodel1"));
+		sink.consumeEvent(newEvent("submodel2"));
+		sink.consumeEvent(newEvent("submodel3"));
+
+		assertEquals(1, metrics.getDroppedCount(), 0);
+
+		producerReleased.countDown();
+		producer.completeAll(3);
+
+		assertEquals(List.of("submodel0", "submodel2", "submodel3"), sentIds());
+	}
+
+	@Test(expected = RegistryEventQueueFullException.class)
+	public void fullQueueIsRejected() throws InterruptedException {
+		sink = newSink(1, BackPressureStrategy.FAIL);
+		stallDispatcher();
+
+		sink.consumeEvent(newEvent("submodel1"));
+		sink.consumeEvent(newEvent("submodel2"));
+	}
+
+	private void stallDispatcher() throws InterruptedException {
+		sink.consumeEvent(newEvent("submodel0"));
+		assertTrue(producerRequested.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+	}
+
+	private AsyncKafkaRegistryEventSink newSink(int queueCapacity, BackPressureStrategy backPressure) {
+		ProducerFactory<String, String> producerFactory = () -> {
+			producerRequested.countDown();
+			awaitUninterruptibly(producerReleased);
+			return producer;
+		};
+
+		KafkaTemplate<String, String> template = new KafkaTemplate<>(producerFactory);
+		template.setDefaultTopic(TOPIC);
+
+		KafkaEventsProperties properties = new KafkaEventsProperties();
+		properties.setMode(KafkaEventsProperties.SendMode.ASYNC);
+		properties.setQueueCapacity(queueCapacity);
+		properties.setBackPressure(backPressure);
+		properties.setShutdownTimeout(Duration.ofSeconds(1));
+
+		return new AsyncKafkaRegistryEventSink(template, properties, metrics);
+	}
+
+	private List<String> sentIds() {
+		return producer.history().stream().map(record -> ((ProducerRecord<?, ?>) record).value()).map(RegistryEvent.class::cast).map(RegistryEvent::getId).collect(Collectors.toList());
+	}
+
+	private static RegistryEvent newEvent(String id) {
+		return RegistryEvent.builder().id(id).type(EventType.SUBMODEL_UNREGISTERED).build();
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+		while (!condition.getAsBoolean()) {
+			assertTrue("Condition not met in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(5);
+		}
+	}
+
+	/**
+	 * Keeps the producer open, as the {@link KafkaTemplate} closes the producer
+	 * after each send
+	 */
+	private static class NonClosingMockProducer extends MockProducer<String, String> {
+
+		NonClosingMockProducer() {
+			super(false, new StringSerializer(), anyValueSerializer());
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static Serializer<String> anyValueSerializer() {
+			Serializer serializer = (topic, data) -> new byte[0];
+			return serializer;
+		}
+
+		void completeAll(int expectedCount) throws InterruptedException {
+			int completed = 0;
+
+			while (completed < expectedCount) {
+				waitFor(() -> history().size() > 0);
+
+				if (completeNext())
+					completed++;
+				else
+					Thread.sleep(1);
+			}
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public void close(Duration timeout) {
+		}
+	}
+}
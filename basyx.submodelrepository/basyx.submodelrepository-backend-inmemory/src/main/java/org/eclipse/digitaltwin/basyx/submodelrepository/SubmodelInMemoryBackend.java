@@ -25,25 +25,35 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
 import org.springframework.data.repository.CrudRepository;
 
 /**
- * InMemory implementation for the Submodel backend
+ * InMemory implementation for the Submodel backend. <br>
+ * <br>
+ * The store is safe for concurrent access and kept sorted by id, so that
+ * pages are served without sorting all Submodels. Atomicity of modifications
+ * within a single Submodel is ensured by the per Submodel locking of the
+ * CrudSubmodelRepository.
  * 
  * @author mateusmolina, danish
  * 
  */
-public class SubmodelInMemoryBackend implements CrudRepository<Submodel, String> {
+public class SubmodelInMemoryBackend implements CrudRepository<Submodel, String>, CursorPaginatedRepository<Submodel> {
 
-	private Map<String, Submodel> inMemoryStore = new LinkedHashMap<>();
+	private NavigableMap<String, Submodel> inMemoryStore = new ConcurrentSkipListMap<>();
 	
 	@Override
 	public <S extends Submodel> S save(S entity) {
@@ -75,6 +85,11 @@ public class SubmodelInMemoryBackend implements CrudRepository<Submodel, String>
 		return inMemoryStore.values();
 	}
 
+	@Override
+	public CursorResult<List<Submodel>> findAll(PaginationInfo pInfo) {
+		return new PaginationSupport<>(inMemoryStore, Submodel::getId).getPaged(pInfo);
+	}
+
 	@Override
 	public Iterable<Submodel> findAllById(Iterable<String> ids) {
 		return StreamSupport.stream(ids.spliterator(), false).map(inMemoryStore::get).filter(Objects::nonNull).collect(Collectors.toList());
@@ -26,17 +26,22 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Collection;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
 import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.backend.CrudSubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SimpleSubmodelRepositoryFactory;
 import org.eclipse.digitaltwin.basyx.submodelrepository.core.SubmodelRepositorySuite;
 import org.eclipse.digitaltwin.basyx.submodelservice.DummySubmodelFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
 import org.junit.Test;
 import org.junit.Test.None;
 
@@ -90,6 +95,73 @@ public class TestInMemorySubmodelRepository extends SubmodelRepositorySuite {
 		getSubmodelRepository(submodelsWithUniqueIds);
 	}
 
+	@Test
+	public void versionIncreasesWithModifications() {
+		SubmodelRepository repo = getSubmodelRepository(createSubmodelCollectionWithUniqueIds());
+		String submodelId = DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID;
+
+		long initialVersion = repo.getSubmodelVersion(submodelId);
+
+		repo.getSubmodel(submodelId);
+		assertEquals(initialVersion, repo.getSubmodelVersion(submodelId));
+
+		repo.setSubmodelElementValue(submodelId, DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, new PropertyValue("20"));
+		long versionAfterValueChange = repo.getSubmodelVersion(submodelId);
+		assertTrue(versionAfterValueChange > initialVersion);
+
+		repo.updateSubmodel(submodelId, DummySubmodelFactory.createSimpleDataSubmodel());
+		assertTrue(repo.getSubmodelVersion(submodelId) > versionAfterValueChange);
+	}
+
+	@Test
+	public void elementModificationIncreasesVersionByOne() {
+		SubmodelRepository repo = getSubmodelRepository(Lists.newArrayList(DummySubmodelFactory.createSimpleDataSubmodel()));
+		String submodelId = DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID;
+
+		long initialVersion = repo.getSubmodelVersion(submodelId);
+
+		repo.setSubmodelElementValue(submodelId, DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, new PropertyValue("20"));
+		assertEquals(initialVersion + 1, repo.getSubmodelVersion(submodelId));
+
+		repo.deleteSubmodelElement(submodelId, DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT);
+		assertEquals(initialVersion + 2, repo.getSubmodelVersion(submodelId));
+	}
+
+	@Test
+	public void conditionalUpdateWithOutdatedVersionIsRejected() {
+		SubmodelRepository repo = getSubmodelRepository(createSubmodelCollectionWithUniqueIds());
+		String submodelId = DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID;
+
+		long outdatedVersion = repo.getSubmodelVersion(submodelId);
+		repo.setSubmodelElementValue(submodelId, DummySubmodelFactory.SUBMODEL_ELEMENT_SIMPLE_DATA_ID_SHORT, new PropertyValue("20"));
+		long currentVersion = repo.getSubmodelVersion(submodelId);
+
+		assertThrows(VersionMismatchException.class, () -> repo.updateSubmodel(submodelId, DummySubmodelFactory.createSimpleDataSubmodel(), outdatedVersion));
+		assertThrows(VersionMismatchException.class, () -> repo.deleteSubmodel(submodelId, outdatedVersion));
+		assertEquals(currentVersion, repo.getSubmodelVersion(submodelId));
+
+		repo.updateSubmodel(submodelId, DummySubmodelFactory.createSimpleDataSubmodel(), currentVersion);
+		assertTrue(repo.getSubmodelVersion(submodelId) > currentVersion);
+	}
+
+	@Test
+	public void versionOfRecreatedSubmodelIsNotReused() {
+		SubmodelRepository repo = getSubmodelRepository(createSubmodelCollectionWithUniqueIds());
+		String submodelId = DummySubmodelFactory.SUBMODEL_SIMPLE_DATA_ID;
+
+		long versionBeforeDeletion = repo.getSubmodelVersion(submodelId);
+
+		repo.deleteSubmodel(submodelId);
+		repo.createSubmodel(DummySubmodelFactory.createSimpleDataSubmodel());
+
+		assertTrue(repo.getSubmodelVersion(submodelId) > versionBeforeDeletion);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void versionOfNonExistingSubmodel() {
+		getSubmodelRepository().getSubmodelVersion("nonExisting");
+	}
+
 	private Collection<Submodel> createSubmodelCollectionWithCollidingIds() {
 		return Lists.newArrayList(DummySubmodelFactory.createTechnicalDataSubmodel(), DummySubmodelFactory.createTechnicalDataSubmodel());
 	}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.InvokableOperation;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.CrudSubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SimpleSubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Stress tests the {@link CrudSubmodelRepository} with InMemory backend under
+ * concurrent modifications of the same Submodel
+ *
+ * @author danish
+ *
+ */
+public class TestInMemorySubmodelRepositoryConcurrency {
+
+	private static final String SUBMODEL_ID = "concurrencySubmodel";
+	private static final int THREAD_COUNT = 8;
+	private static final int OPERATIONS_PER_THREAD = 250;
+	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
+
+	private SubmodelRepository repository;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		repository = new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), new InMemorySubmodelServiceFactory(new InMemoryFileRepository())).create();
+		repository.createSubmodel(new DefaultSubmodel.Builder().id(SUBMODEL_ID).idShort(SUBMODEL_ID).submodelElements(new ArrayList<>()).build());
+
+		executor = Executors.newFixedThreadPool(THREAD_COUNT);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void concurrentElementCreationLosesNoUpdates() throws Exception {
+		runConcurrently(thread -> {
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				repository.createSubmodelElement(SUBMODEL_ID, createProperty(thread + "_" + i, "0"));
+
+				repository.getSubmodelElements(SUBMODEL_ID, NO_LIMIT_PAGINATION_INFO);
+			}
+		});
+
+		assertEquals(THREAD_COUNT * OPERATIONS_PER_THREAD, repository.getSubmodelElements(SUBMODEL_ID, NO_LIMIT_PAGINATION_INFO).getResult().size());
+	}
+
+	@Test
+	public void concurrentValueUpdatesAndDeletionsKeepSubmodelConsistent() throws Exception {
+		for (int thread = 0; thread < THREAD_COUNT; thread++)
+			repository.createSubmodelElement(SUBMODEL_ID, createProperty("counter" + thread, "0"));
+
+		runConcurrently(thread -> {
+			String idShort = "counter" + thread;
+
+			for (int i = 1; i <= OPERATIONS_PER_THREAD; i++) {
+				repository.setSubmodelElementValue(SUBMODEL_ID, idShort, new PropertyValue(String.valueOf(i)));
+
+				repository.createSubmodelElement(SUBMODEL_ID, createProperty("temporary" + thread, "0"));
+				repository.deleteSubmodelElement(SUBMODEL_ID, "temporary" + thread);
+
+				repository.getSubmodelByIdValueOnly(SUBMODEL_ID);
+			}
+		});
+
+		for (int thread = 0; thread < THREAD_COUNT; thread++) {
+			PropertyValue value = (PropertyValue) repository.getSubmodelElementValue(SUBMODEL_ID, "counter" + thread);
+			assertEquals(String.valueOf(OPERATIONS_PER_THREAD), value.getValue());
+		}
+
+		assertEquals(THREAD_COUNT, repository.getSubmodelElements(SUBMODEL_ID, NO_LIMIT_PAGINATION_INFO).getResult().size());
+	}
+
+	@Test
+	public void serializingResultsWhileWritingDoesNotFail() throws Exception {
+		JsonSerializer serializer = new JsonSerializer();
+
+		List<SubmodelElement> containedProperties = new ArrayList<>();
+		for (int i = 0; i < OPERATIONS_PER_THREAD; i++)
+			containedProperties.add(createProperty("contained" + i, String.valueOf(i)));
+
+		repository.createSubmodelElement(SUBMODEL_ID, new DefaultSubmodelElementCollection.Builder().idShort("container").value(containedProperties).build());
+
+		runConcurrently(thread -> {
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				if (thread % 2 == 0) {
+					repository.createSubmodelElement(SUBMODEL_ID, "container", createProperty("temporary" + thread, String.valueOf(i)));
+					repository.deleteSubmodelElement(SUBMODEL_ID, "container.temporary" + thread);
+					continue;
+				}
+
+				serialize(serializer, repository.getSubmodel(SUBMODEL_ID));
+				serialize(serializer, repository.getSubmodelElements(SUBMODEL_ID, NO_LIMIT_PAGINATION_INFO).getResult());
+			}
+		});
+	}
+
+	@Test
+	public void operationModifyingItsSubmodelDoesNotDeadlock() throws Exception {
+		repository.createSubmodelElement(SUBMODEL_ID, createProperty("counter", "0"));
+		repository.createSubmodelElement(SUBMODEL_ID, new InvokableOperation.Builder().idShort("increment").invokable(input -> {
+			repository.setSubmodelElementValue(SUBMODEL_ID, "counter", new PropertyValue("1"));
+			return new OperationVariable[0];
+		}).build());
+
+		executor.submit(() -> repository.invokeOperation(SUBMODEL_ID, "increment", new OperationVariable[0])).get(10, TimeUnit.SECONDS);
+
+		assertEquals("1", ((PropertyValue) repository.getSubmodelElementValue(SUBMODEL_ID, "counter")).getValue());
+	}
+
+	private static void serialize(JsonSerializer serializer, Object result) {
+		try {
+			serializer.write(result);
+		} catch (SerializationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void runConcurrently(ThreadTask task) throws Exception {
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<Void>> futures = new ArrayList<>();
+
+		for (int thread = 0; thread < THREAD_COUNT; thread++) {
+			int threadIndex = thread;
+
+			Callable<Void> callable = () -> {
+				startSignal.await();
+				task.run(threadIndex);
+				return null;
+			};
+
+			futures.add(executor.submit(callable));
+		}
+
+		startSignal.countDown();
+
+		for (Future<Void> future : futures)
+			future.get(1, TimeUnit.MINUTES);
+	}
+
+	private static Property createProperty(String idShort, String value) {
+		return new DefaultProperty.Builder().idShort(idShort).valueType(DataTypeDefXsd.INT).value(value).build();
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int threadIndex);
+	}
+
+}
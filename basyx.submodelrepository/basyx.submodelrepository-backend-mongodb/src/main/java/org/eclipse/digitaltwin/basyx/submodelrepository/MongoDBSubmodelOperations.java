@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SubmodelOperations;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.ListIndexPathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.PathToken;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathParser;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.DefaultMongoTypeMapper;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.util.TypeInformation;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+
+/**
+ * MongoDB implementation of the {@link SubmodelOperations}. <br>
+ * <br>
+ * An idShortPath is resolved by an aggregation that only returns the addressed
+ * SubmodelElement together with its positional path inside the Submodel
+ * document (e.g. <i>submodelElements.3.value.0</i>). Modifications are then
+ * applied as <i>$set</i>, <i>$push</i> and <i>$pull</i> updates on that path,
+ * so only the affected SubmodelElement is transferred.
+ *
+ * @author danish
+ */
+public class MongoDBSubmodelOperations implements SubmodelOperations {
+
+	static final String SUBMODEL_ELEMENTS = "submodelElements";
+
+	private static final String ID = "_id";
+	private static final String ID_SHORT = "idShort";
+	private static final String VALUE = "value";
+	private static final String STATEMENTS = "statements";
+
+	private static final String ELEMENT = "element";
+	private static final String CHILDREN = "children";
+	private static final String INDEX = "index";
+	private static final String PATH = "path";
+	private static final String TYPES = "types";
+
+	private final MongoTemplate template;
+	private final String collectionName;
+	private final SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+
+	public MongoDBSubmodelOperations(MongoTemplate template, String collectionName) {
+		this.template = template;
+		this.collectionName = collectionName;
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		return readSubmodelElement(resolve(submodelId, idShortPath).getElement());
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
+		Bson filter = Filters.and(Filters.eq(ID, submodelId), Filters.ne(SUBMODEL_ELEMENTS + "." + ID_SHORT, submodelElement.getIdShort()));
+
+		UpdateResult result = getCollection().updateOne(filter, Updates.push(SUBMODEL_ELEMENTS, writeSubmodelElement(submodelElement)));
+
+		if (result.getMatchedCount() > 0)
+			return;
+
+		throwIfSubmodelDoesNotExist(submodelId);
+
+		throw new CollidingIdentifierException(submodelElement.getIdShort());
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException {
+		ResolvedSubmodelElement parent = resolve(submodelId, idShortPath);
+		Class<?> parentType = getType(parent.getElement());
+
+		if (SubmodelElementList.class.isAssignableFrom(parentType)) {
+			getCollection().updateOne(Filters.eq(ID, submodelId), Updates.push(parent.getPath() + "." + VALUE, writeSubmodelElement(submodelElement)));
+			return;
+		}
+
+		if (!isIdShortParentType(parentType))
+			throw new IllegalArgumentException(String.format("SubmodelElement at '%s' can not contain child elements", idShortPath));
+
+		String childrenPath = parent.getPath() + "." + getChildrenField(parentType);
+
+		Bson filter = Filters.and(Filters.eq(ID, submodelId), Filters.ne(childrenPath + "." + ID_SHORT, submodelElement.getIdShort()));
+
+		UpdateResult result = getCollection().updateOne(filter, Updates.push(childrenPath, writeSubmodelElement(submodelElement)));
+
+		if (result.getMatchedCount() == 0)
+			throw new CollidingIdentifierException(idShortPath + "." + submodelElement.getIdShort());
+	}
+
+	@Override
+	public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		ResolvedSubmodelElement resolved = resolve(submodelId, idShortPath);
+
+		UpdateResult result = getCollection().updateOne(createPositionalFilter(submodelId, resolved), createSetUpdate(resolved.getPath(), writeSubmodelElement(submodelElement)));
+
+		throwIfConcurrentlyModified(result, idShortPath);
+	}
+
+	@Override
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		ResolvedSubmodelElement resolved = resolve(submodelId, idShortPath);
+
+		String path = resolved.getPath();
+		String parentArrayPath = path.substring(0, path.lastIndexOf('.'));
+
+		if (isListItem(idShortPath)) {
+			deleteListItem(submodelId, resolved, parentArrayPath, idShortPath);
+			return;
+		}
+
+		Document idShortFilter = new Document(ID_SHORT, resolved.getElement().getString(ID_SHORT));
+
+		UpdateResult result = getCollection().updateOne(Filters.eq(ID, submodelId), Updates.pull(parentArrayPath, idShortFilter));
+
+		if (result.getModifiedCount() == 0)
+			throw new ElementDoesNotExistException(idShortPath);
+	}
+
+	/**
+	 * Items of a SubmodelElementList do not have an idShort to pull them by.
+	 * Thus, the item is unset at its position first and the resulting null entry
+	 * is pulled afterwards.
+	 */
+	private void deleteListItem(String submodelId, ResolvedSubmodelElement resolved, String parentArrayPath, String idShortPath) {
+		UpdateResult result = getCollection().updateOne(createPositionalFilter(submodelId, resolved), Updates.unset(resolved.getPath()));
+
+		throwIfConcurrentlyModified(result, idShortPath);
+
+		getCollection().updateOne(Filters.eq(ID, submodelId), Updates.pull(parentArrayPath, null));
+	}
+
+	private boolean isListItem(String idShortPath) {
+		List<PathToken> tokens = pathParser.parsePathTokenList(idShortPath);
+
+		return tokens.get(tokens.size() - 1) instanceof ListIndexPathToken;
+	}
+
+	static Bson createSetUpdate(String path, Document submodelElementDocument) {
+		return Updates.set(path, submodelElementDocument);
+	}
+
+	Document writeSubmodelElement(SubmodelElement submodelElement) {
+		Document document = new Document();
+		template.getConverter().write(submodelElement, document);
+
+		return document;
+	}
+
+	private SubmodelElement readSubmodelElement(Document document) {
+		return template.getConverter().read(SubmodelElement.class, document);
+	}
+
+	private ResolvedSubmodelElement resolve(String submodelId, String idShortPath) {
+		List<PathToken> tokens = pathParser.parsePathTokenList(idShortPath);
+
+		Document result = getCollection().aggregate(createResolvePipeline(submodelId, tokens)).first();
+
+		if (result == null) {
+			throwIfSubmodelDoesNotExist(submodelId);
+			throw new ElementDoesNotExistException(idShortPath);
+		}
+
+		ResolvedSubmodelElement resolved = new ResolvedSubmodelElement(result.get(ELEMENT, Document.class), result.getString(PATH));
+
+		throwIfTokensDoNotMatchParentTypes(tokens, result.getList(TYPES, String.class), idShortPath);
+
+		return resolved;
+	}
+
+	/**
+	 * Creates the pipeline walking down the Submodel document token by token. For
+	 * each level, the children array, the positional path and the type of the
+	 * traversed parent are tracked, so that only the addressed element leaves the
+	 * database.
+	 */
+	private static List<Document> createResolvePipeline(String submodelId, List<PathToken> tokens) {
+		List<Document> pipeline = new ArrayList<>();
+
+		pipeline.add(new Document("$match", new Document(ID, submodelId)));
+		pipeline.add(new Document("$project", new Document(ID, 0).append(CHILDREN, "$" + SUBMODEL_ELEMENTS).append(PATH, literal(SUBMODEL_ELEMENTS)).append(TYPES, literal(List.of()))));
+
+		for (int i = 0; i < tokens.size(); i++) {
+			if (i > 0)
+				pipeline.add(createDescendStage());
+
+			pipeline.add(createIndexStage(tokens.get(i)));
+			pipeline.add(new Document("$match", new Document(INDEX, new Document("$gte", 0))));
+			pipeline.add(createSelectStage());
+		}
+
+		pipeline.add(new Document("$project", new Document(ELEMENT, 1).append(PATH, 1).append(TYPES, 1)));
+
+		return pipeline;
+	}
+
+	private static Document createDescendStage() {
+		Document hasStatements = new Document("$isArray", "$" + ELEMENT + "." + STATEMENTS);
+
+		Document descend = new Document(TYPES, new Document("$concatArrays", Arrays.asList("$" + TYPES, Arrays.asList("$" + ELEMENT + "." + DefaultMongoTypeMapper.DEFAULT_TYPE_KEY))))
+				.append(CHILDREN, new Document("$cond", Arrays.asList(hasStatements, "$" + ELEMENT + "." + STATEMENTS, "$" + ELEMENT + "." + VALUE)))
+				.append(PATH, new Document("$concat", Arrays.asList("$" + PATH, new Document("$cond", Arrays.asList(hasStatements, "." + STATEMENTS, "." + VALUE)))));
+
+		return new Document("$set", descend);
+	}
+
+	private static Document createIndexStage(PathToken token) {
+		Document childrenArray = new Document("$cond", Arrays.asList(new Document("$isArray", "$" + CHILDREN), "$" + CHILDREN, List.of()));
+
+		if (token instanceof ListIndexPathToken) {
+			int index = Integer.parseInt(token.getToken());
+			Document inBounds = new Document("$lt", Arrays.asList(index, new Document("$size", childrenArray)));
+
+			return new Document("$set", new Document(INDEX, new Document("$cond", Arrays.asList(inBounds, index, -1))));
+		}
+
+		Document childIdShorts = new Document("$map", new Document("input", childrenArray).append("in", "$$this." + ID_SHORT));
+
+		return new Document("$set", new Document(INDEX, new Document("$indexOfArray", Arrays.asList(childIdShorts, literal(token.getToken())))));
+	}
+
+	private static Document createSelectStage() {
+		Document select = new Document(ELEMENT, new Document("$arrayElemAt", Arrays.asList("$" + CHILDREN, "$" + INDEX)))
+				.append(PATH, new Document("$concat", Arrays.asList("$" + PATH, ".", new Document("$toString", "$" + INDEX))));
+
+		return new Document("$set", select);
+	}
+
+	private static Document literal(Object value) {
+		return new Document("$literal", value);
+	}
+
+	private void throwIfTokensDoNotMatchParentTypes(List<PathToken> tokens, List<String> parentTypeAliases, String idShortPath) {
+		for (int i = 1; i < tokens.size(); i++) {
+			Class<?> parentType = getType(new Document(DefaultMongoTypeMapper.DEFAULT_TYPE_KEY, parentTypeAliases.get(i - 1)));
+
+			if (!isValidParentType(tokens.get(i), parentType))
+				throw new ElementDoesNotExistException(idShortPath);
+		}
+	}
+
+	private static boolean isValidParentType(PathToken token, Class<?> parentType) {
+		if (token instanceof ListIndexPathToken)
+			return SubmodelElementList.class.isAssignableFrom(parentType);
+
+		return isIdShortParentType(parentType);
+	}
+
+	private static boolean isIdShortParentType(Class<?> parentType) {
+		return SubmodelElementCollection.class.isAssignableFrom(parentType) || Entity.class.isAssignableFrom(parentType);
+	}
+
+	private static String getChildrenField(Class<?> parentType) {
+		return Entity.class.isAssignableFrom(parentType) ? STATEMENTS : VALUE;
+	}
+
+	private Class<?> getType(Document document) {
+		MongoConverter converter = template.getConverter();
+		TypeInformation<?> typeInformation = converter.getTypeMapper().readType(document);
+
+		return typeInformation == null ? Object.class : typeInformation.getType();
+	}
+
+	private Bson createPositionalFilter(String submodelId, ResolvedSubmodelElement resolved) {
+		return Filters.and(Filters.eq(ID, submodelId), Filters.eq(resolved.getPath() + "." + ID_SHORT, resolved.getElement().getString(ID_SHORT)));
+	}
+
+	private void throwIfConcurrentlyModified(UpdateResult result, String idShortPath) {
+		if (result.getMatchedCount() == 0)
+			throw new ElementDoesNotExistException(idShortPath);
+	}
+
+	private void throwIfSubmodelDoesNotExist(String submodelId) {
+		if (getCollection().countDocuments(Filters.eq(ID, submodelId)) == 0)
+			throw new ElementDoesNotExistException(submodelId);
+	}
+
+	private MongoCollection<Document> getCollection() {
+		return template.getCollection(collectionName);
+	}
+
+	private static class ResolvedSubmodelElement {
+		private final Document element;
+		private final String path;
+
+		public ResolvedSubmodelElement(Document element, String path) {
+			this.element = element;
+			this.path = path;
+		}
+
+		public Document getElement() {
+			return element;
+		}
+
+		public String getPath() {
+			return path;
+		}
+	}
+
+}
@@ -25,16 +25,23 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
+import java.util.Optional;
+
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.common.mongocore.BasyxMongoMappingContext;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBOutbox;
+import org.eclipse.digitaltwin.basyx.common.mongocore.MongoDBVersionStore;
+import org.eclipse.digitaltwin.basyx.common.mongocore.PaginatedMongoRepository;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SubmodelBackendProvider;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SubmodelOperations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.repository.support.MappingMongoEntityInformation;
-import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Component;
 
@@ -51,12 +58,15 @@ public class SubmodelMongoDBBackendProvider implements SubmodelBackendProvider {
 	private BasyxMongoMappingContext mappingContext;
 	
 	private MongoTemplate template;
+
+	private String collectionName;
 	
 	@Autowired
 	public SubmodelMongoDBBackendProvider(BasyxMongoMappingContext mappingContext, @Value("${basyx.submodelrepository.mongodb.collectionName:submodel-repo}") String collectionName, MongoTemplate template) {
 		super();
 		this.mappingContext = mappingContext;
 		this.template = template;
+		this.collectionName = collectionName;
 		
 		mappingContext.addEntityMapping(Submodel.class, collectionName);
 	}
@@ -66,7 +76,27 @@ public class SubmodelMongoDBBackendProvider implements SubmodelBackendProvider {
 		@SuppressWarnings("unchecked")
 		MongoPersistentEntity<Submodel> entity = (MongoPersistentEntity<Submodel>) mappingContext.getPersistentEntity(Submodel.class);
 		
-		return new SimpleMongoRepository<>(new MappingMongoEntityInformation<>(entity), template);
+		return new PaginatedMongoRepository<>(new MappingMongoEntityInformation<>(entity), template);
+	}
+
+	@Override
+	public Optional<SubmodelOperations> getSubmodelOperations() {
+		return Optional.of(new MongoDBSubmodelOperations(template, collectionName));
+	}
+
+	@Override
+	public boolean isSharingStoredInstances() {
+		return false;
+	}
+
+	@Override
+	public VersionStore getVersionStore() {
+		return new MongoDBVersionStore(template, collectionName + MongoDBVersionStore.COLLECTION_SUFFIX);
+	}
+
+	@Override
+	public Outbox getOutbox() {
+		return new MongoDBOutbox(template, collectionName + MongoDBOutbox.COLLECTION_SUFFIX);
 	}
 
 }
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DocumentCodec;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.junit.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClients;
+
+/**
+ * Compares the BSON payload of a full Submodel save with the payload of the
+ * partial update issued by {@link MongoDBSubmodelOperations}. No running
+ * MongoDB is required, as only the documents sent to the server are compared.
+ *
+ * @author danish
+ */
+public class TestMongoDBSubmodelOperationsPayload {
+	private static final int PROPERTY_COUNT = 2000;
+	private static final int UPDATED_PROPERTY_INDEX = PROPERTY_COUNT / 2;
+
+	private final MongoTemplate template = new MongoTemplate(MongoClients.create("mongodb://localhost:27017"), "BaSyxTestDb");
+	private final MongoDBSubmodelOperations operations = new MongoDBSubmodelOperations(template, "submodelPayloadTestCollection");
+
+	@Test
+	public void partialValueUpdateIsMuchSmallerThanFullSave() {
+		Submodel submodel = createSubmodelWithManyProperties();
+
+		Document submodelDocument = new Document();
+		template.getConverter().write(submodel, submodelDocument);
+
+		Document propertyDocument = operations.writeSubmodelElement(submodel.getSubmodelElements().get(UPDATED_PROPERTY_INDEX));
+		BsonDocument update = MongoDBSubmodelOperations.createSetUpdate(MongoDBSubmodelOperations.SUBMODEL_ELEMENTS + "." + UPDATED_PROPERTY_INDEX, propertyDocument).toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+
+		int fullSaveSize = new RawBsonDocument(submodelDocument, new DocumentCodec()).getByteBuffer().remaining();
+		int partialUpdateSize = new RawBsonDocument(update, new BsonDocumentCodec()).getByteBuffer().remaining();
+
+		assertTrue(partialUpdateSize * 100 < fullSaveSize);
+	}
+
+	private static Submodel createSubmodelWithManyProperties() {
+		List<SubmodelElement> properties = new ArrayList<>();
+
+		for (int i = 0; i < PROPERTY_COUNT; i++)
+			properties.add(new DefaultProperty.Builder().idShort("property" + i).category("VARIABLE").valueType(DataTypeDefXsd.DOUBLE).value(String.valueOf(i)).build());
+
+		return new DefaultSubmodel.Builder().id("payloadSubmodel").idShort("payloadSubmodel").submodelElements(properties).build();
+	}
+
+}
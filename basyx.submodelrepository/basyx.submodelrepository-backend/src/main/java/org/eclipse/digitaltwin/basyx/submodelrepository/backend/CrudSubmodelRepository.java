@@ -26,42 +26,72 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.backend;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.SerializationException;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
-import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonSerializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.File;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.InvokableOperation;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
+import org.eclipse.digitaltwin.basyx.core.concurrency.StripedReadWriteLock;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorPaginatedRepository;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
 import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.mapper.ValueMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.repository.CrudRepository;
 
 /**
  * Default Implementation for the {@link SubmodelRepository} based on Spring
- * {@link CrudRepository}
+ * {@link CrudRepository}. <br>
+ * <br>
+ * Operations are guarded by a read/write lock per Submodel, so that
+ * modifications of a Submodel are atomic while operations on different
+ * Submodels do not block each other. Each modification increases the version
+ * of the Submodel in the {@link VersionStore} of the backend before it is
+ * persisted. Conditional writes compare the expected version within the same
+ * atomic step of the VersionStore. If the backend
+ * hands out its stored instances, results are copied before the lock is
+ * released, so that they can not be modified while they are serialized.
  * 
  * @author danish, mateusmolina
  *
@@ -72,12 +102,23 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
 	private CrudRepository<Submodel, String> submodelBackend;
 
+	private Optional<SubmodelOperations> submodelOperations;
+
+	private final StripedReadWriteLock submodelLocks = new StripedReadWriteLock();
+
+	private VersionStore submodelVersions;
+
+	private boolean copyResults;
+
 	private SubmodelServiceFactory submodelServiceFactory;
 
 	private String submodelRepositoryName = null;
 
 	public CrudSubmodelRepository(SubmodelBackendProvider submodelBackendProvider, SubmodelServiceFactory submodelServiceFactory) {
 		this.submodelBackend = submodelBackendProvider.getCrudRepository();
+		this.submodelOperations = submodelBackendProvider.getSubmodelOperations();
+		this.submodelVersions = submodelBackendProvider.getVersionStore();
+		this.copyResults = submodelBackendProvider.isSharingStoredInstances();
 		this.submodelServiceFactory = submodelServiceFactory;
 	}
 
@@ -108,8 +149,12 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		return submodelRepositoryName == null ? SubmodelRepository.super.getName() : submodelRepositoryName;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		if (submodelBackend instanceof CursorPaginatedRepository)
+			return copySubmodels(((CursorPaginatedRepository<Submodel>) submodelBackend).findAll(pInfo));
+
 		Iterable<Submodel> iterable = submodelBackend.findAll();
 		List<Submodel> submodels = StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
 
@@ -117,147 +162,352 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 
 		PaginationSupport<Submodel> paginationSupport = new PaginationSupport<>(submodelMap, Submodel::getId);
 
-		return paginationSupport.getPaged(pInfo);
+		return copySubmodels(paginationSupport.getPaged(pInfo));
 	}
 
 	@Override
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
-		return submodelBackend.findById(submodelId).orElseThrow(() -> new ElementDoesNotExistException(submodelId));
+		return submodelLocks.read(submodelId, () -> copyIfShared(submodelBackend.findById(submodelId).orElseThrow(() -> new ElementDoesNotExistException(submodelId))));
+	}
+
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		return submodelLocks.read(submodelId, () -> {
+			throwIfSubmodelDoesNotExist(submodelId);
+
+			return submodelVersions.getVersion(submodelId);
+		});
 	}
 
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
-		throwIfSubmodelDoesNotExist(submodelId);
+		submodelLocks.write(submodelId, () -> {
+			throwIfSubmodelDoesNotExist(submodelId);
 
-		throwIfMismatchingIds(submodelId, submodel.getId());
+			throwIfMismatchingIds(submodelId, submodel.getId());
 
-		submodelBackend.save(submodel);
+			submodelVersions.incrementVersion(submodelId);
+
+			submodelBackend.save(submodel);
+		});
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		submodelLocks.write(submodelId, () -> {
+			throwIfSubmodelDoesNotExist(submodelId);
+
+			throwIfMismatchingIds(submodelId, submodel.getId());
+
+			submodelVersions.incrementVersion(submodelId, expectedVersion);
+
+			submodelBackend.save(submodel);
+		});
 	}
 
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException, MissingIdentifierException {
 		throwIfSubmodelIdEmptyOrNull(submodel.getId());
 
-		throwIfSubmodelExists(submodel.getId());
+		submodelLocks.write(submodel.getId(), () -> {
+			throwIfSubmodelExists(submodel.getId());
+
+			submodelVersions.incrementVersion(submodel.getId());
+
+			submodelBackend.save(submodel);
+		});
+	}
+
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException, MissingIdentifierException {
+		List<Submodel> submodelList = new ArrayList<>(submodels);
+
+		throwIfFileValuesOfUnknownSubmodel(getIds(submodelList), fileValues);
+
+		createSubmodels(submodelList, fileValues, true);
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		return createSubmodels(submodels, Collections.emptyList(), false);
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		Map<Submodel, RuntimeException> failures = new IdentityHashMap<>();
+
+		Set<String> requestedIds = new HashSet<>();
+		for (Submodel submodel : submodels)
+			validateBulkSubmodel(submodel, requestedIds).ifPresent(failure -> failures.put(submodel, failure));
+
+		List<String> submodelIds = getIdsOfNonFailed(submodels, failures);
+
+		submodelLocks.writeAll(submodelIds, () -> {
+			Set<String> existingIds = findExistingIds(submodelIds);
+
+			List<Submodel> toUpdate = new ArrayList<>();
+			for (Submodel submodel : submodels) {
+				if (failures.containsKey(submodel))
+					continue;
+
+				if (existingIds.contains(submodel.getId()))
+					toUpdate.add(submodel);
+				else
+					failures.put(submodel, new ElementDoesNotExistException(submodel.getId()));
+			}
+
+			submodelVersions.incrementVersions(getIds(toUpdate));
+
+			submodelBackend.saveAll(toUpdate);
+
+			return null;
+		});
+
+		return toResults(submodels, failures);
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		List<String> distinctIds = submodelIds.stream().distinct().collect(Collectors.toList());
+
+		Set<String> existingIds = submodelLocks.writeAll(distinctIds, () -> {
+			Set<String> existing = findExistingIds(distinctIds);
+
+			submodelBackend.deleteAllById(existing);
+
+			submodelVersions.removeVersions(existing);
+
+			return existing;
+		});
+
+		Set<String> reportedIds = new HashSet<>();
 
-		submodelBackend.save(submodel);
+		return submodelIds.stream().map(submodelId -> {
+			if (existingIds.contains(submodelId) && reportedIds.add(submodelId))
+				return BulkOperationResult.success(submodelId);
+
+			return BulkOperationResult.failure(submodelId, new ElementDoesNotExistException(submodelId));
+		}).collect(Collectors.toList());
 	}
 
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
-		throwIfSubmodelDoesNotExist(submodelId);
+		submodelLocks.write(submodelId, () -> {
+			throwIfSubmodelDoesNotExist(submodelId);
+
+			submodelBackend.deleteById(submodelId);
 
-		submodelBackend.deleteById(submodelId);
+			submodelVersions.removeVersion(submodelId);
+		});
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		submodelLocks.write(submodelId, () -> {
+			throwIfSubmodelDoesNotExist(submodelId);
+
+			submodelVersions.incrementVersion(submodelId, expectedVersion);
+
+			submodelBackend.deleteById(submodelId);
+
+			submodelVersions.removeVersion(submodelId);
+		});
 	}
 
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
-		return getSubmodelServiceOrThrow(submodelId).getSubmodelElements(pInfo);
+		return submodelLocks.read(submodelId, () -> {
+			CursorResult<List<SubmodelElement>> submodelElements = getSubmodelServiceOrThrow(submodelId).getSubmodelElements(pInfo);
+
+			if (!copyResults)
+				return submodelElements;
+
+			return new CursorResult<>(submodelElements.getCursor(), submodelElements.getResult().stream().map(MetamodelCopier::deepCopy).collect(Collectors.toList()));
+		});
 	}
 
 	@Override
 	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShortPath) throws ElementDoesNotExistException {
-		return getSubmodelServiceOrThrow(submodelId).getSubmodelElement(smeIdShortPath);
+		return submodelLocks.read(submodelId, () -> {
+			if (submodelOperations.isPresent())
+				return submodelOperations.get().getSubmodelElement(submodelId, smeIdShortPath);
+
+			return copyIfShared(getSubmodelServiceOrThrow(submodelId).getSubmodelElement(smeIdShortPath));
+		});
 	}
 
 	@Override
 	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
-		return getSubmodelServiceOrThrow(submodelId).getSubmodelElementValue(smeIdShort);
+		return submodelLocks.read(submodelId, () -> {
+			if (submodelOperations.isPresent())
+				return new SubmodelElementValueMapperFactory().create(getSubmodelElement(submodelId, smeIdShort)).getValue();
+
+			return getSubmodelServiceOrThrow(submodelId).getSubmodelElementValue(smeIdShort);
+		});
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
 	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+		modifySubmodel(submodelId, () -> {
+			if (submodelOperations.isPresent()) {
+				SubmodelElement submodelElement = submodelOperations.get().getSubmodelElement(submodelId, smeIdShort);
+
+				ValueMapper<SubmodelElementValue> valueMapper = new SubmodelElementValueMapperFactory().create(submodelElement);
+				valueMapper.setValue(value);
+
+				submodelOperations.get().updateSubmodelElement(submodelId, smeIdShort, submodelElement);
+				return;
+			}
 
-		submodelService.setSubmodelElementValue(smeIdShort, value);
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			submodelService.setSubmodelElementValue(smeIdShort, value);
+
+			submodelBackend.save(submodelService.getSubmodel());
+		});
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+		modifySubmodel(submodelId, () -> {
+			if (submodelOperations.isPresent()) {
+				submodelOperations.get().createSubmodelElement(submodelId, smElement);
+				return;
+			}
 
-		submodelService.createSubmodelElement(smElement);
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			submodelService.createSubmodelElement(smElement);
+
+			submodelBackend.save(submodelService.getSubmodel());
+		});
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+		modifySubmodel(submodelId, () -> {
+			if (submodelOperations.isPresent()) {
+				submodelOperations.get().createSubmodelElement(submodelId, idShortPath, smElement);
+				return;
+			}
+
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		submodelService.createSubmodelElement(idShortPath, smElement);
+			submodelService.createSubmodelElement(idShortPath, smElement);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			submodelBackend.save(submodelService.getSubmodel());
+		});
 	}
 
 	@Override
 	public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		modifySubmodel(submodelId, () -> {
+			if (submodelOperations.isPresent()) {
+				updateSubmodelElementPartially(submodelId, idShortPath, submodelElement);
+				return;
+			}
 
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		SubmodelElement element = submodelService.getSubmodelElement(idShortPath);
+			SubmodelElement element = submodelService.getSubmodelElement(idShortPath);
 
-		throwIfMismatchingIds(element.getIdShort(), submodelElement.getIdShort());
+			throwIfMismatchingIds(element.getIdShort(), submodelElement.getIdShort());
 
-		submodelService.updateSubmodelElement(idShortPath, submodelElement);
+			submodelService.updateSubmodelElement(idShortPath, submodelElement);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			submodelBackend.save(submodelService.getSubmodel());
+		});
 	}
 
 	@Override
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+		modifySubmodel(submodelId, () -> {
+			if (submodelOperations.isPresent()) {
+				deleteSubmodelElementPartially(submodelId, idShortPath);
+				return;
+			}
 
-		submodelService.deleteSubmodelElement(idShortPath);
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			submodelService.deleteSubmodelElement(idShortPath);
+
+			submodelBackend.save(submodelService.getSubmodel());
+		});
 	}
 
 	@Override
-	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
-		return getSubmodelServiceOrThrow(submodelId).invokeOperation(idShortPath, input);
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		if (idShortPath == null || idShortPath.isEmpty())
+			return modifySubmodelElements(submodelId, submodelElements, SubmodelElement::getIdShort, SubmodelService::createSubmodelElement,
+					submodelElement -> submodelOperations.get().createSubmodelElement(submodelId, submodelElement));
+
+		return modifySubmodelElements(submodelId, submodelElements, SubmodelElement::getIdShort, (submodelService, submodelElement) -> submodelService.createSubmodelElement(idShortPath, submodelElement),
+				submodelElement -> submodelOperations.get().createSubmodelElement(submodelId, idShortPath, submodelElement));
 	}
 
 	@Override
-	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
-		return new SubmodelValueOnly(getSubmodelElements(submodelId, NO_LIMIT_PAGINATION_INFO).getResult());
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return modifySubmodelElements(submodelId, new ArrayList<>(submodelElements.entrySet()), Map.Entry::getKey, (submodelService, entry) -> {
+			throwIfMismatchingIds(submodelService.getSubmodelElement(entry.getKey()).getIdShort(), entry.getValue().getIdShort());
+
+			submodelService.updateSubmodelElement(entry.getKey(), entry.getValue());
+		}, entry -> updateSubmodelElementPartially(submodelId, entry.getKey(), entry.getValue()));
 	}
 
 	@Override
-	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		return modifySubmodelElements(submodelId, idShortPaths, idShortPath -> idShortPath, SubmodelService::deleteSubmodelElement, idShortPath -> deleteSubmodelElementPartially(submodelId, idShortPath));
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		SubmodelElement operation = submodelLocks.read(submodelId, () -> getSubmodelServiceOrThrow(submodelId).getSubmodelElement(idShortPath));
 
-		Submodel submodel = getSubmodel(submodelId);
+		if (!(operation instanceof InvokableOperation))
+			throw new NotInvokableException(idShortPath);
 
-		return getSubmodelDeepCopy(submodel);
+		// The operation is invoked without holding the lock, as it executes
+		// arbitrary code that may modify the Submodel itself
+		return ((InvokableOperation) operation).invoke(input);
 	}
 
 	@Override
-	public java.io.File getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
+		return submodelLocks.read(submodelId, () -> new SubmodelValueOnly(getSubmodelElements(submodelId, NO_LIMIT_PAGINATION_INFO).getResult()));
+	}
+
+	@Override
+	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+		return submodelLocks.read(submodelId, () -> getSubmodelDeepCopy(getSubmodel(submodelId)));
+	}
 
-		return submodelService.getFileByPath(idShortPath);
+	@Override
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+		return submodelLocks.read(submodelId, () -> getSubmodelServiceOrThrow(submodelId).getFileByPath(idShortPath));
 	}
 
 	@Override
 	public void setFileValue(String submodelId, String idShortPath, String fileName, InputStream inputStream) throws ElementDoesNotExistException, ElementNotAFileException {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+		modifySubmodel(submodelId, () -> {
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		submodelService.setFileValue(idShortPath, fileName, inputStream);
+			submodelService.setFileValue(idShortPath, fileName, inputStream);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			persistSubmodelElement(submodelId, idShortPath, submodelService);
+		});
 	}
 
 	@Override
 	public void deleteFileValue(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
-		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+		modifySubmodel(submodelId, () -> {
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
 
-		submodelService.deleteFileValue(idShortPath);
+			submodelService.deleteFileValue(idShortPath);
 
-		updateSubmodel(submodelId, submodelService.getSubmodel());
+			persistSubmodelElement(submodelId, idShortPath, submodelService);
+		});
 	}
-	
 
 	private void initializeRemoteCollection(Collection<Submodel> submodels) {
 		if (submodels == null || submodels.isEmpty())
@@ -278,21 +528,240 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 		submodels.stream().map(Submodel::getId).forEach(this::throwIfSubmodelIdEmptyOrNull);
 	}
 
-	private Submodel getSubmodelDeepCopy(Submodel submodel) {
+	private void throwIfFileValuesOfUnknownSubmodel(List<String> submodelIds, Collection<SubmodelFileValue> fileValues) {
+		Set<String> ids = new HashSet<>(submodelIds);
+
+		fileValues.stream().map(SubmodelFileValue::getSubmodelId).filter(id -> !ids.contains(id)).findAny().ifPresent(id -> {
+			throw new ElementDoesNotExistException(id);
+		});
+	}
+
+	private List<Submodel> applyFileValues(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) {
+		Map<String, List<SubmodelFileValue>> fileValuesBySubmodelId = fileValues.stream().collect(Collectors.groupingBy(SubmodelFileValue::getSubmodelId));
+
+		return submodels.stream().map(submodel -> applyFileValues(submodel, fileValuesBySubmodelId.getOrDefault(submodel.getId(), Collections.emptyList()))).collect(Collectors.toList());
+	}
+
+	/**
+	 * Stores the files in the FileRepository via the SubmodelService, so that the
+	 * File elements already reference them when the Submodel is saved
+	 */
+	private Submodel applyFileValues(Submodel submodel, List<SubmodelFileValue> fileValues) {
+		if (fileValues.isEmpty())
+			return submodel;
+
+		SubmodelService submodelService = submodelServiceFactory.create(submodel);
+
+		fileValues.forEach(fileValue -> submodelService.setFileValue(fileValue.getIdShortPath(), fileValue.getFileName(), fileValue.getContent()));
+
+		return submodelService.getSubmodel();
+	}
+
+	/**
+	 * Creates the Submodels under a single write lock. Unless all Submodels have
+	 * to be created, failing Submodels are reported in the results instead of
+	 * aborting the batch.
+	 */
+	private List<BulkOperationResult> createSubmodels(List<Submodel> submodels, Collection<SubmodelFileValue> fileValues, boolean allOrNothing) {
+		Map<Submodel, RuntimeException> failures = new IdentityHashMap<>();
+
+		Set<String> requestedIds = new HashSet<>();
+		for (Submodel submodel : submodels)
+			validateBulkSubmodel(submodel, requestedIds).ifPresent(failure -> failures.put(submodel, failure));
+
+		if (allOrNothing)
+			throwFirstFailure(submodels, failures);
+
+		List<String> submodelIds = getIdsOfNonFailed(submodels, failures);
+
+		submodelLocks.writeAll(submodelIds, () -> {
+			Set<String> existingIds = findExistingIds(submodelIds);
+
+			List<Submodel> toCreate = new ArrayList<>();
+			for (Submodel submodel : submodels) {
+				if (failures.containsKey(submodel))
+					continue;
+
+				if (existingIds.contains(submodel.getId()))
+					failures.put(submodel, new CollidingIdentifierException(submodel.getId()));
+				else
+					toCreate.add(submodel);
+			}
+
+			if (allOrNothing)
+				throwFirstFailure(submodels, failures);
+
+			submodelVersions.incrementVersions(getIds(toCreate));
+
+			submodelBackend.saveAll(applyFileValues(toCreate, fileValues));
+
+			return null;
+		});
+
+		return toResults(submodels, failures);
+	}
+
+	/**
+	 * Applies the modification of an existing Submodel under its write lock. The
+	 * version is increased before the modification, so that a failing write can
+	 * leave an unchanged Submodel under a new version, but never a changed
+	 * Submodel under its old version.
+	 */
+	private void modifySubmodel(String submodelId, Runnable modification) {
+		submodelLocks.write(submodelId, () -> {
+			throwIfSubmodelDoesNotExist(submodelId);
+
+			submodelVersions.incrementVersion(submodelId);
+
+			modification.run();
+		});
+	}
+
+	/**
+	 * Applies all modifications under a single write lock and increments the
+	 * version of the Submodel once before they are persisted. If
+	 * {@link SubmodelOperations} are available, each item is written partially.
+	 * Otherwise, all items are applied to a single SubmodelService, so that the
+	 * Submodel is read and saved only once for the whole batch.
+	 */
+	private <T> List<BulkOperationResult> modifySubmodelElements(String submodelId, List<T> items, Function<T, String> idMapper, BiConsumer<SubmodelService, T> modification, Consumer<T> partialModification) {
+		return submodelLocks.write(submodelId, () -> {
+			if (submodelOperations.isPresent()) {
+				throwIfSubmodelDoesNotExist(submodelId);
+
+				submodelVersions.incrementVersion(submodelId);
+
+				return BulkOperationResult.forEach(items, idMapper, partialModification);
+			}
+
+			SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+
+			List<BulkOperationResult> results = BulkOperationResult.forEach(items, idMapper, item -> modification.accept(submodelService, item));
+
+			if (results.stream().anyMatch(BulkOperationResult::isSuccess)) {
+				submodelVersions.incrementVersion(submodelId);
+
+				submodelBackend.save(submodelService.getSubmodel());
+			}
+
+			return results;
+		});
+	}
+
+	private void updateSubmodelElementPartially(String submodelId, String idShortPath, SubmodelElement submodelElement) {
+		SubmodelElement element = submodelOperations.get().getSubmodelElement(submodelId, idShortPath);
 
-		try {
-			String submodelAsJSON = new JsonSerializer().write(submodel);
+		throwIfMismatchingIds(element.getIdShort(), submodelElement.getIdShort());
+
+		if (!requiresFileCleanup(element)) {
+			submodelOperations.get().updateSubmodelElement(submodelId, idShortPath, submodelElement);
+			return;
+		}
+
+		SubmodelService submodelService = getSubmodelServiceOrThrow(submodelId);
+
+		submodelService.updateSubmodelElement(idShortPath, submodelElement);
+
+		persistSubmodelElement(submodelId, idShortPath, submodelService);
+	}
+
+	private void deleteSubmodelElementPartially(String submodelId, String idShortPath) {
+		if (requiresFileCleanup(submodelOperations.get().getSubmodelElement(submodelId, idShortPath)))
+			getSubmodelServiceOrThrow(submodelId).deleteSubmodelElement(idShortPath);
+
+		submodelOperations.get().deleteSubmodelElement(submodelId, idShortPath);
+	}
+
+	private Optional<RuntimeException> validateBulkSubmodel(Submodel submodel, Set<String> requestedIds) {
+		String submodelId = submodel.getId();
+
+		if (submodelId == null || submodelId.isBlank())
+			return Optional.of(new MissingIdentifierException(submodelId));
+
+		if (!requestedIds.add(submodelId))
+			return Optional.of(new CollidingIdentifierException(submodelId));
+
+		return Optional.empty();
+	}
+
+	private static void throwFirstFailure(List<Submodel> submodels, Map<Submodel, RuntimeException> failures) {
+		submodels.stream().map(failures::get).filter(Objects::nonNull).findFirst().ifPresent(failure -> {
+			throw failure;
+		});
+	}
+
+	private List<String> getIdsOfNonFailed(List<Submodel> submodels, Map<Submodel, RuntimeException> failures) {
+		return submodels.stream().filter(submodel -> !failures.containsKey(submodel)).map(Submodel::getId).collect(Collectors.toList());
+	}
+
+	private static List<String> getIds(List<Submodel> submodels) {
+		return submodels.stream().map(Submodel::getId).collect(Collectors.toList());
+	}
+
+	private Set<String> findExistingIds(List<String> submodelIds) {
+		if (submodelIds.isEmpty())
+			return Collections.emptySet();
 
-			Submodel submodelDeepCopy = new JsonDeserializer().read(submodelAsJSON, Submodel.class);
+		return StreamSupport.stream(submodelBackend.findAllById(submodelIds).spliterator(), false).map(Submodel::getId).collect(Collectors.toSet());
+	}
 
-			submodelDeepCopy.setSubmodelElements(null);
+	private List<BulkOperationResult> toResults(List<Submodel> submodels, Map<Submodel, RuntimeException> failures) {
+		return submodels.stream().map(submodel -> failures.containsKey(submodel) ? BulkOperationResult.failure(submodel.getId(), failures.get(submodel)) : BulkOperationResult.success(submodel.getId())).collect(Collectors.toList());
+	}
 
-			return submodelDeepCopy;
-		} catch (DeserializationException e) {
-			throw new RuntimeException("Unable to deserialize the Submodel", e);
-		} catch (SerializationException e) {
-			throw new RuntimeException("Unable to serialize the Submodel", e);
+	private CursorResult<List<Submodel>> copySubmodels(CursorResult<List<Submodel>> submodels) {
+		if (!copyResults)
+			return submodels;
+
+		List<Submodel> copies = submodels.getResult().stream().map(submodel -> submodelLocks.read(submodel.getId(), () -> MetamodelCopier.deepCopy(submodel))).collect(Collectors.toList());
+
+		return new CursorResult<>(submodels.getCursor(), copies);
+	}
+
+	private Submodel copyIfShared(Submodel submodel) {
+		return copyResults ? MetamodelCopier.deepCopy(submodel) : submodel;
+	}
+
+	private SubmodelElement copyIfShared(SubmodelElement submodelElement) {
+		return copyResults ? MetamodelCopier.deepCopy(submodelElement) : submodelElement;
+	}
+
+	private Submodel getSubmodelDeepCopy(Submodel submodel) {
+		return MetamodelCopier.copyMetadata(submodel);
+	}
+
+	private void persistSubmodelElement(String submodelId, String idShortPath, SubmodelService submodelService) {
+		if (submodelOperations.isPresent()) {
+			submodelOperations.get().updateSubmodelElement(submodelId, idShortPath, submodelService.getSubmodelElement(idShortPath));
+			return;
 		}
+
+		submodelBackend.save(submodelService.getSubmodel());
+	}
+
+	/**
+	 * Files are stored in the FileRepository and have to be cleaned up by the
+	 * SubmodelService, thus they are not handled by the {@link SubmodelOperations}.
+	 * This also applies to Files nested inside of the given SubmodelElement.
+	 */
+	private boolean requiresFileCleanup(SubmodelElement submodelElement) {
+		if (submodelElement instanceof File)
+			return true;
+
+		return getChildren(submodelElement).stream().anyMatch(this::requiresFileCleanup);
+	}
+
+	private static List<SubmodelElement> getChildren(SubmodelElement submodelElement) {
+		List<SubmodelElement> children = null;
+
+		if (submodelElement instanceof SubmodelElementCollection)
+			children = ((SubmodelElementCollection) submodelElement).getValue();
+		else if (submodelElement instanceof SubmodelElementList)
+			children = ((SubmodelElementList) submodelElement).getValue();
+		else if (submodelElement instanceof Entity)
+			children = ((Entity) submodelElement).getStatements();
+
+		return children == null ? Collections.emptyList() : children;
 	}
 
 	private SubmodelService getSubmodelServiceOrThrow(String submodelId) {
@@ -327,9 +796,11 @@ public class CrudSubmodelRepository implements SubmodelRepository {
 
 	@Override
 	public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
-		Submodel submodel = getSubmodel(submodelId);
-		submodel.setSubmodelElements(submodelElementList);
-		submodelBackend.save(submodel);
+		modifySubmodel(submodelId, () -> {
+			Submodel submodel = submodelBackend.findById(submodelId).orElseThrow(() -> new ElementDoesNotExistException(submodelId));
+			submodel.setSubmodelElements(submodelElementList);
+			submodelBackend.save(submodel);
+		});
 	}
 
 }
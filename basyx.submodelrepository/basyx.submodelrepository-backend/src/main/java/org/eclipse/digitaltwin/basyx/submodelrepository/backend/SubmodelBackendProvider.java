@@ -25,7 +25,13 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.backend;
 
+import java.util.Optional;
+
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.version.InMemoryVersionStore;
+import org.eclipse.digitaltwin.basyx.core.version.VersionStore;
 import org.springframework.data.repository.CrudRepository;
 
 /**
@@ -36,5 +42,49 @@ import org.springframework.data.repository.CrudRepository;
 public interface SubmodelBackendProvider {
 	
 	public CrudRepository<Submodel, String> getCrudRepository();
-	
+
+	/**
+	 * Returns the element level {@link SubmodelOperations} of the backend, if it
+	 * supports them. If empty, SubmodelElements are modified on the whole
+	 * Submodel retrieved from the {@link CrudRepository}
+	 * 
+	 * @return the optional SubmodelOperations
+	 */
+	public default Optional<SubmodelOperations> getSubmodelOperations() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns whether the {@link CrudRepository} hands out the instances it
+	 * stores instead of fresh ones, e.g. because it keeps them in memory. In this
+	 * case, the results of the repository are copied before they are returned.
+	 * 
+	 * @return true, if stored instances are shared
+	 */
+	public default boolean isSharingStoredInstances() {
+		return true;
+	}
+
+	/**
+	 * Returns the {@link VersionStore} tracking the versions of the
+	 * Submodels. Backends shared by several instances should provide a store
+	 * shared by these instances as well.
+	 * 
+	 * @return the VersionStore
+	 */
+	public default VersionStore getVersionStore() {
+		return new InMemoryVersionStore();
+	}
+
+	/**
+	 * Returns the {@link Outbox} queueing the intents that have to be
+	 * propagated for the Submodels, e.g. to a Registry. Persistent backends should
+	 * provide a persistent outbox, so that pending intents survive restarts.
+	 * 
+	 * @return the Outbox
+	 */
+	public default Outbox getOutbox() {
+		return new InMemoryOutbox();
+	}
+
 }
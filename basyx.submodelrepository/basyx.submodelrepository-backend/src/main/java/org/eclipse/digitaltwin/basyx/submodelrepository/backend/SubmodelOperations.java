@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.backend;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+
+/**
+ * Element level operations on a persisted {@link Submodel}. Backends
+ * implementing these operations read and write single SubmodelElements
+ * without loading and re-saving the whole Submodel
+ * 
+ * @author danish
+ */
+public interface SubmodelOperations {
+
+	/**
+	 * Retrieves a SubmodelElement of a Submodel
+	 * 
+	 * @param submodelId
+	 *            the id of the Submodel
+	 * @param idShortPath
+	 *            the idShortPath of the SubmodelElement
+	 * @return the SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the SubmodelElement does not exist
+	 */
+	public SubmodelElement getSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException;
+
+	/**
+	 * Appends a SubmodelElement to the top level SubmodelElements of a Submodel
+	 * 
+	 * @param submodelId
+	 *            the id of the Submodel
+	 * @param submodelElement
+	 *            the SubmodelElement to be created
+	 * @throws ElementDoesNotExistException
+	 *             if the Submodel does not exist
+	 * @throws CollidingIdentifierException
+	 *             if a SubmodelElement with the same idShort already exists
+	 */
+	public void createSubmodelElement(String submodelId, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException;
+
+	/**
+	 * Appends a SubmodelElement to the SubmodelElementCollection or
+	 * SubmodelElementList identified by the idShortPath
+	 * 
+	 * @param submodelId
+	 *            the id of the Submodel
+	 * @param idShortPath
+	 *            the idShortPath of the parent SubmodelElement
+	 * @param submodelElement
+	 *            the SubmodelElement to be created
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the parent does not exist
+	 * @throws CollidingIdentifierException
+	 *             if a SubmodelElement with the same idShort already exists
+	 */
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException, CollidingIdentifierException;
+
+	/**
+	 * Replaces the SubmodelElement identified by the idShortPath in place
+	 * 
+	 * @param submodelId
+	 *            the id of the Submodel
+	 * @param idShortPath
+	 *            the idShortPath of the SubmodelElement
+	 * @param submodelElement
+	 *            the new SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the SubmodelElement does not exist
+	 */
+	public void updateSubmodelElement(String submodelId, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException;
+
+	/**
+	 * Removes the SubmodelElement identified by the idShortPath
+	 * 
+	 * @param submodelId
+	 *            the id of the Submodel
+	 * @param idShortPath
+	 *            the idShortPath of the SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 *             if either the Submodel or the SubmodelElement does not exist
+	 */
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException;
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository;
+
+import java.io.InputStream;
+
+/**
+ * Content of a File SubmodelElement that is uploaded together with its
+ * Submodel
+ * 
+ * @see SubmodelRepository#createAllSubmodels(java.util.Collection,
+ *      java.util.Collection)
+ * 
+ * @author danish
+ *
+ */
+public class SubmodelFileValue {
+
+	private final String submodelId;
+	private final String idShortPath;
+	private final String fileName;
+	private final InputStream content;
+
+	public SubmodelFileValue(String submodelId, String idShortPath, String fileName, InputStream content) {
+		this.submodelId = submodelId;
+		this.idShortPath = idShortPath;
+		this.fileName = fileName;
+		this.content = content;
+	}
+
+	public String getSubmodelId() {
+		return submodelId;
+	}
+
+	public String getIdShortPath() {
+		return idShortPath;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public InputStream getContent() {
+		return content;
+	}
+
+}
@@ -26,16 +26,25 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.FeatureNotSupportedException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
@@ -65,6 +74,23 @@ public interface SubmodelRepository {
 	 */
 	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException;
 
+	/**
+	 * Retrieves the current version of the Submodel. The version increases with
+	 * every modification of the Submodel, so that it can be used to detect changes
+	 * without retrieving the Submodel itself.<br>
+	 * <br>
+	 * The default implementation does not support versioning.
+	 * 
+	 * @param submodelId
+	 * @return the current version
+	 * @throws ElementDoesNotExistException
+	 * @throws FeatureNotSupportedException
+	 *             if the repository does not track versions
+	 */
+	public default long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		throw new FeatureNotSupportedException("Versioning");
+	}
+
 	/**
 	 * Updates an existing Submodel
 	 * 
@@ -74,6 +100,29 @@ public interface SubmodelRepository {
 	 */
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException;
 
+	/**
+	 * Overwrites an existing Submodel, if its version still matches the expected
+	 * version. Implementations compare the version atomically with the write,
+	 * so that concurrent writes based on the same version can not both
+	 * succeed.<br>
+	 * <br>
+	 * The default implementation compares the version before the write and is
+	 * thus not atomic.
+	 * 
+	 * @param submodelId
+	 * @param submodel
+	 * @param expectedVersion
+	 *            the version the update is based on
+	 * @throws ElementDoesNotExistException
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected version
+	 */
+	public default void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		throwIfVersionMismatch(submodelId, expectedVersion);
+
+		updateSubmodel(submodelId, submodel);
+	}
+
 	/**
 	 * Creates a new submodel
 	 * 
@@ -81,6 +130,76 @@ public interface SubmodelRepository {
 	 * @throws CollidingIdentifierException
 	 */
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException, MissingIdentifierException;
+
+	/**
+	 * Creates multiple new Submodels in one batch. The contents of File
+	 * SubmodelElements can be passed along, so that they are stored together with
+	 * the Submodels instead of updating each Submodel afterwards.<br>
+	 * <br>
+	 * The default implementation checks the ids of all Submodels before it
+	 * creates the Submodels one by one and sets the file values afterwards.
+	 * 
+	 * @param submodels
+	 * @param fileValues
+	 *            the contents of File SubmodelElements of the created Submodels
+	 * @throws CollidingIdentifierException
+	 * @throws MissingIdentifierException
+	 */
+	public default void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException, MissingIdentifierException {
+		Set<String> submodelIds = new HashSet<>();
+
+		for (Submodel submodel : submodels) {
+			String submodelId = submodel.getId();
+
+			if (submodelId == null || submodelId.isBlank())
+				throw new MissingIdentifierException(submodelId);
+
+			if (!submodelIds.add(submodelId) || existsSubmodel(submodelId))
+				throw new CollidingIdentifierException(submodelId);
+		}
+
+		submodels.forEach(this::createSubmodel);
+
+		fileValues.forEach(fileValue -> setFileValue(fileValue.getSubmodelId(), fileValue.getIdShortPath(), fileValue.getFileName(), fileValue.getContent()));
+	}
+
+	/**
+	 * Creates multiple new Submodels. In contrast to
+	 * {@link #createAllSubmodels(Collection, Collection)}, failing Submodels do
+	 * not abort the batch but are reported in the results.<br>
+	 * <br>
+	 * The default implementation creates the Submodels one by one.
+	 * 
+	 * @param submodels
+	 * @return one result per Submodel, in the order of the given Submodels
+	 */
+	public default List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		return BulkOperationResult.forEach(submodels, Submodel::getId, this::createSubmodel);
+	}
+
+	/**
+	 * Updates multiple existing Submodels, each identified by its own id<br>
+	 * <br>
+	 * The default implementation updates the Submodels one by one.
+	 * 
+	 * @param submodels
+	 * @return one result per Submodel, in the order of the given Submodels
+	 */
+	public default List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		return BulkOperationResult.forEach(submodels, Submodel::getId, submodel -> updateSubmodel(submodel.getId(), submodel));
+	}
+
+	/**
+	 * Deletes multiple Submodels<br>
+	 * <br>
+	 * The default implementation deletes the Submodels one by one.
+	 * 
+	 * @param submodelIds
+	 * @return one result per Submodel id, in the order of the given ids
+	 */
+	public default List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		return BulkOperationResult.forEach(submodelIds, submodelId -> submodelId, this::deleteSubmodel);
+	}
 	
 	/**
 	 * Updates a SubmodelElement
@@ -100,6 +219,26 @@ public interface SubmodelRepository {
 	 */
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException;
 
+	/**
+	 * Deletes a Submodel, if its version still matches the expected version.
+	 * Implementations compare the version atomically with the deletion.<br>
+	 * <br>
+	 * The default implementation compares the version before the deletion and
+	 * is thus not atomic.
+	 * 
+	 * @param submodelId
+	 * @param expectedVersion
+	 *            the version the deletion is based on
+	 * @throws ElementDoesNotExistException
+	 * @throws VersionMismatchException
+	 *             if the current version differs from the expected version
+	 */
+	public default void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		throwIfVersionMismatch(submodelId, expectedVersion);
+
+		deleteSubmodel(submodelId);
+	}
+
 	/**
 	 * Retrieves all SubmodelElements of a Submodel
 	 * 
@@ -180,6 +319,72 @@ public interface SubmodelRepository {
 	 */
 	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException;
 
+	/**
+	 * Creates multiple SubmodelElements below the same parent of a Submodel<br>
+	 * <br>
+	 * The default implementation creates the SubmodelElements one by one.
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPath
+	 *            the IdShort path of the parent SubmodelElement, or
+	 *            <code>null</code> to create the SubmodelElements on the top
+	 *            level of the Submodel
+	 * @param submodelElements
+	 * @return one result per SubmodelElement, identified by its idShort
+	 * @throws ElementDoesNotExistException
+	 *             if the Submodel does not exist
+	 */
+	public default List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		getSubmodelByIdMetadata(submodelId);
+
+		if (idShortPath == null || idShortPath.isEmpty())
+			return BulkOperationResult.forEach(submodelElements, SubmodelElement::getIdShort, submodelElement -> createSubmodelElement(submodelId, submodelElement));
+
+		return BulkOperationResult.forEach(submodelElements, SubmodelElement::getIdShort, submodelElement -> createSubmodelElement(submodelId, idShortPath, submodelElement));
+	}
+
+	/**
+	 * Replaces multiple SubmodelElements of a Submodel, each identified by its
+	 * IdShort path<br>
+	 * <br>
+	 * The default implementation updates the SubmodelElements one by one.
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param submodelElements
+	 *            the new SubmodelElements, mapped by the IdShort path of the
+	 *            SubmodelElement they replace
+	 * @return one result per SubmodelElement, identified by its idShortPath, in
+	 *         the iteration order of the given map
+	 * @throws ElementDoesNotExistException
+	 *             if the Submodel does not exist
+	 */
+	public default List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		getSubmodelByIdMetadata(submodelId);
+
+		return BulkOperationResult.forEach(new ArrayList<>(submodelElements.entrySet()), Map.Entry::getKey, entry -> updateSubmodelElement(submodelId, entry.getKey(), entry.getValue()));
+	}
+
+	/**
+	 * Deletes multiple SubmodelElements of a Submodel<br>
+	 * <br>
+	 * The default implementation deletes the SubmodelElements one by one.
+	 * 
+	 * @param submodelId
+	 *            the Submodel id
+	 * @param idShortPaths
+	 *            the IdShort paths of the SubmodelElements
+	 * @return one result per idShortPath, in the order of the given paths
+	 * @throws ElementDoesNotExistException
+	 *             if the Submodel does not exist
+	 */
+	public default List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		getSubmodelByIdMetadata(submodelId);
+
+		return BulkOperationResult.forEach(idShortPaths, idShortPath -> idShortPath, idShortPath -> deleteSubmodelElement(submodelId, idShortPath));
+	}
+
 	/**
 	 * Returns the name of the repository
 	 * 
@@ -235,7 +440,7 @@ public interface SubmodelRepository {
 	 * @throws ElementNotAFileException
 	 * @throws FileDoesNotExistException
 	 */
-	public java.io.File getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException;
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException;
 
 	/**
 	 * Uploads a file to a file submodelelement
@@ -272,4 +477,20 @@ public interface SubmodelRepository {
 	 * @param submodelElementList
 	 */
 	public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList);
+
+	private boolean existsSubmodel(String submodelId) {
+		try {
+			getSubmodelByIdMetadata(submodelId);
+
+			return true;
+		} catch (ElementDoesNotExistException e) {
+			return false;
+		}
+	}
+
+	private void throwIfVersionMismatch(String submodelId, long expectedVersion) {
+		if (getSubmodelVersion(submodelId) != expectedVersion)
+			throw new VersionMismatchException(submodelId);
+	}
+
 }
@@ -70,7 +70,7 @@ public abstract class SubmodelRepositoryPersistencyTestSuite {
 
 		restartComponent();
 
-		InputStream actualThumbnailIs = new FileInputStream(getSubmodelRepository().getFileByPathSubmodel(DummySubmodelFactory.SUBMODEL_FOR_FILE_TEST, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT));
+		InputStream actualThumbnailIs = getSubmodelRepository().getFileByPathSubmodel(DummySubmodelFactory.SUBMODEL_FOR_FILE_TEST, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT).getInputStream();
 
 		InputStream expectedThumbnailIs = createDummyImageIS_A();
 
@@ -26,20 +26,25 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Property;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.IdentificationMismatchException;
@@ -185,6 +190,152 @@ public abstract class SubmodelRepositorySuite extends SubmodelServiceSuite {
 		getSubmodelRepository(submodels);
 	}
 
+	@Test
+	public void createAllSubmodels() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		Submodel first = buildDummySubmodel("bulkSubmodel1");
+		Submodel second = buildDummySubmodel("bulkSubmodel2");
+
+		repo.createAllSubmodels(Arrays.asList(first, second), Collections.emptyList());
+
+		assertEquals(first, repo.getSubmodel(first.getId()));
+		assertEquals(second, repo.getSubmodel(second.getId()));
+	}
+
+	@Test
+	public void createAllSubmodelsWithCollidingIdDoesNotCreateAny() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		Submodel fresh = buildDummySubmodel("bulkSubmodel");
+		Submodel colliding = buildDummySubmodel(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID);
+
+		try {
+			repo.createAllSubmodels(Arrays.asList(fresh, colliding), Collections.emptyList());
+			fail();
+		} catch (CollidingIdentifierException expected) {
+		}
+
+		try {
+			repo.getSubmodel(fresh.getId());
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+	}
+
+	@Test
+	public void createSubmodelsReportsResultPerSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		Submodel fresh = buildDummySubmodel("bulkSubmodel");
+
+		List<BulkOperationResult> results = repo.createSubmodels(Arrays.asList(fresh, buildDummySubmodel(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID), buildDummySubmodel(EMPTY_ID)));
+
+		assertTrue(results.get(0).isSuccess());
+		assertFailure(results.get(1), CollidingIdentifierException.class);
+		assertFailure(results.get(2), MissingIdentifierException.class);
+
+		assertEquals(fresh, repo.getSubmodel(fresh.getId()));
+	}
+
+	@Test
+	public void updateSubmodelsReportsResultPerSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		Submodel updated = buildDummySubmodel(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID);
+
+		List<BulkOperationResult> results = repo.updateSubmodels(Arrays.asList(updated, buildDummySubmodel("nonExisting")));
+
+		assertTrue(results.get(0).isSuccess());
+		assertFailure(results.get(1), ElementDoesNotExistException.class);
+
+		assertEquals(updated, repo.getSubmodel(updated.getId()));
+	}
+
+	@Test
+	public void deleteSubmodelsReportsResultPerSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		List<BulkOperationResult> results = repo.deleteSubmodels(Arrays.asList(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID, "nonExisting"));
+
+		assertTrue(results.get(0).isSuccess());
+		assertFailure(results.get(1), ElementDoesNotExistException.class);
+
+		try {
+			repo.getSubmodel(DummySubmodelFactory.SUBMODEL_OPERATIONAL_DATA_ID);
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+	}
+
+	@Test
+	public void createSubmodelElementsReportsResultPerElement() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		String submodelId = DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID;
+		Property newProperty = new DefaultProperty.Builder().idShort("bulkProperty").value("5").valueType(DataTypeDefXsd.INT).build();
+		Property collidingProperty = new DefaultProperty.Builder().idShort(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT).value("5").valueType(DataTypeDefXsd.INT).build();
+
+		List<BulkOperationResult> results = repo.createSubmodelElements(submodelId, null, Arrays.asList(newProperty, collidingProperty));
+
+		assertTrue(results.get(0).isSuccess());
+		assertFailure(results.get(1), CollidingIdentifierException.class);
+
+		assertEquals(newProperty, repo.getSubmodelElement(submodelId, "bulkProperty"));
+	}
+
+	@Test
+	public void updateAndDeleteSubmodelElements() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		String submodelId = DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID;
+		String idShort = SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT;
+		Property updatedProperty = new DefaultProperty.Builder().idShort(idShort).value("42").valueType(DataTypeDefXsd.INT).build();
+
+		List<BulkOperationResult> updateResults = repo.updateSubmodelElements(submodelId, Collections.singletonMap(idShort, updatedProperty));
+
+		assertTrue(updateResults.get(0).isSuccess());
+		assertEquals(updatedProperty, repo.getSubmodelElement(submodelId, idShort));
+
+		List<BulkOperationResult> deleteResults = repo.deleteSubmodelElements(submodelId, Arrays.asList(idShort, "nonExisting"));
+
+		assertTrue(deleteResults.get(0).isSuccess());
+		assertFailure(deleteResults.get(1), ElementDoesNotExistException.class);
+
+		try {
+			repo.getSubmodelElement(submodelId, idShort);
+			fail();
+		} catch (ElementDoesNotExistException expected) {
+		}
+	}
+
+	@Test
+	public void createAndUpdateNestedSubmodelElements() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+		String submodelId = DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID;
+		String collectionIdShort = SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_SUBMODEL_ELEMENT_COLLECTION_ID_SHORT;
+		String nestedIdShortPath = collectionIdShort + "." + SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT;
+		Property newProperty = new DefaultProperty.Builder().idShort("bulkProperty").value("5").valueType(DataTypeDefXsd.INT).build();
+		Property updatedProperty = new DefaultProperty.Builder().idShort(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT).value("42").valueType(DataTypeDefXsd.INT).build();
+
+		List<BulkOperationResult> createResults = repo.createSubmodelElements(submodelId, collectionIdShort, Arrays.asList(newProperty));
+
+		assertTrue(createResults.get(0).isSuccess());
+		assertEquals(newProperty, repo.getSubmodelElement(submodelId, collectionIdShort + ".bulkProperty"));
+
+		Map<String, SubmodelElement> updates = new LinkedHashMap<>();
+		updates.put(nestedIdShortPath, updatedProperty);
+		updates.put(collectionIdShort + ".nonExisting", new DefaultProperty.Builder().idShort("nonExisting").value("42").valueType(DataTypeDefXsd.INT).build());
+
+		List<BulkOperationResult> updateResults = repo.updateSubmodelElements(submodelId, updates);
+
+		assertEquals(nestedIdShortPath, updateResults.get(0).getId());
+		assertTrue(updateResults.get(0).isSuccess());
+		assertFailure(updateResults.get(1), ElementDoesNotExistException.class);
+		assertEquals(updatedProperty, repo.getSubmodelElement(submodelId, nestedIdShortPath));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void createSubmodelElementsInNonExistingSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
+
+		repo.createSubmodelElements("nonExisting", null, Arrays.asList(new DefaultProperty.Builder().idShort("bulkProperty").build()));
+	}
+
 	@Test
 	public void deleteSubmodel() {
 		SubmodelRepository repo = getSubmodelRepositoryWithDummySubmodels();
@@ -282,6 +433,11 @@ public abstract class SubmodelRepositorySuite extends SubmodelServiceSuite {
 		submodelRepo.invokeOperation(DummySubmodelFactory.SUBMODEL_TECHNICAL_DATA_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_ANNOTATED_RELATIONSHIP_ELEMENT_ID_SHORT, new OperationVariable[0]);
 	}
 
+	private void assertFailure(BulkOperationResult result, Class<? extends RuntimeException> expectedFailure) {
+		assertFalse(result.isSuccess());
+		assertTrue(expectedFailure.isInstance(result.getFailure()));
+	}
+
 	private Submodel buildDummySubmodel(String id) {
 		return new DefaultSubmodel.Builder().id(id).submodelElements(new DefaultProperty.Builder().idShort("prop").value("testValue").valueType(DataTypeDefXsd.STRING).build()).build();
 	}
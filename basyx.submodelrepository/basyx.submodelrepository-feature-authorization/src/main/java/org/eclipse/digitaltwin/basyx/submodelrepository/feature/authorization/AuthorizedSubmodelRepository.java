@@ -25,24 +25,34 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.authorization;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.Action;
 import org.eclipse.digitaltwin.basyx.authorization.rbac.RbacPermissionResolver;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.InsufficientPermissionException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
@@ -56,6 +66,7 @@ import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 public class AuthorizedSubmodelRepository implements SubmodelRepository {
 
 	private static final String ALL_ALLOWED_WILDCARD = "*";
+	private static final String INSUFFICIENT_PERMISSION_MESSAGE = "Insufficient Permission: The current subject does not have the required permissions for this operation.";
 	private SubmodelRepository decorated;
 	private RbacPermissionResolver<SubmodelTargetInformation> permissionResolver;
 
@@ -82,6 +93,15 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(ALL_ALLOWED_WILDCARD)));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.getSubmodelVersion(submodelId);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(ALL_ALLOWED_WILDCARD)));
@@ -91,6 +111,15 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		decorated.updateSubmodel(submodelId, submodel);
 	}
 
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(ALL_ALLOWED_WILDCARD)));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		decorated.updateSubmodel(submodelId, submodel, expectedVersion);
+	}
+
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new SubmodelTargetInformation(getIdAsList(submodel.getId()), getIdAsList(ALL_ALLOWED_WILDCARD)));
@@ -100,6 +129,32 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		decorated.createSubmodel(submodel);
 	}
 
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException {
+		for (Submodel submodel : submodels) {
+			boolean isAuthorized = permissionResolver.hasPermission(Action.CREATE, new SubmodelTargetInformation(getIdAsList(submodel.getId()), getIdAsList(ALL_ALLOWED_WILDCARD)));
+
+			throwExceptionIfInsufficientPermission(isAuthorized);
+		}
+
+		decorated.createAllSubmodels(submodels, fileValues);
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		return authorizeBulk(Action.CREATE, submodels, Submodel::getId, ids -> new SubmodelTargetInformation(ids, getIdAsList(ALL_ALLOWED_WILDCARD)), decorated::createSubmodels);
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		return authorizeBulk(Action.UPDATE, submodels, Submodel::getId, ids -> new SubmodelTargetInformation(ids, getIdAsList(ALL_ALLOWED_WILDCARD)), decorated::updateSubmodels);
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		return authorizeBulk(Action.DELETE, submodelIds, submodelId -> submodelId, ids -> new SubmodelTargetInformation(ids, getIdAsList(ALL_ALLOWED_WILDCARD)), decorated::deleteSubmodels);
+	}
+
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.DELETE, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(ALL_ALLOWED_WILDCARD)));
@@ -109,6 +164,15 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		decorated.deleteSubmodel(submodelId);
 	}
 
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		boolean isAuthorized = permissionResolver.hasPermission(Action.DELETE, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(ALL_ALLOWED_WILDCARD)));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		decorated.deleteSubmodel(submodelId, expectedVersion);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(ALL_ALLOWED_WILDCARD)));
@@ -181,6 +245,27 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		decorated.deleteSubmodelElement(submodelId, idShortPath);
 	}
 
+	@Override
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		String parentIdShortPath = idShortPath == null || idShortPath.isEmpty() ? ALL_ALLOWED_WILDCARD : idShortPath;
+		boolean isAuthorized = permissionResolver.hasPermission(Action.UPDATE, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(parentIdShortPath)));
+
+		throwExceptionIfInsufficientPermission(isAuthorized);
+
+		return decorated.createSubmodelElements(submodelId, idShortPath, submodelElements);
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return authorizeBulk(Action.UPDATE, new ArrayList<>(submodelElements.entrySet()), Map.Entry::getKey, idShortPaths -> new SubmodelTargetInformation(getIdAsList(submodelId), idShortPaths),
+				authorized -> decorated.updateSubmodelElements(submodelId, toMap(authorized)));
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		return authorizeBulk(Action.UPDATE, idShortPaths, idShortPath -> idShortPath, paths -> new SubmodelTargetInformation(getIdAsList(submodelId), paths), authorized -> decorated.deleteSubmodelElements(submodelId, authorized));
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.EXECUTE, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(idShortPath)));
@@ -209,7 +294,7 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 	}
 
 	@Override
-	public File getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
 		boolean isAuthorized = permissionResolver.hasPermission(Action.READ, new SubmodelTargetInformation(getIdAsList(submodelId), getIdAsList(idShortPath)));
 
 		throwExceptionIfInsufficientPermission(isAuthorized);
@@ -244,13 +329,55 @@ public class AuthorizedSubmodelRepository implements SubmodelRepository {
 		decorated.patchSubmodelElements(submodelId, submodelElementList);
 	}
 	
+	/**
+	 * Checks the permission for all items of a bulk operation at once. Only if
+	 * they are not covered by a single rule, each item is checked on its own and
+	 * the unauthorized items are reported as failed instead of being passed on.
+	 */
+	private <T> List<BulkOperationResult> authorizeBulk(Action action, List<T> items, Function<T, String> idMapper, Function<List<String>, SubmodelTargetInformation> targetInformationFactory,
+			Function<List<T>, List<BulkOperationResult>> bulkOperation) {
+		List<String> ids = items.stream().map(idMapper).distinct().collect(Collectors.toCollection(ArrayList::new));
+
+		if (permissionResolver.hasPermission(action, targetInformationFactory.apply(ids)))
+			return bulkOperation.apply(items);
+
+		List<T> authorizedItems = new ArrayList<>();
+		BulkOperationResult[] results = new BulkOperationResult[items.size()];
+
+		for (int i = 0; i < items.size(); i++) {
+			String id = idMapper.apply(items.get(i));
+
+			if (permissionResolver.hasPermission(action, targetInformationFactory.apply(getIdAsList(id))))
+				authorizedItems.add(items.get(i));
+			else
+				results[i] = BulkOperationResult.failure(id, new InsufficientPermissionException(INSUFFICIENT_PERMISSION_MESSAGE));
+		}
+
+		Iterator<BulkOperationResult> authorizedResults = authorizedItems.isEmpty() ? Collections.emptyIterator() : bulkOperation.apply(authorizedItems).iterator();
+
+		for (int i = 0; i < results.length; i++) {
+			if (results[i] == null)
+				results[i] = authorizedResults.next();
+		}
+
+		return Arrays.asList(results);
+	}
+
+	private static Map<String, SubmodelElement> toMap(List<Map.Entry<String, SubmodelElement>> entries) {
+		Map<String, SubmodelElement> map = new LinkedHashMap<>();
+
+		entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+
+		return map;
+	}
+
 	private List<String> getIdAsList(String id) {
 		return new ArrayList<>(Arrays.asList(id));
 	}
 
 	private void throwExceptionIfInsufficientPermission(boolean isAuthorized) {
 		if (!isAuthorized)
-			throw new InsufficientPermissionException("Insufficient Permission: The current subject does not have the required permissions for this operation.");
+			throw new InsufficientPermissionException(INSUFFICIENT_PERMISSION_MESSAGE);
 	}
 
 }
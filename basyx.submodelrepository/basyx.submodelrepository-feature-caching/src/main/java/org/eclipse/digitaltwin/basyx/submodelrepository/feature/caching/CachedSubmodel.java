@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+
+/**
+ * Entry of the {@link SubmodelCache} holding a materialized Submodel together
+ * with the version it has been loaded with. As both are served from the same
+ * entry, the ETag of a read always belongs to its body.
+ * 
+ * @author danish
+ */
+public class CachedSubmodel {
+
+	private final SubmodelService submodelService;
+	private final long version;
+
+	public CachedSubmodel(SubmodelService submodelService, long version) {
+		this.submodelService = submodelService;
+		this.version = version;
+	}
+
+	public SubmodelService getSubmodelService() {
+		return submodelService;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+}
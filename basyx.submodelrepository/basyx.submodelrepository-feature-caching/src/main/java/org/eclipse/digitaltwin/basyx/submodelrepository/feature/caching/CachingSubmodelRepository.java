@@ -0,0 +1,297 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.factory.SubmodelElementValueMapperFactory;
+
+/**
+ * Decorator serving the reads of single Submodels and their SubmodelElements
+ * from a {@link SubmodelCache}. As the cached Submodels are shared, every read
+ * returns a copy. The version of a Submodel is served from the same cache
+ * entry as its body, so that a body is never older than the version it is
+ * read with.
+ * 
+ * <p>
+ * Every write invalidates the affected Submodels after it has been passed to
+ * the decorated repository, regardless of its outcome, and publishes the
+ * invalidation to the other replicas if an
+ * {@link SubmodelCacheInvalidationChannel} is configured. Writes bypassing this
+ * decorator, e.g. directly on the database, are not noticed.
+ * </p>
+ * 
+ * @author danish
+ */
+public class CachingSubmodelRepository implements SubmodelRepository {
+	private static final PaginationInfo NO_LIMIT_PAGINATION_INFO = new PaginationInfo(0, null);
+
+	private final SubmodelRepository decorated;
+	private final SubmodelServiceFactory submodelServiceFactory;
+	private final SubmodelCache cache;
+	private final Optional<SubmodelCacheInvalidationChannel> invalidationChannel;
+
+	public CachingSubmodelRepository(SubmodelRepository decorated, SubmodelServiceFactory submodelServiceFactory, SubmodelCache cache) {
+		this(decorated, submodelServiceFactory, cache, Optional.empty());
+	}
+
+	public CachingSubmodelRepository(SubmodelRepository decorated, SubmodelServiceFactory submodelServiceFactory, SubmodelCache cache, Optional<SubmodelCacheInvalidationChannel> invalidationChannel) {
+		this.decorated = decorated;
+		this.submodelServiceFactory = submodelServiceFactory;
+		this.cache = cache;
+		this.invalidationChannel = invalidationChannel;
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		return decorated.getAllSubmodels(pInfo);
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
+		return MetamodelCopier.deepCopy(getSubmodelService(submodelId).getSubmodel());
+	}
+
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		return getCachedSubmodel(submodelId).getVersion();
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
+		modify(submodelId, () -> decorated.updateSubmodel(submodelId, submodel));
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		modify(submodelId, () -> decorated.updateSubmodel(submodelId, submodel, expectedVersion));
+	}
+
+	@Override
+	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException, MissingIdentifierException {
+		modify(submodel.getId(), () -> decorated.createSubmodel(submodel));
+	}
+
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException, MissingIdentifierException {
+		modify(getIds(submodels), () -> {
+			decorated.createAllSubmodels(submodels, fileValues);
+			return null;
+		});
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		return modify(getIds(submodels), () -> decorated.createSubmodels(submodels));
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		return modify(getIds(submodels), () -> decorated.updateSubmodels(submodels));
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		return modify(submodelIds, () -> decorated.deleteSubmodels(submodelIds));
+	}
+
+	@Override
+	public void updateSubmodelElement(String submodelIdentifier, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		modify(submodelIdentifier, () -> decorated.updateSubmodelElement(submodelIdentifier, idShortPath, submodelElement));
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		modify(submodelId, () -> decorated.deleteSubmodel(submodelId));
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		modify(submodelId, () -> decorated.deleteSubmodel(submodelId, expectedVersion));
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		CursorResult<List<SubmodelElement>> result = getSubmodelService(submodelId).getSubmodelElements(pInfo);
+
+		List<SubmodelElement> copies = result.getResult().stream().map(MetamodelCopier::deepCopy).collect(Collectors.toList());
+
+		return new CursorResult<>(result.getCursor(), copies);
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
+		return MetamodelCopier.deepCopy(getSubmodelService(submodelId).getSubmodelElement(smeIdShort));
+	}
+
+	@Override
+	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
+		return new SubmodelElementValueMapperFactory().create(getSubmodelElement(submodelId, smeIdShort)).getValue();
+	}
+
+	@Override
+	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+		modify(submodelId, () -> decorated.setSubmodelElementValue(submodelId, smeIdShort, value));
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
+		modify(submodelId, () -> decorated.createSubmodelElement(submodelId, smElement));
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		modify(submodelId, () -> decorated.createSubmodelElement(submodelId, idShortPath, smElement));
+	}
+
+	@Override
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		modify(submodelId, () -> decorated.deleteSubmodelElement(submodelId, idShortPath));
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return modify(Collections.singletonList(submodelId), () -> decorated.createSubmodelElements(submodelId, idShortPath, submodelElements));
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return modify(Collections.singletonList(submodelId), () -> decorated.updateSubmodelElements(submodelId, submodelElements));
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		return modify(Collections.singletonList(submodelId), () -> decorated.deleteSubmodelElements(submodelId, idShortPaths));
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		return decorated.invokeOperation(submodelId, idShortPath, input);
+	}
+
+	@Override
+	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
+		return new SubmodelValueOnly(getSubmodelElements(submodelId, NO_LIMIT_PAGINATION_INFO).getResult());
+	}
+
+	@Override
+	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+		return MetamodelCopier.copyMetadata(getSubmodelService(submodelId).getSubmodel());
+	}
+
+	@Override
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+		return decorated.getFileByPathSubmodel(submodelId, idShortPath);
+	}
+
+	@Override
+	public void setFileValue(String submodelId, String idShortPath, String fileName, InputStream inputStream) throws ElementDoesNotExistException, ElementNotAFileException {
+		modify(submodelId, () -> decorated.setFileValue(submodelId, idShortPath, fileName, inputStream));
+	}
+
+	@Override
+	public void deleteFileValue(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+		modify(submodelId, () -> decorated.deleteFileValue(submodelId, idShortPath));
+	}
+
+	@Override
+	public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
+		modify(submodelId, () -> decorated.patchSubmodelElements(submodelId, submodelElementList));
+	}
+
+	private SubmodelService getSubmodelService(String submodelId) {
+		return getCachedSubmodel(submodelId).getSubmodelService();
+	}
+
+	private CachedSubmodel getCachedSubmodel(String submodelId) {
+		return cache.get(submodelId, () -> {
+			// the version is read first, so that the loaded body is at least as
+			// recent as the version it is cached with
+			long version = decorated.getSubmodelVersion(submodelId);
+
+			return new CachedSubmodel(submodelServiceFactory.create(decorated.getSubmodel(submodelId)), version);
+		});
+	}
+
+	private void modify(String submodelId, Runnable modification) {
+		modify(Collections.singletonList(submodelId), () -> {
+			modification.run();
+			return null;
+		});
+	}
+
+	private <T> T modify(List<String> submodelIds, Supplier<T> modification) {
+		try {
+			return modification.get();
+		} finally {
+			invalidate(submodelIds);
+		}
+	}
+
+	private void invalidate(List<String> submodelIds) {
+		List<String> nonNullIds = submodelIds.stream().filter(Objects::nonNull).collect(Collectors.toList());
+
+		cache.invalidate(nonNullIds);
+		invalidationChannel.ifPresent(channel -> channel.publish(nonNullIds));
+	}
+
+	private static List<String> getIds(Collection<Submodel> submodels) {
+		return submodels.stream().map(Submodel::getId).collect(Collectors.toList());
+	}
+}
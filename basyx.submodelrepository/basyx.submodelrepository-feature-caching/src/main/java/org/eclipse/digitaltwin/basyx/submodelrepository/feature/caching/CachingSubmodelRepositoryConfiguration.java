@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the MQTT based invalidation of the Submodel caches of all
+ * replicas. It reuses the broker configuration of the MQTT feature, but
+ * connects with a dedicated client.
+ * 
+ * @author danish
+ */
+@ConditionalOnExpression("${" + CachingSubmodelRepositoryFeature.FEATURENAME + ".enabled:false} and ${" + CachingSubmodelRepositoryConfiguration.MQTT_INVALIDATION + ".enabled:false}")
+@Configuration
+public class CachingSubmodelRepositoryConfiguration {
+	public final static String MQTT_INVALIDATION = CachingSubmodelRepositoryFeature.FEATURENAME + ".invalidation.mqtt";
+
+	private static final String CLIENT_ID_SUFFIX = "-sm-cache";
+
+	@Bean(destroyMethod = "close")
+	public MqttSubmodelCacheInvalidationChannel submodelCacheInvalidationChannel(@Value("${mqtt.clientId}") String clientId, @Value("${mqtt.hostname}") String hostname, @Value("${mqtt.port}") int port,
+			@Value("${mqtt.username:#{null}}") String username, @Value("${mqtt.password:#{null}}") String password, @Value("${basyx.smrepo.name:sm-repo}") String repositoryName) throws MqttException {
+		MqttAsyncClient mqttClient = new MqttAsyncClient("tcp://" + hostname + ":" + port, clientId + CLIENT_ID_SUFFIX, new MemoryPersistence());
+
+		return new MqttSubmodelCacheInvalidationChannel(mqttClient, createConnectOptions(username, password), "sm-repository/" + repositoryName + "/cache/invalidations");
+	}
+
+	private static MqttConnectOptions createConnectOptions(String username, String password) {
+		MqttConnectOptions connectOptions = new MqttConnectOptions();
+
+		if (username != null)
+			connectOptions.setUserName(username);
+
+		if (password != null)
+			connectOptions.setPassword(password.toCharArray());
+
+		return connectOptions;
+	}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import java.util.Optional;
+
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+
+/**
+ * Factory for the {@link CachingSubmodelRepository}. All created repositories
+ * share the same {@link SubmodelCache}, as they share the same backend.
+ * 
+ * @author danish
+ */
+public class CachingSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
+
+	private final SubmodelRepositoryFactory decorated;
+	private final SubmodelServiceFactory submodelServiceFactory;
+	private final SubmodelCache cache;
+	private final Optional<SubmodelCacheInvalidationChannel> invalidationChannel;
+
+	public CachingSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, SubmodelServiceFactory submodelServiceFactory, SubmodelCache cache) {
+		this(decorated, submodelServiceFactory, cache, Optional.empty());
+	}
+
+	public CachingSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, SubmodelServiceFactory submodelServiceFactory, SubmodelCache cache, Optional<SubmodelCacheInvalidationChannel> invalidationChannel) {
+		this.decorated = decorated;
+		this.submodelServiceFactory = submodelServiceFactory;
+		this.cache = cache;
+		this.invalidationChannel = invalidationChannel;
+	}
+
+	@Override
+	public SubmodelRepository create() {
+		return new CachingSubmodelRepository(decorated.create(), submodelServiceFactory, cache, invalidationChannel);
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.SubmodelRepositoryFeature;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Repository feature caching materialized Submodels in front of the backend. It
+ * is applied first, so that the writes of all other features invalidate the
+ * cache.
+ * 
+ * @author danish
+ */
+@ConditionalOnExpression("${" + CachingSubmodelRepositoryFeature.FEATURENAME + ".enabled:false}")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CachingSubmodelRepositoryFeature implements SubmodelRepositoryFeature {
+	public final static String FEATURENAME = "basyx.submodelrepository.feature.caching";
+
+	@Value("${" + FEATURENAME + ".enabled:false}")
+	private boolean enabled;
+
+	private final SubmodelServiceFactory submodelServiceFactory;
+	private final SubmodelCache cache;
+	private final Optional<SubmodelCacheInvalidationChannel> invalidationChannel;
+
+	@Autowired
+	public CachingSubmodelRepositoryFeature(SubmodelServiceFactory submodelServiceFactory, ObjectProvider<SubmodelCacheInvalidationChannel> invalidationChannel, ObjectProvider<MeterRegistry> meterRegistry,
+			@Value("${" + FEATURENAME + ".maximumSize:1000}") int maximumSize, @Value("${" + FEATURENAME + ".maximumWeight:1000000}") long maximumWeight, @Value("${" + FEATURENAME + ".timeToLiveMillis:0}") long timeToLiveMillis) {
+		this.submodelServiceFactory = submodelServiceFactory;
+		this.cache = new SubmodelCache(maximumSize, maximumWeight, Duration.ofMillis(timeToLiveMillis), new SubmodelCacheMetrics(meterRegistry.getIfAvailable(SimpleMeterRegistry::new)));
+		this.invalidationChannel = Optional.ofNullable(invalidationChannel.getIfAvailable());
+
+		this.invalidationChannel.ifPresent(channel -> channel.register(cache));
+	}
+
+	@Override
+	public SubmodelRepositoryFactory decorate(SubmodelRepositoryFactory submodelRepositoryFactory) {
+		return new CachingSubmodelRepositoryFactory(submodelRepositoryFactory, submodelServiceFactory, cache, invalidationChannel);
+	}
+
+	@Override
+	public void initialize() {
+	}
+
+	@Override
+	public void cleanUp() {
+
+	}
+
+	@Override
+	public String getName() {
+		return "SubmodelRepository Caching";
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+}
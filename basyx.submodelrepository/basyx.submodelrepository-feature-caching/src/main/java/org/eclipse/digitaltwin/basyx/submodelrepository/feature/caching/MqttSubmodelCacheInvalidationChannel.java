@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.IMqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.IMqttDeliveryToken;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttCallbackExtended;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link SubmodelCacheInvalidationChannel} exchanging the identifiers of
+ * modified Submodels via an MQTT topic shared by all replicas.
+ * 
+ * <p>
+ * The channel uses a dedicated MQTT client, which connects in the background
+ * so that the repository starts even if the broker is unavailable. The initial
+ * connection is retried with an increasing delay, later connection losses are
+ * handled by the automatic reconnect of the client. Invalidations published
+ * while a replica is disconnected are lost, hence all registered caches are
+ * suspended until the channel is subscribed to the topic.
+ * </p>
+ * 
+ * @author danish
+ */
+public class MqttSubmodelCacheInvalidationChannel implements SubmodelCacheInvalidationChannel, MqttCallbackExtended, AutoCloseable {
+	private static Logger logger = LoggerFactory.getLogger(MqttSubmodelCacheInvalidationChannel.class);
+
+	private static final int QOS = 1;
+	private static final String ORIGIN = "origin";
+	private static final String SUBMODEL_IDS = "submodelIds";
+	private static final long INITIAL_RETRY_DELAY_MILLIS = 1000;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final String origin = UUID.randomUUID().toString();
+	private final List<SubmodelCache> caches = new CopyOnWriteArrayList<>();
+	private final ScheduledExecutorService connectRetryExecutor = Executors.newSingleThreadScheduledExecutor();
+
+	private final IMqttAsyncClient mqttClient;
+	private final MqttConnectOptions connectOptions;
+	private final String topic;
+
+	private boolean subscribed;
+
+	/**
+	 * Starts connecting the client and subscribing to the topic in the
+	 * background. Automatic reconnect is enabled on the connect options.
+	 * 
+	 * @param mqttClient
+	 *            client exclusively used by this channel
+	 * @param connectOptions
+	 * @param topic
+	 *            topic shared by all replicas of the Submodel Repository
+	 */
+	public MqttSubmodelCacheInvalidationChannel(IMqttAsyncClient mqttClient, MqttConnectOptions connectOptions, String topic) {
+		this.mqttClient = mqttClient;
+		this.connectOptions = connectOptions;
+		this.topic = topic;
+
+		connectOptions.setAutomaticReconnect(true);
+		mqttClient.setCallback(this);
+
+		connect(INITIAL_RETRY_DELAY_MILLIS);
+	}
+
+	@Override
+	public void publish(Collection<String> submodelIds) {
+		if (submodelIds.isEmpty())
+			return;
+
+		try {
+			mqttClient.publish(topic, createPayload(submodelIds), QOS, false);
+		} catch (MqttException e) {
+			logger.warn("Could not publish the invalidation of the Submodels {}", submodelIds, e);
+		}
+	}
+
+	@Override
+	public synchronized void register(SubmodelCache cache) {
+		caches.add(cache);
+
+		if (!subscribed)
+			cache.suspend();
+	}
+
+	/**
+	 * Returns whether invalidations of other replicas are currently received
+	 */
+	public synchronized boolean isSubscribed() {
+		return subscribed;
+	}
+
+	@Override
+	public void connectComplete(boolean reconnect, String serverURI) {
+		try {
+			mqttClient.subscribe(topic, QOS, null, new IMqttActionListener() {
+				@Override
+				public void onSuccess(IMqttToken asyncActionToken) {
+					setSubscribed(true);
+				}
+
+				@Override
+				public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+					logger.error("Could not subscribe to the Submodel cache invalidations", exception);
+				}
+			});
+		} catch (MqttException e) {
+			logger.error("Could not subscribe to the Submodel cache invalidations", e);
+		}
+	}
+
+	@Override
+	public void connectionLost(Throwable cause) {
+		logger.warn("Lost the connection for the Submodel cache invalidations", cause);
+
+		setSubscribed(false);
+	}
+
+	@Override
+	public void messageArrived(String topic, MqttMessage message) {
+		JsonNode payload;
+		try {
+			payload = mapper.readTree(message.getPayload());
+		} catch (IOException e) {
+			// Throwing would make the client disconnect, thus the message is dropped
+			logger.warn("Ignoring malformed Submodel cache invalidation on topic {}", topic, e);
+			return;
+		}
+
+		if (origin.equals(payload.path(ORIGIN).asText()))
+			return;
+
+		List<String> submodelIds = new ArrayList<>();
+		payload.path(SUBMODEL_IDS).forEach(submodelId -> submodelIds.add(submodelId.asText()));
+
+		caches.forEach(cache -> cache.invalidate(submodelIds));
+	}
+
+	@Override
+	public void deliveryComplete(IMqttDeliveryToken token) {
+	}
+
+	@Override
+	public void close() throws MqttException {
+		connectRetryExecutor.shutdownNow();
+
+		if (mqttClient.isConnected())
+			mqttClient.disconnect().waitForCompletion();
+
+		mqttClient.close();
+	}
+
+	private synchronized void setSubscribed(boolean subscribed) {
+		this.subscribed = subscribed;
+
+		if (subscribed)
+			caches.forEach(SubmodelCache::resume);
+		else
+			caches.forEach(SubmodelCache::suspend);
+	}
+
+	/**
+	 * Connects the client, retrying until the first connection succeeds. Later
+	 * losses are handled by the automatic reconnect of the client.
+	 */
+	private void connect(long retryDelayMillis) {
+		try {
+			mqttClient.connect(connectOptions, null, new IMqttActionListener() {
+				@Override
+				public void onSuccess(IMqttToken asyncActionToken) {
+				}
+
+				@Override
+				public void onFailure(IMqttToken asyncActionToken, Throwable exception) {
+					scheduleConnect(retryDelayMillis, exception);
+				}
+			});
+		} catch (MqttException e) {
+			scheduleConnect(retryDelayMillis, e);
+		}
+	}
+
+	private void scheduleConnect(long retryDelayMillis, Throwable cause) {
+		if (connectRetryExecutor.isShutdown())
+			return;
+
+		logger.warn("Could not connect for the Submodel cache invalidations, retrying in {} ms", retryDelayMillis, cause);
+
+		long nextRetryDelayMillis = Math.min(retryDelayMillis * 2, connectOptions.getMaxReconnectDelay());
+		connectRetryExecutor.schedule(() -> connect(nextRetryDelayMillis), retryDelayMillis, TimeUnit.MILLISECONDS);
+	}
+
+	private byte[] createPayload(Collection<String> submodelIds) {
+		ObjectNode payload = mapper.createObjectNode().put(ORIGIN, origin);
+		ArrayNode ids = payload.putArray(SUBMODEL_IDS);
+		submodelIds.forEach(ids::add);
+
+		try {
+			return mapper.writeValueAsBytes(payload);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
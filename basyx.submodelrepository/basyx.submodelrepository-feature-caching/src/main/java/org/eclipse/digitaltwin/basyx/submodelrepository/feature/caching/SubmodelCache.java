@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelService;
+
+/**
+ * Bounded cache of materialized Submodels, each held by a
+ * {@link SubmodelService} so that its idShortPath index is reused across
+ * reads, together with the version it has been loaded with.
+ * 
+ * <p>
+ * Entries are evicted in least recently used order as soon as either the
+ * number of cached Submodels exceeds the maximum size or the number of cached
+ * SubmodelElements exceeds the maximum weight. A Submodel that alone exceeds
+ * the maximum weight is never cached.
+ * </p>
+ * 
+ * <p>
+ * An invalidation also discards a load of the same Submodel that is still in
+ * progress, so that a read racing with a write cannot put the outdated
+ * Submodel into the cache.
+ * </p>
+ * 
+ * <p>
+ * The cached SubmodelServices are shared by all readers. Their Submodels must
+ * neither be modified nor handed out without copying them.
+ * </p>
+ * 
+ * <p>
+ * While the cache is suspended, e.g. because invalidations of other replicas
+ * cannot be received, every read is passed to the loader and nothing is
+ * cached.
+ * </p>
+ * 
+ * @author danish
+ */
+public class SubmodelCache {
+
+	private final int maximumSize;
+	private final long maximumWeight;
+	private final long timeToLiveNanos;
+	private final LongSupplier ticker;
+	private final SubmodelCacheMetrics metrics;
+
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<String, Object> pendingLoads = new HashMap<>();
+	private long weight;
+	private boolean suspended;
+
+	/**
+	 * @param maximumSize
+	 *            maximum number of cached Submodels
+	 * @param maximumWeight
+	 *            maximum number of SubmodelElements of all cached Submodels,
+	 *            including nested ones
+	 * @param timeToLive
+	 *            time after which a cached Submodel is loaded again, zero to
+	 *            keep it until it is invalidated or evicted
+	 * @param metrics
+	 */
+	public SubmodelCache(int maximumSize, long maximumWeight, Duration timeToLive, SubmodelCacheMetrics metrics) {
+		this(maximumSize, maximumWeight, timeToLive, metrics, System::nanoTime);
+	}
+
+	SubmodelCache(int maximumSize, long maximumWeight, Duration timeToLive, SubmodelCacheMetrics metrics, LongSupplier ticker) {
+		this.maximumSize = maximumSize;
+		this.maximumWeight = maximumWeight;
+		this.timeToLiveNanos = timeToLive.toNanos();
+		this.metrics = metrics;
+		this.ticker = ticker;
+
+		metrics.registerCache(this);
+	}
+
+	/**
+	 * Returns the cached Submodel or loads and caches it
+	 * 
+	 * @param submodelId
+	 * @param loader
+	 *            loads the Submodel in case of a cache miss. Exceptions are
+	 *            passed to the caller and nothing is cached.
+	 * @return the cached Submodel
+	 */
+	public CachedSubmodel get(String submodelId, Supplier<CachedSubmodel> loader) {
+		Object loadToken = new Object();
+
+		synchronized (this) {
+			Entry entry = getIfNotExpired(submodelId);
+
+			if (entry != null) {
+				metrics.hit();
+				return entry.cachedSubmodel;
+			}
+
+			metrics.miss();
+
+			if (!suspended)
+				pendingLoads.put(submodelId, loadToken);
+		}
+
+		CachedSubmodel loaded = null;
+		try {
+			loaded = loader.get();
+			return loaded;
+		} finally {
+			completeLoad(submodelId, loadToken, loaded);
+		}
+	}
+
+	/**
+	 * Removes the Submodel from the cache and discards any of its loads in
+	 * progress
+	 * 
+	 * @param submodelId
+	 */
+	public synchronized void invalidate(String submodelId) {
+		pendingLoads.remove(submodelId);
+		removeEntry(submodelId);
+	}
+
+	/**
+	 * Removes the Submodels from the cache and discards any of their loads in
+	 * progress
+	 * 
+	 * @param submodelIds
+	 */
+	public synchronized void invalidate(Collection<String> submodelIds) {
+		submodelIds.forEach(this::invalidate);
+	}
+
+	/**
+	 * Removes all Submodels from the cache and discards all loads in progress
+	 */
+	public synchronized void invalidateAll() {
+		pendingLoads.clear();
+		entries.clear();
+		weight = 0;
+	}
+
+	/**
+	 * Removes all Submodels from the cache and stops caching until
+	 * {@link #resume()} is called
+	 */
+	public synchronized void suspend() {
+		suspended = true;
+		invalidateAll();
+	}
+
+	/**
+	 * Starts caching again after {@link #suspend()}
+	 */
+	public synchronized void resume() {
+		suspended = false;
+	}
+
+	public synchronized boolean isSuspended() {
+		return suspended;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long weight() {
+		return weight;
+	}
+
+	private void completeLoad(String submodelId, Object loadToken, CachedSubmodel loaded) {
+		Entry entry = loaded == null ? null : new Entry(loaded, weigh(loaded.getSubmodelService().getSubmodel()), ticker.getAsLong());
+
+		synchronized (this) {
+			if (pendingLoads.remove(submodelId, loadToken) && entry != null)
+				put(submodelId, entry);
+		}
+	}
+
+	private Entry getIfNotExpired(String submodelId) {
+		Entry entry = entries.get(submodelId);
+
+		if (entry == null || !isExpired(entry))
+			return entry;
+
+		removeEntry(submodelId);
+		return null;
+	}
+
+	private boolean isExpired(Entry entry) {
+		return timeToLiveNanos > 0 && ticker.getAsLong() - entry.loadedAt >= timeToLiveNanos;
+	}
+
+	private void put(String submodelId, Entry entry) {
+		removeEntry(submodelId);
+
+		if (entry.weight > maximumWeight)
+			return;
+
+		entries.put(submodelId, entry);
+		weight += entry.weight;
+
+		evictIfNecessary();
+	}
+
+	private void evictIfNecessary() {
+		Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+
+		while ((entries.size() > maximumSize || weight > maximumWeight) && leastRecentlyUsed.hasNext()) {
+			Entry evicted = leastRecentlyUsed.next();
+			leastRecentlyUsed.remove();
+
+			weight -= evicted.weight;
+			metrics.evicted();
+		}
+	}
+
+	private void removeEntry(String submodelId) {
+		Entry removed = entries.remove(submodelId);
+
+		if (removed != null)
+			weight -= removed.weight;
+	}
+
+	/**
+	 * Weighs the Submodel by its number of SubmodelElements, including nested
+	 * ones, plus one for the Submodel itself
+	 */
+	static long weigh(Submodel submodel) {
+		return 1 + weigh(submodel.getSubmodelElements());
+	}
+
+	private static long weigh(List<? extends SubmodelElement> submodelElements) {
+		if (submodelElements == null)
+			return 0;
+
+		long weight = submodelElements.size();
+
+		for (SubmodelElement submodelElement : submodelElements)
+			weight += weigh(getChildren(submodelElement));
+
+		return weight;
+	}
+
+	private static List<? extends SubmodelElement> getChildren(SubmodelElement submodelElement) {
+		if (submodelElement instanceof SubmodelElementCollection)
+			return ((SubmodelElementCollection) submodelElement).getValue();
+
+		if (submodelElement instanceof SubmodelElementList)
+			return ((SubmodelElementList) submodelElement).getValue();
+
+		if (submodelElement instanceof Entity)
+			return ((Entity) submodelElement).getStatements();
+
+		if (submodelElement instanceof AnnotatedRelationshipElement)
+			return ((AnnotatedRelationshipElement) submodelElement).getAnnotations();
+
+		return null;
+	}
+
+	private static class Entry {
+		private final CachedSubmodel cachedSubmodel;
+		private final long weight;
+		private final long loadedAt;
+
+		private Entry(CachedSubmodel cachedSubmodel, long weight, long loadedAt) {
+			this.cachedSubmodel = cachedSubmodel;
+			this.weight = weight;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
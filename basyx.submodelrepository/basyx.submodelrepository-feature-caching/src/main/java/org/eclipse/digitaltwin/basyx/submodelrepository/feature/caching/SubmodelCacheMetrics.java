@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hit, miss and eviction counters as well as size gauges of the
+ * {@link SubmodelCache}
+ * 
+ * @author danish
+ */
+public class SubmodelCacheMetrics {
+
+	private static final String PREFIX = "basyx.submodelrepository.cache.";
+
+	private final MeterRegistry registry;
+	private final Counter hits;
+	private final Counter misses;
+	private final Counter evictions;
+
+	public SubmodelCacheMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.hits = Counter.builder(PREFIX + "hits").description("Reads served from the Submodel cache").register(registry);
+		this.misses = Counter.builder(PREFIX + "misses").description("Reads that had to load the Submodel from the backend").register(registry);
+		this.evictions = Counter.builder(PREFIX + "evictions").description("Submodels evicted because of the size or weight limit").register(registry);
+	}
+
+	void registerCache(SubmodelCache cache) {
+		registerGauge("size", "Submodels held by the cache", cache, SubmodelCache::size);
+		registerGauge("weight", "SubmodelElements held by the cache", cache, SubmodelCache::weight);
+	}
+
+	void hit() {
+		hits.increment();
+	}
+
+	void miss() {
+		misses.increment();
+	}
+
+	void evicted() {
+		evictions.increment();
+	}
+
+	public double getHitCount() {
+		return hits.count();
+	}
+
+	public double getMissCount() {
+		return misses.count();
+	}
+
+	public double getEvictionCount() {
+		return evictions.count();
+	}
+
+	private void registerGauge(String name, String description, SubmodelCache cache, ToDoubleFunction<SubmodelCache> value) {
+		Gauge.builder(PREFIX + name, cache, value).description(description).register(registry);
+	}
+}
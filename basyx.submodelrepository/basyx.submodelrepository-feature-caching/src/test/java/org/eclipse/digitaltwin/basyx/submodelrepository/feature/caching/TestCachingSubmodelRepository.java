@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SimpleSubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.core.SubmodelRepositorySuite;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link CachingSubmodelRepository}
+ * 
+ * @author danish
+ */
+public class TestCachingSubmodelRepository extends SubmodelRepositorySuite {
+
+	private static final String SUBMODEL_ID = "cachedSubmodel";
+	private static final String PROPERTY_ID_SHORT = "counter";
+
+	private final SubmodelServiceFactory submodelServiceFactory = new InMemorySubmodelServiceFactory(new InMemoryFileRepository());
+	private final SubmodelCacheMetrics metrics = new SubmodelCacheMetrics(new SimpleMeterRegistry());
+
+	@Override
+	protected SubmodelRepository getSubmodelRepository() {
+		return createCachingRepository(new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), submodelServiceFactory));
+	}
+
+	@Override
+	protected SubmodelRepository getSubmodelRepository(Collection<Submodel> submodels) {
+		return createCachingRepository(new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), submodelServiceFactory, submodels));
+	}
+
+	@Override
+	protected boolean fileExistsInStorage(String fileValue) {
+		java.io.File file = new java.io.File(fileValue);
+
+		return file.exists();
+	}
+
+	@Test
+	public void repeatedReadsAreServedFromCache() {
+		SubmodelRepository repo = getSubmodelRepositoryWithCounter();
+
+		repo.getSubmodel(SUBMODEL_ID);
+		repo.getSubmodelElement(SUBMODEL_ID, PROPERTY_ID_SHORT);
+		repo.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT);
+
+		assertEquals(1, metrics.getMissCount(), 0);
+		assertEquals(2, metrics.getHitCount(), 0);
+	}
+
+	@Test
+	public void writeInvalidatesCachedSubmodel() {
+		SubmodelRepository repo = getSubmodelRepositoryWithCounter();
+		repo.getSubmodel(SUBMODEL_ID);
+
+		repo.setSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT, new PropertyValue("5"));
+
+		assertEquals("5", ((PropertyValue) repo.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT)).getValue());
+		assertEquals(2, metrics.getMissCount(), 0);
+	}
+
+	@Test
+	public void failedReadIsNotCached() {
+		SubmodelRepository repo = getSubmodelRepository();
+
+		assertNotFound(repo);
+		repo.createSubmodel(createSubmodelWithCounter());
+
+		assertEquals(SUBMODEL_ID, repo.getSubmodel(SUBMODEL_ID).getId());
+	}
+
+	@Test
+	public void invalidationPublishedToOtherReplicas() {
+		RecordingInvalidationChannel channel = new RecordingInvalidationChannel();
+		SubmodelCache cache = new SubmodelCache(10, 1000, Duration.ZERO, metrics);
+		SubmodelRepository repo = new CachingSubmodelRepositoryFactory(new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), submodelServiceFactory), submodelServiceFactory, cache, Optional.of(channel)).create();
+
+		repo.createSubmodel(createSubmodelWithCounter());
+		repo.deleteSubmodelElement(SUBMODEL_ID, PROPERTY_ID_SHORT);
+
+		assertEquals(List.of(List.of(SUBMODEL_ID), List.of(SUBMODEL_ID)), channel.published);
+	}
+
+	@Test
+	public void cachedSubmodelIsReadAsCopy() {
+		SubmodelCache cache = new SubmodelCache(10, 1000, Duration.ZERO, metrics);
+		SubmodelRepository repo = new CachingSubmodelRepositoryFactory(new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), submodelServiceFactory), submodelServiceFactory, cache).create();
+		repo.createSubmodel(createSubmodelWithCounter());
+
+		Property counter = (Property) repo.getSubmodelElement(SUBMODEL_ID, PROPERTY_ID_SHORT);
+		counter.setValue("5");
+		repo.getSubmodel(SUBMODEL_ID).getSubmodelElements().clear();
+
+		assertNotSame(counter, repo.getSubmodelElement(SUBMODEL_ID, PROPERTY_ID_SHORT));
+		assertEquals("0", ((PropertyValue) repo.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT)).getValue());
+		assertEquals(1, repo.getSubmodel(SUBMODEL_ID).getSubmodelElements().size());
+		assertEquals(1, cache.size());
+		assertEquals(1, metrics.getMissCount(), 0);
+	}
+
+	@Test
+	public void versionIsReadWithCachedSubmodel() {
+		SubmodelCache cache = new SubmodelCache(10, 1000, Duration.ZERO, metrics);
+		SubmodelRepository decorated = new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), submodelServiceFactory).create();
+		SubmodelRepository repo = new CachingSubmodelRepository(decorated, submodelServiceFactory, cache);
+		repo.createSubmodel(createSubmodelWithCounter());
+
+		long version = repo.getSubmodelVersion(SUBMODEL_ID);
+		repo.getSubmodel(SUBMODEL_ID);
+
+		// a write that has not been invalidated yet must neither change the
+		// version nor the body read from the cache
+		decorated.setSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT, new PropertyValue("5"));
+
+		assertEquals(version, repo.getSubmodelVersion(SUBMODEL_ID));
+		assertEquals("0", ((PropertyValue) repo.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT)).getValue());
+
+		repo.setSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT, new PropertyValue("6"));
+
+		assertNotEquals(version, repo.getSubmodelVersion(SUBMODEL_ID));
+		assertEquals("6", ((PropertyValue) repo.getSubmodelElementValue(SUBMODEL_ID, PROPERTY_ID_SHORT)).getValue());
+	}
+
+	private static void assertNotFound(SubmodelRepository repo) {
+		try {
+			repo.getSubmodel(SUBMODEL_ID);
+		} catch (ElementDoesNotExistException expected) {
+			return;
+		}
+
+		throw new AssertionError("Expected the Submodel not to exist");
+	}
+
+	private SubmodelRepository getSubmodelRepositoryWithCounter() {
+		SubmodelRepository repo = getSubmodelRepository();
+		repo.createSubmodel(createSubmodelWithCounter());
+
+		return repo;
+	}
+
+	private SubmodelRepository createCachingRepository(SimpleSubmodelRepositoryFactory backendFactory) {
+		return new CachingSubmodelRepositoryFactory(backendFactory, submodelServiceFactory, new SubmodelCache(10, 1000, Duration.ZERO, metrics)).create();
+	}
+
+	private static Submodel createSubmodelWithCounter() {
+		List<SubmodelElement> elements = new ArrayList<>();
+		elements.add(new DefaultProperty.Builder().idShort(PROPERTY_ID_SHORT).valueType(DataTypeDefXsd.INT).value("0").build());
+
+		return new DefaultSubmodel.Builder().id(SUBMODEL_ID).idShort(SUBMODEL_ID).submodelElements(elements).build();
+	}
+
+	private static class RecordingInvalidationChannel implements SubmodelCacheInvalidationChannel {
+		private final List<List<String>> published = new ArrayList<>();
+
+		@Override
+		public void publish(Collection<String> submodelIds) {
+			published.add(new ArrayList<>(submodelIds));
+		}
+
+		@Override
+		public void register(SubmodelCache cache) {
+		}
+	}
+}
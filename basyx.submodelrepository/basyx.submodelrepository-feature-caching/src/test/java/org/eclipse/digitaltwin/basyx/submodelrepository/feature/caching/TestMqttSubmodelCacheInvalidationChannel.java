@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moquette.BrokerConstants;
+import io.moquette.broker.Server;
+import io.moquette.broker.config.ClasspathResourceLoader;
+import io.moquette.broker.config.MemoryConfig;
+import io.moquette.broker.config.ResourceLoaderConfig;
+
+/**
+ * Tests the propagation of invalidations between replicas by the
+ * {@link MqttSubmodelCacheInvalidationChannel}
+ * 
+ * @author danish
+ */
+public class TestMqttSubmodelCacheInvalidationChannel {
+	private static final String TOPIC = "sm-repository/sm-repo/cache/invalidations";
+	private static final long TIMEOUT_MILLIS = 5000;
+
+	private static Server mqttBroker;
+
+	private MqttSubmodelCacheInvalidationChannel firstChannel;
+	private MqttSubmodelCacheInvalidationChannel secondChannel;
+	private SubmodelCache firstCache;
+	private SubmodelCache secondCache;
+
+	@BeforeClass
+	public static void setUpClass() throws IOException {
+		mqttBroker = new Server();
+		mqttBroker.startServer(new ResourceLoaderConfig(new ClasspathResourceLoader()));
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		mqttBroker.stopServer();
+	}
+
+	@Before
+	public void setUp() throws MqttException, InterruptedException {
+		firstChannel = createChannel("firstReplica", 1885);
+		secondChannel = createChannel("secondReplica", 1885);
+
+		firstCache = createCache();
+		secondCache = createCache();
+
+		firstChannel.register(firstCache);
+		secondChannel.register(secondCache);
+
+		awaitCondition(() -> firstChannel.isSubscribed() && secondChannel.isSubscribed());
+	}
+
+	@After
+	public void tearDown() throws MqttException {
+		firstChannel.close();
+		secondChannel.close();
+	}
+
+	@Test
+	public void invalidationReachesOtherReplica() throws InterruptedException {
+		cache(firstCache, "modified", "unmodified");
+		cache(secondCache, "modified", "unmodified");
+
+		firstChannel.publish(Arrays.asList("modified"));
+
+		awaitCondition(() -> secondCache.size() == 1);
+		assertEquals(1, secondCache.size());
+	}
+
+	@Test
+	public void ownInvalidationIsIgnored() throws InterruptedException {
+		cache(firstCache, "modified");
+		cache(secondCache, "modified");
+
+		firstChannel.publish(Arrays.asList("modified"));
+
+		awaitCondition(() -> secondCache.size() == 0);
+		assertEquals(1, firstCache.size());
+	}
+
+	@Test
+	public void cacheIsSuspendedUntilBrokerIsAvailable() throws MqttException, IOException, InterruptedException {
+		MqttSubmodelCacheInvalidationChannel channel = createChannel("lateReplica", 1886);
+		SubmodelCache cache = createCache();
+		channel.register(cache);
+
+		cache(cache, "submodel");
+		assertTrue(cache.isSuspended());
+		assertEquals(0, cache.size());
+
+		Server lateBroker = new Server();
+		lateBroker.startServer(new MemoryConfig(createBrokerProperties(1886)));
+
+		try {
+			awaitCondition(channel::isSubscribed);
+			assertFalse(cache.isSuspended());
+
+			cache(cache, "submodel");
+			assertEquals(1, cache.size());
+
+			lateBroker.stopServer();
+
+			awaitCondition(cache::isSuspended);
+			assertEquals(0, cache.size());
+		} finally {
+			channel.close();
+		}
+	}
+
+	private static void cache(SubmodelCache cache, String... submodelIds) {
+		InMemorySubmodelServiceFactory submodelServiceFactory = new InMemorySubmodelServiceFactory(new InMemoryFileRepository());
+
+		for (String submodelId : submodelIds)
+			cache.get(submodelId, () -> new CachedSubmodel(submodelServiceFactory.create(new DefaultSubmodel.Builder().id(submodelId).build()), 1));
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline)
+			Thread.sleep(10);
+	}
+
+	private static SubmodelCache createCache() {
+		return new SubmodelCache(10, 100, Duration.ZERO, new SubmodelCacheMetrics(new SimpleMeterRegistry()));
+	}
+
+	private static MqttSubmodelCacheInvalidationChannel createChannel(String clientId, int port) throws MqttException {
+		MqttAsyncClient mqttClient = new MqttAsyncClient("tcp://localhost:" + port, clientId, new MemoryPersistence());
+
+		return new MqttSubmodelCacheInvalidationChannel(mqttClient, new MqttConnectOptions(), TOPIC);
+	}
+
+	private static Properties createBrokerProperties(int port) {
+		Properties properties = new Properties();
+		properties.setProperty(BrokerConstants.PORT_PROPERTY_NAME, String.valueOf(port));
+		properties.setProperty(BrokerConstants.HOST_PROPERTY_NAME, "0.0.0.0");
+		properties.setProperty(BrokerConstants.ALLOW_ANONYMOUS_PROPERTY_NAME, "true");
+
+		return properties;
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.caching;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the eviction and invalidation of the {@link SubmodelCache}
+ * 
+ * @author danish
+ */
+public class TestSubmodelCache {
+
+	private final SubmodelServiceFactory submodelServiceFactory = new InMemorySubmodelServiceFactory(new InMemoryFileRepository());
+	private final AtomicLong ticker = new AtomicLong();
+
+	private SubmodelCacheMetrics metrics;
+
+	@Before
+	public void setUp() {
+		metrics = new SubmodelCacheMetrics(new SimpleMeterRegistry());
+	}
+
+	@Test
+	public void leastRecentlyUsedIsEvictedWhenSizeIsExceeded() {
+		SubmodelCache cache = createCache(2, 100, Duration.ZERO);
+		CachedSubmodel first = load(cache, "first", 0);
+		load(cache, "second", 0);
+
+		load(cache, "first", 0);
+		load(cache, "third", 0);
+
+		assertEquals(2, cache.size());
+		assertEquals(1, metrics.getEvictionCount(), 0);
+		assertSame(first, load(cache, "first", 0));
+		assertEquals(2, metrics.getHitCount(), 0);
+	}
+
+	@Test
+	public void leastRecentlyUsedIsEvictedWhenWeightIsExceeded() {
+		SubmodelCache cache = createCache(100, 9, Duration.ZERO);
+		load(cache, "first", 4);
+		load(cache, "second", 4);
+
+		assertEquals(1, cache.size());
+		assertEquals(5, cache.weight());
+		assertEquals(1, metrics.getEvictionCount(), 0);
+	}
+
+	@Test
+	public void submodelExceedingMaximumWeightIsNotCached() {
+		SubmodelCache cache = createCache(100, 10, Duration.ZERO);
+		load(cache, "heavy", 10);
+
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.weight());
+	}
+
+	@Test
+	public void expiredSubmodelIsLoadedAgain() {
+		SubmodelCache cache = createCache(100, 100, Duration.ofSeconds(10));
+		CachedSubmodel loaded = load(cache, "expiring", 0);
+
+		ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertSame(loaded, load(cache, "expiring", 0));
+
+		ticker.addAndGet(Duration.ofSeconds(5).toNanos());
+		assertNotSame(loaded, load(cache, "expiring", 0));
+	}
+
+	@Test
+	public void loadInvalidatedWhileInProgressIsNotCached() {
+		SubmodelCache cache = createCache(100, 100, Duration.ZERO);
+
+		cache.get("racing", () -> {
+			CachedSubmodel outdated = createCachedSubmodel("racing", 0);
+			cache.invalidate("racing");
+			return outdated;
+		});
+
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void invalidateAllClearsCache() {
+		SubmodelCache cache = createCache(100, 100, Duration.ZERO);
+		load(cache, "first", 1);
+		load(cache, "second", 2);
+
+		cache.invalidateAll();
+
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.weight());
+	}
+
+	@Test
+	public void suspendedCacheDoesNotCache() {
+		SubmodelCache cache = createCache(100, 100, Duration.ZERO);
+		load(cache, "first", 1);
+
+		cache.suspend();
+		CachedSubmodel loaded = load(cache, "first", 1);
+
+		assertEquals(0, cache.size());
+		assertNotSame(loaded, load(cache, "first", 1));
+
+		cache.resume();
+		loaded = load(cache, "first", 1);
+
+		assertSame(loaded, load(cache, "first", 1));
+	}
+
+	@Test
+	public void nestedSubmodelElementsAreWeighed() {
+		List<SubmodelElement> nested = createProperties(3);
+		List<SubmodelElement> elements = createProperties(2);
+		elements.add(new DefaultSubmodelElementCollection.Builder().idShort("collection").value(nested).build());
+
+		assertEquals(7, SubmodelCache.weigh(new DefaultSubmodel.Builder().id("nested").submodelElements(elements).build()));
+	}
+
+	private SubmodelCache createCache(int maximumSize, long maximumWeight, Duration timeToLive) {
+		return new SubmodelCache(maximumSize, maximumWeight, timeToLive, metrics, ticker::get);
+	}
+
+	private CachedSubmodel load(SubmodelCache cache, String submodelId, int elementCount) {
+		return cache.get(submodelId, () -> createCachedSubmodel(submodelId, elementCount));
+	}
+
+	private CachedSubmodel createCachedSubmodel(String submodelId, int elementCount) {
+		return new CachedSubmodel(submodelServiceFactory.create(new DefaultSubmodel.Builder().id(submodelId).submodelElements(createProperties(elementCount)).build()), 1);
+	}
+
+	private static List<SubmodelElement> createProperties(int count) {
+		List<SubmodelElement> properties = new ArrayList<>();
+
+		for (int i = 0; i < count; i++)
+			properties.add(new DefaultProperty.Builder().idShort("property" + i).value(String.valueOf(i)).build());
+
+		return properties;
+	}
+}
@@ -0,0 +1,247 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.metrics;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
+
+/**
+ * Decorator recording latency, errors and payload sizes of the operations of a
+ * {@link SubmodelRepository}
+ * 
+ * @author danish
+ */
+public class MeteredSubmodelRepository implements SubmodelRepository {
+
+	private final SubmodelRepository decorated;
+	private final OperationMetrics metrics;
+
+	public MeteredSubmodelRepository(SubmodelRepository decorated, OperationMetrics metrics) {
+		this.decorated = decorated;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public CursorResult<List<Submodel>> getAllSubmodels(PaginationInfo pInfo) {
+		CursorResult<List<Submodel>> result = metrics.record("getAllSubmodels", () -> decorated.getAllSubmodels(pInfo));
+		metrics.recordPayload("getAllSubmodels", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public Submodel getSubmodel(String submodelId) throws ElementDoesNotExistException {
+		Submodel submodel = metrics.record("getSubmodel", () -> decorated.getSubmodel(submodelId));
+		metrics.recordPayload("getSubmodel", countElements(submodel));
+		return submodel;
+	}
+
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		return metrics.record("getSubmodelVersion", () -> decorated.getSubmodelVersion(submodelId));
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
+		metrics.recordPayload("updateSubmodel", countElements(submodel));
+		metrics.record("updateSubmodel", () -> decorated.updateSubmodel(submodelId, submodel));
+	}
+
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		metrics.recordPayload("updateSubmodel", countElements(submodel));
+		metrics.record("updateSubmodel", () -> decorated.updateSubmodel(submodelId, submodel, expectedVersion));
+	}
+
+	@Override
+	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException, MissingIdentifierException {
+		metrics.recordPayload("createSubmodel", countElements(submodel));
+		metrics.record("createSubmodel", () -> decorated.createSubmodel(submodel));
+	}
+
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException, MissingIdentifierException {
+		metrics.recordPayload("createAllSubmodels", submodels.size());
+		metrics.record("createAllSubmodels", () -> decorated.createAllSubmodels(submodels, fileValues));
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		metrics.recordPayload("createSubmodels", submodels.size());
+		return metrics.record("createSubmodels", () -> decorated.createSubmodels(submodels));
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		metrics.recordPayload("updateSubmodels", submodels.size());
+		return metrics.record("updateSubmodels", () -> decorated.updateSubmodels(submodels));
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		metrics.recordPayload("deleteSubmodels", submodelIds.size());
+		return metrics.record("deleteSubmodels", () -> decorated.deleteSubmodels(submodelIds));
+	}
+
+	@Override
+	public void updateSubmodelElement(String submodelIdentifier, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
+		metrics.record("updateSubmodelElement", () -> decorated.updateSubmodelElement(submodelIdentifier, idShortPath, submodelElement));
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
+		metrics.record("deleteSubmodel", () -> decorated.deleteSubmodel(submodelId));
+	}
+
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		metrics.record("deleteSubmodel", () -> decorated.deleteSubmodel(submodelId, expectedVersion));
+	}
+
+	@Override
+	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
+		CursorResult<List<SubmodelElement>> result = metrics.record("getSubmodelElements", () -> decorated.getSubmodelElements(submodelId, pInfo));
+		metrics.recordPayload("getSubmodelElements", result.getResult().size());
+		return result;
+	}
+
+	@Override
+	public SubmodelElement getSubmodelElement(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
+		return metrics.record("getSubmodelElement", () -> decorated.getSubmodelElement(submodelId, smeIdShort));
+	}
+
+	@Override
+	public SubmodelElementValue getSubmodelElementValue(String submodelId, String smeIdShort) throws ElementDoesNotExistException {
+		return metrics.record("getSubmodelElementValue", () -> decorated.getSubmodelElementValue(submodelId, smeIdShort));
+	}
+
+	@Override
+	public void setSubmodelElementValue(String submodelId, String smeIdShort, SubmodelElementValue value) throws ElementDoesNotExistException {
+		metrics.record("setSubmodelElementValue", () -> decorated.setSubmodelElementValue(submodelId, smeIdShort, value));
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
+		metrics.record("createSubmodelElement", () -> decorated.createSubmodelElement(submodelId, smElement));
+	}
+
+	@Override
+	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
+		metrics.record("createSubmodelElement", () -> decorated.createSubmodelElement(submodelId, idShortPath, smElement));
+	}
+
+	@Override
+	public void deleteSubmodelElement(String submodelId, String idShortPath) throws ElementDoesNotExistException {
+		metrics.record("deleteSubmodelElement", () -> decorated.deleteSubmodelElement(submodelId, idShortPath));
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		metrics.recordPayload("createSubmodelElements", submodelElements.size());
+		return metrics.record("createSubmodelElements", () -> decorated.createSubmodelElements(submodelId, idShortPath, submodelElements));
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		metrics.recordPayload("updateSubmodelElements", submodelElements.size());
+		return metrics.record("updateSubmodelElements", () -> decorated.updateSubmodelElements(submodelId, submodelElements));
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		metrics.recordPayload("deleteSubmodelElements", idShortPaths.size());
+		return metrics.record("deleteSubmodelElements", () -> decorated.deleteSubmodelElements(submodelId, idShortPaths));
+	}
+
+	@Override
+	public String getName() {
+		return decorated.getName();
+	}
+
+	@Override
+	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
+		metrics.recordPayload("invokeOperation", input.length);
+		return metrics.record("invokeOperation", () -> decorated.invokeOperation(submodelId, idShortPath, input));
+	}
+
+	@Override
+	public SubmodelValueOnly getSubmodelByIdValueOnly(String submodelId) throws ElementDoesNotExistException {
+		return metrics.record("getSubmodelByIdValueOnly", () -> decorated.getSubmodelByIdValueOnly(submodelId));
+	}
+
+	@Override
+	public Submodel getSubmodelByIdMetadata(String submodelId) throws ElementDoesNotExistException {
+		return metrics.record("getSubmodelByIdMetadata", () -> decorated.getSubmodelByIdMetadata(submodelId));
+	}
+
+	@Override
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+		return metrics.record("getFileByPathSubmodel", () -> decorated.getFileByPathSubmodel(submodelId, idShortPath));
+	}
+
+	@Override
+	public void setFileValue(String submodelId, String idShortPath, String fileName, InputStream inputStream) throws ElementDoesNotExistException, ElementNotAFileException {
+		metrics.record("setFileValue", () -> decorated.setFileValue(submodelId, idShortPath, fileName, inputStream));
+	}
+
+	@Override
+	public void deleteFileValue(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+		metrics.record("deleteFileValue", () -> decorated.deleteFileValue(submodelId, idShortPath));
+	}
+
+	@Override
+	public void patchSubmodelElements(String submodelId, List<SubmodelElement> submodelElementList) {
+		metrics.recordPayload("patchSubmodelElements", submodelElementList.size());
+		metrics.record("patchSubmodelElements", () -> decorated.patchSubmodelElements(submodelId, submodelElementList));
+	}
+
+	private static int countElements(Submodel submodel) {
+		if (submodel.getSubmodelElements() == null)
+			return 0;
+
+		return submodel.getSubmodelElements().size();
+	}
+}
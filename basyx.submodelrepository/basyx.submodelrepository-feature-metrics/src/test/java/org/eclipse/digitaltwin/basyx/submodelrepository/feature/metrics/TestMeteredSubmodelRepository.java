@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.common.metrics.OperationMetrics;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SimpleSubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests the {@link MeteredSubmodelRepository}
+ * 
+ * @author danish
+ */
+public class TestMeteredSubmodelRepository {
+
+	private static final String SUBMODEL_ID = "meteredSubmodel";
+
+	private SimpleMeterRegistry registry;
+	private SubmodelRepository repository;
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+
+		SimpleSubmodelRepositoryFactory backendFactory = new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), new InMemorySubmodelServiceFactory(new InMemoryFileRepository()));
+		repository = new MeteredSubmodelRepositoryFactory(backendFactory, new OperationMetrics(registry, MeteredSubmodelRepositoryFeature.COMPONENT, "InMemory")).create();
+
+		List<SubmodelElement> elements = new ArrayList<>();
+		elements.add(new DefaultProperty.Builder().idShort("first").valueType(DataTypeDefXsd.INT).value("1").build());
+		elements.add(new DefaultProperty.Builder().idShort("second").valueType(DataTypeDefXsd.INT).value("2").build());
+		repository.createSubmodel(new DefaultSubmodel.Builder().id(SUBMODEL_ID).submodelElements(elements).build());
+	}
+
+	@Test
+	public void latencyAndPayloadAreRecorded() {
+		repository.getSubmodel(SUBMODEL_ID);
+		repository.getAllSubmodels(new PaginationInfo(0, null));
+
+		assertEquals(1, registry.get(OperationMetrics.LATENCY).tag(OperationMetrics.TAG_OPERATION, "getSubmodel").tag(OperationMetrics.TAG_BACKEND, "InMemory").timer().count());
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getSubmodel").summary().totalAmount(), 0);
+		assertEquals(1, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "getAllSubmodels").summary().totalAmount(), 0);
+		assertEquals(2, registry.get(OperationMetrics.PAYLOAD).tag(OperationMetrics.TAG_OPERATION, "createSubmodel").summary().totalAmount(), 0);
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void errorIsCountedWithoutIdentifier() {
+		try {
+			repository.getSubmodel("nonExisting");
+		} finally {
+			assertEquals(1, registry.get(OperationMetrics.ERRORS).tag(OperationMetrics.TAG_OPERATION, "getSubmodel").tag(OperationMetrics.TAG_EXCEPTION, "ElementDoesNotExistException").counter().count(), 0);
+			assertEquals(4, registry.get(OperationMetrics.ERRORS).counter().getId().getTags().size());
+		}
+	}
+}
@@ -1,44 +1,58 @@
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelElementSerializer;
 import org.eclipse.digitaltwin.basyx.common.mqttcore.serializer.SubmodelSerializer;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.metamodel.MetamodelCopier;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
-import org.eclipse.paho.client.mqttv3.MqttException;
-import org.eclipse.paho.client.mqttv3.MqttMessage;
-import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
- * Repository decorator for the MQTT eventing on the submodel level.
+ * Repository decorator for the MQTT eventing on the submodel level. <br>
+ * <br>
+ * Payloads may be serialized later by the {@link MqttEventPublisher}. Thus,
+ * events carry copies of the Submodels and SubmodelElements taken on the
+ * request thread, so that neither following requests modify them nor the
+ * decorated repository is called outside of the request.
  * 
  * @author fischer
  */
 public class MqttSubmodelRepository implements SubmodelRepository {
-	private static Logger logger = LoggerFactory.getLogger(MqttSubmodelRepository.class);
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
 	private SubmodelRepository decorated;
 
-	private IMqttClient mqttClient;
+	private MqttEventPublisher eventPublisher;
 
 	public MqttSubmodelRepository(SubmodelRepository decorated, IMqttClient mqttClient, MqttSubmodelRepositoryTopicFactory topicFactory) {
+		this(decorated, new SynchronousMqttEventPublisher(mqttClient), topicFactory);
+	}
+
+	public MqttSubmodelRepository(SubmodelRepository decorated, MqttEventPublisher eventPublisher, MqttSubmodelRepositoryTopicFactory topicFactory) {
 		this.topicFactory = topicFactory;
 		this.decorated = decorated;
-		this.mqttClient = mqttClient;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Override
@@ -51,18 +65,56 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelVersion(submodelId);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
 		submodelUpdated(submodel, getName());
 	}
 
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		decorated.updateSubmodel(submodelId, submodel, expectedVersion);
+		submodelUpdated(submodel, getName());
+	}
+
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
 		decorated.createSubmodel(submodel);
 		submodelCreated(submodel, getName());
 	}
 
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException {
+		decorated.createAllSubmodels(submodels, fileValues);
+		submodels.forEach(submodel -> submodelCreated(submodel, getName()));
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		List<BulkOperationResult> results = decorated.createSubmodels(submodels);
+		publishBulk(topicFactory.createCreateSubmodelBulkTopic(getName()), BulkOperationResult.succeeded(submodels, results), SubmodelSerializer::serializeSubmodels);
+		return results;
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		List<BulkOperationResult> results = decorated.updateSubmodels(submodels);
+		publishBulk(topicFactory.createUpdateSubmodelBulkTopic(getName()), BulkOperationResult.succeeded(submodels, results), SubmodelSerializer::serializeSubmodels);
+		return results;
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		List<BulkOperationResult> results = decorated.deleteSubmodels(submodelIds);
+		publishBulk(topicFactory.createDeleteSubmodelBulkTopic(getName()), BulkOperationResult.succeeded(submodelIds, results), SubmodelSerializer::serializeIds);
+		return results;
+	}
+
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
 		Submodel submodel = decorated.getSubmodel(submodelId);
@@ -70,6 +122,13 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		submodelDeleted(submodel, getName());
 	}
 
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		Submodel submodel = decorated.getSubmodel(submodelId);
+		decorated.deleteSubmodel(submodelId, expectedVersion);
+		submodelDeleted(submodel, getName());
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo)
 			throws ElementDoesNotExistException {
@@ -89,22 +148,19 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	@Override
 	public void setSubmodelElementValue(String submodelId, String idShortPath, SubmodelElementValue value) throws ElementDoesNotExistException {
 		decorated.setSubmodelElementValue(submodelId, idShortPath, value);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
-		submodelElementUpdated(submodelElement, getName(), submodelId, idShortPath);
+		submodelElementUpdated(getName(), submodelId, idShortPath);
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, SubmodelElement smElement) {
 		decorated.createSubmodelElement(submodelId, smElement);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, smElement.getIdShort());
-		submodelElementCreated(submodelElement, getName(), submodelId, smElement.getIdShort());
+		submodelElementCreated(smElement, getName(), submodelId, smElement.getIdShort());
 	}
 
 	@Override
 	public void createSubmodelElement(String submodelId, String idShortPath, SubmodelElement smElement) throws ElementDoesNotExistException {
-		decorated.createSubmodelElement(submodelId, smElement);
-		SubmodelElement submodelElement = decorated.getSubmodelElement(submodelId, idShortPath);
-		submodelElementCreated(submodelElement, getName(), submodelId, idShortPath);
+		decorated.createSubmodelElement(submodelId, idShortPath, smElement);
+		submodelElementCreated(smElement, getName(), submodelId, idShortPath);
 	}
 	
 	@Override
@@ -119,6 +175,27 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 		submodelElementDeleted(submodelElement, getName(), submodelId, idShortPath);
 	}
 
+	@Override
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		List<BulkOperationResult> results = decorated.createSubmodelElements(submodelId, idShortPath, submodelElements);
+		publishBulk(topicFactory.createCreateSubmodelElementBulkTopic(getName(), submodelId), BulkOperationResult.succeeded(submodelElements, results), SubmodelElementSerializer::serializeSubmodelElements);
+		return results;
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		List<BulkOperationResult> results = decorated.updateSubmodelElements(submodelId, submodelElements);
+		publishBulk(topicFactory.createUpdateSubmodelElementBulkTopic(getName(), submodelId), BulkOperationResult.succeeded(new ArrayList<>(submodelElements.values()), results), SubmodelElementSerializer::serializeSubmodelElements);
+		return results;
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		List<BulkOperationResult> results = decorated.deleteSubmodelElements(submodelId, idShortPaths);
+		publishBulk(topicFactory.createDeleteSubmodelElementBulkTopic(getName(), submodelId), BulkOperationResult.succeeded(idShortPaths, results), SubmodelSerializer::serializeIds);
+		return results;
+	}
+
 	@Override
 	public String getName() {
 		return decorated.getName();
@@ -135,56 +212,64 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	}
 
 	private void submodelCreated(Submodel submodel, String repoId) {
-		sendMqttMessage(topicFactory.createCreateSubmodelTopic(repoId), SubmodelSerializer.serializeSubmodel(submodel));
+		Submodel copy = copyIfDeferred(submodel);
+		eventPublisher.publish(topicFactory.createCreateSubmodelTopic(repoId), () -> SubmodelSerializer.serializeSubmodel(copy));
 	}
 
 	private void submodelUpdated(Submodel submodel, String repoId) {
-		sendMqttMessage(topicFactory.createUpdateSubmodelTopic(repoId), SubmodelSerializer.serializeSubmodel(submodel));
+		Submodel copy = copyIfDeferred(submodel);
+		eventPublisher.publish(topicFactory.createUpdateSubmodelTopic(repoId), () -> SubmodelSerializer.serializeSubmodel(copy));
 	}
 
 	private void submodelDeleted(Submodel submodel, String repoId) {
-		sendMqttMessage(topicFactory.createDeleteSubmodelTopic(repoId), SubmodelSerializer.serializeSubmodel(submodel));
+		Submodel copy = copyIfDeferred(submodel);
+		eventPublisher.publish(topicFactory.createDeleteSubmodelTopic(repoId), () -> SubmodelSerializer.serializeSubmodel(copy));
 	}
 
 	private void submodelElementCreated(SubmodelElement submodelElement, String repoId, String submodelId, String submodelElementId) {
-		sendMqttMessage(topicFactory.createCreateSubmodelElementTopic(repoId, submodelId, submodelElementId), SubmodelElementSerializer.serializeSubmodelElement(submodelElement));
+		SubmodelElement copy = copyIfDeferred(submodelElement);
+		eventPublisher.publish(topicFactory.createCreateSubmodelElementTopic(repoId, submodelId, submodelElementId), () -> SubmodelElementSerializer.serializeSubmodelElement(copy));
 	}
 
-	private void submodelElementUpdated(SubmodelElement submodelElement, String repoId, String submodelId, String submodelElementId) {
-		sendMqttMessage(topicFactory.createUpdateSubmodelElementTopic(repoId, submodelId, submodelElementId), SubmodelElementSerializer.serializeSubmodelElement(submodelElement));
+	/**
+	 * Publishes the update of a submodel element. The request only carries the
+	 * value, so the element is read on the request thread, but only serialized
+	 * when the event is sent, so coalesced updates skip the serialization.
+	 */
+	private void submodelElementUpdated(String repoId, String submodelId, String submodelElementId) {
+		SubmodelElement copy = copyIfDeferred(decorated.getSubmodelElement(submodelId, submodelElementId));
+		eventPublisher.publishLatest(topicFactory.createUpdateSubmodelElementTopic(repoId, submodelId, submodelElementId), () -> SubmodelElementSerializer.serializeSubmodelElement(copy));
 	}
 
 	private void submodelElementDeleted(SubmodelElement submodelElement, String repoId, String submodelId, String submodelElementId) {
-		sendMqttMessage(topicFactory.createDeleteSubmodelElementTopic(repoId, submodelId, submodelElementId), SubmodelElementSerializer.serializeSubmodelElement(submodelElement));
+		SubmodelElement copy = copyIfDeferred(submodelElement);
+		eventPublisher.publish(topicFactory.createDeleteSubmodelElementTopic(repoId, submodelId, submodelElementId), () -> SubmodelElementSerializer.serializeSubmodelElement(copy));
 	}
 
 	/**
-	 * Sends MQTT message to connected broker
-	 * 
-	 * @param topic
-	 *            in which the message will be published
-	 * @param payload
-	 *            the actual message
+	 * Copies the payload if the publisher serializes it later, as it may be
+	 * modified by subsequent requests in the meantime
 	 */
-	private void sendMqttMessage(String topic, String payload) {
-		MqttMessage msg = createMqttMessage(payload);
+	private Submodel copyIfDeferred(Submodel submodel) {
+		return eventPublisher.defersSerialization() ? MetamodelCopier.deepCopy(submodel) : submodel;
+	}
 
-		try {
-			logger.debug("Send MQTT message to " + topic + ": " + payload);
-			mqttClient.publish(topic, msg);
-		} catch (MqttPersistenceException e) {
-			logger.error("Could not persist mqtt message", e);
-		} catch (MqttException e) {
-			logger.error("Could not send mqtt message", e);
-		}
+	private SubmodelElement copyIfDeferred(SubmodelElement submodelElement) {
+		return eventPublisher.defersSerialization() ? MetamodelCopier.deepCopy(submodelElement) : submodelElement;
 	}
 
-	private MqttMessage createMqttMessage(String payload) {
-		if (payload == null) {
-			return new MqttMessage();
-		} else {
-			return new MqttMessage(payload.getBytes());
-		}
+	/**
+	 * Publishes a single event for all succeeded items of a bulk operation
+	 * instead of one event per item. The items are serialized on the request
+	 * thread, as they are the live objects passed by the caller.
+	 */
+	private <T> void publishBulk(String topic, List<T> succeeded, Function<List<T>, String> serializer) {
+		if (succeeded.isEmpty())
+			return;
+
+		String payload = serializer.apply(succeeded);
+
+		eventPublisher.publish(topic, () -> payload);
 	}
 
 	@Override
@@ -193,7 +278,7 @@ public class MqttSubmodelRepository implements SubmodelRepository {
 	}
 
 	@Override
-	public java.io.File getFileByPathSubmodel(String submodelId, String idShortPath) {
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) {
 		return decorated.getFileByPathSubmodel(submodelId, idShortPath);
 	}
 
@@ -25,6 +25,8 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
 
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.SynchronousMqttEventPublisher;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
 import org.eclipse.paho.client.mqttv3.IMqttClient;
@@ -37,17 +39,21 @@ import org.eclipse.paho.client.mqttv3.IMqttClient;
 public class MqttSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
 
 	private SubmodelRepositoryFactory decorated;
-	private IMqttClient client;
+	private MqttEventPublisher eventPublisher;
 	private MqttSubmodelRepositoryTopicFactory topicFactory;
 
 	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, IMqttClient client, MqttSubmodelRepositoryTopicFactory topicFactory) {
+		this(decorated, new SynchronousMqttEventPublisher(client), topicFactory);
+	}
+
+	public MqttSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, MqttEventPublisher eventPublisher, MqttSubmodelRepositoryTopicFactory topicFactory) {
 		this.decorated = decorated;
-		this.client = client;
+		this.eventPublisher = eventPublisher;
 		this.topicFactory = topicFactory;
 	}
 
 	@Override
 	public SubmodelRepository create() {
-		return new MqttSubmodelRepository(decorated.create(), client, topicFactory);
+		return new MqttSubmodelRepository(decorated.create(), eventPublisher, topicFactory);
 	}
 }
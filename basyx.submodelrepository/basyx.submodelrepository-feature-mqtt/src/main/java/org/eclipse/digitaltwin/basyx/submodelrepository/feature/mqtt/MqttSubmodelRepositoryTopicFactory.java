@@ -42,6 +42,7 @@ public class MqttSubmodelRepositoryTopicFactory extends AbstractMqttTopicFactory
 	private static final String UPDATED = "updated";
 	private static final String DELETED = "deleted";
 	private static final String SUBMODELELEMENTS = "submodelElements";
+	private static final String BULK = "$bulk";
 
 	/**
 	 * @param encoder
@@ -104,4 +105,67 @@ public class MqttSubmodelRepositoryTopicFactory extends AbstractMqttTopicFactory
 	public String createDeleteSubmodelElementTopic(String repoId, String submodelId, String submodelElementId) {
 		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(encodeId(submodelId)).add(SUBMODELELEMENTS).add(submodelElementId).add(DELETED).toString();
 	}
+
+	/**
+	 * Creates the hierarchical topic for the create event of a bulk of submodels.
+	 * The payload is a JSON array of the created submodels.
+	 * 
+	 * @param repoId
+	 */
+	public String createCreateSubmodelBulkTopic(String repoId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(BULK).add(CREATED).toString();
+	}
+
+	/**
+	 * Creates the hierarchical topic for the update event of a bulk of submodels.
+	 * The payload is a JSON array of the updated submodels.
+	 * 
+	 * @param repoId
+	 */
+	public String createUpdateSubmodelBulkTopic(String repoId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(BULK).add(UPDATED).toString();
+	}
+
+	/**
+	 * Creates the hierarchical topic for the delete event of a bulk of submodels.
+	 * The payload is a JSON array of the ids of the deleted submodels.
+	 * 
+	 * @param repoId
+	 */
+	public String createDeleteSubmodelBulkTopic(String repoId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(BULK).add(DELETED).toString();
+	}
+
+	/**
+	 * Creates the hierarchical topic for the create event of a bulk of
+	 * submodelElements. The payload is a JSON array of the created
+	 * submodelElements.
+	 * 
+	 * @param repoId
+	 */
+	public String createCreateSubmodelElementBulkTopic(String repoId, String submodelId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(encodeId(submodelId)).add(SUBMODELELEMENTS).add(BULK).add(CREATED).toString();
+	}
+
+	/**
+	 * Creates the hierarchical topic for the update event of a bulk of
+	 * submodelElements. The payload is a JSON array of the updated
+	 * submodelElements.
+	 * 
+	 * @param repoId
+	 */
+	public String createUpdateSubmodelElementBulkTopic(String repoId, String submodelId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(encodeId(submodelId)).add(SUBMODELELEMENTS).add(BULK).add(UPDATED).toString();
+	}
+
+	/**
+	 * Creates the hierarchical topic for the delete event of a bulk of
+	 * submodelElements. The payload is a JSON array of the idShortPaths of the
+	 * deleted submodelElements.
+	 * 
+	 * @param repoId
+	 */
+	public String createDeleteSubmodelElementBulkTopic(String repoId, String submodelId) {
+		return new StringJoiner("/", "", "").add(SUBMODELREPOSITORY).add(repoId).add(SUBMODELS).add(encodeId(submodelId)).add(SUBMODELELEMENTS).add(BULK).add(DELETED).toString();
+	}
 }
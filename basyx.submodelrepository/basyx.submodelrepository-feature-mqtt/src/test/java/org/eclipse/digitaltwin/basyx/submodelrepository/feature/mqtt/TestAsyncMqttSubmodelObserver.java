@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.mqtt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.core.DeserializationException;
+import org.eclipse.digitaltwin.aas4j.v3.dataformat.json.JsonDeserializer;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.encoding.Base64URLEncoder;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttEventPublisher;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.AsyncMqttEventPublisher.BackPressureStrategy;
+import org.eclipse.digitaltwin.basyx.common.mqttcore.publisher.MqttEventPublisherMetrics;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SimpleSubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.eclipse.digitaltwin.basyx.submodelservice.value.PropertyValue;
+import org.eclipse.paho.client.mqttv3.MqttClient;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.moquette.broker.Server;
+import io.moquette.broker.config.ClasspathResourceLoader;
+import io.moquette.broker.config.ResourceLoaderConfig;
+
+/**
+ * Tests the asynchronous publishing and coalescing of submodel repository
+ * events
+ * 
+ * @author fischer
+ *
+ */
+public class TestAsyncMqttSubmodelObserver {
+	private static final String SUBMODEL_ID = "asyncSubmodelId";
+	private static final String ELEMENT_ID_SHORT = "asyncProperty";
+	private static final int UPDATE_COUNT = 50;
+	private static final long AWAIT_TIMEOUT_MILLIS = 10_000;
+
+	private static Server mqttBroker;
+	private static MqttClient mqttClient;
+	private static MqttTestListener listener;
+	private static MqttSubmodelRepositoryTopicFactory topicFactory = new MqttSubmodelRepositoryTopicFactory(new Base64URLEncoder());
+
+	private MqttEventPublisherMetrics metrics;
+	private AsyncMqttEventPublisher publisher;
+	private SubmodelRepository submodelRepository;
+
+	@BeforeClass
+	public static void setUpClass() throws MqttException, IOException {
+		mqttBroker = new Server();
+		mqttBroker.startServer(new ResourceLoaderConfig(new ClasspathResourceLoader()));
+
+		listener = new MqttTestListener();
+		mqttBroker.addInterceptHandler(listener);
+
+		mqttClient = new MqttClient("tcp://localhost:1884", "asyncTestClient");
+		mqttClient.connect();
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		mqttBroker.removeInterceptHandler(listener);
+		mqttBroker.stopServer();
+	}
+
+	@Before
+	public void setUp() {
+		metrics = new MqttEventPublisherMetrics(new SimpleMeterRegistry());
+		publisher = new AsyncMqttEventPublisher(mqttClient, 100, Duration.ofSeconds(1), BackPressureStrategy.BLOCK, metrics);
+
+		SubmodelRepositoryFactory repoFactory = new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), new InMemorySubmodelServiceFactory(new InMemoryFileRepository()));
+		submodelRepository = new MqttSubmodelRepositoryFactory(repoFactory, publisher, topicFactory).create();
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		publisher.close();
+	}
+
+	@Test
+	public void valueUpdatesAreCoalescedToLatestValue() throws Exception {
+		submodelRepository.createSubmodel(new DefaultSubmodel.Builder().id(SUBMODEL_ID).submodelElements(new ArrayList<>()).build());
+		submodelRepository.createSubmodelElement(SUBMODEL_ID, createProperty("0"));
+
+		for (int i = 1; i <= UPDATE_COUNT; i++)
+			submodelRepository.setSubmodelElementValue(SUBMODEL_ID, ELEMENT_ID_SHORT, new PropertyValue(String.valueOf(i)));
+
+		awaitPublished(3);
+
+		String updateTopic = topicFactory.createUpdateSubmodelElementTopic(submodelRepository.getName(), SUBMODEL_ID, ELEMENT_ID_SHORT);
+		assertEquals(updateTopic, listener.lastTopic);
+		assertEquals(String.valueOf(UPDATE_COUNT), deserializeProperty(listener.lastPayload).getValue());
+		assertEquals(UPDATE_COUNT - 1, metrics.getCoalescedCount(), 0);
+		assertEquals(0, metrics.getFailedCount(), 0);
+		assertEquals(0, metrics.getDroppedCount(), 0);
+	}
+
+	@Test
+	public void eventsArePublishedInOrder() throws Exception {
+		String submodelId = "asyncOrderSubmodelId";
+		submodelRepository.createSubmodel(new DefaultSubmodel.Builder().id(submodelId).submodelElements(new ArrayList<>()).build());
+		submodelRepository.createSubmodelElement(submodelId, createProperty("0"));
+		submodelRepository.setSubmodelElementValue(submodelId, ELEMENT_ID_SHORT, new PropertyValue("1"));
+		submodelRepository.deleteSubmodelElement(submodelId, ELEMENT_ID_SHORT);
+
+		awaitPublished(4);
+
+		List<String> topics = listener.getTopics();
+		String createTopic = topicFactory.createCreateSubmodelElementTopic(submodelRepository.getName(), submodelId, ELEMENT_ID_SHORT);
+		String updateTopic = topicFactory.createUpdateSubmodelElementTopic(submodelRepository.getName(), submodelId, ELEMENT_ID_SHORT);
+		String deleteTopic = topicFactory.createDeleteSubmodelElementTopic(submodelRepository.getName(), submodelId, ELEMENT_ID_SHORT);
+
+		assertEquals(deleteTopic, listener.lastTopic);
+		assertTrue(topics.indexOf(createTopic) < topics.indexOf(updateTopic));
+		assertTrue(topics.indexOf(updateTopic) < topics.indexOf(deleteTopic));
+	}
+
+	private void awaitPublished(int expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + AWAIT_TIMEOUT_MILLIS;
+
+		while (metrics.getPublishedCount() < expected && System.currentTimeMillis() < deadline)
+			Thread.sleep(20);
+
+		assertEquals(expected, metrics.getPublishedCount(), 0);
+	}
+
+	private static Property deserializeProperty(String payload) throws DeserializationException {
+		return (Property) new JsonDeserializer().read(payload, SubmodelElement.class);
+	}
+
+	private static Property createProperty(String value) {
+		return new DefaultProperty.Builder().idShort(ELEMENT_ID_SHORT).value(value).build();
+	}
+}
@@ -175,6 +175,30 @@ public class TestMqttSubmodelObserver {
 		assertEquals(submodelElement, deserializeSubmodelElementPayload(listener.lastPayload));
 	}
 
+	@Test
+	public void createSubmodelsBulkEvent() throws DeserializationException {
+		Submodel first = createSubmodelDummy("createSubmodelsBulkEventId1");
+		Submodel second = createSubmodelDummy("createSubmodelsBulkEventId2");
+		submodelRepository.createSubmodel(second);
+
+		submodelRepository.createSubmodels(Arrays.asList(first, second));
+
+		assertEquals(topicFactory.createCreateSubmodelBulkTopic(submodelRepository.getName()), listener.lastTopic);
+		assertEquals(Arrays.asList(first), new JsonDeserializer().readList(listener.lastPayload, Submodel.class));
+	}
+
+	@Test
+	public void deleteSubmodelElementsBulkEvent() throws DeserializationException {
+		Submodel submodel = createSubmodelDummy("deleteSubmodelForElementsBulkEventId");
+		submodelRepository.createSubmodel(submodel);
+		submodelRepository.createSubmodelElements(submodel.getId(), null, Arrays.asList(createSubmodelElementDummy("bulkElement1"), createSubmodelElementDummy("bulkElement2")));
+
+		submodelRepository.deleteSubmodelElements(submodel.getId(), Arrays.asList("bulkElement1", "bulkElement2"));
+
+		assertEquals(topicFactory.createDeleteSubmodelElementBulkTopic(submodelRepository.getName(), submodel.getId()), listener.lastTopic);
+		assertEquals(Arrays.asList("bulkElement1", "bulkElement2"), new JsonDeserializer().readList(listener.lastPayload, String.class));
+	}
+
 	private List<Qualifier> createNoValueQualifierList() {
 		Qualifier emptyValueQualifier = new DefaultQualifier.Builder().type(SubmodelElementSerializer.EMPTYVALUEUPDATE_TYPE).value("true").build();
 		return Arrays.asList(emptyValueQualifier);
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker guarding the delegation target of Operation invocations.
+ * <br>
+ * <br>
+ * After the configured number of consecutive failures, the circuit opens and
+ * invocations fail fast without calling the target. Once the open duration
+ * has elapsed, a single trial invocation is let through: its success closes
+ * the circuit again, its failure reopens it.
+ * 
+ * @author danish
+ */
+public class DelegationCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openDurationMillis;
+	private final LongSupplier clock;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long openedAt;
+	private boolean trialInFlight;
+
+	public DelegationCircuitBreaker(int failureThreshold, long openDurationMillis) {
+		this(failureThreshold, openDurationMillis, System::currentTimeMillis);
+	}
+
+	DelegationCircuitBreaker(int failureThreshold, long openDurationMillis, LongSupplier clock) {
+		if (failureThreshold < 1)
+			throw new IllegalArgumentException("The failure threshold of the circuit breaker has to be positive");
+
+		this.failureThreshold = failureThreshold;
+		this.openDurationMillis = openDurationMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * Determines whether an invocation may call the target. Every permitted
+	 * invocation has to be reported by {@link #onSuccess()},
+	 * {@link #onFailure()} or {@link #onCancel()}.
+	 * 
+	 * @return true, if the target may be called
+	 */
+	public synchronized boolean tryAcquire() {
+		if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMillis)
+			state = State.HALF_OPEN;
+
+		switch (state) {
+		case CLOSED:
+			return true;
+		case HALF_OPEN:
+			if (trialInFlight)
+				return false;
+
+			trialInFlight = true;
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	public synchronized void onSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		trialInFlight = false;
+	}
+
+	public synchronized void onFailure() {
+		consecutiveFailures++;
+
+		if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold)
+			open();
+	}
+
+	/**
+	 * Reports an invocation that has been canceled before its outcome was known
+	 */
+	public synchronized void onCancel() {
+		trialInFlight = false;
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void open() {
+		state = State.OPEN;
+		openedAt = clock.getAsLong();
+		trialInFlight = false;
+	}
+
+}
@@ -25,16 +25,45 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.basyx.common.metrics.DelegationMetrics;
+import org.eclipse.digitaltwin.basyx.core.exceptions.OperationCapacityExceededException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.OperationDelegationException;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import reactor.core.publisher.Mono;
+
 /**
- * An implementation of the {@link OperationDelegation} for HTTP
+ * An implementation of the {@link OperationDelegation} for HTTP <br>
+ * <br>
+ * The invocations are sent through a shared {@link WebClient}, so that the
+ * connections to the targets are pooled. Every target endpoint, i.e. scheme,
+ * host and port of the delegation URI, is protected by
+ * <ul>
+ * <li>a timeout of the whole invocation</li>
+ * <li>a bulkhead limiting its in-flight invocations</li>
+ * <li>a {@link DelegationCircuitBreaker} failing fast while it is
+ * unhealthy</li>
+ * </ul>
+ * Timeouts, connection errors and server errors count as failures of the
+ * target, whereas client errors do not. Read timeouts of the underlying HTTP
+ * client are recorded as timeouts as well.
  * 
  * @author danish, marie
  */
@@ -42,30 +71,204 @@ public class HTTPOperationDelegation implements OperationDelegation {
 
 	public static final String INVOCATION_DELEGATION_TYPE = "invocationDelegation";
 
+	public static final long DEFAULT_TIMEOUT_MILLIS = 30000;
+	public static final int DEFAULT_MAX_CONCURRENT_PER_ENDPOINT = 20;
+	public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+	public static final long DEFAULT_OPEN_DURATION_MILLIS = 30000;
+
+	static final String OUTCOME_SUCCESS = "success";
+	static final String OUTCOME_CLIENT_ERROR = "client-error";
+	static final String OUTCOME_FAILURE = "failure";
+	static final String OUTCOME_TIMEOUT = "timeout";
+	static final String OUTCOME_CANCELED = "canceled";
+	static final String REJECTION_BULKHEAD = "bulkhead";
+	static final String REJECTION_CIRCUIT_OPEN = "circuit-open";
+
 	private WebClient webClient;
+	private long timeoutMillis;
+	private int maxConcurrentPerEndpoint;
+	private int failureThreshold;
+	private long openDurationMillis;
+	private DelegationMetrics metrics;
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
 
 	public HTTPOperationDelegation(WebClient webClient) {
+		this(webClient, DEFAULT_TIMEOUT_MILLIS, DEFAULT_MAX_CONCURRENT_PER_ENDPOINT, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION_MILLIS, new DelegationMetrics(new CompositeMeterRegistry()));
+	}
+
+	public HTTPOperationDelegation(WebClient webClient, long timeoutMillis, int maxConcurrentPerEndpoint, int failureThreshold, long openDurationMillis, DelegationMetrics metrics) {
+		if (maxConcurrentPerEndpoint < 1)
+			throw new IllegalArgumentException("The concurrency per delegation endpoint has to be positive");
+
 		this.webClient = webClient;
+		this.timeoutMillis = timeoutMillis;
+		this.maxConcurrentPerEndpoint = maxConcurrentPerEndpoint;
+		this.failureThreshold = failureThreshold;
+		this.openDurationMillis = openDurationMillis;
+		this.metrics = metrics;
 	}
 
 	@Override
 	public OperationVariable[] delegate(Qualifier qualifier, OperationVariable[] input) throws OperationDelegationException {
+		return delegateAsync(qualifier, input).block();
+	}
 
+	/**
+	 * Delegates the invocation without blocking the calling thread
+	 * 
+	 * @param qualifier
+	 * @param input
+	 * @return the output variables of the delegated invocation
+	 */
+	public Mono<OperationVariable[]> delegateAsync(Qualifier qualifier, OperationVariable[] input) {
 		String uri = qualifier.getValue();
 
+		return Mono.defer(() -> {
+			Endpoint endpoint = getEndpoint(uri);
+
+			if (!endpoint.bulkhead.tryAcquire()) {
+				metrics.recordRejection(endpoint.name, REJECTION_BULKHEAD);
+				return Mono.error(new OperationCapacityExceededException(uri));
+			}
+
+			if (!endpoint.circuitBreaker.tryAcquire()) {
+				endpoint.bulkhead.release();
+				metrics.recordRejection(endpoint.name, REJECTION_CIRCUIT_OPEN);
+				return Mono.error(new OperationDelegationException(String.format("Unable to delegate the invocation operation on the URI: '%s' the endpoint %s is unavailable", uri, endpoint.name)));
+			}
+
+			return call(endpoint, uri, input);
+		});
+	}
+
+	/**
+	 * Returns the circuit breaker state of the endpoint of the given URI
+	 * 
+	 * @param uri
+	 * @return the state
+	 */
+	public DelegationCircuitBreaker.State getCircuitBreakerState(String uri) {
+		return getEndpoint(uri).circuitBreaker.getState();
+	}
+
+	private Mono<OperationVariable[]> call(Endpoint endpoint, String uri, OperationVariable[] input) {
+		long start = System.nanoTime();
+
+		Mono<OperationVariable[]> response = webClient.post().uri(uri).contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).body(BodyInserters.fromValue(input)).exchangeToMono(this::handleResponse);
+
+		if (timeoutMillis > 0)
+			response = response.timeout(Duration.ofMillis(timeoutMillis));
+
+		// The permit is returned before the outcome is signaled, so that a
+		// subsequent invocation of the caller never sees its own permit taken
+		AtomicBoolean released = new AtomicBoolean();
+		Runnable release = () -> {
+			if (released.compareAndSet(false, true))
+				endpoint.bulkhead.release();
+		};
+
+		return response.doOnSuccess(result -> {
+			release.run();
+			endpoint.circuitBreaker.onSuccess();
+			metrics.recordCall(endpoint.name, OUTCOME_SUCCESS, System.nanoTime() - start);
+		}).onErrorMap(e -> {
+			release.run();
+
+			String outcome = getOutcome(e);
+
+			if (OUTCOME_CLIENT_ERROR.equals(outcome))
+				endpoint.circuitBreaker.onSuccess();
+			else
+				endpoint.circuitBreaker.onFailure();
+
+			metrics.recordCall(endpoint.name, outcome, System.nanoTime() - start);
+
+			return createDelegationException(uri, e);
+		}).doOnCancel(() -> {
+			if (released.get())
+				return;
+
+			release.run();
+			endpoint.circuitBreaker.onCancel();
+			metrics.recordCall(endpoint.name, OUTCOME_CANCELED, System.nanoTime() - start);
+		});
+	}
+
+	private Mono<OperationVariable[]> handleResponse(ClientResponse response) {
+		if (response.statusCode().isError())
+			return response.createException().flatMap(Mono::error);
+
+		return response.bodyToMono(OperationVariable[].class);
+	}
+
+	private String getOutcome(Throwable e) {
+		if (isTimeout(e))
+			return OUTCOME_TIMEOUT;
+
+		if (e instanceof WebClientResponseException && ((WebClientResponseException) e).getStatusCode().is4xxClientError())
+			return OUTCOME_CLIENT_ERROR;
+
+		return OUTCOME_FAILURE;
+	}
+
+	private OperationDelegationException createDelegationException(String uri, Throwable e) {
+		if (isTimeout(e))
+			return new OperationDelegationException(String.format("Unable to delegate the invocation operation on the URI: '%s' no response within %d ms", uri, timeoutMillis));
+
+		if (e instanceof WebClientResponseException)
+			return new OperationDelegationException(String.format("Unable to delegate the invocation operation on the URI: '%s' the response code is %s", uri, ((WebClientResponseException) e).getStatusCode()));
+
+		if (e instanceof WebClientRequestException)
+			return new OperationDelegationException(String.format("Unable to delegate the invocation operation on the URI: '%s' the request failed with %s", uri, e.getMessage()));
+
+		return new OperationDelegationException(String.format("Exception occurred while invocing operation on the URI: '%s' the error is %s", uri, e.getMessage()));
+	}
+
+	private static boolean isTimeout(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof TimeoutException || cause instanceof ReadTimeoutException)
+				return true;
+		}
+
+		return false;
+	}
+
+	private Endpoint getEndpoint(String uri) {
+		return endpoints.computeIfAbsent(getEndpointName(uri), this::createEndpoint);
+	}
+
+	private Endpoint createEndpoint(String name) {
+		Endpoint endpoint = new Endpoint(name, new Semaphore(maxConcurrentPerEndpoint), new DelegationCircuitBreaker(failureThreshold, openDurationMillis));
+
+		metrics.bindInFlight(name, () -> maxConcurrentPerEndpoint - endpoint.bulkhead.availablePermits());
+
+		return endpoint;
+	}
+
+	private static String getEndpointName(String uri) {
 		try {
-			return webClient.post().uri(uri).contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON).body(BodyInserters.fromValue(input)).exchangeToMono(response -> {
-				if (response.statusCode().isError()) {
-					throw new OperationDelegationException(String.format("Unable to delegate the invocation operation on the URI: '%s' the response code is %s", uri, response.statusCode()));
-				} else {
-					return response.bodyToMono(OperationVariable[].class);
-				}
-			}).block();
-
-		} catch (WebClientResponseException e) {
-			throw new OperationDelegationException(String.format("Exception occurred while invocing operation on the URI: '%s' the error is %s", uri, e.getStackTrace()));
+			URI parsed = URI.create(uri);
+
+			if (parsed.getScheme() == null || parsed.getHost() == null)
+				return uri;
+
+			return parsed.getScheme() + "://" + parsed.getHost() + (parsed.getPort() < 0 ? "" : ":" + parsed.getPort());
+		} catch (IllegalArgumentException e) {
+			return uri;
 		}
+	}
+
+	private static class Endpoint {
+		private final String name;
+		private final Semaphore bulkhead;
+		private final DelegationCircuitBreaker circuitBreaker;
 
+		private Endpoint(String name, Semaphore bulkhead, DelegationCircuitBreaker circuitBreaker) {
+			this.name = name;
+			this.bulkhead = bulkhead;
+			this.circuitBreaker = circuitBreaker;
+		}
 	}
 
 }
@@ -25,22 +25,27 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
 
-import java.io.File;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.MissingIdentifierException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
@@ -71,16 +76,46 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelVersion(submodelId);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
 	}
 
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		decorated.updateSubmodel(submodelId, submodel, expectedVersion);
+	}
+
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException, MissingIdentifierException {
 		decorated.createSubmodel(submodel);
 	}
 
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException, MissingIdentifierException {
+		decorated.createAllSubmodels(submodels, fileValues);
+	}
+
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		return decorated.createSubmodels(submodels);
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		return decorated.updateSubmodels(submodels);
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		return decorated.deleteSubmodels(submodelIds);
+	}
+
 	@Override
 	public void updateSubmodelElement(String submodelIdentifier, String idShortPath, SubmodelElement submodelElement) throws ElementDoesNotExistException {
 		decorated.updateSubmodelElement(submodelIdentifier, idShortPath, submodelElement);
@@ -91,6 +126,11 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodel(submodelId);
 	}
 
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		decorated.deleteSubmodel(submodelId, expectedVersion);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo pInfo) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElements(submodelId, pInfo);
@@ -126,6 +166,21 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodelElement(submodelId, idShortPath);
 	}
 
+	@Override
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return decorated.createSubmodelElements(submodelId, idShortPath, submodelElements);
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return decorated.updateSubmodelElements(submodelId, submodelElements);
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		return decorated.deleteSubmodelElements(submodelId, idShortPaths);
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		SubmodelElement submodelElement = getSubmodelElement(submodelId, idShortPath);
@@ -149,7 +204,7 @@ public class OperationDelegationSubmodelRepository implements SubmodelRepository
 	}
 
 	@Override
-	public File getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
 		return decorated.getFileByPathSubmodel(submodelId, idShortPath);
 	}
 
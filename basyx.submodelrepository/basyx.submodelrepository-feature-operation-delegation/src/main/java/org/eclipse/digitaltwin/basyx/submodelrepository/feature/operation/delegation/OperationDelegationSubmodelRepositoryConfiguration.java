@@ -25,11 +25,17 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
 
+import java.time.Duration;
+
+import org.eclipse.digitaltwin.basyx.common.metrics.DelegationMetrics;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
@@ -37,6 +43,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 /**
  * Configuration for the {@link SubmodelRepository} with Operation Delegation
  * 
@@ -46,20 +58,61 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 @ConditionalOnExpression("${" + OperationDelegationSubmodelRepositoryFeature.FEATURENAME + ".enabled:true}")
 public class OperationDelegationSubmodelRepositoryConfiguration {
 
+	private static final String FEATURENAME = OperationDelegationSubmodelRepositoryFeature.FEATURENAME;
+
+	// The response timeout of the HTTP client only guards against stalled
+	// connections. It is longer than the timeout of the whole invocation, so
+	// that the latter applies first.
+	private static final long RESPONSE_TIMEOUT_MARGIN_MILLIS = 1000;
+
+	@Value("${" + FEATURENAME + ".connectTimeoutMillis:5000}")
+	private int connectTimeoutMillis;
+
+	@Value("${" + FEATURENAME + ".timeoutMillis:" + HTTPOperationDelegation.DEFAULT_TIMEOUT_MILLIS + "}")
+	private long timeoutMillis;
+
+	@Value("${" + FEATURENAME + ".maxConnections:100}")
+	private int maxConnections;
+
+	@Value("${" + FEATURENAME + ".maxConcurrentPerEndpoint:" + HTTPOperationDelegation.DEFAULT_MAX_CONCURRENT_PER_ENDPOINT + "}")
+	private int maxConcurrentPerEndpoint;
+
+	@Value("${" + FEATURENAME + ".circuitBreaker.failureThreshold:" + HTTPOperationDelegation.DEFAULT_FAILURE_THRESHOLD + "}")
+	private int failureThreshold;
+
+	@Value("${" + FEATURENAME + ".circuitBreaker.openDurationMillis:" + HTTPOperationDelegation.DEFAULT_OPEN_DURATION_MILLIS + "}")
+	private long openDurationMillis;
+
 	@Bean
 	@ConditionalOnMissingBean
-	public OperationDelegation getOperationDelegation(ObjectMapper mapper) {
+	public OperationDelegation getOperationDelegation(ObjectMapper mapper, ConnectionProvider connectionProvider, ObjectProvider<MeterRegistry> meterRegistry) {
+		DelegationMetrics metrics = new DelegationMetrics(meterRegistry.getIfAvailable(CompositeMeterRegistry::new));
+
+		return new HTTPOperationDelegation(createWebClient(mapper, connectionProvider), timeoutMillis, maxConcurrentPerEndpoint, failureThreshold, openDurationMillis, metrics);
+	}
 
-		return new HTTPOperationDelegation(createWebClient(mapper));
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider getOperationDelegationConnectionProvider() {
+		ConnectionProvider.Builder builder = ConnectionProvider.builder("basyx-operation-delegation").maxConnections(maxConnections);
+
+		if (timeoutMillis > 0)
+			builder.pendingAcquireTimeout(Duration.ofMillis(timeoutMillis));
+
+		return builder.build();
 	}
 
-	private WebClient createWebClient(ObjectMapper mapper) {
+	private WebClient createWebClient(ObjectMapper mapper, ConnectionProvider connectionProvider) {
 		ExchangeStrategies strategies = ExchangeStrategies.builder().codecs(configurer -> {
 			configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
 			configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
 		}).build();
 
-		return WebClient.builder().exchangeStrategies(strategies).build();
+		HttpClient httpClient = HttpClient.create(connectionProvider).option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis);
+
+		if (timeoutMillis > 0)
+			httpClient = httpClient.responseTimeout(Duration.ofMillis(timeoutMillis + RESPONSE_TIMEOUT_MARGIN_MILLIS));
+
+		return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).exchangeStrategies(strategies).build();
 	}
 
 }
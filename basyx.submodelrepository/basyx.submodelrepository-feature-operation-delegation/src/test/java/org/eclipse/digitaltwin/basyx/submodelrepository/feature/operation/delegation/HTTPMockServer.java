@@ -25,7 +25,10 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
 
+import java.util.concurrent.TimeUnit;
+
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.model.Delay;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.HttpStatusCode;
@@ -88,4 +91,27 @@ public class HTTPMockServer {
 				.respond(HttpResponse.response().withStatusCode(expectedResponseCode.code()).withBody(expectedResponse).withContentType(MediaType.APPLICATION_JSON));
 	}
 
+	/**
+	 * Creates expectations for a POST request that is answered after a delay
+	 * 
+	 * @param path
+	 * @param expectedResponse
+	 * @param expectedResponseCode
+	 * @param delayMillis
+	 */
+	public void createDelayedExpectationsForPostRequest(String path, String expectedResponse, HttpStatusCode expectedResponseCode, long delayMillis) {
+		clientAndServer.when(HttpRequest.request().withMethod("POST").withPath(path))
+				.respond(HttpResponse.response().withStatusCode(expectedResponseCode.code()).withBody(expectedResponse).withContentType(MediaType.APPLICATION_JSON).withDelay(Delay.delay(TimeUnit.MILLISECONDS, delayMillis)));
+	}
+
+	/**
+	 * Returns the number of received requests for the path
+	 * 
+	 * @param path
+	 * @return the number of requests
+	 */
+	public int getRequestCount(String path) {
+		return clientAndServer.retrieveRecordedRequests(HttpRequest.request().withPath(path)).length;
+	}
+
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation.DelegationCircuitBreaker.State;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DelegationCircuitBreaker}
+ * 
+ * @author danish
+ */
+public class TestDelegationCircuitBreaker {
+
+	private static final long OPEN_DURATION = 1000;
+
+	private AtomicLong clock;
+	private DelegationCircuitBreaker circuitBreaker;
+
+	@Before
+	public void setUp() {
+		clock = new AtomicLong();
+		circuitBreaker = new DelegationCircuitBreaker(2, OPEN_DURATION, clock::get);
+	}
+
+	@Test
+	public void opensAfterConsecutiveFailures() {
+		fail();
+		circuitBreaker.tryAcquire();
+		circuitBreaker.onSuccess();
+		fail();
+
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+
+		fail();
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire());
+	}
+
+	@Test
+	public void letsSingleTrialThroughAfterOpenDuration() {
+		open();
+
+		clock.addAndGet(OPEN_DURATION);
+
+		assertTrue(circuitBreaker.tryAcquire());
+		assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire());
+
+		circuitBreaker.onSuccess();
+
+		assertEquals(State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquire());
+	}
+
+	@Test
+	public void failedTrialReopens() {
+		open();
+
+		clock.addAndGet(OPEN_DURATION);
+		circuitBreaker.tryAcquire();
+		circuitBreaker.onFailure();
+
+		assertEquals(State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire());
+	}
+
+	@Test
+	public void canceledTrialReleasesTrial() {
+		open();
+
+		clock.addAndGet(OPEN_DURATION);
+		circuitBreaker.tryAcquire();
+		circuitBreaker.onCancel();
+
+		assertTrue(circuitBreaker.tryAcquire());
+	}
+
+	private void open() {
+		fail();
+		fail();
+	}
+
+	private void fail() {
+		circuitBreaker.tryAcquire();
+		circuitBreaker.onFailure();
+	}
+
+}
@@ -0,0 +1,198 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.Qualifier;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultQualifier;
+import org.eclipse.digitaltwin.basyx.common.metrics.DelegationMetrics;
+import org.eclipse.digitaltwin.basyx.core.exceptions.OperationCapacityExceededException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.OperationDelegationException;
+import org.eclipse.digitaltwin.basyx.http.Aas4JHTTPSerializationExtension;
+import org.eclipse.digitaltwin.basyx.http.BaSyxHTTPConfiguration;
+import org.eclipse.digitaltwin.basyx.http.SerializationExtension;
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.operation.delegation.DelegationCircuitBreaker.State;
+import org.eclipse.digitaltwin.basyx.submodelrepository.http.SubmodelRepositoryHTTPSerializationExtension;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.model.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Disposable;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Tests the timeouts, bulkheads and circuit breakers of the
+ * {@link HTTPOperationDelegation}
+ * 
+ * @author danish
+ */
+public class TestHTTPOperationDelegation {
+
+	private static final int PORT = 2021;
+	private static final String TARGET = "http://localhost:" + PORT;
+	private static final long TIMEOUT = 500;
+
+	private static HTTPMockServer httpMockServer = new HTTPMockServer(PORT);
+	private static WebClient webClient;
+
+	private SimpleMeterRegistry registry;
+	private HTTPOperationDelegation operationDelegation;
+
+	@BeforeClass
+	public static void startMockServer() {
+		httpMockServer.start();
+
+		webClient = createWebClient(HttpClient.create());
+	}
+
+	@AfterClass
+	public static void stopMockServer() {
+		httpMockServer.stop();
+	}
+
+	@Before
+	public void setUp() {
+		registry = new SimpleMeterRegistry();
+		operationDelegation = new HTTPOperationDelegation(webClient, TIMEOUT, 1, 2, 60000, new DelegationMetrics(registry));
+	}
+
+	@Test
+	public void invocationExceedingTimeoutFails() {
+		httpMockServer.createDelayedExpectationsForPostRequest("/slow", "[]", HttpStatusCode.OK_200, TIMEOUT * 4);
+
+		assertDelegationFails("/slow");
+
+		assertEquals(1, registry.get(DelegationMetrics.LATENCY).tag(DelegationMetrics.TAG_TARGET, TARGET).tag(DelegationMetrics.TAG_OUTCOME, HTTPOperationDelegation.OUTCOME_TIMEOUT).timer().count());
+	}
+
+	@Test
+	public void responseTimeoutIsRecordedAsTimeout() {
+		WebClient timingOutClient = createWebClient(HttpClient.create().responseTimeout(Duration.ofMillis(TIMEOUT)));
+		operationDelegation = new HTTPOperationDelegation(timingOutClient, TIMEOUT * 4, 1, 2, 60000, new DelegationMetrics(registry));
+
+		httpMockServer.createDelayedExpectationsForPostRequest("/stalled", "[]", HttpStatusCode.OK_200, TIMEOUT * 2);
+
+		assertDelegationFails("/stalled");
+
+		assertEquals(1, registry.get(DelegationMetrics.LATENCY).tag(DelegationMetrics.TAG_TARGET, TARGET).tag(DelegationMetrics.TAG_OUTCOME, HTTPOperationDelegation.OUTCOME_TIMEOUT).timer().count());
+	}
+
+	@Test
+	public void unhealthyEndpointFailsFast() {
+		httpMockServer.createDelayedExpectationsForPostRequest("/broken", "[]", HttpStatusCode.INTERNAL_SERVER_ERROR_500, 0);
+
+		assertDelegationFails("/broken");
+		assertDelegationFails("/broken");
+
+		assertEquals(State.OPEN, operationDelegation.getCircuitBreakerState(TARGET + "/broken"));
+
+		assertDelegationFails("/broken");
+
+		assertEquals(2, httpMockServer.getRequestCount("/broken"));
+		assertEquals(1, registry.get(DelegationMetrics.REJECTIONS).tag(DelegationMetrics.TAG_REASON, HTTPOperationDelegation.REJECTION_CIRCUIT_OPEN).counter().count(), 0);
+	}
+
+	@Test
+	public void clientErrorsDoNotOpenCircuit() {
+		httpMockServer.createDelayedExpectationsForPostRequest("/invalid", "[]", HttpStatusCode.BAD_REQUEST_400, 0);
+
+		for (int i = 0; i < 3; i++)
+			assertDelegationFails("/invalid");
+
+		assertEquals(State.CLOSED, operationDelegation.getCircuitBreakerState(TARGET + "/invalid"));
+	}
+
+	@Test
+	public void invocationsBeyondEndpointCapacityAreRejected() throws InterruptedException {
+		httpMockServer.createDelayedExpectationsForPostRequest("/busy", "[]", HttpStatusCode.OK_200, TIMEOUT / 2);
+
+		Disposable inFlight = operationDelegation.delegateAsync(createQualifier("/busy"), createInput()).subscribe(result -> {
+		}, error -> {
+		});
+
+		try {
+			operationDelegation.delegate(createQualifier("/busy"), createInput());
+			fail();
+		} catch (OperationCapacityExceededException e) {
+		} finally {
+			inFlight.dispose();
+		}
+
+		assertEquals(1, registry.get(DelegationMetrics.REJECTIONS).tag(DelegationMetrics.TAG_REASON, HTTPOperationDelegation.REJECTION_BULKHEAD).counter().count(), 0);
+		assertEquals(0, registry.get(DelegationMetrics.IN_FLIGHT).tag(DelegationMetrics.TAG_TARGET, TARGET).gauge().value(), 0);
+	}
+
+	private void assertDelegationFails(String path) {
+		try {
+			operationDelegation.delegate(createQualifier(path), createInput());
+			fail();
+		} catch (OperationDelegationException e) {
+			assertTrue(e.getMessage().contains(path));
+		}
+	}
+
+	private static Qualifier createQualifier(String path) {
+		return new DefaultQualifier.Builder().type(HTTPOperationDelegation.INVOCATION_DELEGATION_TYPE).value(TARGET + path).build();
+	}
+
+	private static OperationVariable[] createInput() {
+		return new OperationVariable[] { new DefaultOperationVariable.Builder().value(new DefaultProperty.Builder().idShort("int").valueType(DataTypeDefXsd.INT).value("5").build()).build() };
+	}
+
+	private static WebClient createWebClient(HttpClient httpClient) {
+		List<SerializationExtension> extensions = Arrays.asList(new Aas4JHTTPSerializationExtension(), new SubmodelRepositoryHTTPSerializationExtension());
+		ObjectMapper mapper = new BaSyxHTTPConfiguration().jackson2ObjectMapperBuilder(extensions).build();
+
+		ExchangeStrategies strategies = ExchangeStrategies.builder().codecs(configurer -> {
+			configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(mapper));
+			configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(mapper));
+		}).build();
+
+		return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).exchangeStrategies(strategies).build();
+	}
+
+}
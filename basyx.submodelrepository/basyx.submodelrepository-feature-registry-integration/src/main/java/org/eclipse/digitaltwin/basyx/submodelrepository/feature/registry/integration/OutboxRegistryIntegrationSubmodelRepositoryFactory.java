@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration;
+
+import java.util.function.Consumer;
+
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxSender;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration.mapper.AttributeMapper;
+
+/**
+ * Factory for creating {@link OutboxRegistryIntegrationSubmodelRepository}.
+ * For each created repository, the passed processor starter receives the
+ * {@link OutboxSender} propagating the intents of this repository.
+ * 
+ * @author danish
+ */
+public class OutboxRegistryIntegrationSubmodelRepositoryFactory implements SubmodelRepositoryFactory {
+
+	private SubmodelRepositoryFactory decorated;
+	private Outbox outbox;
+	private SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink;
+	private AttributeMapper attributeMapper;
+	private Consumer<OutboxSender> processorStarter;
+
+	public OutboxRegistryIntegrationSubmodelRepositoryFactory(SubmodelRepositoryFactory decorated, Outbox outbox, SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink, AttributeMapper attributeMapper, Consumer<OutboxSender> processorStarter) {
+		this.decorated = decorated;
+		this.outbox = outbox;
+		this.submodelRepositoryRegistryLink = submodelRepositoryRegistryLink;
+		this.attributeMapper = attributeMapper;
+		this.processorStarter = processorStarter;
+	}
+
+	@Override
+	public SubmodelRepository create() {
+		SubmodelRepository submodelRepository = decorated.create();
+
+		processorStarter.accept(new SubmodelRegistryOutboxSender(submodelRepository, submodelRepositoryRegistryLink, attributeMapper));
+
+		return new OutboxRegistryIntegrationSubmodelRepository(submodelRepository, outbox);
+	}
+
+}
@@ -24,24 +24,32 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration;
 
-import java.io.File;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.basyx.core.bulk.BulkOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryLinkException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryUnlinkException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.VersionMismatchException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiException;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.api.SubmodelRegistryApi;
 import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelFileValue;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration.mapper.AttributeMapper;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
@@ -78,11 +86,21 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		return decorated.getSubmodel(submodelId);
 	}
 
+	@Override
+	public long getSubmodelVersion(String submodelId) throws ElementDoesNotExistException {
+		return decorated.getSubmodelVersion(submodelId);
+	}
+
 	@Override
 	public void updateSubmodel(String submodelId, Submodel submodel) throws ElementDoesNotExistException {
 		decorated.updateSubmodel(submodelId, submodel);
 	}
 
+	@Override
+	public void updateSubmodel(String submodelId, Submodel submodel, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		decorated.updateSubmodel(submodelId, submodel, expectedVersion);
+	}
+
 	@Override
 	public void createSubmodel(Submodel submodel) throws CollidingIdentifierException {
 		decorated.createSubmodel(submodel);
@@ -90,6 +108,52 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		integrateSubmodelWithRegistry(submodel, submodelRepositoryRegistryLink.getSubmodelRepositoryBaseURL());
 	}
 
+	@Override
+	public void createAllSubmodels(Collection<Submodel> submodels, Collection<SubmodelFileValue> fileValues) throws CollidingIdentifierException {
+		decorated.createAllSubmodels(submodels, fileValues);
+
+		submodels.forEach(submodel -> integrateSubmodelWithRegistry(submodel, submodelRepositoryRegistryLink.getSubmodelRepositoryBaseURL()));
+	}
+
+	/**
+	 * Creates the Submodels and links only the successfully created ones with the
+	 * Registry. A failing link is reported in the result of the respective
+	 * Submodel.
+	 */
+	@Override
+	public List<BulkOperationResult> createSubmodels(List<Submodel> submodels) {
+		List<BulkOperationResult> results = decorated.createSubmodels(submodels);
+
+		String submodelRepositoryURL = submodelRepositoryRegistryLink.getSubmodelRepositoryBaseURL();
+
+		List<BulkOperationResult> linkedResults = new ArrayList<>(results.size());
+		for (int i = 0; i < submodels.size(); i++) {
+			Submodel submodel = submodels.get(i);
+			BulkOperationResult result = results.get(i);
+
+			linkedResults.add(result.isSuccess() ? BulkOperationResult.of(submodel.getId(), () -> integrateSubmodelWithRegistry(submodel, submodelRepositoryURL)) : result);
+		}
+
+		return linkedResults;
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodels(List<Submodel> submodels) {
+		return decorated.updateSubmodels(submodels);
+	}
+
+	/**
+	 * Deletes the Submodels and un-links only the successfully deleted ones from
+	 * the Registry. A failing un-link is reported in the result of the respective
+	 * Submodel.
+	 */
+	@Override
+	public List<BulkOperationResult> deleteSubmodels(List<String> submodelIds) {
+		List<BulkOperationResult> results = decorated.deleteSubmodels(submodelIds);
+
+		return results.stream().map(result -> result.isSuccess() ? BulkOperationResult.of(result.getId(), () -> unlinkFromRegistry(result.getId())) : result).collect(Collectors.toList());
+	}
+
 	@Override
 	public void deleteSubmodel(String submodelId) throws ElementDoesNotExistException {
 		deleteFromRegistry(submodelId);
@@ -97,6 +161,13 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodel(submodelId);
 	}
 
+	@Override
+	public void deleteSubmodel(String submodelId, long expectedVersion) throws ElementDoesNotExistException, VersionMismatchException {
+		decorated.deleteSubmodel(submodelId, expectedVersion);
+
+		deleteFromRegistry(submodelId);
+	}
+
 	@Override
 	public CursorResult<List<SubmodelElement>> getSubmodelElements(String submodelId, PaginationInfo paginationInfo) throws ElementDoesNotExistException {
 		return decorated.getSubmodelElements(submodelId, paginationInfo);
@@ -137,6 +208,21 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		decorated.deleteSubmodelElement(submodelId, idShortPath);
 	}
 
+	@Override
+	public List<BulkOperationResult> createSubmodelElements(String submodelId, String idShortPath, List<SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return decorated.createSubmodelElements(submodelId, idShortPath, submodelElements);
+	}
+
+	@Override
+	public List<BulkOperationResult> updateSubmodelElements(String submodelId, Map<String, SubmodelElement> submodelElements) throws ElementDoesNotExistException {
+		return decorated.updateSubmodelElements(submodelId, submodelElements);
+	}
+
+	@Override
+	public List<BulkOperationResult> deleteSubmodelElements(String submodelId, List<String> idShortPaths) throws ElementDoesNotExistException {
+		return decorated.deleteSubmodelElements(submodelId, idShortPaths);
+	}
+
 	@Override
 	public OperationVariable[] invokeOperation(String submodelId, String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException {
 		return decorated.invokeOperation(submodelId, idShortPath, input);
@@ -153,7 +239,7 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 	}
 
 	@Override
-	public File getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+	public FileResource getFileByPathSubmodel(String submodelId, String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
 		return decorated.getFileByPathSubmodel(submodelId, idShortPath);
 	}
 
@@ -199,6 +285,26 @@ public class RegistryIntegrationSubmodelRepository implements SubmodelRepository
 		}
 	}
 	
+	/**
+	 * Un-links a Submodel without checking its existence on the Registry before,
+	 * so that a bulk delete needs one Registry call per Submodel instead of two
+	 */
+	private void unlinkFromRegistry(String submodelId) {
+		try {
+			submodelRepositoryRegistryLink.getRegistryApi().deleteSubmodelDescriptorById(submodelId);
+
+			logger.info("Submodel '{}' has been automatically un-linked from the Registry.", submodelId);
+		} catch (ApiException e) {
+			if (e.getCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+				logger.error("Unable to un-link the Submodel descriptor '{}' from the Registry because it does not exist on the Registry.", submodelId);
+
+				return;
+			}
+
+			throw new RepositoryRegistryUnlinkException(submodelId, e);
+		}
+	}
+
 	private boolean submodelExistsOnRegistry(String submodelId, SubmodelRegistryApi registryApi) {
 		try {
 			registryApi.getSubmodelDescriptorById(submodelId);
@@ -25,24 +25,52 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.digitaltwin.basyx.common.metrics.OutboxMetrics;
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.Outbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxSender;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SubmodelBackendProvider;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.SubmodelRepositoryFeature;
 import org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration.mapper.AttributeMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
- * Feature for integrating Registry with {@link SubmodelRepository}
+ * Feature for integrating Registry with {@link SubmodelRepository}. <br>
+ * <br>
+ * If the outbox mode is enabled, descriptors are linked and un-linked
+ * asynchronously through the {@link Outbox} of the backend instead of within
+ * the repository writes. <br>
+ * <br>
+ * The feature is applied before the authorization, so that the outbox
+ * sender, which runs without a security context, reads the Submodels from a
+ * repository that does not check permissions. It is applied right after the
+ * cache.
  * 
  * @author danish
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 @ConditionalOnExpression("!T(org.springframework.util.StringUtils).isEmpty('${basyx.submodelrepository.feature.registryintegration:}') && !T(org.springframework.util.StringUtils).isEmpty('${basyx.externalurl:}')")
-public class RegistryIntegrationSubmodelRepositoryFeature implements SubmodelRepositoryFeature {
+public class RegistryIntegrationSubmodelRepositoryFeature implements SubmodelRepositoryFeature, DisposableBean {
 	public static final String FEATURENAME = "basyx.submodelrepository.feature.registryintegration";
+	public static final String OUTBOX = FEATURENAME + ".outbox";
+
+	private static final String OUTBOX_NAME = "submodel-registry";
 
 	private SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink;
 	
@@ -52,17 +80,45 @@ public class RegistryIntegrationSubmodelRepositoryFeature implements SubmodelRep
 	@Value("${basyx.externalurl:}")
 	private String submodelRepositoryExternalBaseURL;
 	
+	@Value("${" + OUTBOX + ".enabled:false}")
+	private boolean outboxEnabled;
+
+	@Value("${" + OUTBOX + ".batchSize:100}")
+	private int outboxBatchSize;
+
+	@Value("${" + OUTBOX + ".pollIntervalMillis:1000}")
+	private long outboxPollIntervalMillis;
+
+	@Value("${" + OUTBOX + ".initialBackoffMillis:1000}")
+	private long outboxInitialBackoffMillis;
+
+	@Value("${" + OUTBOX + ".maximumBackoffMillis:60000}")
+	private long outboxMaximumBackoffMillis;
+
 	private AttributeMapper attributeMapper;
 
+	private ObjectProvider<SubmodelBackendProvider> backendProvider;
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private Outbox outbox;
+	private List<OutboxProcessor> outboxProcessors = new CopyOnWriteArrayList<>();
+
 	@Autowired
-	public RegistryIntegrationSubmodelRepositoryFeature(SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink, AttributeMapper attributeMapper) {
+	public RegistryIntegrationSubmodelRepositoryFeature(SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink, AttributeMapper attributeMapper, ObjectProvider<SubmodelBackendProvider> backendProvider, ObjectProvider<MeterRegistry> meterRegistry) {
 		this.submodelRepositoryRegistryLink = submodelRepositoryRegistryLink;
 		this.attributeMapper = attributeMapper;
+		this.backendProvider = backendProvider;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Override
 	public SubmodelRepositoryFactory decorate(SubmodelRepositoryFactory submodelRepositoryFactory) {
-		return new RegistryIntegrationSubmodelRepositoryFactory(submodelRepositoryFactory, submodelRepositoryRegistryLink, attributeMapper);
+		if (!outboxEnabled)
+			return new RegistryIntegrationSubmodelRepositoryFactory(submodelRepositoryFactory, submodelRepositoryRegistryLink, attributeMapper);
+
+		outbox = createOutbox();
+
+		return new OutboxRegistryIntegrationSubmodelRepositoryFactory(submodelRepositoryFactory, outbox, submodelRepositoryRegistryLink, attributeMapper, this::startOutboxProcessor);
 	}
 
 	@Override
@@ -71,7 +127,13 @@ public class RegistryIntegrationSubmodelRepositoryFeature implements SubmodelRep
 
 	@Override
 	public void cleanUp() {
+		outboxProcessors.forEach(OutboxProcessor::close);
+		outboxProcessors.clear();
+	}
 
+	@Override
+	public void destroy() {
+		cleanUp();
 	}
 
 	@Override
@@ -83,4 +145,22 @@ public class RegistryIntegrationSubmodelRepositoryFeature implements SubmodelRep
 	public boolean isEnabled() {
 		return !registryBaseURL.isBlank() && !submodelRepositoryExternalBaseURL.isBlank();
 	}
+
+	private Outbox createOutbox() {
+		SubmodelBackendProvider provider = backendProvider.getIfAvailable();
+
+		if (provider == null)
+			return new InMemoryOutbox();
+
+		return provider.getOutbox();
+	}
+
+	private void startOutboxProcessor(OutboxSender sender) {
+		OutboxProcessor processor = new OutboxProcessor(OUTBOX_NAME, outbox, sender, outboxBatchSize, outboxPollIntervalMillis, outboxInitialBackoffMillis, outboxMaximumBackoffMillis);
+
+		meterRegistry.ifAvailable(registry -> OutboxMetrics.bind(registry, processor));
+
+		outboxProcessors.add(processor);
+		processor.start();
+	}
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration;
+
+import java.net.HttpURLConnection;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryLinkException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.RepositoryRegistryUnlinkException;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxEntry;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxSender;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiException;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.api.SubmodelRegistryApi;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration.mapper.AttributeMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Propagates the queued intents of the {@link SubmodelRepository} to the
+ * SubmodelRegistry. <br>
+ * <br>
+ * The descriptor of an upsert is created from the current state of the
+ * Submodel, so that several coalesced modifications result in a single
+ * Registry call. Both intents are idempotent: an existing descriptor is
+ * replaced and a descriptor that does not exist anymore is not un-linked.
+ * 
+ * @author danish
+ */
+public class SubmodelRegistryOutboxSender implements OutboxSender {
+	private static Logger logger = LoggerFactory.getLogger(SubmodelRegistryOutboxSender.class);
+
+	private SubmodelRepository submodelRepository;
+	private SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink;
+	private AttributeMapper attributeMapper;
+
+	public SubmodelRegistryOutboxSender(SubmodelRepository submodelRepository, SubmodelRepositoryRegistryLink submodelRepositoryRegistryLink, AttributeMapper attributeMapper) {
+		this.submodelRepository = submodelRepository;
+		this.submodelRepositoryRegistryLink = submodelRepositoryRegistryLink;
+		this.attributeMapper = attributeMapper;
+	}
+
+	@Override
+	public void send(OutboxEntry entry) {
+		switch (entry.getAction()) {
+		case UPSERT:
+			link(entry.getId());
+			break;
+		case DELETE:
+			unlink(entry.getId());
+			break;
+		}
+	}
+
+	private void link(String submodelId) {
+		Submodel submodel;
+		try {
+			submodel = submodelRepository.getSubmodelByIdMetadata(submodelId);
+		} catch (ElementDoesNotExistException e) {
+			logger.debug("Submodel '{}' does not exist anymore and is not linked with the Registry", submodelId);
+
+			return;
+		}
+
+		SubmodelDescriptor descriptor = new SubmodelDescriptorFactory(submodel, submodelRepositoryRegistryLink.getSubmodelRepositoryBaseURL(), attributeMapper).create();
+
+		SubmodelRegistryApi registryApi = submodelRepositoryRegistryLink.getRegistryApi();
+
+		try {
+			postOrReplace(registryApi, descriptor);
+
+			logger.info("Submodel '{}' has been automatically linked with the Registry", submodelId);
+		} catch (ApiException e) {
+			throw new RepositoryRegistryLinkException(submodelId, e);
+		}
+	}
+
+	private void postOrReplace(SubmodelRegistryApi registryApi, SubmodelDescriptor descriptor) throws ApiException {
+		try {
+			registryApi.postSubmodelDescriptor(descriptor);
+		} catch (ApiException e) {
+			if (e.getCode() != HttpURLConnection.HTTP_CONFLICT)
+				throw e;
+
+			registryApi.putSubmodelDescriptorById(descriptor.getId(), descriptor);
+		}
+	}
+
+	private void unlink(String submodelId) {
+		try {
+			submodelRepositoryRegistryLink.getRegistryApi().deleteSubmodelDescriptorById(submodelId);
+
+			logger.info("Submodel '{}' has been automatically un-linked from the Registry.", submodelId);
+		} catch (ApiException e) {
+			if (e.getCode() == HttpURLConnection.HTTP_NOT_FOUND)
+				return;
+
+			throw new RepositoryRegistryUnlinkException(submodelId, e);
+		}
+	}
+
+}
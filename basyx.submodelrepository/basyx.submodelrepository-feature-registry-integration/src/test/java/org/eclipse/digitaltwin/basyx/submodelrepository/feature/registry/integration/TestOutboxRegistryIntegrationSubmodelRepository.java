@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.eclipse.digitaltwin.basyx.core.outbox.InMemoryOutbox;
+import org.eclipse.digitaltwin.basyx.core.outbox.OutboxProcessor;
+import org.eclipse.digitaltwin.basyx.http.Aas4JHTTPSerializationExtension;
+import org.eclipse.digitaltwin.basyx.http.BaSyxHTTPConfiguration;
+import org.eclipse.digitaltwin.basyx.http.SerializationExtension;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.ApiException;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.api.SubmodelRegistryApi;
+import org.eclipse.digitaltwin.basyx.submodelregistry.client.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelInMemoryBackendProvider;
+import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelrepository.backend.SimpleSubmodelRepositoryFactory;
+import org.eclipse.digitaltwin.basyx.submodelrepository.feature.registry.integration.mapper.AttributeMapper;
+import org.eclipse.digitaltwin.basyx.submodelservice.InMemorySubmodelServiceFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the outbox mode of the registry integration, i.e.
+ * {@link OutboxRegistryIntegrationSubmodelRepository} together with the
+ * {@link SubmodelRegistryOutboxSender}
+ * 
+ * @author danish
+ */
+public class TestOutboxRegistryIntegrationSubmodelRepository {
+
+	private static final String REPOSITORY_URL = "http://localhost:8081";
+
+	private InMemoryRegistryApi registryApi;
+	private InMemoryOutbox outbox;
+	private OutboxProcessor processor;
+	private SubmodelRepository repository;
+
+	@Before
+	public void setUp() {
+		registryApi = new InMemoryRegistryApi();
+		outbox = new InMemoryOutbox();
+
+		SimpleSubmodelRepositoryFactory backendFactory = new SimpleSubmodelRepositoryFactory(new SubmodelInMemoryBackendProvider(), new InMemorySubmodelServiceFactory(new InMemoryFileRepository()));
+		SubmodelRepositoryRegistryLink link = new SubmodelRepositoryRegistryLink(registryApi, REPOSITORY_URL);
+
+		repository = new OutboxRegistryIntegrationSubmodelRepositoryFactory(backendFactory, outbox, link, createAttributeMapper(), sender -> processor = new OutboxProcessor("test", outbox, sender, 2, 1000, 0, 0)).create();
+	}
+
+	@Test
+	public void writesDoNotCallRegistry() {
+		registryApi.available = false;
+
+		repository.createSubmodel(createSubmodel("a", "first"));
+		repository.deleteSubmodel("a");
+
+		assertEquals(0, registryApi.calls);
+		assertEquals(1, outbox.size());
+	}
+
+	@Test
+	public void coalescedIntentsAreSentOnce() {
+		repository.createSubmodel(createSubmodel("a", "first"));
+		repository.updateSubmodel("a", createSubmodel("a", "second"));
+
+		processor.drain();
+
+		assertEquals(1, registryApi.calls);
+		assertEquals("second", registryApi.descriptors.get("a").getIdShort());
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void createdAndDeletedSubmodelIsNotLinked() {
+		repository.createSubmodel(createSubmodel("a", "first"));
+		repository.deleteSubmodel("a");
+
+		processor.drain();
+
+		assertFalse(registryApi.descriptors.containsKey("a"));
+		assertEquals(0, outbox.size());
+	}
+
+	@Test
+	public void existingDescriptorIsReplaced() {
+		repository.createSubmodel(createSubmodel("a", "first"));
+		processor.drain();
+
+		repository.updateSubmodel("a", createSubmodel("a", "second"));
+		processor.drain();
+
+		assertEquals("second", registryApi.descriptors.get("a").getIdShort());
+	}
+
+	@Test
+	public void bulkWritesAreSentInBatches() {
+		List<Submodel> submodels = new ArrayList<>();
+		for (int i = 0; i < 5; i++)
+			submodels.add(createSubmodel("sm" + i, "sm" + i));
+
+		repository.createSubmodels(submodels);
+		assertEquals(5, processor.drain());
+		assertEquals(5, registryApi.descriptors.size());
+
+		repository.deleteSubmodels(List.of("sm0", "sm1", "doesNotExist"));
+		assertEquals(2, processor.drain());
+		assertEquals(3, registryApi.descriptors.size());
+	}
+
+	@Test
+	public void failedIntentsArePendingUntilRegistryIsAvailable() {
+		registryApi.available = false;
+
+		repository.createSubmodel(createSubmodel("a", "first"));
+		processor.drain();
+
+		assertEquals(1, processor.getFailedCount());
+		assertEquals(1, processor.getPendingCount());
+		assertTrue(registryApi.descriptors.isEmpty());
+
+		registryApi.available = true;
+		processor.drain();
+
+		assertTrue(registryApi.descriptors.containsKey("a"));
+		assertEquals(0, processor.getPendingCount());
+	}
+
+	private static Submodel createSubmodel(String id, String idShort) {
+		return new DefaultSubmodel.Builder().id(id).idShort(idShort).submodelElements(new ArrayList<>()).build();
+	}
+
+	private static AttributeMapper createAttributeMapper() {
+		List<SerializationExtension> extensions = List.of(new Aas4JHTTPSerializationExtension());
+
+		return new AttributeMapper(new BaSyxHTTPConfiguration().jackson2ObjectMapperBuilder(extensions).build());
+	}
+
+	private static class InMemoryRegistryApi extends SubmodelRegistryApi {
+
+		private Map<String, SubmodelDescriptor> descriptors = new HashMap<>();
+		private boolean available = true;
+		private int calls;
+
+		@Override
+		public SubmodelDescriptor postSubmodelDescriptor(SubmodelDescriptor submodelDescriptor) throws ApiException {
+			call();
+
+			if (descriptors.putIfAbsent(submodelDescriptor.getId(), submodelDescriptor) != null)
+				throw new ApiException(HttpURLConnection.HTTP_CONFLICT, "Conflict");
+
+			return submodelDescriptor;
+		}
+
+		@Override
+		public void putSubmodelDescriptorById(String submodelIdentifier, SubmodelDescriptor submodelDescriptor) throws ApiException {
+			call();
+
+			descriptors.put(submodelIdentifier, submodelDescriptor);
+		}
+
+		@Override
+		public void deleteSubmodelDescriptorById(String submodelIdentifier) throws ApiException {
+			call();
+
+			if (descriptors.remove(submodelIdentifier) == null)
+				throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, "Not Found");
+		}
+
+		private void call() throws ApiException {
+			calls++;
+
+			if (!available)
+				throw new ApiException(HttpURLConnection.HTTP_UNAVAILABLE, "Unavailable");
+		}
+	}
+
+}
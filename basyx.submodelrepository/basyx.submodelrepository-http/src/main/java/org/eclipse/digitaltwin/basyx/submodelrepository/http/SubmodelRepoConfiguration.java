@@ -26,9 +26,15 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
+import org.eclipse.digitaltwin.basyx.core.operation.AsyncOperationInvoker;
+import org.eclipse.digitaltwin.basyx.core.operation.InvocationSubjectProvider;
 import org.eclipse.digitaltwin.basyx.http.CorsPathPatternProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 
 /**
  * 
@@ -42,4 +48,12 @@ public class SubmodelRepoConfiguration {
 	public CorsPathPatternProvider getSubmodelRepoCorsUrlProvider() {
 		return new CorsPathPatternProvider("/submodels/**");
 	}
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnMissingBean
+	public AsyncOperationInvoker getAsyncOperationInvoker(@Value("${basyx.submodelrepository.operation.async.poolSize:8}") int poolSize, @Value("${basyx.submodelrepository.operation.async.queueCapacity:100}") int queueCapacity,
+			@Value("${basyx.submodelrepository.operation.async.maxConcurrentPerOperation:4}") int maxConcurrentPerOperation, @Value("${basyx.submodelrepository.operation.async.timeoutMillis:300000}") long timeoutMillis,
+			@Value("${basyx.submodelrepository.operation.async.resultRetentionMillis:600000}") long resultRetentionMillis, ObjectProvider<TaskDecorator> taskDecorator, ObjectProvider<InvocationSubjectProvider> subjectProvider) {
+		return new AsyncOperationInvoker(poolSize, queueCapacity, maxConcurrentPerOperation, timeoutMillis, resultRetentionMillis, taskDecorator.getIfUnique(() -> runnable -> runnable), subjectProvider.getIfUnique(() -> () -> null));
+	}
 }
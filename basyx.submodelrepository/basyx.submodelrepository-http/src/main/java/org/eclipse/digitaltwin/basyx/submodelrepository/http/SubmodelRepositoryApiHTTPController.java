@@ -29,21 +29,39 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
-
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.BaseOperationResult;
+import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
+import org.eclipse.digitaltwin.aas4j.v3.model.MessageTypeEnum;
+import org.eclipse.digitaltwin.aas4j.v3.model.Operation;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationHandle;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationRequest;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationResult;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBaseOperationResult;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultMessage;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationHandle;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationResult;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
+import org.eclipse.digitaltwin.basyx.core.operation.AsyncOperationInvocation;
+import org.eclipse.digitaltwin.basyx.core.operation.AsyncOperationInvoker;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifierSize;
+import org.eclipse.digitaltwin.basyx.http.ETagResponseFactory;
+import org.eclipse.digitaltwin.basyx.http.FileResourceResponseFactory;
+import org.eclipse.digitaltwin.basyx.http.bulk.BulkOperationItemResult;
+import org.eclipse.digitaltwin.basyx.http.bulk.BulkOperationResponseFactory;
 import org.eclipse.digitaltwin.basyx.http.pagination.Base64UrlEncodedCursor;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResult;
 import org.eclipse.digitaltwin.basyx.http.pagination.PagedResultPagingMetadata;
@@ -53,8 +71,8 @@ import org.eclipse.digitaltwin.basyx.submodelrepository.http.pagination.GetSubmo
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelValueOnly;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -62,6 +80,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -73,11 +92,18 @@ import jakarta.validation.constraints.Min;
 @RestController
 public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHTTPApi {
 
+	private static final String INVOKE_PATH_SUFFIX = "/invoke";
+	private static final String INVOKE_ASYNC_PATH_SUFFIX = "/invoke-async";
+	private static final String OPERATION_STATUS_PATH_SEGMENT = "/operation-status/";
+	private static final String OPERATION_RESULTS_PATH_SEGMENT = "/operation-results/";
+
 	private SubmodelRepository repository;
+	private AsyncOperationInvoker asyncOperationInvoker;
 
 	@Autowired
-	public SubmodelRepositoryApiHTTPController(SubmodelRepository repository) {
+	public SubmodelRepositoryApiHTTPController(SubmodelRepository repository, AsyncOperationInvoker asyncOperationInvoker) {
 		this.repository = repository;
+		this.asyncOperationInvoker = asyncOperationInvoker;
 	}
 
 	@Override
@@ -88,8 +114,17 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 	@Override
 	public ResponseEntity<Void> deleteSubmodelById(
-			@Parameter(in = ParameterIn.PATH, description = "The Submodel’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("submodelIdentifier") Base64UrlEncodedIdentifier submodelIdentifier) {
-		repository.deleteSubmodel(submodelIdentifier.getIdentifier());
+			@Parameter(in = ParameterIn.PATH, description = "The Submodel’s unique id (UTF8-BASE64-URL-encoded)", required = true, schema = @Schema()) @PathVariable("submodelIdentifier") Base64UrlEncodedIdentifier submodelIdentifier,
+			String ifMatch) {
+		String submodelId = submodelIdentifier.getIdentifier();
+
+		OptionalLong expectedVersion = getExpectedVersion(submodelId, ifMatch);
+
+		if (expectedVersion.isPresent())
+			repository.deleteSubmodel(submodelId, expectedVersion.getAsLong());
+		else
+			repository.deleteSubmodel(submodelId);
+
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
@@ -128,13 +163,23 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 	}
 
 	@Override
-	public ResponseEntity<Submodel> getSubmodelById(Base64UrlEncodedIdentifier submodelIdentifier, @Valid String level, @Valid String extent) {
-		return new ResponseEntity<Submodel>(repository.getSubmodel(submodelIdentifier.getIdentifier()), HttpStatus.OK);
+	public ResponseEntity<Submodel> getSubmodelById(Base64UrlEncodedIdentifier submodelIdentifier, @Valid String level, @Valid String extent, String ifNoneMatch) {
+		String submodelId = submodelIdentifier.getIdentifier();
+
+		return ETagResponseFactory.create(repository.getSubmodelVersion(submodelId), ifNoneMatch, () -> repository.getSubmodel(submodelId));
 	}
 
 	@Override
-	public ResponseEntity<Void> putSubmodelById(Base64UrlEncodedIdentifier submodelIdentifier, @Valid Submodel body, @Valid String level) {
-		repository.updateSubmodel(submodelIdentifier.getIdentifier(), body);
+	public ResponseEntity<Void> putSubmodelById(Base64UrlEncodedIdentifier submodelIdentifier, @Valid Submodel body, @Valid String level, String ifMatch) {
+		String submodelId = submodelIdentifier.getIdentifier();
+
+		OptionalLong expectedVersion = getExpectedVersion(submodelId, ifMatch);
+
+		if (expectedVersion.isPresent())
+			repository.updateSubmodel(submodelId, body, expectedVersion.getAsLong());
+		else
+			repository.updateSubmodel(submodelId, body);
+
 		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
 	}
 
@@ -212,9 +257,7 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 
 	@Override
 	public ResponseEntity<Resource> getFileByPath(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath) {
-		Resource resource = new FileSystemResource(repository.getFileByPathSubmodel(submodelIdentifier.getIdentifier(), idShortPath));
-
-		return new ResponseEntity<Resource>(resource, HttpStatus.OK);
+		return FileResourceResponseFactory.create(repository.getFileByPathSubmodel(submodelIdentifier.getIdentifier(), idShortPath));
 	}
 
 	@Override
@@ -271,17 +314,148 @@ public class SubmodelRepositoryApiHTTPController implements SubmodelRepositoryHT
 	}
 
 	@Override
-	public ResponseEntity<OperationResult> invokeOperationSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid OperationRequest body, @Valid Boolean async) {
+	public ResponseEntity<?> invokeOperationSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid OperationRequest body, @Valid Boolean async) {
+		if (Boolean.TRUE.equals(async))
+			return invokeOperationAsyncSubmodelRepo(submodelIdentifier, idShortPath, body);
+
 		OperationVariable[] result = repository.invokeOperation(submodelIdentifier.getIdentifier(), idShortPath, body.getInputArguments().toArray(new OperationVariable[0]));
 
 		return new ResponseEntity<OperationResult>(createOperationResult(result), HttpStatus.OK);
 
 	}
 
+	@Override
+	public ResponseEntity<OperationHandle> invokeOperationAsyncSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, @Valid OperationRequest body) {
+		String submodelId = submodelIdentifier.getIdentifier();
+		OperationVariable[] inputArguments = body.getInputArguments().toArray(new OperationVariable[0]);
+
+		throwIfNotAnOperation(submodelId, idShortPath);
+
+		String handleId = asyncOperationInvoker.invoke(getOperationKey(submodelId, idShortPath), () -> repository.invokeOperation(submodelId, idShortPath, inputArguments), getClientTimeoutMillis(body));
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setLocation(ServletUriComponentsBuilder.fromCurrentRequestUri().replacePath(getOperationPathPrefix(INVOKE_PATH_SUFFIX, INVOKE_ASYNC_PATH_SUFFIX) + OPERATION_STATUS_PATH_SEGMENT + handleId).build(true).toUri());
+
+		return new ResponseEntity<OperationHandle>(new DefaultOperationHandle.Builder().handleId(handleId).build(), headers, HttpStatus.ACCEPTED);
+	}
+
+	@Override
+	public ResponseEntity<BaseOperationResult> getOperationAsyncStatusSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String handleId) {
+		AsyncOperationInvocation invocation = getInvocation(submodelIdentifier, idShortPath, handleId);
+
+		if (invocation.getExecutionState() == ExecutionState.COMPLETED) {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setLocation(ServletUriComponentsBuilder.fromCurrentRequestUri().replacePath(getOperationPathPrefix(OPERATION_STATUS_PATH_SEGMENT + handleId) + OPERATION_RESULTS_PATH_SEGMENT + handleId).build(true).toUri());
+
+			return new ResponseEntity<BaseOperationResult>(headers, HttpStatus.FOUND);
+		}
+
+		return new ResponseEntity<BaseOperationResult>(createBaseOperationResult(invocation), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<OperationResult> getOperationAsyncResultSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String handleId) {
+		AsyncOperationInvocation invocation = getInvocation(submodelIdentifier, idShortPath, handleId);
+
+		if (invocation.getExecutionState() != ExecutionState.COMPLETED)
+			throw new ElementDoesNotExistException(handleId);
+
+		return new ResponseEntity<OperationResult>(createOperationResult(invocation.getResult()), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<Void> cancelOperationAsyncSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String handleId) {
+		asyncOperationInvoker.cancel(getInvocation(submodelIdentifier, idShortPath, handleId).getHandleId());
+
+		return new ResponseEntity<Void>(HttpStatus.NO_CONTENT);
+	}
+
+	@Override
+	public ResponseEntity<List<BulkOperationItemResult>> postSubmodelsBulk(List<Submodel> body) {
+		return BulkOperationResponseFactory.create(repository.createSubmodels(body), HttpStatus.CREATED);
+	}
+
+	@Override
+	public ResponseEntity<List<BulkOperationItemResult>> putSubmodelsBulk(List<Submodel> body) {
+		return BulkOperationResponseFactory.create(repository.updateSubmodels(body), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<List<BulkOperationItemResult>> deleteSubmodelsBulk(List<String> body) {
+		return BulkOperationResponseFactory.create(repository.deleteSubmodels(body), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<List<BulkOperationItemResult>> postSubmodelElementsBulkSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, List<SubmodelElement> body, String idShortPath) {
+		return BulkOperationResponseFactory.create(repository.createSubmodelElements(submodelIdentifier.getIdentifier(), idShortPath, body), HttpStatus.CREATED);
+	}
+
+	@Override
+	public ResponseEntity<List<BulkOperationItemResult>> putSubmodelElementsBulkSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, Map<String, SubmodelElement> body) {
+		return BulkOperationResponseFactory.create(repository.updateSubmodelElements(submodelIdentifier.getIdentifier(), body), HttpStatus.OK);
+	}
+
+	@Override
+	public ResponseEntity<List<BulkOperationItemResult>> deleteSubmodelElementsBulkSubmodelRepo(Base64UrlEncodedIdentifier submodelIdentifier, List<String> body) {
+		return BulkOperationResponseFactory.create(repository.deleteSubmodelElements(submodelIdentifier.getIdentifier(), body), HttpStatus.OK);
+	}
+
 	private OperationResult createOperationResult(OperationVariable[] result) {
 		return new DefaultOperationResult.Builder().outputArguments(Arrays.asList(result)).build();
 	}
 
+	private BaseOperationResult createBaseOperationResult(AsyncOperationInvocation invocation) {
+		DefaultBaseOperationResult.Builder builder = new DefaultBaseOperationResult.Builder().executionState(invocation.getExecutionState()).success(invocation.getExecutionState() == ExecutionState.COMPLETED);
+
+		if (invocation.getFailureMessage() != null)
+			builder.messages(new DefaultMessage.Builder().messageType(MessageTypeEnum.ERROR).text(invocation.getFailureMessage()).build());
+
+		return builder.build();
+	}
+
+	private AsyncOperationInvocation getInvocation(Base64UrlEncodedIdentifier submodelIdentifier, String idShortPath, String handleId) {
+		AsyncOperationInvocation invocation = asyncOperationInvoker.getInvocation(handleId);
+
+		if (!invocation.getOperationKey().equals(getOperationKey(submodelIdentifier.getIdentifier(), idShortPath)))
+			throw new ElementDoesNotExistException(handleId);
+
+		return invocation;
+	}
+
+	private void throwIfNotAnOperation(String submodelId, String idShortPath) {
+		if (!(repository.getSubmodelElement(submodelId, idShortPath) instanceof Operation))
+			throw new NotInvokableException(idShortPath);
+	}
+
+	private static String getOperationKey(String submodelId, String idShortPath) {
+		return submodelId + "#" + idShortPath;
+	}
+
+	private static Long getClientTimeoutMillis(OperationRequest body) {
+		if (body.getClientTimeoutDuration() == null)
+			return null;
+
+		return body.getClientTimeoutDuration().getTimeInMillis(new Date());
+	}
+
+	private static String getOperationPathPrefix(String... suffixes) {
+		String path = ServletUriComponentsBuilder.fromCurrentRequestUri().build().getPath();
+
+		for (String suffix : suffixes) {
+			if (path.endsWith(suffix))
+				return path.substring(0, path.length() - suffix.length());
+		}
+
+		return path;
+	}
+
+	private OptionalLong getExpectedVersion(String submodelId, String ifMatch) {
+		if (ifMatch == null)
+			return OptionalLong.empty();
+
+		return ETagResponseFactory.getExpectedVersion(ifMatch, repository.getSubmodelVersion(submodelId), submodelId);
+	}
+
 	private String getEncodedCursorFromCursorResult(CursorResult<?> cursorResult) {
 		if (cursorResult == null || cursorResult.getCursor() == null) {
 			return null;
@@ -27,6 +27,7 @@ package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -34,6 +35,8 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.hc.client5.http.ClientProtocolException;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.entity.mime.FileBody;
@@ -46,6 +49,7 @@ import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.ProtocolException;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicHeader;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncodedIdentifier;
 import org.eclipse.digitaltwin.basyx.http.HttpBaSyxHeader;
@@ -57,6 +61,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.ResourceUtils;
 
@@ -134,6 +139,58 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(expectedSubmodelJSON, submodelJSON);
 	}
 
+	@Test
+	public void getSubmodelWithCurrentETag() throws IOException {
+		String submodelId = DummySubmodelFactory.createTechnicalDataSubmodel().getId();
+		String eTag = getETag(requestSubmodel(submodelId));
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), submodelId), new BasicHeader(HttpHeaders.IF_NONE_MATCH, eTag));
+
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getCode());
+		assertEquals(eTag, getETag(response));
+	}
+
+	@Test
+	public void getSubmodelWithOutdatedETag() throws IOException, ParseException {
+		String id = "7A7104BDAB57E184";
+		String outdatedETag = getETag(requestSubmodel(id));
+
+		putSubmodel(id, getJSONValueAsString("SingleSubmodelUpdate.json"));
+
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), id), new BasicHeader(HttpHeaders.IF_NONE_MATCH, outdatedETag));
+
+		assertEquals(HttpStatus.OK.value(), response.getCode());
+		assertNotEquals(outdatedETag, getETag(response));
+		BaSyxHttpTestUtils.assertSameJSONContent(getJSONValueAsString("SingleSubmodelUpdate.json"), BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	@Test
+	public void updateSubmodelWithOutdatedETag() throws IOException {
+		String id = "7A7104BDAB57E184";
+		String submodelJSON = getJSONValueAsString("SingleSubmodelUpdate.json");
+		String outdatedETag = getETag(requestSubmodel(id));
+
+		putSubmodel(id, submodelJSON);
+
+		CloseableHttpResponse outdatedResponse = BaSyxHttpTestUtils.executePutOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), id), submodelJSON, new BasicHeader(HttpHeaders.IF_MATCH, outdatedETag));
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), outdatedResponse.getCode());
+
+		String currentETag = getETag(requestSubmodel(id));
+
+		CloseableHttpResponse currentResponse = BaSyxHttpTestUtils.executePutOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), id), submodelJSON, new BasicHeader(HttpHeaders.IF_MATCH, currentETag));
+		assertEquals(HttpStatus.NO_CONTENT.value(), currentResponse.getCode());
+	}
+
+	@Test
+	public void deleteSubmodelWithOutdatedETag() throws IOException {
+		String submodelId = DummySubmodelFactory.createTechnicalDataSubmodel().getId();
+
+		CloseableHttpResponse deletionResponse = BaSyxHttpTestUtils.executeDeleteOnURL(getURL() + "/" + Base64UrlEncodedIdentifier.encodeIdentifier(submodelId), new BasicHeader(HttpHeaders.IF_MATCH, "\"0\""));
+
+		assertEquals(HttpStatus.PRECONDITION_FAILED.value(), deletionResponse.getCode());
+		assertEquals(HttpStatus.OK.value(), requestSubmodel(submodelId).getCode());
+	}
+
 	@Test
 	public void updateNonExistingSubmodel() throws IOException {
 		String id = "nonExisting";
@@ -207,6 +264,75 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		assertEquals(HttpStatus.NOT_FOUND.value(), deletionResponse.getCode());
 	}
 
+	@Test
+	public void createSubmodelsBulk() throws IOException, ParseException {
+		String submodelsJSON = "[" + getJSONValueAsString("SingleSubmodelNew.json") + "," + getJSONValueAsString("SingleSubmodel.json") + "]";
+
+		CloseableHttpResponse creationResponse = BaSyxHttpTestUtils.executePostOnURL(getBulkURL(), submodelsJSON);
+		assertEquals(HttpStatus.MULTI_STATUS.value(), creationResponse.getCode());
+
+		JsonNode results = readBulkResults(creationResponse);
+		assertBulkItemResult(results.get(0), "newSubmodel", HttpStatus.CREATED);
+		assertBulkItemResult(results.get(1), DummySubmodelFactory.createTechnicalDataSubmodel().getId(), HttpStatus.CONFLICT);
+
+		assertEquals(HttpStatus.OK.value(), requestSubmodel("newSubmodel").getCode());
+	}
+
+	@Test
+	public void deleteSubmodelsBulk() throws IOException, ParseException {
+		String existingSubmodelId = DummySubmodelFactory.createTechnicalDataSubmodel().getId();
+
+		CloseableHttpResponse deletionResponse = BaSyxHttpTestUtils.executeDeleteOnURL(getBulkURL(), "[\"" + existingSubmodelId + "\", \"nonExisting\"]");
+		assertEquals(HttpStatus.MULTI_STATUS.value(), deletionResponse.getCode());
+
+		JsonNode results = readBulkResults(deletionResponse);
+		assertBulkItemResult(results.get(0), existingSubmodelId, HttpStatus.OK);
+		assertBulkItemResult(results.get(1), "nonExisting", HttpStatus.NOT_FOUND);
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), requestSubmodel(existingSubmodelId).getCode());
+	}
+
+	@Test
+	public void createSubmodelElementsBulk() throws IOException, ParseException {
+		String submodelId = DummySubmodelFactory.createTechnicalDataSubmodel().getId();
+		String elementsJSON = "[" + createPropertyJSON("bulkProperty1") + "," + createPropertyJSON("bulkProperty2") + "]";
+
+		CloseableHttpResponse creationResponse = BaSyxHttpTestUtils.executePostOnURL(getSubmodelElementsBulkURL(submodelId), elementsJSON);
+		assertEquals(HttpStatus.CREATED.value(), creationResponse.getCode());
+
+		JsonNode results = readBulkResults(creationResponse);
+		assertBulkItemResult(results.get(0), "bulkProperty1", HttpStatus.CREATED);
+		assertBulkItemResult(results.get(1), "bulkProperty2", HttpStatus.CREATED);
+
+		assertEquals(HttpStatus.OK.value(), BaSyxHttpTestUtils.executeGetOnURL(createSpecificSubmodelElementURL(submodelId, "bulkProperty2")).getCode());
+	}
+
+	@Test
+	public void createAndUpdateNestedSubmodelElementsBulk() throws IOException, ParseException {
+		String submodelId = DummySubmodelFactory.createTechnicalDataSubmodel().getId();
+		String collectionIdShort = SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_SUBMODEL_ELEMENT_COLLECTION_ID_SHORT;
+		String nestedIdShortPath = collectionIdShort + ".bulkProperty";
+
+		CloseableHttpResponse creationResponse = BaSyxHttpTestUtils.executePostOnURL(getSubmodelElementsBulkURL(submodelId) + "?idShortPath=" + collectionIdShort, "[" + createPropertyJSON("bulkProperty") + "]");
+		assertEquals(HttpStatus.CREATED.value(), creationResponse.getCode());
+
+		String updatesJSON = "{\"" + nestedIdShortPath + "\": " + createPropertyJSON("bulkProperty") + ", \"" + collectionIdShort + ".nonExisting\": " + createPropertyJSON("nonExisting") + "}";
+
+		CloseableHttpResponse updateResponse = BaSyxHttpTestUtils.executePutOnURL(getSubmodelElementsBulkURL(submodelId), updatesJSON);
+		assertEquals(HttpStatus.MULTI_STATUS.value(), updateResponse.getCode());
+
+		JsonNode results = readBulkResults(updateResponse);
+		assertBulkItemResult(results.get(0), nestedIdShortPath, HttpStatus.OK);
+		assertBulkItemResult(results.get(1), collectionIdShort + ".nonExisting", HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	public void deleteSubmodelElementsBulkOfNonExistingSubmodel() throws IOException {
+		CloseableHttpResponse deletionResponse = BaSyxHttpTestUtils.executeDeleteOnURL(getSubmodelElementsBulkURL("nonExisting"), "[\"anyElement\"]");
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), deletionResponse.getCode());
+	}
+
 	@Test
 	public void getPaginatedSubmodel() throws ParseException, IOException {
 		String submodelsJSON = BaSyxSubmodelHttpTestUtils
@@ -430,6 +556,27 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		BaSyxHttpTestUtils.assertSameJSONContent(submodelJSON, response);
 	}
 
+	private String getBulkURL() {
+		return getURL() + "/$bulk";
+	}
+
+	private String getSubmodelElementsBulkURL(String submodelId) {
+		return BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), submodelId) + "/submodel-elements/$bulk";
+	}
+
+	private JsonNode readBulkResults(CloseableHttpResponse response) throws IOException, ParseException {
+		return new ObjectMapper().readTree(BaSyxHttpTestUtils.getResponseAsString(response));
+	}
+
+	private void assertBulkItemResult(JsonNode itemResult, String expectedId, HttpStatus expectedStatus) {
+		assertEquals(expectedId, itemResult.get("id").asText());
+		assertEquals(expectedStatus.value(), itemResult.get("status").asInt());
+	}
+
+	private String createPropertyJSON(String idShort) {
+		return "{\"modelType\": \"Property\", \"idShort\": \"" + idShort + "\", \"valueType\": \"xs:int\", \"value\": \"5\"}";
+	}
+
 	private String createSubmodelMetadataURL(String id) {
 		return BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), id) + "/$metadata";
 	}
@@ -456,6 +603,10 @@ public abstract class SubmodelRepositorySubmodelHTTPTestSuite {
 		return BaSyxHttpTestUtils.executeGetOnURL(BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath(getURL(), submodelId));
 	}
 	
+	private String getETag(CloseableHttpResponse response) {
+		return response.getFirstHeader(HttpHeaders.ETAG).getValue();
+	}
+
 	private String getJSONValueAsString(String fileName) throws FileNotFoundException, IOException {
 		return BaSyxHttpTestUtils.readJSONStringFromClasspath(fileName);
 	}
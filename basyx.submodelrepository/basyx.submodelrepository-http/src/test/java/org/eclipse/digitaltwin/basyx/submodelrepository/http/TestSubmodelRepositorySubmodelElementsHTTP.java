@@ -25,16 +25,29 @@
 
 package org.eclipse.digitaltwin.basyx.submodelrepository.http;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.ParseException;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 
+import org.eclipse.digitaltwin.basyx.http.serialization.BaSyxHttpTestUtils;
 import org.eclipse.digitaltwin.basyx.submodelrepository.SubmodelRepository;
+import org.eclipse.digitaltwin.basyx.submodelservice.SubmodelServiceHelper;
 import org.eclipse.digitaltwin.basyx.submodelservice.http.SubmodelServiceSubmodelElementsTestSuiteHTTP;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Test;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
 
 /**
  * Tests the SubmodelElement specific parts of the SubmodelRepository HTTP/REST
@@ -69,10 +82,84 @@ public class TestSubmodelRepositorySubmodelElementsHTTP extends SubmodelServiceS
 		appContext.close();
 	}
 
+	@Test
+	public void invokeOperationAsync() throws IOException, ParseException, InterruptedException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(createOperationURL() + "/invoke-async", getParameters());
+
+		assertOperationResultIsRetrievable(response);
+	}
+
+	@Test
+	public void invokeOperationWithAsyncParameter() throws IOException, ParseException, InterruptedException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(createOperationURL() + "/invoke?async=true", getParameters());
+
+		assertOperationResultIsRetrievable(response);
+	}
+
+	@Test
+	public void invokeNonExistingOperationAsync() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(getURL() + "/submodel-elements/nonExisting/invoke-async", getParameters());
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), response.getCode());
+	}
+
+	@Test
+	public void getStatusOfNonExistingInvocation() throws IOException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createOperationURL() + "/operation-status/nonExisting");
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), response.getCode());
+	}
+
+	@Test
+	public void getStatusOfInvocationOfOtherOperation() throws IOException, ParseException {
+		CloseableHttpResponse response = BaSyxHttpTestUtils.executePostOnURL(createOperationURL() + "/invoke-async", getParameters());
+		String statusURL = response.getFirstHeader(HttpHeaders.LOCATION).getValue();
+
+		String otherStatusURL = statusURL.replace(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_OPERATION_ID, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT);
+
+		assertEquals(HttpStatus.NOT_FOUND.value(), BaSyxHttpTestUtils.executeGetOnURL(otherStatusURL).getCode());
+	}
+
 	@Override
 	protected String getURL() {
 
 		return BaSyxSubmodelHttpTestUtils.getSpecificSubmodelAccessPath("http://localhost:8080/submodels", createSubmodel().getId());
 	}
 
+	private void assertOperationResultIsRetrievable(CloseableHttpResponse invocationResponse) throws IOException, ParseException, InterruptedException {
+		assertEquals(HttpStatus.ACCEPTED.value(), invocationResponse.getCode());
+
+		String statusURL = invocationResponse.getFirstHeader(HttpHeaders.LOCATION).getValue();
+		assertTrue(statusURL.startsWith(createOperationURL() + "/operation-status/"));
+
+		String expectedResult = BaSyxHttpTestUtils.readJSONStringFromClasspath("operation/result.json");
+		BaSyxHttpTestUtils.assertSameJSONContent(expectedResult, awaitOperationResult(statusURL));
+	}
+
+	private String awaitOperationResult(String statusURL) throws IOException, ParseException, InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+
+		String response;
+		do {
+			// The status request follows the redirect to the result as soon as the
+			// invocation has completed
+			response = BaSyxHttpTestUtils.getResponseAsString(BaSyxHttpTestUtils.executeGetOnURL(statusURL));
+
+			if (response.contains("outputArguments"))
+				return response;
+
+			TimeUnit.MILLISECONDS.sleep(50);
+		} while (System.currentTimeMillis() < deadline);
+
+		return response;
+	}
+
+	private String getParameters() throws IOException {
+		return BaSyxHttpTestUtils.readJSONStringFromClasspath("operation/parameters.json");
+	}
+
+	private String createOperationURL() {
+		return getURL() + "/submodel-elements/" + SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_OPERATION_ID;
+	}
+
 }
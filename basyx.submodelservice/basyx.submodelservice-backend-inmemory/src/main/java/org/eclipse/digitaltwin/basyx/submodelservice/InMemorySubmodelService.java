@@ -25,14 +25,12 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
-import java.io.FileOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
 import org.eclipse.digitaltwin.aas4j.v3.model.File;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -44,10 +42,10 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
-import org.eclipse.digitaltwin.basyx.core.exceptions.FileHandlingException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileMetadata;
 import org.eclipse.digitaltwin.basyx.core.filerepository.FileRepository;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationSupport;
@@ -129,6 +127,7 @@ public class InMemorySubmodelService implements SubmodelService {
 		List<SubmodelElement> smElements = submodel.getSubmodelElements();
 		smElements.add(submodelElement);
 		submodel.setSubmodelElements(smElements);
+		parser.invalidateIndex();
 	}
 
 	private void throwIfSubmodelElementExists(String submodelElementId) {
@@ -150,6 +149,7 @@ public class InMemorySubmodelService implements SubmodelService {
 			List<SubmodelElement> submodelElements = list.getValue();
 			submodelElements.add(submodelElement);
 			list.setValue(submodelElements);
+			parser.invalidateIndex();
 			return;
 		}
 		if (parentSme instanceof SubmodelElementCollection) {
@@ -157,8 +157,19 @@ public class InMemorySubmodelService implements SubmodelService {
 			List<SubmodelElement> submodelElements = collection.getValue();
 			submodelElements.add(submodelElement);
 			collection.setValue(submodelElements);
+			parser.invalidateIndex();
 			return;
 		}
+		if (parentSme instanceof Entity) {
+			Entity entity = (Entity) parentSme;
+			List<SubmodelElement> statements = entity.getStatements();
+			statements.add(submodelElement);
+			entity.setStatements(statements);
+			parser.invalidateIndex();
+			return;
+		}
+
+		throw new IllegalArgumentException(String.format("SubmodelElement at '%s' can not contain child elements", idShortPath));
 	}
 
 	@Override
@@ -177,11 +188,12 @@ public class InMemorySubmodelService implements SubmodelService {
 	public void deleteSubmodelElement(String idShortPath) throws ElementDoesNotExistException {
 		deleteAssociatedFileIfAny(idShortPath);
 
-		if (!helper.isNestedIdShortPath(idShortPath)) {
+		if (!helper.isNestedIdShortPath(idShortPath))
 			deleteFlatSubmodelElement(idShortPath);
-			return;
-		}
-		deleteNestedSubmodelElement(idShortPath);
+		else
+			deleteNestedSubmodelElement(idShortPath);
+
+		parser.invalidateIndex();
 	}
 
 	private void deleteNestedSubmodelElement(String idShortPath) {
@@ -215,9 +227,10 @@ public class InMemorySubmodelService implements SubmodelService {
 	}
 
 	private int findIndexOfElementTobeDeleted(String idShortPath) {
-		for (SubmodelElement sme : submodel.getSubmodelElements()) {
-			if (sme.getIdShort().equals(idShortPath)) {
-				return submodel.getSubmodelElements().indexOf(sme);
+		List<SubmodelElement> submodelElements = submodel.getSubmodelElements();
+		for (int i = 0; i < submodelElements.size(); i++) {
+			if (submodelElements.get(i).getIdShort().equals(idShortPath)) {
+				return i;
 			}
 		}
 		return -1;
@@ -241,10 +254,11 @@ public class InMemorySubmodelService implements SubmodelService {
 	@Override
 	public void patchSubmodelElements(List<SubmodelElement> submodelElementList) {
 		this.submodel.setSubmodelElements(submodelElementList);
+		parser.invalidateIndex();
 	}
 
 	@Override
-	public java.io.File getFileByPath(String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+	public FileResource getFileByPath(String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
 		SubmodelElement submodelElement = getSubmodelElement(idShortPath);
 
 		throwIfSmElementIsNotAFile(submodelElement);
@@ -252,9 +266,7 @@ public class InMemorySubmodelService implements SubmodelService {
 		File fileSmElement = (File) submodelElement;
 		String filePath = getFilePath(fileSmElement);
 
-		InputStream fileContent = getFileInputStream(filePath);
-
-		return createFile(filePath, fileContent);
+		return getFileResource(filePath);
 	}
 
 	@Override
@@ -297,8 +309,30 @@ public class InMemorySubmodelService implements SubmodelService {
 	}
 
 	private void deleteAssociatedFileIfAny(String idShortPath) {
+		deleteAssociatedFiles(getSubmodelElement(idShortPath));
+	}
+
+	private void deleteAssociatedFiles(SubmodelElement submodelElement) {
+		if (isFileSubmodelElement(submodelElement)) {
+			deleteFileIfAny(getFilePath((File) submodelElement));
+			return;
+		}
+
+		List<SubmodelElement> children = null;
+		if (submodelElement instanceof SubmodelElementCollection)
+			children = ((SubmodelElementCollection) submodelElement).getValue();
+		else if (submodelElement instanceof SubmodelElementList)
+			children = ((SubmodelElementList) submodelElement).getValue();
+		else if (submodelElement instanceof Entity)
+			children = ((Entity) submodelElement).getStatements();
+
+		if (children != null)
+			children.forEach(this::deleteAssociatedFiles);
+	}
+
+	private void deleteFileIfAny(String filePath) {
 		try {
-			deleteFileValue(idShortPath);
+			fileRepository.delete(filePath);
 		} catch (Exception e) {
 		}
 	}
@@ -307,31 +341,12 @@ public class InMemorySubmodelService implements SubmodelService {
 		return submodelElement instanceof File;
 	}
 
-	private InputStream getFileInputStream(String filePath) {
-		InputStream fileContent;
-
+	private FileResource getFileResource(String filePath) {
 		try {
-			fileContent = fileRepository.find(filePath);
+			return fileRepository.find(filePath);
 		} catch (FileDoesNotExistException e) {
 			throw new FileDoesNotExistException(String.format("File at path '%s' could not be found.", filePath));
 		}
-
-		return fileContent;
-	}
-
-	private java.io.File createFile(String filePath, InputStream fileIs) {
-
-		try {
-			byte[] content = fileIs.readAllBytes();
-			fileIs.close();
-
-			createOutputStream(filePath, content);
-
-			return new java.io.File(filePath);
-		} catch (IOException e) {
-			throw new FileHandlingException("Exception occurred while creating file from the InputStream." + e.getMessage());
-		}
-
 	}
 
 	private String getFilePath(File fileSubmodelElement) {
@@ -348,14 +363,4 @@ public class InMemorySubmodelService implements SubmodelService {
 			throw new ElementNotAFileException(submodelElement.getIdShort());
 	}
 
-	private void createOutputStream(String filePath, byte[] content) throws IOException {
-
-		try (OutputStream outputStream = new FileOutputStream(filePath)) {
-			outputStream.write(content);
-		} catch (IOException e) {
-			throw new FileHandlingException("Exception occurred while creating OutputStream from byte[]." + e.getMessage());
-		}
-
-	}
-
 }
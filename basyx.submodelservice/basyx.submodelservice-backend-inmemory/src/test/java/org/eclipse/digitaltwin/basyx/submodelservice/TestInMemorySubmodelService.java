@@ -26,8 +26,11 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice;
 
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.basyx.core.filerepository.InMemoryFileRepository;
+import org.junit.Test;
 
 /**
  * 
@@ -47,4 +50,14 @@ public class TestInMemorySubmodelService extends SubmodelServiceSuite {
 
 		return file.exists();
 	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createSubmodelElementInNonContainerElement() {
+		Submodel technicalDataSubmodel = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService submodelService = getSubmodelService(technicalDataSubmodel);
+
+		DefaultProperty property = new DefaultProperty.Builder().idShort("nestedProperty").value("1").valueType(DataTypeDefXsd.INTEGER).build();
+
+		submodelService.createSubmodelElement(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT, property);
+	}
 }
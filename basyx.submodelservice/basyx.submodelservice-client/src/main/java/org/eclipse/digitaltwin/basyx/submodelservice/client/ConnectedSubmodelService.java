@@ -26,7 +26,6 @@
 
 package org.eclipse.digitaltwin.basyx.submodelservice.client;
 
-import java.io.File;
 import java.io.InputStream;
 import java.util.List;
 
@@ -37,11 +36,14 @@ import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationRequest;
 import org.eclipse.digitaltwin.basyx.client.internal.ApiException;
+import org.eclipse.digitaltwin.basyx.core.exceptions.CollidingIdentifierException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.OperationDelegationException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
+import org.eclipse.digitaltwin.basyx.core.filerepository.PathFileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.http.Base64UrlEncoder;
@@ -113,7 +115,11 @@ public class ConnectedSubmodelService implements SubmodelService {
 
 	@Override
 	public void createSubmodelElement(SubmodelElement submodelElement) {
-		serviceApi.postSubmodelElement(submodelElement);
+		try {
+			serviceApi.postSubmodelElement(submodelElement);
+		} catch (ApiException e) {
+			throw mapExceptionSubmodelElementAccess(submodelElement.getIdShort(), e);
+		}
 	}
 
 	@Override
@@ -170,9 +176,9 @@ public class ConnectedSubmodelService implements SubmodelService {
 	}
 
 	@Override
-	public File getFileByPath(String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
+	public FileResource getFileByPath(String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException {
 		try {
-			return serviceApi.getFileByPath(idShortPath);
+			return new PathFileResource(serviceApi.getFileByPath(idShortPath));
 		} catch (ApiException e) {
 			throw mapExceptionFileAccess(idShortPath, e);
 		}
@@ -211,6 +217,9 @@ public class ConnectedSubmodelService implements SubmodelService {
 			return new ElementDoesNotExistException(idShortPath);
 		}
 
+		if (e.getCode() == HttpStatus.CONFLICT.value())
+			return new CollidingIdentifierException(idShortPath);
+
 		return e;
 	}
 
@@ -34,6 +34,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.SubmodelElementValue;
@@ -147,7 +148,8 @@ public interface SubmodelService {
 	public OperationVariable[] invokeOperation(String idShortPath, OperationVariable[] input) throws ElementDoesNotExistException;
 
 	/**
-	 * Retrieves the file of a file submodelelement
+	 * Retrieves the file of a file submodelelement. The content is streamed
+	 * from the file repository when the returned resource is read.
 	 * 
 	 * @param idShortPath
 	 *            the IdShort path of the file element
@@ -156,7 +158,7 @@ public interface SubmodelService {
 	 * @throws ElementNotAFileException
 	 * @throws FileDoesNotExistException
 	 */
-	public java.io.File getFileByPath(String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException;
+	public FileResource getFileByPath(String idShortPath) throws ElementDoesNotExistException, ElementNotAFileException, FileDoesNotExistException;
 
 	/**
 	 * Uploads a file to a file submodelelement
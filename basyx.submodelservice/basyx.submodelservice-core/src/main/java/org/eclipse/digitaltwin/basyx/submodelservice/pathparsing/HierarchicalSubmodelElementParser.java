@@ -24,22 +24,21 @@
  ******************************************************************************/
 package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
 
-import java.util.Stack;
-
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
 
 /**
  * Class for getting a Hierarchical SubmodelElement in a Submodel via a idShort
- * Path
+ * Path. The lookups are served by a {@link SubmodelElementIdShortPathIndex}
+ * owned by the parser.
  * 
  * @author fried
  *
  */
 public class HierarchicalSubmodelElementParser {
 	private Submodel submodel;
-	private SubmodelElementIdShortPathParser pathParser;
+	private SubmodelElementIdShortPathIndex index;
 
 	/**
 	 * Creates a HierarchicalSubmodelElementParser
@@ -49,7 +48,7 @@ public class HierarchicalSubmodelElementParser {
 	 */
 	public HierarchicalSubmodelElementParser(Submodel submodel) {
 		this.submodel = submodel;
-		this.pathParser = new SubmodelElementIdShortPathParser();
+		this.index = new SubmodelElementIdShortPathIndex();
 	}
 
 	/**
@@ -63,9 +62,15 @@ public class HierarchicalSubmodelElementParser {
 	 * 
 	 */
 	public SubmodelElement getSubmodelElementFromIdShortPath(String idShortPath) throws ElementDoesNotExistException {
-		Stack<PathToken> idShortPathTokenStack = pathParser.parsePathTokens(idShortPath);
+		return index.getSubmodelElement(submodel, idShortPath);
+	}
 
-		return getLastElementOfStack(idShortPathTokenStack);
+	/**
+	 * Invalidates the cached idShortPaths after the structure of the Submodel has
+	 * been changed
+	 */
+	public void invalidateIndex() {
+		index.invalidate();
 	}
 	
 	/**
@@ -93,20 +98,4 @@ public class HierarchicalSubmodelElementParser {
 		return idShortPath.substring(0, lastElementIdShortIndex);
 	}
 
-	private SubmodelElement getLastElementOfStack(Stack<PathToken> idShortPathTokenStack) {
-		PathToken nextToken = idShortPathTokenStack.pop();
-		SubmodelElement nextElement = getFirstSubmodelElementFromStack(nextToken.getToken());
-		while (!idShortPathTokenStack.isEmpty()) {
-			nextToken = idShortPathTokenStack.pop();
-			nextElement = nextToken.getSubmodelElement(nextElement);
-		}
-
-		return nextElement;
-	}
-
-	private SubmodelElement getFirstSubmodelElementFromStack(String rootElementIdShort) {
-		return submodel.getSubmodelElements().stream().filter(sme -> sme.getIdShort().equals(rootElementIdShort))
-				.findAny().orElseThrow(() -> new ElementDoesNotExistException());
-	}
-
 }
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+
+/**
+ * Lazily built index mapping the idShortPaths of a Submodel to its
+ * SubmodelElements
+ * 
+ * <p>
+ * Each resolved path segment is cached together with the children list it was
+ * found in and its position there. Resolving an idShortPath thus requires one
+ * hash lookup and one identity check per level. Whenever a container is
+ * scanned, all of its children are indexed at once, so that siblings are
+ * resolved without scanning again. Cached segments that no longer match the
+ * Submodel, e.g., after elements have been removed or renamed in place, are
+ * detected by the identity and idShort checks and resolved anew.
+ * </p>
+ * 
+ * <p>
+ * The index is owned by the instance resolving the paths of a Submodel, e.g.,
+ * its SubmodelService, and only pays off as long as that instance is reused.
+ * </p>
+ * 
+ * @author danish
+ *
+ */
+public class SubmodelElementIdShortPathIndex {
+
+	private final Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the SubmodelElement addressed by the idShortPath
+	 * 
+	 * @param submodel
+	 *            the Submodel this index belongs to
+	 * @param idShortPath
+	 *            the idShortPath of the SubmodelElement
+	 * @return the addressed SubmodelElement
+	 * @throws ElementDoesNotExistException
+	 */
+	public SubmodelElement getSubmodelElement(Submodel submodel, String idShortPath) throws ElementDoesNotExistException {
+		SubmodelElementIdShortPathTokenizer tokenizer = new SubmodelElementIdShortPathTokenizer(idShortPath);
+
+		SubmodelElement current = null;
+		String parentPath = null;
+
+		while (nextToken(tokenizer, idShortPath)) {
+			List<SubmodelElement> children = getChildren(submodel, current, tokenizer.isListIndex(), idShortPath);
+			String path = idShortPath.substring(0, tokenizer.getEnd());
+
+			IndexEntry entry = entries.get(path);
+			if (entry == null || !entry.isContainedIn(children) || !entry.matches(tokenizer))
+				entry = resolve(children, tokenizer, parentPath, path, idShortPath);
+
+			current = entry.element;
+			parentPath = path;
+		}
+
+		if (current == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return current;
+	}
+
+	/**
+	 * Discards all cached idShortPaths. Has to be called after the structure of
+	 * the Submodel has changed, so that removed SubmodelElements are not retained
+	 * by the index.
+	 */
+	public void invalidate() {
+		entries.clear();
+	}
+
+	private IndexEntry resolve(List<SubmodelElement> children, SubmodelElementIdShortPathTokenizer tokenizer, String parentPath, String path, String idShortPath) {
+		if (tokenizer.isListIndex())
+			return resolveListIndex(children, tokenizer.getListIndex(), path, idShortPath);
+
+		return resolveIdShort(children, tokenizer, parentPath, idShortPath);
+	}
+
+	private IndexEntry resolveListIndex(List<SubmodelElement> children, int listIndex, String path, String idShortPath) {
+		if (listIndex >= children.size())
+			throw new ElementDoesNotExistException(idShortPath);
+
+		IndexEntry entry = new IndexEntry(children, listIndex, children.get(listIndex));
+		entries.put(path, entry);
+
+		return entry;
+	}
+
+	private IndexEntry resolveIdShort(List<SubmodelElement> children, SubmodelElementIdShortPathTokenizer tokenizer, String parentPath, String idShortPath) {
+		IndexEntry match = null;
+
+		for (int i = children.size() - 1; i >= 0; i--) {
+			SubmodelElement child = children.get(i);
+			String idShort = child.getIdShort();
+
+			if (idShort == null)
+				continue;
+
+			IndexEntry entry = new IndexEntry(children, i, child);
+			entries.put(getChildPath(parentPath, idShort), entry);
+
+			if (tokenizer.matchesIdShort(idShort))
+				match = entry;
+		}
+
+		if (match == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return match;
+	}
+
+	private static List<SubmodelElement> getChildren(Submodel submodel, SubmodelElement parent, boolean isListIndex, String idShortPath) {
+		List<SubmodelElement> children = null;
+
+		if (parent == null)
+			children = submodel.getSubmodelElements();
+		else if (isListIndex && parent instanceof SubmodelElementList)
+			children = ((SubmodelElementList) parent).getValue();
+		else if (!isListIndex && parent instanceof SubmodelElementCollection)
+			children = ((SubmodelElementCollection) parent).getValue();
+		else if (!isListIndex && parent instanceof Entity)
+			children = ((Entity) parent).getStatements();
+
+		if (children == null)
+			throw new ElementDoesNotExistException(idShortPath);
+
+		return children;
+	}
+
+	private static String getChildPath(String parentPath, String idShort) {
+		if (parentPath == null)
+			return idShort;
+
+		return parentPath + "." + idShort;
+	}
+
+	private static boolean nextToken(SubmodelElementIdShortPathTokenizer tokenizer, String idShortPath) {
+		try {
+			return tokenizer.next();
+		} catch (ElementDoesNotExistException e) {
+			throw new ElementDoesNotExistException(idShortPath);
+		}
+	}
+
+	private static class IndexEntry {
+		private final List<SubmodelElement> container;
+		private final int position;
+		private final SubmodelElement element;
+
+		public IndexEntry(List<SubmodelElement> container, int position, SubmodelElement element) {
+			this.container = container;
+			this.position = position;
+			this.element = element;
+		}
+
+		public boolean isContainedIn(List<SubmodelElement> children) {
+			return container == children && position < children.size() && children.get(position) == element;
+		}
+
+		public boolean matches(SubmodelElementIdShortPathTokenizer tokenizer) {
+			if (tokenizer.isListIndex())
+				return true;
+
+			String idShort = element.getIdShort();
+
+			return idShort != null && tokenizer.matchesIdShort(idShort);
+		}
+	}
+
+}
@@ -46,112 +46,46 @@ public class SubmodelElementIdShortPathParser {
 	 * 
 	 */
 	public Stack<PathToken> parsePathTokens(String idShortPath) {
-		try {
-			String splitted[] = splitIdShortPathAtDots(idShortPath);
-			return generateTokenStackFromSplittedArray(splitted);
-		} catch (ElementDoesNotExistException e) {
-			throw new ElementDoesNotExistException(idShortPath);
-		}
-	}
-	
+		List<PathToken> tokens = parsePathTokenList(idShortPath);
 
-	private static String[] splitIdShortPathAtDots(String idShortPath) {
-		return idShortPath.split("\\.");
-	}
-
-	private static String getIdShortWithoutIndices(String idShort) {
-		return idShort.split("\\[")[0];
-	}
-
-	private static Stack<PathToken> generateTokenStackFromSplittedArray(String[] splitted) {
 		Stack<PathToken> tokenStack = new Stack<>();
-		for (int i = splitted.length - 1; i >= 0; i--) {
-			List<Integer> indices = getAllIndices(splitted[i]);
-			for (int ix = indices.size() - 1; ix >= 0; ix--) {
-				tokenStack.push(new ListIndexPathToken(indices.get(ix).toString()));
-			}
-			tokenStack.push(new HierarchicalSubmodelElementIdShortPathToken(getIdShortWithoutIndices(splitted[i])));
-		}
-		return tokenStack;
-	}
-
-	private static List<Integer> getAllIndices(String idShortToken) throws ElementDoesNotExistException {
-		List<Integer> indices = new ArrayList<>();
-		while (hasOpeningBrackets(idShortToken)) {
-
-			int occurrence = getIndexOfOpeningBracket(idShortToken);
-			int end = getIndexOfClosingBracket(idShortToken);
-
-			throwExceptionIfClosingBracketIsMissing(end);
-			throwExceptionIfInvalidCharacterAfterClosingBracket(idShortToken, end);
-			throwExceptionIfOpeningBracketIsInsideBrackets(idShortToken, occurrence, end);
-
-			int index = extractIndex(idShortToken, occurrence, end);
-
-			indices.add(index);
-			idShortToken = idShortToken.substring(end + 1);
-
-		}
-		throwExceptionIfTooManyClosingBracketsExist(idShortToken);
-
-		return indices;
-	}
-
-	private static boolean hasOpeningBrackets(String idShortToken) {
-		return getIndexOfOpeningBracket(idShortToken) != -1;
-	}
-
-	private static int getIndexOfOpeningBracket(String idShortToken) {
-		return idShortToken.indexOf('[');
-	}
+		for (int i = tokens.size() - 1; i >= 0; i--)
+			tokenStack.push(tokens.get(i));
 
-	private static int getIndexOfClosingBracket(String idShortToken) {
-		return idShortToken.indexOf(']');
+		return tokenStack;
 	}
 
-	private static void throwExceptionIfClosingBracketIsMissing(int end) throws ElementDoesNotExistException {
-		if (end == -1) {
-			throw new ElementDoesNotExistException();
+	/**
+	 * Splits an idShortPath
+	 * 
+	 * @param idShortPath
+	 * @return A list containing all idShortTokens of the idShortPath, ordered
+	 *         from the root to the addressed element
+	 * 
+	 */
+	public List<PathToken> parsePathTokenList(String idShortPath) {
+		try {
+			return generateTokenList(idShortPath);
+		} catch (ElementDoesNotExistException e) {
+			throw new ElementDoesNotExistException(idShortPath);
 		}
 	}
 
-	private static void throwExceptionIfInvalidCharacterAfterClosingBracket(String idShort, int end)
-			throws ElementDoesNotExistException {
-		if (idShort.length() - 1 > end) {
-			if (idShort.charAt(end + 1) != '[') {
-				throw new ElementDoesNotExistException();
-			}
-		}
-	}
+	private static List<PathToken> generateTokenList(String idShortPath) {
+		SubmodelElementIdShortPathTokenizer tokenizer = new SubmodelElementIdShortPathTokenizer(idShortPath);
 
-	private static void throwExceptionIfOpeningBracketIsInsideBrackets(String idShort, int occurrence, int end)
-			throws ElementDoesNotExistException {
-		if (idShort.substring(occurrence + 1, end).indexOf('[') != -1) {
-			throw new ElementDoesNotExistException();
-		}
-	}
+		List<PathToken> tokens = new ArrayList<>();
+		while (tokenizer.next())
+			tokens.add(createPathToken(tokenizer));
 
-	private static int extractIndex(String idShortToken, int occurrence, int end) {
-		String currentIndice = idShortToken.substring(occurrence + 1, end);
-		try {
-			int index = Integer.valueOf(currentIndice);
-			throwExceptionIfIndexIsInvalid(index);
-			return index;
-		} catch (NumberFormatException doesNotMatter) {
-		}
-		throw new ElementDoesNotExistException();
+		return tokens;
 	}
 
-	private static void throwExceptionIfIndexIsInvalid(int index) throws ElementDoesNotExistException {
-		if (index < 0) {
-			throw new ElementDoesNotExistException();
-		}
-	}
+	private static PathToken createPathToken(SubmodelElementIdShortPathTokenizer tokenizer) {
+		if (tokenizer.isListIndex())
+			return new ListIndexPathToken(String.valueOf(tokenizer.getListIndex()));
 
-	private static void throwExceptionIfTooManyClosingBracketsExist(String idShortToken) {
-		if (getIndexOfClosingBracket(idShortToken) != -1) {
-			throw new ElementDoesNotExistException();
-		}
+		return new HierarchicalSubmodelElementIdShortPathToken(tokenizer.getIdShort());
 	}
 
 }
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice.pathparsing;
+
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+
+/**
+ * Single pass tokenizer for idShortPaths, e.g.
+ * <code>SubmodelElementCollection.SubmodelElementList[3][0].Property</code>
+ * 
+ * <p>
+ * The tokenizer works as a cursor on the idShortPath: each call of
+ * {@link #next()} advances to the next token, which is either an idShort or a
+ * list index. Besides the idShort substrings, no intermediate objects are
+ * created.
+ * </p>
+ * 
+ * @author fried, danish
+ *
+ */
+public class SubmodelElementIdShortPathTokenizer {
+
+	private final String idShortPath;
+	private final int length;
+
+	private boolean exhausted;
+	private boolean nextIsListIndex;
+	private int position;
+
+	private boolean listIndex;
+	private int tokenStart;
+	private int tokenEnd;
+	private int index;
+
+	/**
+	 * Creates a tokenizer for the passed idShortPath
+	 * 
+	 * @param idShortPath
+	 */
+	public SubmodelElementIdShortPathTokenizer(String idShortPath) {
+		this.idShortPath = idShortPath;
+		this.length = getLengthWithoutTrailingDots(idShortPath);
+		this.exhausted = !idShortPath.isEmpty() && length == 0;
+	}
+
+	/**
+	 * Advances to the next token
+	 * 
+	 * @return true, if there is a next token
+	 * @throws ElementDoesNotExistException
+	 *             if the idShortPath is malformed
+	 */
+	public boolean next() throws ElementDoesNotExistException {
+		if (exhausted)
+			return false;
+
+		if (nextIsListIndex)
+			readListIndex();
+		else
+			readIdShort();
+
+		advance();
+
+		return true;
+	}
+
+	/**
+	 * @return true, if the current token is a list index
+	 */
+	public boolean isListIndex() {
+		return listIndex;
+	}
+
+	/**
+	 * @return the idShort of the current token
+	 */
+	public String getIdShort() {
+		return idShortPath.substring(tokenStart, tokenEnd);
+	}
+
+	/**
+	 * @return the list index of the current token
+	 */
+	public int getListIndex() {
+		return index;
+	}
+
+	/**
+	 * Checks whether the idShort of the current token equals the passed idShort
+	 * without extracting the token
+	 * 
+	 * @param idShort
+	 * @return true, if the idShorts are equal
+	 */
+	public boolean matchesIdShort(String idShort) {
+		int tokenLength = tokenEnd - tokenStart;
+
+		return idShort.length() == tokenLength && idShortPath.regionMatches(tokenStart, idShort, 0, tokenLength);
+	}
+
+	/**
+	 * Returns the exclusive end of the current token within the idShortPath, so
+	 * that <code>idShortPath.substring(0, getEnd())</code> is the idShortPath of
+	 * the element addressed by the current token
+	 * 
+	 * @return the end of the current token
+	 */
+	public int getEnd() {
+		return listIndex ? tokenEnd + 1 : tokenEnd;
+	}
+
+	private void readIdShort() {
+		int end = position;
+
+		while (end < length && idShortPath.charAt(end) != '.' && idShortPath.charAt(end) != '[') {
+			throwIfClosingBracket(idShortPath.charAt(end));
+			end++;
+		}
+
+		listIndex = false;
+		tokenStart = position;
+		tokenEnd = end;
+	}
+
+	private void readListIndex() {
+		int start = position + 1;
+		int end = start;
+
+		while (end < length && idShortPath.charAt(end) != ']') {
+			throwIfOpeningBracketOrDot(idShortPath.charAt(end));
+			end++;
+		}
+
+		if (end == length)
+			throw new ElementDoesNotExistException();
+
+		listIndex = true;
+		tokenStart = start;
+		tokenEnd = end;
+		index = parseIndex(start, end);
+	}
+
+	private void advance() {
+		int end = getEnd();
+
+		if (end == length) {
+			exhausted = true;
+			return;
+		}
+
+		char next = idShortPath.charAt(end);
+
+		if (next == '[') {
+			nextIsListIndex = true;
+			position = end;
+			return;
+		}
+
+		if (next == '.') {
+			nextIsListIndex = false;
+			position = end + 1;
+			return;
+		}
+
+		throw new ElementDoesNotExistException();
+	}
+
+	private int parseIndex(int start, int end) {
+		boolean negative = false;
+		int current = start;
+
+		if (current < end && (idShortPath.charAt(current) == '+' || idShortPath.charAt(current) == '-')) {
+			negative = idShortPath.charAt(current) == '-';
+			current++;
+		}
+
+		if (current == end)
+			throw new ElementDoesNotExistException();
+
+		long value = 0;
+		for (; current < end; current++) {
+			int digit = Character.digit(idShortPath.charAt(current), 10);
+
+			if (digit < 0)
+				throw new ElementDoesNotExistException();
+
+			value = value * 10 + digit;
+
+			if (value > Integer.MAX_VALUE)
+				throw new ElementDoesNotExistException();
+		}
+
+		if (negative && value != 0)
+			throw new ElementDoesNotExistException();
+
+		return (int) value;
+	}
+
+	private static void throwIfClosingBracket(char character) {
+		if (character == ']')
+			throw new ElementDoesNotExistException();
+	}
+
+	private static void throwIfOpeningBracketOrDot(char character) {
+		if (character == '[' || character == '.')
+			throw new ElementDoesNotExistException();
+	}
+
+	private static int getLengthWithoutTrailingDots(String idShortPath) {
+		int length = idShortPath.length();
+
+		while (length > 0 && idShortPath.charAt(length - 1) == '.')
+			length--;
+
+		return length;
+	}
+
+}
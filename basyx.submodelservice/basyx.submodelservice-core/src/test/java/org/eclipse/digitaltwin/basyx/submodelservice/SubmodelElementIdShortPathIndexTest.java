@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2024 the Eclipse BaSyx Authors
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ * 
+ * SPDX-License-Identifier: MIT
+ ******************************************************************************/
+
+package org.eclipse.digitaltwin.basyx.submodelservice;
+
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.Property;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementList;
+import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistException;
+import org.eclipse.digitaltwin.basyx.submodelservice.pathparsing.SubmodelElementIdShortPathIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test for the SubmodelElementIdShortPathIndex
+ * 
+ * @author danish
+ *
+ */
+public class SubmodelElementIdShortPathIndexTest {
+
+	private Property nestedProperty;
+	private Property entityStatement;
+	private SubmodelElementCollection listEntry;
+	private SubmodelElementList list;
+	private SubmodelElementCollection collection;
+	private Submodel submodel;
+	private SubmodelElementIdShortPathIndex index;
+
+	@Before
+	public void setUp() {
+		nestedProperty = createProperty("nestedProperty");
+		entityStatement = createProperty("statement");
+
+		Entity entity = new DefaultEntity.Builder().idShort("entity").statements(new ArrayList<>(List.of(entityStatement))).build();
+
+		listEntry = new DefaultSubmodelElementCollection.Builder().idShort("listEntry").value(new ArrayList<>(List.of(nestedProperty, entity))).build();
+		list = new DefaultSubmodelElementList.Builder().idShort("list").value(new ArrayList<>(List.of(listEntry))).build();
+		collection = new DefaultSubmodelElementCollection.Builder().idShort("collection").value(new ArrayList<>(List.of(list))).build();
+
+		submodel = new DefaultSubmodel.Builder().id("indexedSubmodel").submodelElements(new ArrayList<>(List.of(createProperty("first"), collection))).build();
+		index = new SubmodelElementIdShortPathIndex();
+	}
+
+	@Test
+	public void nestedElementsAreResolved() {
+		assertSame(collection, index.getSubmodelElement(submodel, "collection"));
+		assertSame(listEntry, index.getSubmodelElement(submodel, "collection.list[0]"));
+		assertSame(nestedProperty, index.getSubmodelElement(submodel, "collection.list[0].nestedProperty"));
+		assertSame(entityStatement, index.getSubmodelElement(submodel, "collection.list[0].entity.statement"));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void renamedElementIsNotResolvedByItsOldIdShort() {
+		index.getSubmodelElement(submodel, "collection.list[0].nestedProperty");
+
+		nestedProperty.setIdShort("renamedProperty");
+
+		index.getSubmodelElement(submodel, "collection.list[0].nestedProperty");
+	}
+
+	@Test
+	public void renamedElementIsResolvedByItsNewIdShort() {
+		index.getSubmodelElement(submodel, "collection.list[0].nestedProperty");
+
+		nestedProperty.setIdShort("renamedProperty");
+
+		assertSame(nestedProperty, index.getSubmodelElement(submodel, "collection.list[0].renamedProperty"));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void removedElementIsNotResolvedFromStaleIndex() {
+		index.getSubmodelElement(submodel, "collection.list[0].nestedProperty");
+
+		listEntry.getValue().remove(nestedProperty);
+
+		index.getSubmodelElement(submodel, "collection.list[0].nestedProperty");
+	}
+
+	@Test
+	public void replacedElementIsResolvedAfterStructuralChange() {
+		index.getSubmodelElement(submodel, "collection.list[0].nestedProperty");
+
+		Property replacement = createProperty("nestedProperty");
+		listEntry.getValue().remove(nestedProperty);
+		listEntry.getValue().add(replacement);
+
+		assertSame(replacement, index.getSubmodelElement(submodel, "collection.list[0].nestedProperty"));
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void listIndexOnCollectionIsNotResolved() {
+		index.getSubmodelElement(submodel, "collection[0]");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void idShortOnListIsNotResolved() {
+		index.getSubmodelElement(submodel, "collection.list.listEntry");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void listIndexOutOfBoundsIsNotResolved() {
+		index.getSubmodelElement(submodel, "collection.list[1]");
+	}
+
+	@Test
+	public void resolvedElementIsFoundInLargeCollection() {
+		List<SubmodelElement> elements = new ArrayList<>();
+		for (int i = 0; i < 10000; i++)
+			elements.add(createProperty("property" + i));
+
+		collection.getValue().addAll(elements);
+
+		assertSame(elements.get(9999), index.getSubmodelElement(submodel, "collection.property9999"));
+		assertSame(elements.get(5000), index.getSubmodelElement(submodel, "collection.property5000"));
+	}
+
+	private static Property createProperty(String idShort) {
+		return new DefaultProperty.Builder().idShort(idShort).value("0").build();
+	}
+
+}
@@ -72,6 +72,26 @@ public class SubmodelElementIdShortPathParserTest {
 		pathParser.parsePathTokens(INVALID_ID_SHORT_PATH);
 	}
 
+	@Test(expected = ElementDoesNotExistException.class)
+	public void negativeIndexThrowsError() {
+		SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+		pathParser.parsePathTokens("list[-1]");
+	}
+
+	@Test(expected = ElementDoesNotExistException.class)
+	public void characterAfterClosingBracketThrowsError() {
+		SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+		pathParser.parsePathTokens("list[1]a.property");
+	}
+
+	@Test
+	public void trailingDotsAreIgnored() {
+		SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
+		Stack<PathToken> tokenStack = pathParser.parsePathTokens(ID_SHORT_PATH_FIRST_PART + "..");
+		assertEquals(1, tokenStack.size());
+		assertEquals(ID_SHORT_PATH_FIRST_PART, tokenStack.pop().getToken());
+	}
+
 	@Test
 	public void idShortWithSpecialCharactersDoesNotThrowError() {
 		SubmodelElementIdShortPathParser pathParser = new SubmodelElementIdShortPathParser();
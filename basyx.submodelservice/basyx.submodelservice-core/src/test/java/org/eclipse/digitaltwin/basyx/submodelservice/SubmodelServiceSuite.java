@@ -38,7 +38,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
@@ -52,6 +51,7 @@ import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultFile;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultLangStringTextType;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodelElementCollection;
@@ -60,6 +60,7 @@ import org.eclipse.digitaltwin.basyx.core.exceptions.ElementDoesNotExistExceptio
 import org.eclipse.digitaltwin.basyx.core.exceptions.ElementNotAFileException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.FileDoesNotExistException;
 import org.eclipse.digitaltwin.basyx.core.exceptions.NotInvokableException;
+import org.eclipse.digitaltwin.basyx.core.filerepository.FileResource;
 import org.eclipse.digitaltwin.basyx.core.pagination.CursorResult;
 import org.eclipse.digitaltwin.basyx.core.pagination.PaginationInfo;
 import org.eclipse.digitaltwin.basyx.submodelservice.value.FileBlobValue;
@@ -346,6 +347,19 @@ public abstract class SubmodelServiceSuite {
 		assertEquals("test456", propertyInSmeListCreated.getIdShort());
 	}
 
+	@Test
+	public void createSubmodelElementInEntity() {
+		Submodel operationalData = DummySubmodelFactory.createOperationalDataSubmodelWithHierarchicalSubmodelElements();
+		operationalData.setSubmodelElements(createHierarchicalSubmodelElement());
+
+		SubmodelService submodelService = getSubmodelService(operationalData);
+
+		submodelService.createSubmodelElement("test.testList[0]", createDummyProperty("entityStatement"));
+
+		SubmodelElement createdStatement = submodelService.getSubmodelElement("test.testList[0].entityStatement");
+		assertEquals("entityStatement", createdStatement.getIdShort());
+	}
+
 	@Test
 	public void updateNonFileSME() {
 		Submodel technicalSubmodel = DummySubmodelFactory.createTechnicalDataSubmodel();
@@ -519,6 +533,25 @@ public abstract class SubmodelServiceSuite {
 		assertFalse(fileExistsInStorage(fileValue));
 	}
 
+	@Test
+	public void deleteSubmodelElementDeletesNestedFile() throws ElementDoesNotExistException, ElementNotAFileException, FileNotFoundException, IOException {
+		Submodel technicalDataSubmodel = DummySubmodelFactory.createTechnicalDataSubmodel();
+		SubmodelService submodelService = getSubmodelService(technicalDataSubmodel);
+
+		SubmodelElementCollection fileContainer = createDummySubmodelElementCollection("fileContainer");
+		fileContainer.setValue(new ArrayList<>(Arrays.asList(new DefaultFile.Builder().idShort("nestedFile").contentType("application/json").value("").build())));
+		submodelService.createSubmodelElement(fileContainer);
+
+		submodelService.setFileValue("fileContainer.nestedFile", "jsonFile1.json", getInputStreamOfDummyFile(DUMMY_JSON_1));
+
+		String fileValue = ((File) submodelService.getSubmodelElement("fileContainer.nestedFile")).getValue();
+		assertTrue(fileExistsInStorage(fileValue));
+
+		submodelService.deleteSubmodelElement("fileContainer");
+
+		assertFalse(fileExistsInStorage(fileValue));
+	}
+
 	@Test
 	public void getFile() throws FileNotFoundException, IOException {
 		Submodel technicalDataSubmodel = DummySubmodelFactory.createTechnicalDataSubmodel();
@@ -527,9 +560,9 @@ public abstract class SubmodelServiceSuite {
 
 		submodelService.setFileValue(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT, "jsonFile1.json", getInputStreamOfDummyFile(DUMMY_JSON_1));
 
-		java.io.File retrievedValue = submodelService.getFileByPath(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
+		FileResource retrievedValue = submodelService.getFileByPath(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT);
 
-		assertEquals(expectedFileExtension, getExtension(retrievedValue.getName()));
+		assertEquals(expectedFileExtension, getExtension(retrievedValue.getFilename()));
 		assertStoredFileContentEquals(submodelService, SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_FILE_ID_SHORT, DUMMY_JSON_1);
 	}
 
@@ -590,9 +623,9 @@ public abstract class SubmodelServiceSuite {
 	}
 
 	private void assertStoredFileContentEquals(SubmodelService submodelService, String fileIdShort, String content) throws IOException {
-		java.io.File retrievedValue = submodelService.getFileByPath(fileIdShort);
+		FileResource retrievedValue = submodelService.getFileByPath(fileIdShort);
 
-		String actual = new String(FileUtils.openInputStream(retrievedValue).readAllBytes());
+		String actual = new String(retrievedValue.getContentAsByteArray());
 
 		assertEquals(content, actual);
 	}
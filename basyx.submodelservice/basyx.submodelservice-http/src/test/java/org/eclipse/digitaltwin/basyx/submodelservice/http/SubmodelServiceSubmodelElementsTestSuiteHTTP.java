@@ -32,8 +32,10 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
 
 import org.apache.hc.client5.http.ClientProtocolException;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
 import org.apache.hc.client5.http.entity.mime.FileBody;
 import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
@@ -42,6 +44,7 @@ import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
@@ -621,6 +624,27 @@ public abstract class SubmodelServiceSubmodelElementsTestSuiteHTTP {
 		assertArrayEquals(expectedFile, actualFile);
 	}
 
+	@Test
+	public void getFileRange() throws FileNotFoundException, IOException, ParseException {
+		byte[] expectedFile = readBytesFromClasspath(DummySubmodelFactory.FILE_NAME);
+		byte[] expectedRange = Arrays.copyOfRange(expectedFile, 2, 10);
+
+		uploadFileToSubmodelElement(DummySubmodelFactory.SUBMODEL_ELEMENT_FILE_ID_SHORT);
+
+		HttpGet getRequest = new HttpGet(createSMEFileGetURL(DummySubmodelFactory.SUBMODEL_ELEMENT_FILE_ID_SHORT));
+		getRequest.addHeader(HttpHeaders.RANGE, "bytes=2-9");
+
+		CloseableHttpResponse response = HttpClients.createDefault().execute(getRequest);
+		assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getCode());
+		assertEquals("bytes 2-9/" + expectedFile.length, response.getFirstHeader(HttpHeaders.CONTENT_RANGE).getValue());
+
+		byte[] actualRange = EntityUtils.toByteArray(response.getEntity());
+
+		response.close();
+
+		assertArrayEquals(expectedRange, actualRange);
+	}
+
 	@Test
 	public void getFileFromNonFileSubmodelElement() throws FileNotFoundException, UnsupportedEncodingException, ClientProtocolException, IOException {
 		CloseableHttpResponse response = BaSyxHttpTestUtils.executeGetOnURL(createSMEFileGetURL(SubmodelServiceHelper.SUBMODEL_TECHNICAL_DATA_PROPERTY_ID_SHORT));